@@ -0,0 +1,25 @@
+/***********************************************************
+ * Copyright (c) 2025. All rights reserved to ArchiLogic.
+ * Developer: Nikhil Gadhavajula
+ **********************************************************/
+
+package com.archilogic.audit;
+
+/**
+ * The kinds of security events recorded in the audit log.
+ */
+public enum AuditEventType {
+    SIGNIN_SUCCEEDED,
+    SIGNIN_FAILED,
+    SIGNUP,
+    EMAIL_VERIFIED,
+    PASSWORD_RESET,
+    /**
+     * A request carried a bearer token that failed validation (bad signature, expired, malformed, unknown user).
+     */
+    TOKEN_REJECTED,
+    /**
+     * A request for a protected resource was answered with 401.
+     */
+    UNAUTHORIZED
+}
@@ -0,0 +1,336 @@
+/***********************************************************
+ * Copyright (c) 2025. All rights reserved to ArchiLogic.
+ * Developer: Nikhil Gadhavajula
+ **********************************************************/
+
+package com.archilogic.audit;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Asynchronous, batched writer for the security audit log.
+ * <p>
+ * Producers (sign-in, signup, the JWT filter) write into a pre-allocated ring of fixed-shape slots: claiming a
+ * slot is one CAS on a sequence counter, filling it is a handful of field stores, and publishing it is an ordered
+ * store of the sequence number into the slot's marker. Nothing is allocated, locked or written to the database
+ * on the request thread. A single consumer thread follows the markers, copies published slots out in order and
+ * inserts them into {@code audit_events} as one JDBC batch (rewritten into multi-row inserts by the driver).
+ * <p>
+ * If producers outrun the consumer and the ring is full, the {@code overflowPolicy} decides: {@code DROP} gives
+ * up immediately, {@code WAIT} spins for at most {@code maxWaitMicros} before dropping. Dropped events are
+ * counted, as are batches that could not be written; see {@link #getStats()}. The producer cost is sampled on
+ * one call in 64 and reported in nanoseconds.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class AuditLog {
+
+    private static final String INSERT_SQL = "INSERT INTO audit_events "
+            + "(occurred_at, type, user_id, username, remote_address, detail) VALUES (?, ?, ?, ?, ?, ?)";
+    private static final int MAX_WRITE_ATTEMPTS = 3;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${archilogic.app.audit.enabled:true}")
+    private boolean enabled;
+
+    /**
+     * Number of slots; rounded up to a power of two.
+     */
+    @Value("${archilogic.app.audit.capacity:65536}")
+    private int capacity;
+
+    @Value("${archilogic.app.audit.maxBatchSize:500}")
+    private int maxBatchSize;
+
+    @Value("${archilogic.app.audit.overflowPolicy:DROP}")
+    private OverflowPolicy overflowPolicy;
+
+    @Value("${archilogic.app.audit.maxWaitMicros:200}")
+    private long maxWaitMicros;
+
+    /**
+     * How long the consumer sleeps when the ring is empty; bounds the delay before an event is written.
+     */
+    @Value("${archilogic.app.audit.idleParkMicros:1000}")
+    private long idleParkMicros;
+
+    private Slot[] slots;
+    private AtomicLongArray publishedSequences;
+    private int mask;
+
+    /**
+     * The next sequence number to hand out to a producer.
+     */
+    private final AtomicLong claimed = new AtomicLong();
+
+    /**
+     * Every sequence below this has been copied out by the consumer, so its slot may be reused.
+     */
+    private volatile long consumed;
+
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder written = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder sampledNanos = new LongAdder();
+    private final LongAdder samples = new LongAdder();
+
+    private Thread consumer;
+    private volatile boolean running;
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        int size = Integer.highestOneBit(Math.max(2, capacity - 1)) << 1;
+        slots = new Slot[size];
+        for (int i = 0; i < size; i++) {
+            slots[i] = new Slot();
+        }
+        publishedSequences = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++) {
+            publishedSequences.set(i, -1);
+        }
+        mask = size - 1;
+        running = true;
+        consumer = new Thread(this::consume, "audit-writer");
+        consumer.setDaemon(true);
+        consumer.start();
+        log.info("Audit log started: {} slots, batches of up to {}, overflow policy {}", size, maxBatchSize, overflowPolicy);
+    }
+
+    /**
+     * Stops the consumer once everything already published has been written.
+     */
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        if (consumer == null) {
+            return;
+        }
+        running = false;
+        LockSupport.unpark(consumer);
+        consumer.join(TimeUnit.SECONDS.toMillis(10));
+    }
+
+    /**
+     * Records an event without blocking, attributed to the remote address of the current request (if any).
+     *
+     * @param type     The event type.
+     * @param userId   The user, if known.
+     * @param username The username, if known (e.g. the one a failed sign-in tried).
+     * @param detail   Free-form detail, truncated to 255 characters.
+     */
+    public void record(AuditEventType type, Long userId, String username, String detail) {
+        if (!running) {
+            return;
+        }
+        boolean sampled = ThreadLocalRandom.current().nextInt(64) == 0;
+        long start = sampled ? System.nanoTime() : 0;
+
+        long sequence = claim();
+        if (sequence < 0) {
+            dropped.increment();
+            return;
+        }
+        int index = (int) sequence & mask;
+        Slot slot = slots[index];
+        slot.occurredAt = System.currentTimeMillis();
+        slot.type = type;
+        slot.userId = userId;
+        slot.username = truncate(username, 50);
+        slot.remoteAddress = currentRemoteAddress();
+        slot.detail = truncate(detail, 255);
+        publishedSequences.lazySet(index, sequence);
+
+        if (sampled) {
+            sampledNanos.add(System.nanoTime() - start);
+            samples.increment();
+        }
+    }
+
+    /**
+     * @return Counters describing the log since startup.
+     */
+    public Stats getStats() {
+        long sampleCount = samples.sum();
+        long claimedCount = claimed.get();
+        return new Stats(claimedCount, dropped.sum(), written.sum(), failed.sum(), claimedCount - consumed,
+                sampleCount == 0 ? 0 : sampledNanos.sum() / sampleCount);
+    }
+
+    /**
+     * @return The claimed sequence number, or -1 if the ring stayed full.
+     */
+    private long claim() {
+        long deadline = 0;
+        while (true) {
+            long sequence = claimed.get();
+            if (sequence - consumed <= mask) {
+                if (claimed.compareAndSet(sequence, sequence + 1)) {
+                    return sequence;
+                }
+                continue;
+            }
+            if (overflowPolicy == OverflowPolicy.DROP) {
+                return -1;
+            }
+            long now = System.nanoTime();
+            if (deadline == 0) {
+                deadline = now + TimeUnit.MICROSECONDS.toNanos(maxWaitMicros);
+            } else if (now - deadline > 0) {
+                return -1;
+            }
+            Thread.onSpinWait();
+        }
+    }
+
+    private void consume() {
+        long[] occurredAt = new long[maxBatchSize];
+        AuditEventType[] types = new AuditEventType[maxBatchSize];
+        Long[] userIds = new Long[maxBatchSize];
+        String[] usernames = new String[maxBatchSize];
+        String[] remoteAddresses = new String[maxBatchSize];
+        String[] details = new String[maxBatchSize];
+
+        long next = consumed;
+        while (running || claimed.get() > next) {
+            int count = 0;
+            while (count < maxBatchSize && publishedSequences.get((int) next & mask) == next) {
+                Slot slot = slots[(int) next & mask];
+                occurredAt[count] = slot.occurredAt;
+                types[count] = slot.type;
+                userIds[count] = slot.userId;
+                usernames[count] = slot.username;
+                remoteAddresses[count] = slot.remoteAddress;
+                details[count] = slot.detail;
+                count++;
+                next++;
+            }
+            if (count == 0) {
+                if (!running && claimed.get() > next) {
+                    Thread.onSpinWait(); // A producer claimed a slot but has not published it yet.
+                } else {
+                    LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(idleParkMicros));
+                }
+                continue;
+            }
+            consumed = next; // The batch is copied out; producers may reuse these slots.
+            write(count, occurredAt, types, userIds, usernames, remoteAddresses, details);
+        }
+    }
+
+    private void write(int count, long[] occurredAt, AuditEventType[] types, Long[] userIds, String[] usernames,
+                       String[] remoteAddresses, String[] details) {
+        for (int attempt = 1; attempt <= MAX_WRITE_ATTEMPTS; attempt++) {
+            try {
+                jdbcTemplate.batchUpdate(INSERT_SQL, new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        ps.setTimestamp(1, new Timestamp(occurredAt[i]));
+                        ps.setString(2, types[i].name());
+                        if (userIds[i] == null) {
+                            ps.setNull(3, Types.BIGINT);
+                        } else {
+                            ps.setLong(3, userIds[i]);
+                        }
+                        ps.setString(4, usernames[i]);
+                        ps.setString(5, remoteAddresses[i]);
+                        ps.setString(6, details[i]);
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return count;
+                    }
+                });
+                written.add(count);
+                return;
+            } catch (RuntimeException e) {
+                log.warn("Failed to write {} audit event(s), attempt {} of {}: {}", count, attempt, MAX_WRITE_ATTEMPTS, e.getMessage());
+                LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(100L * attempt));
+            }
+        }
+        failed.add(count);
+        log.error("Dropped {} audit event(s) after {} failed write attempts", count, MAX_WRITE_ATTEMPTS);
+    }
+
+    private static String currentRemoteAddress() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes instanceof ServletRequestAttributes servletAttributes) {
+            HttpServletRequest request = servletAttributes.getRequest();
+            return request.getRemoteAddr();
+        }
+        return null;
+    }
+
+    private static String truncate(String value, int maxLength) {
+        return value == null || value.length() <= maxLength ? value : value.substring(0, maxLength);
+    }
+
+    /**
+     * What a producer does when the ring is full.
+     */
+    public enum OverflowPolicy {
+        /**
+         * Drop the event immediately.
+         */
+        DROP,
+        /**
+         * Spin for up to {@code maxWaitMicros} for a free slot, then drop.
+         */
+        WAIT
+    }
+
+    /**
+     * A pre-allocated, reused event. Written by one producer, then read by the consumer after the slot's
+     * sequence marker has been published.
+     */
+    private static final class Slot {
+        long occurredAt;
+        AuditEventType type;
+        Long userId;
+        String username;
+        String remoteAddress;
+        String detail;
+    }
+
+    /**
+     * Counters of the audit log since startup.
+     */
+    @Getter
+    @AllArgsConstructor
+    public static final class Stats {
+        private final long published;
+        private final long dropped;
+        private final long written;
+        private final long failed;
+        private final long pending;
+        private final long averagePublishNanos;
+    }
+}
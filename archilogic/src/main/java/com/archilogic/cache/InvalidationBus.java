@@ -0,0 +1,200 @@
+/***********************************************************
+ * Copyright (c) 2025. All rights reserved to ArchiLogic.
+ * Developer: Nikhil Gadhavajula
+ **********************************************************/
+
+package com.archilogic.cache;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A small cluster-wide cache invalidation bus.
+ * <p>
+ * Local caches register an {@link InvalidationHandler} under a logical name. Publishing an invalidation
+ * evicts the local entry immediately and queues the key for the other nodes. Queued keys are coalesced
+ * per cache (publishing the same key twice sends it once) and flushed as a single batch every
+ * {@code archilogic.app.cache.invalidation.flushIntervalMs}. If more than
+ * {@code maxKeysPerCache} distinct keys pile up for one cache between flushes (e.g. a bulk role change),
+ * they collapse into a single "evict all" message instead of flooding the bus.
+ * <p>
+ * Remote nodes therefore evict within one flush interval plus transport latency. Inside a transaction,
+ * publication is deferred until after commit so no node can reload the old row in between.
+ */
+@Component
+@Slf4j
+public class InvalidationBus {
+
+    private final InvalidationTransport transport;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Map<String, InvalidationHandler> handlers = new ConcurrentHashMap<>();
+
+    private final Object pendingLock = new Object();
+    private Map<String, Set<String>> pendingKeys = new HashMap<>();
+    private Set<String> pendingEvictAll = new LinkedHashSet<>();
+
+    @Value("${archilogic.app.cache.invalidation.maxKeysPerCache:1000}")
+    private int maxKeysPerCache;
+
+    public InvalidationBus(ObjectProvider<InvalidationTransport> transport) {
+        this.transport = transport.getIfAvailable(LoopbackInvalidationTransport::new);
+    }
+
+    @PostConstruct
+    public void init() {
+        transport.subscribe(this::receive);
+        log.info("Invalidation bus started on node {} using {}", nodeId, transport.getClass().getSimpleName());
+    }
+
+    /**
+     * Registers a local cache so it receives invalidations published on any node.
+     *
+     * @param cacheName The logical cache name.
+     * @param handler   The handler that evicts entries from the local cache.
+     */
+    public void register(String cacheName, InvalidationHandler handler) {
+        handlers.put(cacheName, handler);
+    }
+
+    /**
+     * Invalidates one key of a cache on every node.
+     *
+     * @param cacheName The logical cache name.
+     * @param key       The key to evict.
+     */
+    public void publish(String cacheName, String key) {
+        publish(cacheName, List.of(key));
+    }
+
+    /**
+     * Invalidates several keys of a cache on every node.
+     *
+     * @param cacheName The logical cache name.
+     * @param keys      The keys to evict.
+     */
+    public void publish(String cacheName, Collection<String> keys) {
+        if (keys.isEmpty()) {
+            return;
+        }
+        List<String> copy = List.copyOf(keys);
+        afterCommit(() -> {
+            InvalidationHandler handler = handlers.get(cacheName);
+            if (handler != null) {
+                handler.evict(copy);
+            }
+            synchronized (pendingLock) {
+                if (pendingEvictAll.contains(cacheName)) {
+                    return;
+                }
+                Set<String> pending = pendingKeys.computeIfAbsent(cacheName, name -> new LinkedHashSet<>());
+                pending.addAll(copy);
+                if (pending.size() > maxKeysPerCache) {
+                    pendingKeys.remove(cacheName);
+                    pendingEvictAll.add(cacheName);
+                }
+            }
+        });
+    }
+
+    /**
+     * Clears a cache on every node.
+     *
+     * @param cacheName The logical cache name.
+     */
+    public void publishEvictAll(String cacheName) {
+        afterCommit(() -> {
+            InvalidationHandler handler = handlers.get(cacheName);
+            if (handler != null) {
+                handler.evictAll();
+            }
+            synchronized (pendingLock) {
+                pendingKeys.remove(cacheName);
+                pendingEvictAll.add(cacheName);
+            }
+        });
+    }
+
+    /**
+     * Sends everything queued since the last flush as one batch.
+     */
+    @Scheduled(fixedDelayString = "${archilogic.app.cache.invalidation.flushIntervalMs:200}")
+    public void flush() {
+        Map<String, Set<String>> keys;
+        Set<String> evictAll;
+        synchronized (pendingLock) {
+            if (pendingKeys.isEmpty() && pendingEvictAll.isEmpty()) {
+                return;
+            }
+            keys = pendingKeys;
+            evictAll = pendingEvictAll;
+            pendingKeys = new HashMap<>();
+            pendingEvictAll = new LinkedHashSet<>();
+        }
+
+        List<InvalidationMessage> batch = new ArrayList<>(keys.size() + evictAll.size());
+        evictAll.forEach(cacheName -> batch.add(new InvalidationMessage(nodeId, cacheName, Set.of(), true)));
+        keys.forEach((cacheName, cacheKeys) ->
+                batch.add(new InvalidationMessage(nodeId, cacheName, Set.copyOf(cacheKeys), false)));
+        try {
+            transport.send(batch);
+        } catch (RuntimeException e) {
+            // Best effort: remote entries still expire through their TTL.
+            log.error("Failed to send {} invalidation message(s): {}", batch.size(), e.getMessage());
+        }
+    }
+
+    /**
+     * Sends any remaining invalidations before the node shuts down.
+     */
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    private void receive(List<InvalidationMessage> batch) {
+        for (InvalidationMessage message : batch) {
+            if (nodeId.equals(message.getOriginNodeId())) {
+                continue; // Already evicted locally at publish time.
+            }
+            InvalidationHandler handler = handlers.get(message.getCacheName());
+            if (handler == null) {
+                continue;
+            }
+            if (message.isEvictAll()) {
+                handler.evictAll();
+            } else {
+                handler.evict(message.getKeys());
+            }
+        }
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
@@ -0,0 +1,26 @@
+/***********************************************************
+ * Copyright (c) 2025. All rights reserved to ArchiLogic.
+ * Developer: Nikhil Gadhavajula
+ **********************************************************/
+
+package com.archilogic.cache;
+
+import java.util.Collection;
+
+/**
+ * Evicts entries from a local cache registered with the {@link InvalidationBus}.
+ */
+public interface InvalidationHandler {
+
+    /**
+     * Evicts the given keys.
+     *
+     * @param keys The keys to evict.
+     */
+    void evict(Collection<String> keys);
+
+    /**
+     * Clears the whole cache.
+     */
+    void evictAll();
+}
@@ -0,0 +1,35 @@
+/***********************************************************
+ * Copyright (c) 2025. All rights reserved to ArchiLogic.
+ * Developer: Nikhil Gadhavajula
+ **********************************************************/
+
+package com.archilogic.cache;
+
+import lombok.Value;
+
+import java.util.Set;
+
+/**
+ * A coalesced invalidation for one named cache, as sent over an {@link InvalidationTransport}.
+ * Either lists the keys to evict or, when {@code evictAll} is set, asks for the whole cache to be cleared.
+ */
+@Value
+public class InvalidationMessage {
+
+    /**
+     * The id of the node that published the invalidation, so it can ignore its own messages.
+     */
+    String originNodeId;
+
+    /**
+     * The logical name of the cache, e.g. {@code "users"}.
+     */
+    String cacheName;
+
+    /**
+     * The keys to evict. Empty when {@code evictAll} is true.
+     */
+    Set<String> keys;
+
+    boolean evictAll;
+}
@@ -0,0 +1,33 @@
+/***********************************************************
+ * Copyright (c) 2025. All rights reserved to ArchiLogic.
+ * Developer: Nikhil Gadhavajula
+ **********************************************************/
+
+package com.archilogic.cache;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * The pluggable delivery mechanism behind the {@link InvalidationBus}.
+ * <p>
+ * Implementations broadcast each batch to every node in the cluster (including, optionally, the sender)
+ * on a best-effort basis, e.g. over Redis pub/sub, a message broker or UDP multicast. Caches still carry
+ * a TTL, so a lost message only delays convergence.
+ */
+public interface InvalidationTransport {
+
+    /**
+     * Broadcasts a batch of invalidations to all nodes.
+     *
+     * @param batch The invalidations to send. Never empty.
+     */
+    void send(List<InvalidationMessage> batch);
+
+    /**
+     * Registers the receiver for batches arriving from any node.
+     *
+     * @param receiver Called once per delivered batch.
+     */
+    void subscribe(Consumer<List<InvalidationMessage>> receiver);
+}
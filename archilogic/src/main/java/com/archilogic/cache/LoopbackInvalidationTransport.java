@@ -0,0 +1,40 @@
+/***********************************************************
+ * Copyright (c) 2025. All rights reserved to ArchiLogic.
+ * Developer: Nikhil Gadhavajula
+ **********************************************************/
+
+package com.archilogic.cache;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * An in-memory transport that delivers every batch synchronously to all subscribers in this JVM.
+ * <p>
+ * It is the default for single-instance deployments, and lets tests wire several
+ * {@link InvalidationBus} instances to one shared loopback to simulate a cluster.
+ */
+@Slf4j
+public class LoopbackInvalidationTransport implements InvalidationTransport {
+
+    private final List<Consumer<List<InvalidationMessage>>> receivers = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void send(List<InvalidationMessage> batch) {
+        for (Consumer<List<InvalidationMessage>> receiver : receivers) {
+            try {
+                receiver.accept(batch);
+            } catch (RuntimeException e) {
+                log.error("Invalidation receiver failed: {}", e.getMessage());
+            }
+        }
+    }
+
+    @Override
+    public void subscribe(Consumer<List<InvalidationMessage>> receiver) {
+        receivers.add(receiver);
+    }
+}
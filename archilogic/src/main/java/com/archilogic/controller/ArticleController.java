@@ -0,0 +1,165 @@
+/***********************************************************
+ * Copyright (c) 2025. All rights reserved to ArchiLogic.
+ * Developer: Nikhil Gadhavajula
+ **********************************************************/
+
+package com.archilogic.controller;
+
+import com.archilogic.dto.ArticleFeedItem;
+import com.archilogic.dto.ArticleRequest;
+import com.archilogic.dto.ArticleResponse;
+import com.archilogic.dto.ArticleStatsResponse;
+import com.archilogic.dto.CursorPage;
+import com.archilogic.dto.SearchResultPage;
+import com.archilogic.entity.User;
+import com.archilogic.service.ArticleService;
+import com.archilogic.service.ArticleViewCounter;
+import com.archilogic.service.RenderedArticleCache;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/articles")
+@Tag(name = "Articles", description = "APIs for reading and writing articles")
+@Validated
+@RequiredArgsConstructor
+public class ArticleController {
+
+    private final ArticleService articleService;
+    private final RenderedArticleCache renderedArticleCache;
+    private final ArticleViewCounter articleViewCounter;
+
+    @Operation(summary = "Get the public feed",
+            description = "Published articles, newest first. Pass the returned 'nextCursor' as 'cursor' to get the next page.")
+    @ApiResponse(responseCode = "200", description = "A page of articles.")
+    @GetMapping
+    public ResponseEntity<CursorPage<ArticleFeedItem>> getFeed(@RequestParam(required = false) String cursor,
+                                                               @RequestParam(defaultValue = "20") @Min(1) @Max(100) int size) {
+        return ResponseEntity.ok(articleService.getFeed(cursor, size));
+    }
+
+    @Operation(summary = "Get trending articles",
+            description = "Published articles ranked by views and completed reads, with older engagement decaying over time.")
+    @ApiResponse(responseCode = "200", description = "The trending articles.")
+    @GetMapping("/trending")
+    public ResponseEntity<List<ArticleFeedItem>> getTrending(@RequestParam(defaultValue = "10") @Min(1) @Max(50) int size) {
+        return ResponseEntity.ok(articleService.getTrending(size));
+    }
+
+    @Operation(summary = "Search articles",
+            description = "Full-text search over the title, summary, body and tags of published articles, best match first. "
+                    + "Supports Lucene query syntax (quoted phrases, AND/OR, field:term); results are limited to the first 1000 hits.")
+    @ApiResponse(responseCode = "200", description = "A page of search results with highlighted excerpts.")
+    @ApiResponse(responseCode = "400", description = "Empty query or page beyond the result window.")
+    @GetMapping("/search")
+    public ResponseEntity<SearchResultPage> search(@RequestParam @NotBlank @Size(max = 500) String q,
+                                                   @RequestParam(defaultValue = "0") @Min(0) int page,
+                                                   @RequestParam(defaultValue = "10") @Min(1) @Max(50) int size) {
+        return ResponseEntity.ok(articleService.search(q, page, size));
+    }
+
+    @Operation(summary = "Get an article",
+            description = "Returns a published article by id, with its body rendered to HTML. The response carries a strong ETag; "
+                    + "send it back in 'If-None-Match' to get a 304 while the article is unchanged.")
+    @ApiResponse(responseCode = "200", description = "The article.")
+    @ApiResponse(responseCode = "304", description = "The article has not changed since the given ETag.")
+    @ApiResponse(responseCode = "404", description = "Article not found or not published.")
+    @GetMapping("/{id}")
+    public ResponseEntity<ArticleResponse> getArticle(@PathVariable Long id, WebRequest webRequest,
+                                                      HttpServletRequest request) {
+        // Answer revalidations from the in-memory revision map before any database access.
+        String knownETag = renderedArticleCache.currentETag(id);
+        if (knownETag != null && webRequest.checkNotModified(knownETag)) {
+            articleViewCounter.recordView(id, request.getRemoteAddr());
+            return null;
+        }
+        RenderedArticleCache.RenderedArticle article = renderedArticleCache.get(id);
+        articleViewCounter.recordView(id, request.getRemoteAddr());
+        return ResponseEntity.ok()
+                .eTag(article.getETag())
+                .cacheControl(CacheControl.noCache())
+                .body(article.getArticle());
+    }
+
+    @Operation(summary = "Get related articles",
+            description = "Published articles with the most similar content and tags, most similar first. "
+                    + "Answered from a precomputed similarity index.")
+    @ApiResponse(responseCode = "200", description = "The related articles; empty if there are none.")
+    @GetMapping("/{id}/related")
+    public ResponseEntity<List<ArticleFeedItem>> getRelated(@PathVariable Long id,
+                                                            @RequestParam(defaultValue = "5") @Min(1) @Max(20) int size) {
+        return ResponseEntity.ok(articleService.getRelated(id, size));
+    }
+
+    @Operation(summary = "Record a completed read",
+            description = "Called by the client once the authenticated reader reached the end of the article. "
+                    + "Each reader counts once per article within the dedup window.")
+    @ApiResponse(responseCode = "204", description = "Read recorded.")
+    @ApiResponse(responseCode = "404", description = "Article not found or not published.")
+    @PostMapping("/{id}/read")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<Void> recordRead(@PathVariable Long id, @AuthenticationPrincipal User user) {
+        requirePublished(id);
+        articleViewCounter.recordRead(id, user.getId());
+        return ResponseEntity.noContent().build();
+    }
+
+    @Operation(summary = "Get article counters", description = "Returns the view and read counts of an article.")
+    @ApiResponse(responseCode = "200", description = "The counters.")
+    @ApiResponse(responseCode = "404", description = "Article not found or not published.")
+    @GetMapping("/{id}/stats")
+    public ResponseEntity<ArticleStatsResponse> getStats(@PathVariable Long id) {
+        requirePublished(id);
+        return ResponseEntity.ok(articleViewCounter.getStats(id));
+    }
+
+    @Operation(summary = "Create an article", description = "Creates an article owned by the authenticated user.")
+    @ApiResponse(responseCode = "201", description = "Article created.")
+    @PostMapping
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<ArticleResponse> createArticle(@Valid @RequestBody ArticleRequest request,
+                                                         @AuthenticationPrincipal User user) {
+        return ResponseEntity.status(HttpStatus.CREATED).body(articleService.createArticle(request, user));
+    }
+
+    @Operation(summary = "Edit an article", description = "Replaces the content of an article. Only its author may edit it.")
+    @ApiResponse(responseCode = "200", description = "Article updated.")
+    @ApiResponse(responseCode = "403", description = "The authenticated user is not the author.")
+    @ApiResponse(responseCode = "404", description = "Article not found.")
+    @PutMapping("/{id}")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<ArticleResponse> updateArticle(@PathVariable Long id,
+                                                         @Valid @RequestBody ArticleRequest request,
+                                                         @AuthenticationPrincipal User user) {
+        return ResponseEntity.ok(articleService.updateArticle(id, request, user));
+    }
+
+    /**
+     * Answers from the in-memory revision map when the article is resident, so counters cost no query.
+     *
+     * @throws com.archilogic.exception.NotFoundException if the article does not exist or is not published.
+     */
+    private void requirePublished(Long id) {
+        if (renderedArticleCache.currentETag(id) == null) {
+            renderedArticleCache.get(id);
+        }
+    }
+}
@@ -0,0 +1,36 @@
+/***********************************************************
+ * Copyright (c) 2025. All rights reserved to ArchiLogic.
+ * Developer: Nikhil Gadhavajula
+ **********************************************************/
+
+package com.archilogic.controller;
+
+import com.archilogic.audit.AuditLog;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/v1/admin/audit")
+@Tag(name = "Audit Administration", description = "Admin-only APIs for monitoring the security audit log")
+@PreAuthorize("hasRole('ADMIN')")
+@RequiredArgsConstructor
+public class AuditAdminController {
+
+    private final AuditLog auditLog;
+
+    @Operation(summary = "Get audit log counters",
+            description = "Events published, dropped on overflow, written and lost to write failures since startup, "
+                    + "the backlog, and the sampled producer cost in nanoseconds.")
+    @ApiResponse(responseCode = "200", description = "The counters.")
+    @GetMapping("/stats")
+    public ResponseEntity<AuditLog.Stats> getStats() {
+        return ResponseEntity.ok(auditLog.getStats());
+    }
+}
@@ -0,0 +1,69 @@
+/***********************************************************
+ * Copyright (c) 2025. All rights reserved to ArchiLogic.
+ * Developer: Nikhil Gadhavajula
+ **********************************************************/
+
+package com.archilogic.controller;
+
+import com.archilogic.dto.CommentRequest;
+import com.archilogic.dto.CommentResponse;
+import com.archilogic.dto.CursorPage;
+import com.archilogic.entity.User;
+import com.archilogic.service.CommentService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/v1")
+@Tag(name = "Comments", description = "APIs for reading and posting threaded comments")
+@Validated
+@RequiredArgsConstructor
+public class CommentController {
+
+    private final CommentService commentService;
+
+    @Operation(summary = "Get the comment threads of an article",
+            description = "Top-level comments, oldest first, each with nested replies down to 'depth' levels. "
+                    + "Pass the returned 'nextCursor' as 'cursor' to get the next page.")
+    @ApiResponse(responseCode = "200", description = "A page of threads.")
+    @GetMapping("/articles/{articleId}/comments")
+    public ResponseEntity<CursorPage<CommentResponse>> getThreads(@PathVariable Long articleId,
+                                                                  @RequestParam(required = false) String cursor,
+                                                                  @RequestParam(defaultValue = "20") @Min(1) @Max(100) int size,
+                                                                  @RequestParam(defaultValue = "3") @Min(0) @Max(24) int depth) {
+        return ResponseEntity.ok(commentService.getThreads(articleId, cursor, size, depth));
+    }
+
+    @Operation(summary = "Post a comment", description = "Posts a top-level comment or, with 'parentId', a reply.")
+    @ApiResponse(responseCode = "201", description = "Comment posted.")
+    @ApiResponse(responseCode = "400", description = "The reply would be nested too deeply.")
+    @ApiResponse(responseCode = "404", description = "Article or parent comment not found.")
+    @PostMapping("/articles/{articleId}/comments")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<CommentResponse> addComment(@PathVariable Long articleId,
+                                                      @Valid @RequestBody CommentRequest request,
+                                                      @AuthenticationPrincipal User user) {
+        return ResponseEntity.status(HttpStatus.CREATED).body(commentService.addComment(articleId, request, user));
+    }
+
+    @Operation(summary = "Get a comment thread",
+            description = "A comment with its replies down to 'depth' levels below it. Use it to expand replies marked 'moreReplies'.")
+    @ApiResponse(responseCode = "200", description = "The comment and its replies.")
+    @ApiResponse(responseCode = "404", description = "Comment not found.")
+    @GetMapping("/comments/{id}/thread")
+    public ResponseEntity<CommentResponse> getThread(@PathVariable Long id,
+                                                     @RequestParam(defaultValue = "5") @Min(0) @Max(24) int depth) {
+        return ResponseEntity.ok(commentService.getThread(id, depth));
+    }
+}
@@ -0,0 +1,84 @@
+/***********************************************************
+ * Copyright (c) 2025. All rights reserved to ArchiLogic.
+ * Developer: Nikhil Gadhavajula
+ **********************************************************/
+
+package com.archilogic.controller;
+
+import com.archilogic.dto.DraftPatchRequest;
+import com.archilogic.dto.DraftRequest;
+import com.archilogic.dto.DraftResponse;
+import com.archilogic.dto.DraftSaveResponse;
+import com.archilogic.entity.User;
+import com.archilogic.service.DraftService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/drafts")
+@Tag(name = "Drafts", description = "APIs for autosaving editor drafts")
+@PreAuthorize("isAuthenticated()")
+@RequiredArgsConstructor
+public class DraftController {
+
+    private final DraftService draftService;
+
+    @Operation(summary = "Start a draft",
+            description = "Starts a draft of a new article, or of one of the user's articles when 'articleId' is given.")
+    @ApiResponse(responseCode = "201", description = "Draft created at revision 0.")
+    @ApiResponse(responseCode = "403", description = "The authenticated user is not the article's author.")
+    @ApiResponse(responseCode = "404", description = "Article not found.")
+    @PostMapping
+    public ResponseEntity<DraftResponse> createDraft(@Valid @RequestBody DraftRequest request,
+                                                     @AuthenticationPrincipal User user) {
+        return ResponseEntity.status(HttpStatus.CREATED).body(draftService.createDraft(request, user));
+    }
+
+    @Operation(summary = "List my drafts", description = "The user's drafts, most recently saved first, without bodies.")
+    @ApiResponse(responseCode = "200", description = "The drafts.")
+    @GetMapping
+    public ResponseEntity<List<DraftResponse>> listDrafts(@AuthenticationPrincipal User user) {
+        return ResponseEntity.ok(draftService.listDrafts(user));
+    }
+
+    @Operation(summary = "Get a draft", description = "Returns a draft with its current body and revision.")
+    @ApiResponse(responseCode = "200", description = "The draft.")
+    @ApiResponse(responseCode = "404", description = "Draft not found.")
+    @GetMapping("/{id}")
+    public ResponseEntity<DraftResponse> getDraft(@PathVariable Long id, @AuthenticationPrincipal User user) {
+        return ResponseEntity.ok(draftService.getDraft(id, user));
+    }
+
+    @Operation(summary = "Autosave a draft",
+            description = "Applies the edits made since 'baseRevision'. Offsets are UTF-16 code units of the body at that "
+                    + "revision, ascending and non-overlapping. On success, use the returned revision as the next base.")
+    @ApiResponse(responseCode = "200", description = "Saved; the new revision.")
+    @ApiResponse(responseCode = "400", description = "The edits don't fit the body at the base revision.")
+    @ApiResponse(responseCode = "404", description = "Draft not found.")
+    @ApiResponse(responseCode = "409", description = "The draft was saved elsewhere; the body carries 'currentRevision'.")
+    @PatchMapping("/{id}")
+    public ResponseEntity<DraftSaveResponse> saveDraft(@PathVariable Long id,
+                                                       @Valid @RequestBody DraftPatchRequest request,
+                                                       @AuthenticationPrincipal User user) {
+        return ResponseEntity.ok(draftService.saveDraft(id, request, user));
+    }
+
+    @Operation(summary = "Delete a draft", description = "Deletes a draft and its saved history.")
+    @ApiResponse(responseCode = "204", description = "Draft deleted.")
+    @ApiResponse(responseCode = "404", description = "Draft not found.")
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> deleteDraft(@PathVariable Long id, @AuthenticationPrincipal User user) {
+        draftService.deleteDraft(id, user);
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,36 @@
+/***********************************************************
+ * Copyright (c) 2025. All rights reserved to ArchiLogic.
+ * Developer: Nikhil Gadhavajula
+ **********************************************************/
+
+package com.archilogic.controller;
+
+import com.archilogic.mail.EmailOutboxDispatcher;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/v1/admin/email/outbox")
+@Tag(name = "Email Administration", description = "Admin-only APIs for monitoring outgoing email")
+@PreAuthorize("hasRole('ADMIN')")
+@RequiredArgsConstructor
+public class EmailOutboxAdminController {
+
+    private final EmailOutboxDispatcher emailOutboxDispatcher;
+
+    @Operation(summary = "Get email outbox lag and counters",
+            description = "Pending, due and retrying rows and the age of the oldest pending email, plus the emails "
+                    + "sent, rescheduled and given up on by this node since startup.")
+    @ApiResponse(responseCode = "200", description = "The outbox statistics.")
+    @GetMapping("/stats")
+    public ResponseEntity<EmailOutboxDispatcher.Stats> getStats() {
+        return ResponseEntity.ok(emailOutboxDispatcher.getStats());
+    }
+}
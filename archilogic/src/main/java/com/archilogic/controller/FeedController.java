@@ -0,0 +1,64 @@
+/***********************************************************
+ * Copyright (c) 2025. All rights reserved to ArchiLogic.
+ * Developer: Nikhil Gadhavajula
+ **********************************************************/
+
+package com.archilogic.controller;
+
+import com.archilogic.dto.ArticleFeedItem;
+import com.archilogic.dto.CursorPage;
+import com.archilogic.entity.User;
+import com.archilogic.service.HomeFeedService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/v1")
+@Tag(name = "Feed", description = "APIs for following authors and reading the personalized feed")
+@Validated
+@RequiredArgsConstructor
+public class FeedController {
+
+    private final HomeFeedService homeFeedService;
+
+    @Operation(summary = "Follow a user", description = "Adds the user's articles to the authenticated user's home feed.")
+    @ApiResponse(responseCode = "204", description = "Following.")
+    @ApiResponse(responseCode = "400", description = "Users cannot follow themselves.")
+    @ApiResponse(responseCode = "404", description = "User not found.")
+    @PutMapping("/users/{id}/follow")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<Void> follow(@PathVariable Long id, @AuthenticationPrincipal User user) {
+        homeFeedService.follow(user, id);
+        return ResponseEntity.noContent().build();
+    }
+
+    @Operation(summary = "Unfollow a user", description = "Removes the user's articles from the authenticated user's home feed.")
+    @ApiResponse(responseCode = "204", description = "Not following.")
+    @DeleteMapping("/users/{id}/follow")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<Void> unfollow(@PathVariable Long id, @AuthenticationPrincipal User user) {
+        homeFeedService.unfollow(user, id);
+        return ResponseEntity.noContent().build();
+    }
+
+    @Operation(summary = "Get the home feed",
+            description = "Recent articles of the authors the authenticated user follows, newest first. "
+                    + "Pass the returned 'nextCursor' as 'cursor' to get the next page.")
+    @ApiResponse(responseCode = "200", description = "A page of articles.")
+    @GetMapping("/feed")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<CursorPage<ArticleFeedItem>> getHomeFeed(@RequestParam(required = false) String cursor,
+                                                                   @RequestParam(defaultValue = "20") @Min(1) @Max(100) int size,
+                                                                   @AuthenticationPrincipal User user) {
+        return ResponseEntity.ok(homeFeedService.getHomeFeed(user, cursor, size));
+    }
+}
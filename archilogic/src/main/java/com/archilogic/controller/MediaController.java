@@ -0,0 +1,97 @@
+/***********************************************************
+ * Copyright (c) 2025. All rights reserved to ArchiLogic.
+ * Developer: Nikhil Gadhavajula
+ **********************************************************/
+
+package com.archilogic.controller;
+
+import com.archilogic.dto.MediaResponse;
+import com.archilogic.entity.User;
+import com.archilogic.media.ImageFormat;
+import com.archilogic.media.ZeroCopyFileSender;
+import com.archilogic.service.MediaService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+@RestController
+@RequestMapping("/api/v1/media")
+@Tag(name = "Media", description = "APIs for uploading and serving article images")
+@RequiredArgsConstructor
+public class MediaController {
+
+    private final MediaService mediaService;
+    private final ZeroCopyFileSender fileSender;
+
+    @Operation(summary = "Upload an image",
+            description = "Stores a PNG, JPEG, GIF or WebP image and returns its permanent URL. Identical content is stored once "
+                    + "and only counts against the quota of each user once.")
+    @ApiResponse(responseCode = "201", description = "Image stored.")
+    @ApiResponse(responseCode = "413", description = "The file is too large or exceeds the user's quota.")
+    @ApiResponse(responseCode = "415", description = "The file is not an accepted image format.")
+    @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<MediaResponse> upload(@RequestParam("file") MultipartFile file,
+                                                @AuthenticationPrincipal User user) throws IOException {
+        return ResponseEntity.status(HttpStatus.CREATED).body(mediaService.upload(file, user));
+    }
+
+    @Operation(summary = "Delete an upload", description = "Removes an upload of the authenticated user and frees its quota.")
+    @ApiResponse(responseCode = "204", description = "Deleted.")
+    @ApiResponse(responseCode = "403", description = "The authenticated user is not the owner.")
+    @ApiResponse(responseCode = "404", description = "Media not found.")
+    @DeleteMapping("/{id:\\d+}")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<Void> delete(@PathVariable Long id, @AuthenticationPrincipal User user) throws IOException {
+        mediaService.delete(id, user);
+        return ResponseEntity.noContent().build();
+    }
+
+    @Operation(summary = "Get a resized image",
+            description = "Serves a resized copy of stored content. If it has not been generated yet it is produced now; "
+                    + "if the pipeline is busy or that takes too long, the client is redirected to the original.")
+    @ApiResponse(responseCode = "200", description = "The resized image.")
+    @ApiResponse(responseCode = "307", description = "Not ready yet; redirected to the original image.")
+    @ApiResponse(responseCode = "404", description = "No such content, or the width/format is not offered.")
+    @GetMapping("/{sha256:[0-9a-f]{64}}-w{width:\\d{1,5}}.{extension:[a-z]+}")
+    public void serveDerivative(@PathVariable String sha256, @PathVariable int width, @PathVariable String extension,
+                                HttpServletRequest request, HttpServletResponse response) throws IOException, InterruptedException {
+        Path file = mediaService.locateDerivative(sha256, width, extension);
+        if (file == null) {
+            ImageFormat source = mediaService.findFormat(sha256);
+            response.setHeader(HttpHeaders.CACHE_CONTROL, "no-store");
+            response.setHeader(HttpHeaders.LOCATION, MediaService.urlOf(sha256, source));
+            response.setStatus(HttpServletResponse.SC_TEMPORARY_REDIRECT);
+            return;
+        }
+        String eTag = "\"" + sha256 + "-w" + width + "." + extension + "\"";
+        fileSender.send(file, ImageFormat.fromExtension(extension).getContentType(), eTag, request, response);
+    }
+
+    @Operation(summary = "Get an image",
+            description = "Serves stored content by hash with immutable cache headers. Supports If-None-Match and single byte ranges.")
+    @ApiResponse(responseCode = "200", description = "The image.")
+    @ApiResponse(responseCode = "206", description = "The requested byte range.")
+    @ApiResponse(responseCode = "304", description = "Not modified.")
+    @ApiResponse(responseCode = "404", description = "No such content.")
+    @GetMapping("/{sha256:[0-9a-f]{64}}.{extension:[a-z]+}")
+    public void serve(@PathVariable String sha256, @PathVariable String extension,
+                      HttpServletRequest request, HttpServletResponse response) throws IOException {
+        Path file = mediaService.locate(sha256, extension);
+        fileSender.send(file, ImageFormat.fromExtension(extension).getContentType(), "\"" + sha256 + "\"", request, response);
+    }
+}
@@ -0,0 +1,56 @@
+/***********************************************************
+ * Copyright (c) 2025. All rights reserved to ArchiLogic.
+ * Developer: Nikhil Gadhavajula
+ **********************************************************/
+
+package com.archilogic.controller;
+
+import com.archilogic.dto.MessageResponse;
+import com.archilogic.search.ArticleSearchIndex;
+import com.archilogic.search.RelatedArticlesIndex;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/v1/admin/search")
+@Tag(name = "Search Administration", description = "Admin-only APIs for maintaining the article search and related-articles indexes")
+@PreAuthorize("hasRole('ADMIN')")
+@RequiredArgsConstructor
+public class SearchAdminController {
+
+    private final ArticleSearchIndex searchIndex;
+    private final RelatedArticlesIndex relatedArticlesIndex;
+
+    @Operation(summary = "Rebuild the search index",
+            description = "Re-indexes every published article from the database in the background. Searches keep working meanwhile.")
+    @ApiResponse(responseCode = "202", description = "Rebuild started.")
+    @ApiResponse(responseCode = "409", description = "A rebuild is already running.")
+    @PostMapping("/rebuild")
+    public ResponseEntity<MessageResponse> rebuild() {
+        if (!searchIndex.rebuildAsync()) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(new MessageResponse("A rebuild is already running."));
+        }
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(new MessageResponse("Search index rebuild started."));
+    }
+
+    @Operation(summary = "Rebuild the related-articles index",
+            description = "Recomputes the similarity signatures of every published article in the background, on all cores. "
+                    + "Related-article lookups keep working meanwhile.")
+    @ApiResponse(responseCode = "202", description = "Rebuild started.")
+    @ApiResponse(responseCode = "409", description = "A rebuild is already running.")
+    @PostMapping("/related/rebuild")
+    public ResponseEntity<MessageResponse> rebuildRelated() {
+        if (!relatedArticlesIndex.rebuildAsync()) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(new MessageResponse("A rebuild is already running."));
+        }
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(new MessageResponse("Related articles index rebuild started."));
+    }
+}
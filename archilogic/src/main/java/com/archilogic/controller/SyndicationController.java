@@ -0,0 +1,125 @@
+/***********************************************************
+ * Copyright (c) 2025. All rights reserved to ArchiLogic.
+ * Developer: Nikhil Gadhavajula
+ **********************************************************/
+
+package com.archilogic.controller;
+
+import com.archilogic.exception.NotFoundException;
+import com.archilogic.feed.SyndicationFeeds;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.Duration;
+import java.util.Locale;
+
+@RestController
+@Tag(name = "Syndication", description = "Public RSS, Atom and sitemap documents")
+@RequiredArgsConstructor
+public class SyndicationController {
+
+    private final SyndicationFeeds syndicationFeeds;
+
+    @Value("${archilogic.app.syndication.maxAgeSeconds:300}")
+    private long maxAgeSeconds;
+
+    @Operation(summary = "Get the RSS feed", description = "The newest published articles as RSS 2.0.")
+    @ApiResponse(responseCode = "200", description = "The feed.")
+    @ApiResponse(responseCode = "304", description = "Not modified.")
+    @GetMapping("/feeds/rss.xml")
+    public ResponseEntity<byte[]> rss(WebRequest request) {
+        return serve(SyndicationFeeds.RSS, request);
+    }
+
+    @Operation(summary = "Get the Atom feed", description = "The newest published articles as Atom 1.0.")
+    @ApiResponse(responseCode = "200", description = "The feed.")
+    @ApiResponse(responseCode = "304", description = "Not modified.")
+    @GetMapping("/feeds/atom.xml")
+    public ResponseEntity<byte[]> atom(WebRequest request) {
+        return serve(SyndicationFeeds.ATOM, request);
+    }
+
+    @Operation(summary = "Get the sitemap index", description = "Lists the sitemap shards that cover all published articles.")
+    @ApiResponse(responseCode = "200", description = "The sitemap index.")
+    @ApiResponse(responseCode = "304", description = "Not modified.")
+    @GetMapping("/sitemap.xml")
+    public ResponseEntity<byte[]> sitemapIndex(WebRequest request) {
+        return serve(SyndicationFeeds.SITEMAP_INDEX, request);
+    }
+
+    @Operation(summary = "Get a sitemap shard", description = "The URLs of the published articles in one id range.")
+    @ApiResponse(responseCode = "200", description = "The sitemap.")
+    @ApiResponse(responseCode = "304", description = "Not modified.")
+    @ApiResponse(responseCode = "404", description = "No such shard.")
+    @GetMapping("/sitemaps/sitemap-{shard:\\d{1,9}}.xml")
+    public ResponseEntity<byte[]> sitemap(@PathVariable long shard, WebRequest request) {
+        return serve(SyndicationFeeds.shardName(shard), request);
+    }
+
+    /**
+     * Sends a pre-rendered document, gzip-encoded if the client accepts it. Nothing is rendered or compressed here.
+     */
+    private ResponseEntity<byte[]> serve(String name, WebRequest request) {
+        SyndicationFeeds.Document document = syndicationFeeds.get(name);
+        if (document == null) {
+            throw new NotFoundException("Error: Document not found.");
+        }
+        boolean gzip = acceptsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+        String eTag = gzip ? document.getGzipETag() : document.getETag();
+        if (request.checkNotModified(eTag, document.getLastModified().toEpochMilli())) {
+            return null;
+        }
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(document.getContentType()))
+                .eTag(eTag)
+                .lastModified(document.getLastModified())
+                .cacheControl(CacheControl.maxAge(Duration.ofSeconds(maxAgeSeconds)).cachePublic())
+                .varyBy(HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            return response.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(document.getGzip());
+        }
+        return response.body(document.getIdentity());
+    }
+
+    /**
+     * @return true unless the header is absent or refuses gzip with {@code q=0}.
+     */
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.toLowerCase(Locale.ROOT).split(",")) {
+            String[] parts = coding.split(";");
+            String name = parts[0].trim();
+            if (name.equals("gzip") || name.equals("*")) {
+                for (int i = 1; i < parts.length; i++) {
+                    String parameter = parts[i].trim();
+                    if (parameter.startsWith("q=") && isZero(parameter.substring(2))) {
+                        return false;
+                    }
+                }
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isZero(String quality) {
+        try {
+            return Double.parseDouble(quality.trim()) == 0;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,82 @@
+/***********************************************************
+ * Copyright (c) 2025. All rights reserved to ArchiLogic.
+ * Developer: Nikhil Gadhavajula
+ **********************************************************/
+
+package com.archilogic.controller;
+
+import com.archilogic.dto.AdminUserResponse;
+import com.archilogic.dto.CursorPage;
+import com.archilogic.entity.ERole;
+import com.archilogic.exception.BadRequestException;
+import com.archilogic.service.UserAdminService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.Instant;
+
+@RestController
+@RequestMapping("/api/v1/admin/users")
+@Tag(name = "User Administration", description = "Admin-only APIs for listing and exporting users")
+@PreAuthorize("hasRole('ADMIN')")
+@Validated
+@RequiredArgsConstructor
+public class UserAdminController {
+
+    private final UserAdminService userAdminService;
+
+    @Operation(summary = "List users",
+            description = "Keyset-paginated listing ordered by id. Pass the returned 'nextCursor' as 'cursor' to get the next page.")
+    @ApiResponse(responseCode = "200", description = "A page of users.")
+    @GetMapping
+    public ResponseEntity<CursorPage<AdminUserResponse>> listUsers(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") @Min(1) @Max(500) int size,
+            @RequestParam(required = false) ERole role,
+            @Parameter(description = "Inclusive lower bound, ISO-8601.") @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant createdFrom,
+            @Parameter(description = "Exclusive upper bound, ISO-8601.") @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant createdTo) {
+        return ResponseEntity.ok(userAdminService.listUsers(cursor, size, role, createdFrom, createdTo));
+    }
+
+    @Operation(summary = "Export users",
+            description = "Streams every matching user as CSV or NDJSON. Memory use on the server is constant regardless of table size.")
+    @ApiResponse(responseCode = "200", description = "The export stream.")
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportUsers(
+            @Parameter(description = "'csv' or 'ndjson'.") @RequestParam(defaultValue = "csv") String format,
+            @RequestParam(required = false) ERole role,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant createdFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant createdTo) {
+        boolean ndjson = switch (format) {
+            case "csv" -> false;
+            case "ndjson" -> true;
+            default -> throw new BadRequestException("Unsupported export format: " + format);
+        };
+
+        StreamingResponseBody body = ndjson
+                ? out -> userAdminService.exportNdjson(out, role, createdFrom, createdTo)
+                : out -> userAdminService.exportCsv(out, role, createdFrom, createdTo);
+        return ResponseEntity.ok()
+                .contentType(ndjson ? MediaType.APPLICATION_NDJSON : new MediaType("text", "csv"))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"users." + format + "\"")
+                .body(body);
+    }
+}
@@ -0,0 +1,413 @@
+/***********************************************************
+ * Copyright (c) 2025. All rights reserved to ArchiLogic.
+ * Developer: Nikhil Gadhavajula
+ **********************************************************/
+
+package com.archilogic.dataset;
+
+import com.archilogic.entity.ERole;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Command-line tool that generates, dumps and restores synthetic user datasets for benchmarks and capacity tests.
+ * <p>
+ * Only active when {@code archilogic.dataset.command} is set; it runs after the roles are seeded, then exits the
+ * application. Typical invocations:
+ * <pre>
+ * java -jar archilogic.jar --spring.main.web-application-type=none --archilogic.app.warmup.enabled=false \
+ *      --archilogic.dataset.command=generate --archilogic.dataset.users=2000000 --archilogic.dataset.seed=42
+ * ... --archilogic.dataset.command=dump    --archilogic.dataset.file=users-2m-seed42.tsv.gz
+ * ... --archilogic.dataset.command=restore --archilogic.dataset.file=users-2m-seed42.tsv.gz
+ * </pre>
+ * <ul>
+ *     <li>{@code generate} fills an empty {@code users} table with {@code users} rows from
+ *     {@link SyntheticUserFactory}, identical for the same seed. Password hashing is not repeated per user: a pool of
+ *     {@code passwordPoolSize} BCrypt hashes is computed once and user {@code i} gets hash {@code i % poolSize}, whose
+ *     plain text is {@code dataset-password-<i % poolSize>}, so load tests can sign in as any generated user.</li>
+ *     <li>{@code dump} streams {@code users} and their role names into a gzip-compressed, tab-separated file in the
+ *     MySQL {@code LOAD DATA} escaping convention.</li>
+ *     <li>{@code restore} loads such a file into an empty {@code users} table.</li>
+ * </ul>
+ * Inserts are JDBC batches of {@code batchSize} rows (multi-row statements thanks to {@code rewriteBatchedStatements}),
+ * each committed in its own transaction by one of {@code threads} workers.
+ */
+@Component
+@ConditionalOnProperty(name = "archilogic.dataset.command")
+@Order(Ordered.LOWEST_PRECEDENCE - 1)
+@RequiredArgsConstructor
+@Slf4j
+public class DatasetCommand implements ApplicationRunner {
+
+    private static final String HEADER = "# archilogic-dataset 1";
+    private static final String USERS_SECTION = "@users";
+    private static final String USER_ROLES_SECTION = "@user_roles";
+    private static final String NULL = "\\N";
+
+    private static final String INSERT_USER_SQL = "INSERT INTO users "
+            + "(id, username, first_name, last_name, email, phone_number, password, created_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_USER_ROLE_SQL = "INSERT INTO user_roles (user_id, role_id) VALUES (?, ?)";
+    private static final String SELECT_USERS_SQL = "SELECT id, username, first_name, last_name, email, phone_number, "
+            + "password, created_at FROM users ORDER BY id";
+    private static final String SELECT_USER_ROLES_SQL = "SELECT ur.user_id, r.name FROM user_roles ur "
+            + "JOIN roles r ON r.id = ur.role_id ORDER BY ur.user_id, r.name";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final PasswordEncoder passwordEncoder;
+    private final ConfigurableApplicationContext context;
+
+    @Value("${archilogic.dataset.command}")
+    private String command;
+
+    @Value("${archilogic.dataset.users:1000000}")
+    private long users;
+
+    @Value("${archilogic.dataset.seed:42}")
+    private long seed;
+
+    @Value("${archilogic.dataset.file:archilogic-dataset.tsv.gz}")
+    private String file;
+
+    @Value("${archilogic.dataset.threads:0}")
+    private int threads;
+
+    @Value("${archilogic.dataset.batchSize:2000}")
+    private int batchSize;
+
+    @Value("${archilogic.dataset.passwordPoolSize:16}")
+    private int passwordPoolSize;
+
+    @Value("${archilogic.dataset.adminRatio:0.001}")
+    private double adminRatio;
+
+    @Value("${archilogic.dataset.createdFrom:2020-01-01T00:00:00Z}")
+    private Instant createdFrom;
+
+    @Value("${archilogic.dataset.createdTo:2025-01-01T00:00:00Z}")
+    private Instant createdTo;
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        long started = System.nanoTime();
+        int exitCode = 0;
+        try {
+            switch (command) {
+                case "generate" -> generate();
+                case "dump" -> dump();
+                case "restore" -> restore();
+                default -> throw new IllegalArgumentException("Unknown dataset command '" + command
+                        + "'; expected generate, dump or restore.");
+            }
+            log.info("Dataset {} finished in {} s", command, TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - started));
+        } catch (Exception e) {
+            log.error("Dataset {} failed: {}", command, e.getMessage(), e);
+            exitCode = 1;
+        }
+        int code = exitCode;
+        System.exit(SpringApplication.exit(context, () -> code));
+    }
+
+    private void generate() throws Exception {
+        requireEmptyUsersTable();
+        Map<ERole, Long> roleIds = loadRoleIds();
+        String[] passwordHashes = IntStream.range(0, passwordPoolSize).parallel()
+                .mapToObj(i -> passwordEncoder.encode("dataset-password-" + i))
+                .toArray(String[]::new);
+        SyntheticUserFactory factory = new SyntheticUserFactory(seed, users, 1, createdFrom, createdTo, adminRatio);
+        log.info("Generating {} users with seed {} on {} thread(s)", users, seed, workerCount());
+
+        try (BatchWorkers workers = new BatchWorkers()) {
+            for (long from = 0; from < users; from += batchSize) {
+                long start = from;
+                long end = Math.min(users, from + batchSize);
+                workers.submit(() -> {
+                    List<Object[]> userRows = new ArrayList<>((int) (end - start));
+                    List<Object[]> roleRows = new ArrayList<>((int) (end - start));
+                    for (long index = start; index < end; index++) {
+                        SyntheticUserFactory.SyntheticUser user = factory.create(index);
+                        userRows.add(new Object[]{user.getId(), user.getUsername(), user.getFirstName(), user.getLastName(),
+                                user.getEmail(), user.getPhoneNumber(),
+                                passwordHashes[SyntheticUserFactory.passwordIndex(index, passwordPoolSize)],
+                                Timestamp.from(user.getCreatedAt())});
+                        roleRows.add(new Object[]{user.getId(), roleIds.get(ERole.ROLE_USER)});
+                        if (user.isAdmin()) {
+                            roleRows.add(new Object[]{user.getId(), roleIds.get(ERole.ROLE_ADMIN)});
+                        }
+                    }
+                    insert(userRows, roleRows);
+                });
+            }
+            workers.awaitAll();
+        }
+        resetAutoIncrement();
+    }
+
+    private void dump() throws IOException {
+        Path path = Path.of(file);
+        long[] counts = new long[2];
+        // A fetch size of Integer.MIN_VALUE makes Connector/J stream rows instead of buffering the whole table.
+        JdbcTemplate streaming = new JdbcTemplate(jdbcTemplate.getDataSource());
+        streaming.setFetchSize(Integer.MIN_VALUE);
+        try (Writer out = new BufferedWriter(new OutputStreamWriter(
+                new GZIPOutputStream(Files.newOutputStream(path), 1 << 16), StandardCharsets.UTF_8), 1 << 16)) {
+            out.write(HEADER + "\n" + USERS_SECTION + "\n");
+            streaming.query(SELECT_USERS_SQL, rs -> {
+                try {
+                    Timestamp createdAt = rs.getTimestamp(8);
+                    writeRow(out, rs.getString(1), rs.getString(2), rs.getString(3), rs.getString(4), rs.getString(5),
+                            rs.getString(6), rs.getString(7), createdAt == null ? null : createdAt.toInstant().toString());
+                    counts[0]++;
+                } catch (IOException e) {
+                    throw new IllegalStateException(e);
+                }
+            });
+            out.write(USER_ROLES_SECTION + "\n");
+            streaming.query(SELECT_USER_ROLES_SQL, rs -> {
+                try {
+                    writeRow(out, rs.getString(1), rs.getString(2));
+                    counts[1]++;
+                } catch (IOException e) {
+                    throw new IllegalStateException(e);
+                }
+            });
+        }
+        log.info("Dumped {} users and {} role assignments to {} ({} bytes)", counts[0], counts[1],
+                path.toAbsolutePath(), Files.size(path));
+    }
+
+    private void restore() throws Exception {
+        requireEmptyUsersTable();
+        Map<ERole, Long> roleIds = loadRoleIds();
+        Path path = Path.of(file);
+        long[] counts = new long[2];
+        try (BufferedReader in = new BufferedReader(new InputStreamReader(
+                new GZIPInputStream(Files.newInputStream(path), 1 << 16), StandardCharsets.UTF_8), 1 << 16);
+             BatchWorkers workers = new BatchWorkers()) {
+            if (!HEADER.equals(in.readLine()) || !USERS_SECTION.equals(in.readLine())) {
+                throw new IllegalArgumentException(path + " is not a dataset dump.");
+            }
+            List<Object[]> rows = new ArrayList<>(batchSize);
+            String line;
+            while ((line = in.readLine()) != null && !line.equals(USER_ROLES_SECTION)) {
+                String[] fields = readRow(line, 8);
+                rows.add(new Object[]{Long.parseLong(fields[0]), fields[1], fields[2], fields[3], fields[4], fields[5],
+                        fields[6], fields[7] == null ? null : Timestamp.from(Instant.parse(fields[7]))});
+                counts[0]++;
+                if (rows.size() == batchSize) {
+                    List<Object[]> batch = rows;
+                    workers.submit(() -> insert(batch, List.of()));
+                    rows = new ArrayList<>(batchSize);
+                }
+            }
+            List<Object[]> lastUsers = rows;
+            workers.submit(() -> insert(lastUsers, List.of()));
+            // Role assignments reference users, so every user batch must be committed first.
+            workers.awaitAll();
+
+            rows = new ArrayList<>(batchSize);
+            while ((line = in.readLine()) != null) {
+                String[] fields = readRow(line, 2);
+                Long roleId = roleIds.get(ERole.valueOf(fields[1]));
+                rows.add(new Object[]{Long.parseLong(fields[0]), roleId});
+                counts[1]++;
+                if (rows.size() == batchSize) {
+                    List<Object[]> batch = rows;
+                    workers.submit(() -> insert(List.of(), batch));
+                    rows = new ArrayList<>(batchSize);
+                }
+            }
+            List<Object[]> lastRoles = rows;
+            workers.submit(() -> insert(List.of(), lastRoles));
+            workers.awaitAll();
+        }
+        resetAutoIncrement();
+        log.info("Restored {} users and {} role assignments from {}", counts[0], counts[1], path.toAbsolutePath());
+    }
+
+    private void insert(List<Object[]> userRows, List<Object[]> roleRows) {
+        transactionTemplate.executeWithoutResult(status -> {
+            if (!userRows.isEmpty()) {
+                jdbcTemplate.batchUpdate(INSERT_USER_SQL, userRows);
+            }
+            if (!roleRows.isEmpty()) {
+                jdbcTemplate.batchUpdate(INSERT_USER_ROLE_SQL, roleRows);
+            }
+        });
+    }
+
+    private void requireEmptyUsersTable() {
+        Integer existing = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM (SELECT 1 FROM users LIMIT 1) u", Integer.class);
+        if (existing != null && existing > 0) {
+            throw new IllegalStateException("The users table is not empty; datasets are only loaded into an empty schema.");
+        }
+    }
+
+    private Map<ERole, Long> loadRoleIds() {
+        Map<ERole, Long> roleIds = new HashMap<>();
+        jdbcTemplate.query("SELECT id, name FROM roles", rs -> {
+            roleIds.put(ERole.valueOf(rs.getString(2)), rs.getLong(1));
+        });
+        for (ERole role : ERole.values()) {
+            if (!roleIds.containsKey(role)) {
+                throw new IllegalStateException("Role " + role + " is missing; start the application once to seed the roles.");
+            }
+        }
+        return roleIds;
+    }
+
+    /**
+     * Explicit ids don't advance the counter on every MySQL version; make sure later signups continue after them.
+     */
+    private void resetAutoIncrement() {
+        Long maxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM users", Long.class);
+        jdbcTemplate.execute("ALTER TABLE users AUTO_INCREMENT = " + (maxId + 1));
+    }
+
+    private int workerCount() {
+        return threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+    }
+
+    private static void writeRow(Writer out, String... fields) throws IOException {
+        for (int i = 0; i < fields.length; i++) {
+            if (i > 0) {
+                out.write('\t');
+            }
+            String field = fields[i];
+            if (field == null) {
+                out.write(NULL);
+                continue;
+            }
+            for (int c = 0; c < field.length(); c++) {
+                char ch = field.charAt(c);
+                switch (ch) {
+                    case '\\' -> out.write("\\\\");
+                    case '\t' -> out.write("\\t");
+                    case '\n' -> out.write("\\n");
+                    case '\r' -> out.write("\\r");
+                    default -> out.write(ch);
+                }
+            }
+        }
+        out.write('\n');
+    }
+
+    private static String[] readRow(String line, int fieldCount) {
+        String[] fields = line.split("\t", -1);
+        if (fields.length != fieldCount) {
+            throw new IllegalArgumentException("Expected " + fieldCount + " fields but found " + fields.length + ": " + line);
+        }
+        for (int i = 0; i < fields.length; i++) {
+            fields[i] = unescape(fields[i]);
+        }
+        return fields;
+    }
+
+    private static String unescape(String field) {
+        if (field.equals(NULL)) {
+            return null;
+        }
+        if (field.indexOf('\\') < 0) {
+            return field;
+        }
+        StringBuilder value = new StringBuilder(field.length());
+        for (int i = 0; i < field.length(); i++) {
+            char ch = field.charAt(i);
+            if (ch == '\\' && i + 1 < field.length()) {
+                char next = field.charAt(++i);
+                value.append(switch (next) {
+                    case 't' -> '\t';
+                    case 'n' -> '\n';
+                    case 'r' -> '\r';
+                    default -> next;
+                });
+            } else {
+                value.append(ch);
+            }
+        }
+        return value.toString();
+    }
+
+    /**
+     * A fixed pool of insert workers with a bounded number of batches in flight, so a fast reader or generator
+     * can't pile up more than {@code 2 * threads} batches in memory.
+     */
+    private final class BatchWorkers implements AutoCloseable {
+
+        private final ExecutorService executor = Executors.newFixedThreadPool(workerCount(), runnable -> {
+            Thread thread = new Thread(runnable, "dataset-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        private final Semaphore inFlight = new Semaphore(workerCount() * 2);
+        private final List<Future<?>> pending = new ArrayList<>();
+        private long completedBatches;
+
+        void submit(Runnable batch) throws InterruptedException, ExecutionException {
+            inFlight.acquire();
+            pending.add(executor.submit(() -> {
+                try {
+                    batch.run();
+                } finally {
+                    inFlight.release();
+                }
+            }));
+            // Surface failures early and keep the list short.
+            while (!pending.isEmpty() && pending.get(0).isDone()) {
+                pending.remove(0).get();
+                if (++completedBatches % 100 == 0) {
+                    log.info("{} batches of up to {} rows written", completedBatches, batchSize);
+                }
+            }
+        }
+
+        void awaitAll() throws InterruptedException, ExecutionException {
+            for (Future<?> future : pending) {
+                future.get();
+            }
+            pending.clear();
+        }
+
+        @Override
+        public void close() {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,134 @@
+/***********************************************************
+ * Copyright (c) 2025. All rights reserved to ArchiLogic.
+ * Developer: Nikhil Gadhavajula
+ **********************************************************/
+
+package com.archilogic.dataset;
+
+import com.archilogic.entity.ERole;
+import lombok.Getter;
+
+import java.time.Instant;
+import java.util.Locale;
+import java.util.SplittableRandom;
+
+/**
+ * Produces synthetic user rows as a pure function of a seed and the row index.
+ * <p>
+ * Every row draws from its own random stream derived from {@code (seed, index)}, so a dataset is identical no
+ * matter how many threads generate it or in which order the chunks complete. Names are drawn with a skew towards
+ * the head of the lists, as in real populations; signup times grow denser towards the end of the range
+ * (cumulative signups grow quadratically), which is what makes index ranges on {@code created_at} realistic.
+ */
+public final class SyntheticUserFactory {
+
+    private static final String[] FIRST_NAMES = {
+            "james", "mary", "john", "patricia", "robert", "jennifer", "michael", "linda", "william", "elizabeth",
+            "david", "barbara", "richard", "susan", "joseph", "jessica", "thomas", "sarah", "priya", "wei",
+            "mohammed", "fatima", "carlos", "sofia", "hiroshi", "yuki", "olga", "ivan", "aarav", "ananya",
+            "lucas", "emma", "noah", "olivia", "mateo", "chloe", "kwame", "amara", "liam", "nikhil"};
+
+    private static final String[] LAST_NAMES = {
+            "smith", "johnson", "williams", "brown", "jones", "garcia", "miller", "davis", "rodriguez", "martinez",
+            "hernandez", "lopez", "gonzalez", "wilson", "anderson", "thomas", "taylor", "moore", "jackson", "martin",
+            "lee", "patel", "kumar", "sharma", "wang", "li", "zhang", "chen", "nguyen", "kim",
+            "tanaka", "sato", "ivanov", "petrov", "okafor", "mensah", "silva", "santos", "muller", "rossi"};
+
+    private static final String[] EMAIL_DOMAINS = {
+            "gmail.com", "outlook.com", "yahoo.com", "icloud.com", "proton.me", "example.org"};
+
+    private final long seed;
+    private final long totalUsers;
+    private final long firstId;
+    private final long createdFromMillis;
+    private final long createdSpanMillis;
+    private final double adminRatio;
+
+    /**
+     * @param seed        The dataset seed.
+     * @param totalUsers  The number of users in the dataset.
+     * @param firstId     The id of the first user.
+     * @param createdFrom The signup time of the first user.
+     * @param createdTo   The signup time of the last user.
+     * @param adminRatio  The fraction of users that also get {@link ERole#ROLE_ADMIN}.
+     */
+    public SyntheticUserFactory(long seed, long totalUsers, long firstId, Instant createdFrom, Instant createdTo,
+                                double adminRatio) {
+        this.seed = seed;
+        this.totalUsers = totalUsers;
+        this.firstId = firstId;
+        this.createdFromMillis = createdFrom.toEpochMilli();
+        this.createdSpanMillis = createdTo.toEpochMilli() - createdFromMillis;
+        this.adminRatio = adminRatio;
+    }
+
+    /**
+     * @param index The row index, from 0 to {@code totalUsers - 1}.
+     * @return The user at that index.
+     */
+    public SyntheticUser create(long index) {
+        SplittableRandom random = new SplittableRandom(mix(seed ^ mix(index + 0x9e3779b97f4a7c15L)));
+        String firstName = skewed(random, FIRST_NAMES);
+        String lastName = skewed(random, LAST_NAMES);
+        // The base-36 index suffix keeps usernames unique and at most 50 characters long.
+        String username = firstName + "." + lastName + "." + Long.toString(index, 36);
+        String email = username + "@" + EMAIL_DOMAINS[random.nextInt(EMAIL_DOMAINS.length)];
+        String phone = String.format(Locale.ROOT, "+1-%03d-555-%04d", 200 + random.nextInt(800), random.nextInt(10_000));
+
+        double position = totalUsers <= 1 ? 1.0 : (index + random.nextDouble()) / totalUsers;
+        long createdAt = createdFromMillis + (long) (createdSpanMillis * Math.sqrt(Math.min(1.0, position)));
+        boolean admin = random.nextDouble() < adminRatio;
+
+        return new SyntheticUser(firstId + index, username, capitalize(firstName), capitalize(lastName), email, phone,
+                Instant.ofEpochMilli(createdAt), admin);
+    }
+
+    /**
+     * @return The index of the password a user was given, out of a pool of {@code poolSize} passwords.
+     */
+    public static int passwordIndex(long index, int poolSize) {
+        return (int) (index % poolSize);
+    }
+
+    private static String skewed(SplittableRandom random, String[] values) {
+        double r = random.nextDouble();
+        return values[(int) (values.length * r * r)];
+    }
+
+    private static String capitalize(String name) {
+        return Character.toUpperCase(name.charAt(0)) + name.substring(1);
+    }
+
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * One generated user row.
+     */
+    @Getter
+    public static final class SyntheticUser {
+        private final long id;
+        private final String username;
+        private final String firstName;
+        private final String lastName;
+        private final String email;
+        private final String phoneNumber;
+        private final Instant createdAt;
+        private final boolean admin;
+
+        private SyntheticUser(long id, String username, String firstName, String lastName, String email,
+                              String phoneNumber, Instant createdAt, boolean admin) {
+            this.id = id;
+            this.username = username;
+            this.firstName = firstName;
+            this.lastName = lastName;
+            this.email = email;
+            this.phoneNumber = phoneNumber;
+            this.createdAt = createdAt;
+            this.admin = admin;
+        }
+    }
+}
@@ -0,0 +1,42 @@
+/***********************************************************
+ * Copyright (c) 2025. All rights reserved to ArchiLogic.
+ * Developer: Nikhil Gadhavajula
+ **********************************************************/
+
+package com.archilogic.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.time.Instant;
+import java.util.List;
+
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Schema(description = "A user account as seen by administrators.")
+public class AdminUserResponse {
+
+    @Schema(description = "The unique ID of the user.", example = "1")
+    private Long id;
+
+    @Schema(description = "The username of the user.", example = "johndoe")
+    private String username;
+
+    @Schema(description = "The email of the user.", example = "johndoe@example.com")
+    private String email;
+
+    @Schema(description = "The user's first name.", example = "John")
+    private String first_name;
+
+    @Schema(description = "The user's last name.", example = "Doe")
+    private String last_name;
+
+    @Schema(description = "When the account was created.", example = "2025-01-31T12:00:00Z")
+    private Instant createdAt;
+
+    @Schema(description = "The roles assigned to the user.", example = "[\"ROLE_USER\"]")
+    private List<String> roles;
+}
@@ -0,0 +1,56 @@
+/***********************************************************
+ * Copyright (c) 2025. All rights reserved to ArchiLogic.
+ * Developer: Nikhil Gadhavajula
+ **********************************************************/
+
+package com.archilogic.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.Instant;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@Schema(description = "An article as listed in a feed, without its body.")
+public class ArticleFeedItem {
+
+    @Schema(description = "The unique ID of the article.", example = "1")
+    private Long id;
+
+    @Schema(description = "The title of the article.", example = "How B-Trees Power Your Database")
+    private String title;
+
+    @Schema(description = "The slug of the article.", example = "how-b-trees-power-your-database-k3j9x2")
+    private String slug;
+
+    @Schema(description = "A short summary of the article.")
+    private String summary;
+
+    @Schema(description = "Comma-separated tags.", example = "databases,indexing")
+    private String tags;
+
+    @Schema(description = "When the article was published.")
+    private Instant publishedAt;
+
+    @Schema(description = "The author of the article.")
+    private AuthorSummary author;
+
+    /**
+     * Flat constructor used by JPQL constructor expressions, so feed queries can fetch the article
+     * and its author's display data in a single query.
+     */
+    public ArticleFeedItem(Long id, String title, String slug, String summary, String tags, Instant publishedAt,
+                           Long authorId, String authorUsername, String authorFirstName, String authorLastName) {
+        this.id = id;
+        this.title = title;
+        this.slug = slug;
+        this.summary = summary;
+        this.tags = tags;
+        this.publishedAt = publishedAt;
+        this.author = new AuthorSummary(authorId, authorUsername, authorFirstName, authorLastName);
+    }
+}
@@ -0,0 +1,41 @@
+/***********************************************************
+ * Copyright (c) 2025. All rights reserved to ArchiLogic.
+ * Developer: Nikhil Gadhavajula
+ **********************************************************/
+
+package com.archilogic.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@Schema(description = "Data Transfer Object for creating or editing an article.")
+public class ArticleRequest {
+
+    @NotBlank(message = "Title is required.")
+    @Size(max = 200, message = "Title must be at most 200 characters.")
+    @Schema(description = "The title of the article.", example = "How B-Trees Power Your Database", requiredMode = Schema.RequiredMode.REQUIRED)
+    private String title;
+
+    @Size(max = 500, message = "Summary must be at most 500 characters.")
+    @Schema(description = "A short summary shown in feeds.", example = "A deep dive into the data structure behind most indexes.")
+    private String summary;
+
+    @NotBlank(message = "Body is required.")
+    @Size(max = 1_000_000, message = "Body must be at most 1,000,000 characters.")
+    @Schema(description = "The article body in Markdown.", requiredMode = Schema.RequiredMode.REQUIRED)
+    private String body;
+
+    @Size(max = 10, message = "At most 10 tags are allowed.")
+    @Schema(description = "Tags for the article.", example = "[\"databases\", \"indexing\"]")
+    private List<@NotBlank @Size(max = 30) String> tags;
+
+    @Schema(description = "Whether the article should be publicly visible. Once published, an article stays published.", example = "true")
+    private boolean publish;
+}
@@ -0,0 +1,53 @@
+/***********************************************************
+ * Copyright (c) 2025. All rights reserved to ArchiLogic.
+ * Developer: Nikhil Gadhavajula
+ **********************************************************/
+
+package com.archilogic.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.time.Instant;
+
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Schema(description = "A full article.")
+public class ArticleResponse {
+
+    @Schema(description = "The unique ID of the article.", example = "1")
+    private Long id;
+
+    @Schema(description = "The title of the article.", example = "How B-Trees Power Your Database")
+    private String title;
+
+    @Schema(description = "The slug of the article.", example = "how-b-trees-power-your-database-k3j9x2")
+    private String slug;
+
+    @Schema(description = "A short summary of the article.")
+    private String summary;
+
+    @Schema(description = "The article body in Markdown.")
+    private String body;
+
+    @Schema(description = "The article body rendered to HTML. Raw HTML in the Markdown source is escaped.")
+    private String html;
+
+    @Schema(description = "Comma-separated tags.", example = "databases,indexing")
+    private String tags;
+
+    @Schema(description = "When the article was published, or null for a draft.")
+    private Instant publishedAt;
+
+    @Schema(description = "When the article was last edited.")
+    private Instant updatedAt;
+
+    @Schema(description = "The revision of the article, incremented on every edit.", example = "3")
+    private Long revision;
+
+    @Schema(description = "The author of the article.")
+    private AuthorSummary author;
+}
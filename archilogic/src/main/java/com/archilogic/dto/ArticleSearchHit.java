@@ -0,0 +1,30 @@
+/***********************************************************
+ * Copyright (c) 2025. All rights reserved to ArchiLogic.
+ * Developer: Nikhil Gadhavajula
+ **********************************************************/
+
+package com.archilogic.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Schema(description = "A single article search result.")
+public class ArticleSearchHit {
+
+    @Schema(description = "The matching article.")
+    private ArticleFeedItem article;
+
+    @Schema(description = "The relevance score of the match.", example = "3.42")
+    private float score;
+
+    @Schema(description = "HTML-escaped excerpt of the body with matches wrapped in <mark> tags.",
+            example = "... every <mark>B-Tree</mark> node holds ...")
+    private String highlight;
+}
@@ -0,0 +1,29 @@
+/***********************************************************
+ * Copyright (c) 2025. All rights reserved to ArchiLogic.
+ * Developer: Nikhil Gadhavajula
+ **********************************************************/
+
+package com.archilogic.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Schema(description = "Engagement counters of an article.")
+public class ArticleStatsResponse {
+
+    @Schema(description = "The article id.", example = "1")
+    private Long articleId;
+
+    @Schema(description = "Total page views. May lag by a few seconds across nodes.", example = "1234")
+    private long views;
+
+    @Schema(description = "Total completed reads. May lag by a few seconds across nodes.", example = "321")
+    private long reads;
+}
@@ -0,0 +1,32 @@
+/***********************************************************
+ * Copyright (c) 2025. All rights reserved to ArchiLogic.
+ * Developer: Nikhil Gadhavajula
+ **********************************************************/
+
+package com.archilogic.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Schema(description = "Public display data of an author.")
+public class AuthorSummary {
+
+    @Schema(description = "The unique ID of the author.", example = "1")
+    private Long id;
+
+    @Schema(description = "The author's username.", example = "johndoe")
+    private String username;
+
+    @Schema(description = "The author's first name.", example = "John")
+    private String first_name;
+
+    @Schema(description = "The author's last name.", example = "Doe")
+    private String last_name;
+}
@@ -0,0 +1,32 @@
+/***********************************************************
+ * Copyright (c) 2025. All rights reserved to ArchiLogic.
+ * Developer: Nikhil Gadhavajula
+ **********************************************************/
+
+package com.archilogic.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(description = "Availability of a username and/or email for registration.")
+public class AvailabilityResponse {
+
+    @Schema(description = "The username that was checked.", example = "johndoe")
+    private String username;
+
+    @Schema(description = "Whether the username can still be registered.", example = "true")
+    private Boolean usernameAvailable;
+
+    @Schema(description = "The email that was checked.", example = "johndoe@example.com")
+    private String email;
+
+    @Schema(description = "Whether the email can still be registered.", example = "false")
+    private Boolean emailAvailable;
+}
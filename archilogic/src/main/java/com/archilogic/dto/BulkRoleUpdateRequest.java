@@ -0,0 +1,31 @@
+/***********************************************************
+ * Copyright (c) 2025. All rights reserved to ArchiLogic.
+ * Developer: Nikhil Gadhavajula
+ **********************************************************/
+
+package com.archilogic.dto;
+
+import com.archilogic.entity.ERole;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+import java.util.Set;
+
+@Getter
+@Setter
+@Schema(description = "Data Transfer Object for replacing the roles of many users at once.")
+public class BulkRoleUpdateRequest {
+
+    @NotEmpty(message = "At least one user id is required.")
+    @Size(max = 10000, message = "At most 10000 users can be updated per request.")
+    @Schema(description = "The ids of the users to update.", example = "[1, 2, 3]", requiredMode = Schema.RequiredMode.REQUIRED)
+    private List<Long> userIds;
+
+    @NotEmpty(message = "At least one role is required.")
+    @Schema(description = "The new set of roles.", example = "[\"ROLE_USER\"]", requiredMode = Schema.RequiredMode.REQUIRED)
+    private Set<ERole> roles;
+}
@@ -0,0 +1,26 @@
+/***********************************************************
+ * Copyright (c) 2025. All rights reserved to ArchiLogic.
+ * Developer: Nikhil Gadhavajula
+ **********************************************************/
+
+package com.archilogic.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Schema(description = "Data Transfer Object for posting a comment.")
+public class CommentRequest {
+
+    @NotBlank(message = "Body is required.")
+    @Size(max = 10_000, message = "Body must be at most 10,000 characters.")
+    @Schema(description = "The comment text.", example = "Great write-up! How does this compare to LSM trees?", requiredMode = Schema.RequiredMode.REQUIRED)
+    private String body;
+
+    @Schema(description = "The id of the comment being replied to, or null for a top-level comment.", example = "42")
+    private Long parentId;
+}
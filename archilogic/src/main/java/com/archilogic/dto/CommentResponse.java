@@ -0,0 +1,53 @@
+/***********************************************************
+ * Copyright (c) 2025. All rights reserved to ArchiLogic.
+ * Developer: Nikhil Gadhavajula
+ **********************************************************/
+
+package com.archilogic.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Schema(description = "A comment with its (possibly truncated) replies.")
+public class CommentResponse {
+
+    @Schema(description = "The unique ID of the comment.", example = "42")
+    private Long id;
+
+    @Schema(description = "The id of the comment this one replies to, or null for a top-level comment.", example = "7")
+    private Long parentId;
+
+    @Schema(description = "Nesting level; 0 for top-level comments.", example = "1")
+    private int depth;
+
+    @Schema(description = "The comment text.")
+    private String body;
+
+    @Schema(description = "The author of the comment.")
+    private AuthorSummary author;
+
+    @Schema(description = "When the comment was posted.")
+    private Instant createdAt;
+
+    @Schema(description = "The number of direct replies.", example = "3")
+    private int replyCount;
+
+    @Schema(description = "The number of replies at any depth below this comment.", example = "12")
+    private int descendantCount;
+
+    @Schema(description = "True if replies exist below the loaded depth; fetch them with GET /api/v1/comments/{id}/thread.")
+    private boolean moreReplies;
+
+    @Builder.Default
+    @Schema(description = "The loaded replies, oldest first.")
+    private List<CommentResponse> replies = new ArrayList<>();
+}
@@ -0,0 +1,33 @@
+/***********************************************************
+ * Copyright (c) 2025. All rights reserved to ArchiLogic.
+ * Developer: Nikhil Gadhavajula
+ **********************************************************/
+
+package com.archilogic.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * One page of a keyset-paginated listing.
+ *
+ * @param <T> The type of the items.
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Schema(description = "A page of results. Pass 'nextCursor' back as 'cursor' to fetch the next page.")
+public class CursorPage<T> {
+
+    @Schema(description = "The items on this page.")
+    private List<T> items;
+
+    @Schema(description = "Opaque cursor for the next page, or null if this is the last page.", example = "1042")
+    private String nextCursor;
+}
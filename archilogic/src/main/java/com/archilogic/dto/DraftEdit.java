@@ -0,0 +1,34 @@
+/***********************************************************
+ * Copyright (c) 2025. All rights reserved to ArchiLogic.
+ * Developer: Nikhil Gadhavajula
+ **********************************************************/
+
+package com.archilogic.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "One text edit, in UTF-16 code units of the base revision's body (as JavaScript string indexes).")
+public class DraftEdit {
+
+    @Min(0)
+    @Schema(description = "Where the edit starts in the base body.", example = "1200")
+    private int offset;
+
+    @Min(0)
+    @Schema(description = "How many characters to remove at the offset.", example = "0")
+    private int deleteCount;
+
+    @Size(max = 1_000_000)
+    @Schema(description = "The text to insert at the offset.", example = "A B-tree keeps its nodes at least half full.")
+    private String insert;
+}
@@ -0,0 +1,45 @@
+/***********************************************************
+ * Copyright (c) 2025. All rights reserved to ArchiLogic.
+ * Developer: Nikhil Gadhavajula
+ **********************************************************/
+
+package com.archilogic.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+@Setter
+@Schema(description = "Data Transfer Object for an autosave: the edits made since the base revision.")
+public class DraftPatchRequest {
+
+    @NotNull(message = "Base revision is required.")
+    @Min(0)
+    @Schema(description = "The revision the edits were made against.", example = "17", requiredMode = Schema.RequiredMode.REQUIRED)
+    private Long baseRevision;
+
+    @NotNull(message = "Edits are required; send an empty list to save metadata only.")
+    @Size(max = 1000, message = "At most 1000 edits per save are allowed.")
+    @Schema(description = "The body edits, ascending and non-overlapping, in base-revision coordinates.")
+    private List<@Valid @NotNull DraftEdit> edits = new ArrayList<>();
+
+    @Size(max = 200, message = "Title must be at most 200 characters.")
+    @Schema(description = "A new title; omit to keep the current one.")
+    private String title;
+
+    @Size(max = 500, message = "Summary must be at most 500 characters.")
+    @Schema(description = "A new summary; omit to keep the current one.")
+    private String summary;
+
+    @Size(max = 255, message = "Tags must be at most 255 characters.")
+    @Schema(description = "New comma-separated tags; omit to keep the current ones.")
+    private String tags;
+}
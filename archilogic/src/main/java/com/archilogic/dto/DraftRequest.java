@@ -0,0 +1,36 @@
+/***********************************************************
+ * Copyright (c) 2025. All rights reserved to ArchiLogic.
+ * Developer: Nikhil Gadhavajula
+ **********************************************************/
+
+package com.archilogic.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Schema(description = "Data Transfer Object for starting a draft.")
+public class DraftRequest {
+
+    @Schema(description = "The article to edit, or empty for a new article. Only its author may draft it.", example = "42")
+    private Long articleId;
+
+    @Size(max = 200, message = "Title must be at most 200 characters.")
+    @Schema(description = "The working title. Defaults to the article's title.", example = "How B-Trees Power Your Database")
+    private String title;
+
+    @Size(max = 500, message = "Summary must be at most 500 characters.")
+    @Schema(description = "The working summary. Defaults to the article's summary.")
+    private String summary;
+
+    @Size(max = 255, message = "Tags must be at most 255 characters.")
+    @Schema(description = "Comma-separated tags. Defaults to the article's tags.", example = "databases,indexing")
+    private String tags;
+
+    @Size(max = 1_000_000, message = "Body must be at most 1,000,000 characters.")
+    @Schema(description = "The initial body in Markdown. Defaults to the article's body, or empty.")
+    private String body;
+}
@@ -0,0 +1,44 @@
+/***********************************************************
+ * Copyright (c) 2025. All rights reserved to ArchiLogic.
+ * Developer: Nikhil Gadhavajula
+ **********************************************************/
+
+package com.archilogic.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.time.Instant;
+
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Schema(description = "An autosaved draft.")
+public class DraftResponse {
+
+    @Schema(description = "The unique ID of the draft.", example = "7")
+    private Long id;
+
+    @Schema(description = "The article the draft edits, or null for a new article.", example = "42")
+    private Long articleId;
+
+    @Schema(description = "The working title.")
+    private String title;
+
+    @Schema(description = "The working summary.")
+    private String summary;
+
+    @Schema(description = "Comma-separated tags.", example = "databases,indexing")
+    private String tags;
+
+    @Schema(description = "The current body in Markdown. Omitted in listings.")
+    private String body;
+
+    @Schema(description = "The current revision; send it as 'baseRevision' with the next save.", example = "17")
+    private long revision;
+
+    @Schema(description = "When the draft was last saved.")
+    private Instant updatedAt;
+}
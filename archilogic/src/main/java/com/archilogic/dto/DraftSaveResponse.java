@@ -0,0 +1,24 @@
+/***********************************************************
+ * Copyright (c) 2025. All rights reserved to ArchiLogic.
+ * Developer: Nikhil Gadhavajula
+ **********************************************************/
+
+package com.archilogic.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@Schema(description = "The outcome of an autosave.")
+public class DraftSaveResponse {
+
+    @Schema(description = "The new revision; send it as 'baseRevision' with the next save.", example = "18")
+    private long revision;
+
+    @Schema(description = "The length of the body after the save, to let the client check it is in sync.", example = "23456")
+    private int length;
+}
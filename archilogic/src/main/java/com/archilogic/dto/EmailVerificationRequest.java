@@ -0,0 +1,21 @@
+/***********************************************************
+ * Copyright (c) 2025. All rights reserved to ArchiLogic.
+ * Developer: Nikhil Gadhavajula
+ **********************************************************/
+
+package com.archilogic.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Schema(description = "Data Transfer Object for confirming an email address.")
+public class EmailVerificationRequest {
+
+    @NotBlank(message = "Token is required.")
+    @Schema(description = "The token from the verification link.", requiredMode = Schema.RequiredMode.REQUIRED)
+    private String token;
+}
@@ -0,0 +1,54 @@
+/***********************************************************
+ * Copyright (c) 2025. All rights reserved to ArchiLogic.
+ * Developer: Nikhil Gadhavajula
+ **********************************************************/
+
+package com.archilogic.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.time.Instant;
+import java.util.List;
+
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Schema(description = "An uploaded media file.")
+public class MediaResponse {
+
+    @Schema(description = "The id of the upload, used to delete it.", example = "1")
+    private Long id;
+
+    @Schema(description = "Hex SHA-256 of the content.", example = "9f86d081884c7d659a2feaa0c55ad015a3bf4f1b2b0b822cd15d6c15b0f00a08")
+    private String sha256;
+
+    @Schema(description = "The permanent, cacheable URL of the file.",
+            example = "/api/v1/media/9f86d081884c7d659a2feaa0c55ad015a3bf4f1b2b0b822cd15d6c15b0f00a08.png")
+    private String url;
+
+    @Schema(description = "The detected content type.", example = "image/png")
+    private String contentType;
+
+    @Schema(description = "URLs of resized copies (one per width and format), e.g. for srcset. Generated in the "
+            + "background and on first request.",
+            example = "[\"/api/v1/media/9f86...0a08-w640.jpg\"]")
+    private List<String> derivatives;
+
+    @Schema(description = "The size of the file in bytes.", example = "48213")
+    private long size;
+
+    @Schema(description = "True if identical content was already stored and no new copy was written.")
+    private boolean deduplicated;
+
+    @Schema(description = "Bytes of media the user has uploaded, after this upload.", example = "1048576")
+    private long quotaUsed;
+
+    @Schema(description = "The user's media quota in bytes.", example = "524288000")
+    private long quotaLimit;
+
+    @Schema(description = "When the file was uploaded.")
+    private Instant createdAt;
+}
@@ -0,0 +1,27 @@
+/***********************************************************
+ * Copyright (c) 2025. All rights reserved to ArchiLogic.
+ * Developer: Nikhil Gadhavajula
+ **********************************************************/
+
+package com.archilogic.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Schema(description = "Data Transfer Object for setting a new password with a reset link.")
+public class PasswordResetConfirmRequest {
+
+    @NotBlank(message = "Token is required.")
+    @Schema(description = "The token from the password-reset link.", requiredMode = Schema.RequiredMode.REQUIRED)
+    private String token;
+
+    @NotBlank(message = "Password is required.")
+    @Size(min = 8, max = 100, message = "Password must be between 8 and 100 characters.")
+    @Schema(description = "The new password. Must be at least 8 characters.", example = "password123", requiredMode = Schema.RequiredMode.REQUIRED)
+    private String password;
+}
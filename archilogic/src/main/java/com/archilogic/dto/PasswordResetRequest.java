@@ -0,0 +1,25 @@
+/***********************************************************
+ * Copyright (c) 2025. All rights reserved to ArchiLogic.
+ * Developer: Nikhil Gadhavajula
+ **********************************************************/
+
+package com.archilogic.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Schema(description = "Data Transfer Object for requesting a password-reset email.")
+public class PasswordResetRequest {
+
+    @NotBlank(message = "Email is required.")
+    @Size(max = 100)
+    @Email(message = "Email should be in a valid format.")
+    @Schema(description = "The email address of the account.", example = "johndoe@example.com", requiredMode = Schema.RequiredMode.REQUIRED)
+    private String email;
+}
@@ -0,0 +1,24 @@
+/***********************************************************
+ * Copyright (c) 2025. All rights reserved to ArchiLogic.
+ * Developer: Nikhil Gadhavajula
+ **********************************************************/
+
+package com.archilogic.dto;
+
+import com.archilogic.entity.ERole;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.Set;
+
+@Getter
+@Setter
+@Schema(description = "Data Transfer Object for replacing the roles of a user.")
+public class RoleUpdateRequest {
+
+    @NotEmpty(message = "At least one role is required.")
+    @Schema(description = "The new set of roles.", example = "[\"ROLE_USER\", \"ROLE_ADMIN\"]", requiredMode = Schema.RequiredMode.REQUIRED)
+    private Set<ERole> roles;
+}
@@ -0,0 +1,34 @@
+/***********************************************************
+ * Copyright (c) 2025. All rights reserved to ArchiLogic.
+ * Developer: Nikhil Gadhavajula
+ **********************************************************/
+
+package com.archilogic.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Schema(description = "A page of search results.")
+public class SearchResultPage {
+
+    @Schema(description = "The results on this page, best match first.")
+    private List<ArticleSearchHit> hits;
+
+    @Schema(description = "The total number of matching articles.", example = "42")
+    private long totalHits;
+
+    @Schema(description = "The zero-based page number.", example = "0")
+    private int page;
+
+    @Schema(description = "The page size.", example = "10")
+    private int size;
+}
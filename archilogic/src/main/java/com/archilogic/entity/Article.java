@@ -0,0 +1,140 @@
+/***********************************************************
+ * Copyright (c) 2025. All rights reserved to ArchiLogic.
+ * Developer: Nikhil Gadhavajula
+ **********************************************************/
+
+package com.archilogic.entity;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.*;
+
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * Represents a blog article written by a {@link User}.
+ * <p>
+ * An article is a draft while {@code publishedAt} is null. The public feed is served by keyset pagination
+ * over {@code (published_at, id)}, which the {@code idx_articles_feed} index answers with a single range scan
+ * at any depth; {@code idx_articles_author_feed} does the same for a single author's articles. The listed columns
+ * (title, slug, summary, tags) are too wide for an InnoDB index key (3072 bytes, about 770 utf8mb4 characters), so
+ * listings pick their page from these indexes alone and then read just the page's rows by primary key.
+ */
+@Entity
+@Table(name = "articles", uniqueConstraints = {
+        @UniqueConstraint(columnNames = "slug")
+}, indexes = {
+        @Index(name = "idx_articles_feed", columnList = "published_at, id"),
+        @Index(name = "idx_articles_author_feed", columnList = "author_id, published_at, id")
+})
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Represents a blog article.")
+public class Article {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Schema(description = "The unique identifier for the article.", example = "1")
+    private Long id;
+
+    /**
+     * The author. Fetched lazily; listings use projections that join the author in the same query.
+     */
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "author_id", nullable = false)
+    private User author;
+
+    @NotBlank(message = "Title cannot be blank.")
+    @Size(max = 200)
+    @Column(nullable = false, length = 200)
+    @Schema(description = "The title of the article.", example = "How B-Trees Power Your Database")
+    private String title;
+
+    @Size(max = 220)
+    @Column(nullable = false, length = 220)
+    @Schema(description = "The URL-friendly, unique slug of the article.", example = "how-b-trees-power-your-database-k3j9x2")
+    private String slug;
+
+    @Size(max = 500)
+    @Column(length = 500)
+    @Schema(description = "A short summary shown in feeds.")
+    private String summary;
+
+    @NotBlank(message = "Body cannot be blank.")
+    @Column(nullable = false, columnDefinition = "MEDIUMTEXT")
+    @Schema(description = "The article body in Markdown.")
+    private String body;
+
+    /**
+     * Comma-separated, lower-cased tags, e.g. {@code "databases,indexing"}.
+     */
+    @Size(max = 255)
+    @Column(length = 255)
+    @Schema(description = "Comma-separated tags.", example = "databases,indexing")
+    private String tags;
+
+    @Column(name = "published_at")
+    @Schema(description = "When the article was published, or null for a draft.")
+    private Instant publishedAt;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private Instant createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+
+    /**
+     * Incremented on every update. Used for optimistic locking and to key derived data such as rendered HTML.
+     */
+    @Version
+    @Column(nullable = false)
+    private Long revision;
+
+    @PrePersist
+    void onCreate() {
+        Instant now = Instant.now();
+        createdAt = now;
+        updatedAt = now;
+    }
+
+    @PreUpdate
+    void onUpdate() {
+        updatedAt = Instant.now();
+    }
+
+    /**
+     * @return true if the article is visible to the public.
+     */
+    public boolean isPublished() {
+        return publishedAt != null;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        Article article = (Article) o;
+        // The slug is assigned before persisting and never changes, unlike the generated id.
+        return Objects.equals(slug, article.slug);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(slug);
+    }
+
+    @Override
+    public String toString() {
+        return "Article{" +
+                "id=" + id +
+                ", slug='" + slug + '\'' +
+                ", revision=" + revision +
+                '}';
+    }
+}
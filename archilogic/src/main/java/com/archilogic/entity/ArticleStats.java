@@ -0,0 +1,50 @@
+/***********************************************************
+ * Copyright (c) 2025. All rights reserved to ArchiLogic.
+ * Developer: Nikhil Gadhavajula
+ **********************************************************/
+
+package com.archilogic.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+/**
+ * Aggregated engagement counters of an {@link Article}.
+ * <p>
+ * Kept out of the {@code articles} table so that counter flushes never contend with edits (or bump the
+ * article's optimistic-locking revision). Rows are only ever written by additive batch upserts from
+ * {@code ArticleViewCounter}; JPA uses this mapping for reads and schema generation.
+ */
+@Entity
+@Table(name = "article_stats", indexes = {
+        @Index(name = "idx_article_stats_trending", columnList = "trending_score")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ArticleStats {
+
+    @Id
+    @Column(name = "article_id")
+    private Long articleId;
+
+    @Column(name = "view_count", nullable = false)
+    private long viewCount;
+
+    @Column(name = "read_count", nullable = false)
+    private long readCount;
+
+    /**
+     * Natural log of the forward-decayed engagement weight: {@code ln(sum(w * exp(lambda * t)))} over all
+     * flushed deltas. Ordering by this column orders articles by their exponentially decayed popularity now,
+     * without ever rewriting the rows of articles nobody is reading.
+     */
+    @Column(name = "trending_score", nullable = false)
+    private double trendingScore;
+
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+}
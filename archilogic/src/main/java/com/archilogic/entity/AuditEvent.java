@@ -0,0 +1,53 @@
+/***********************************************************
+ * Copyright (c) 2025. All rights reserved to ArchiLogic.
+ * Developer: Nikhil Gadhavajula
+ **********************************************************/
+
+package com.archilogic.entity;
+
+import com.archilogic.audit.AuditEventType;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * One row of the append-only security audit log.
+ * <p>
+ * Rows are only ever inserted, in batches, by {@code AuditLog}; JPA uses this mapping for schema generation and
+ * reads. {@code user_id} is a plain column rather than a foreign key so that audit rows never block (or are
+ * removed with) user deletions.
+ */
+@Entity
+@Table(name = "audit_events", indexes = {
+        @Index(name = "idx_audit_events_occurred_at", columnList = "occurred_at"),
+        @Index(name = "idx_audit_events_user", columnList = "user_id, occurred_at")
+})
+@Getter
+@NoArgsConstructor
+public class AuditEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "occurred_at", nullable = false, columnDefinition = "DATETIME(3)")
+    private Instant occurredAt;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 32)
+    private AuditEventType type;
+
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(length = 50)
+    private String username;
+
+    @Column(name = "remote_address", length = 45)
+    private String remoteAddress;
+
+    @Column(length = 255)
+    private String detail;
+}
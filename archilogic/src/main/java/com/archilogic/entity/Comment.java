@@ -0,0 +1,106 @@
+/***********************************************************
+ * Copyright (c) 2025. All rights reserved to ArchiLogic.
+ * Developer: Nikhil Gadhavajula
+ **********************************************************/
+
+package com.archilogic.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+/**
+ * A comment on an {@link Article}, possibly replying to another comment.
+ * <p>
+ * Threads are stored as a materialized path: {@code path} is the concatenation of the fixed-width base-36 ids
+ * of all ancestors and the comment itself, e.g. {@code 00000000a1 00000000b7 00000000c2} (without spaces).
+ * Sorting by path therefore yields depth-first thread order, a subtree is a prefix range on
+ * {@code idx_comments_thread}, and the ancestors of a comment can be read off its path without a query.
+ * <p>
+ * {@code replyCount} (direct replies) and {@code descendantCount} (whole subtree) are maintained incrementally
+ * when a reply is added, so listings never need COUNT queries.
+ */
+@Entity
+@Table(name = "comments", indexes = {
+        @Index(name = "idx_comments_roots", columnList = "article_id, depth, id"),
+        @Index(name = "idx_comments_thread", columnList = "root_id, path")
+})
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class Comment {
+
+    /**
+     * Characters per path segment. Ten base-36 digits cover ids up to 3.6 * 10^15.
+     */
+    public static final int SEGMENT_LENGTH = 10;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "article_id", nullable = false)
+    private Article article;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "author_id", nullable = false)
+    private User author;
+
+    /**
+     * The comment this one replies to, or null for a top-level comment.
+     */
+    @Column(name = "parent_id")
+    private Long parentId;
+
+    /**
+     * The top-level comment of the thread; equal to {@code id} for top-level comments.
+     */
+    @Column(name = "root_id")
+    private Long rootId;
+
+    /**
+     * 0 for top-level comments.
+     */
+    @Column(nullable = false)
+    private int depth;
+
+    @Column(nullable = false, columnDefinition = "VARCHAR(255) CHARACTER SET ascii COLLATE ascii_bin")
+    private String path;
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String body;
+
+    @Column(name = "reply_count", nullable = false)
+    private int replyCount;
+
+    @Column(name = "descendant_count", nullable = false)
+    private int descendantCount;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private Instant createdAt;
+
+    @PrePersist
+    void onCreate() {
+        createdAt = Instant.now();
+    }
+
+    /**
+     * @return The path segment that stands for the given comment id.
+     */
+    public static String segment(long id) {
+        String digits = Long.toString(id, 36);
+        return "0".repeat(SEGMENT_LENGTH - digits.length()) + digits;
+    }
+
+    @Override
+    public String toString() {
+        return "Comment{" +
+                "id=" + id +
+                ", path='" + path + '\'' +
+                '}';
+    }
+}
@@ -0,0 +1,69 @@
+/***********************************************************
+ * Copyright (c) 2025. All rights reserved to ArchiLogic.
+ * Developer: Nikhil Gadhavajula
+ **********************************************************/
+
+package com.archilogic.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+/**
+ * An autosaved editor draft owned by a {@link User}, optionally for an existing {@link Article}.
+ * <p>
+ * The body is not stored whole on every save, nor in this row. A {@link DraftSnapshot} holds the body at some
+ * revision; every later save appends a {@link DraftDelta}, and the current body is the snapshot with the deltas up
+ * to {@code revision} applied. {@code revision} is only advanced by a conditional update against the revision the
+ * editor started from, so concurrent editors get a conflict instead of overwriting each other.
+ */
+@Entity
+@Table(name = "drafts", indexes = {
+        @Index(name = "idx_drafts_owner", columnList = "owner_id, updated_at")
+})
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class Draft {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "owner_id", nullable = false, updatable = false)
+    private Long ownerId;
+
+    /**
+     * The article this draft edits, or null for a draft of a new article.
+     */
+    @Column(name = "article_id", updatable = false)
+    private Long articleId;
+
+    @Column(length = 200)
+    private String title;
+
+    @Column(length = 500)
+    private String summary;
+
+    @Column(length = 255)
+    private String tags;
+
+    @Column(nullable = false)
+    private long revision;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private Instant createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+
+    @PrePersist
+    void onCreate() {
+        Instant now = Instant.now();
+        createdAt = now;
+        updatedAt = now;
+    }
+}
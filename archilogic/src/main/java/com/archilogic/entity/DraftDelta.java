@@ -0,0 +1,54 @@
+/***********************************************************
+ * Copyright (c) 2025. All rights reserved to ArchiLogic.
+ * Developer: Nikhil Gadhavajula
+ **********************************************************/
+
+package com.archilogic.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+import java.time.Instant;
+
+/**
+ * One autosave of a {@link Draft}: the text edits that turn revision {@code revision - 1} into {@code revision},
+ * encoded by {@code TextPatch}. Rows are append-only and removed once a snapshot covers them. The primary key
+ * {@code (draft_id, revision)} also guarantees that only one save can ever produce a given revision.
+ */
+@Entity
+@Table(name = "draft_deltas")
+@IdClass(DraftDelta.Key.class)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class DraftDelta {
+
+    @Id
+    @Column(name = "draft_id")
+    private Long draftId;
+
+    @Id
+    @Column(name = "revision")
+    private Long revision;
+
+    @Column(nullable = false, columnDefinition = "MEDIUMBLOB")
+    private byte[] patch;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private Instant createdAt;
+
+    /**
+     * The composite primary key.
+     */
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        private Long draftId;
+        private Long revision;
+    }
+}
@@ -0,0 +1,34 @@
+/***********************************************************
+ * Copyright (c) 2025. All rights reserved to ArchiLogic.
+ * Developer: Nikhil Gadhavajula
+ **********************************************************/
+
+package com.archilogic.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * The full body of a {@link Draft} at {@code revision}, from which later revisions are rebuilt with the
+ * {@link DraftDelta} log. It lives apart from the draft row so the per-save update of that row stays narrow: with
+ * MySQL's default {@code binlog_row_image=FULL}, every updated row is logged whole, before and after. This row is
+ * only written when the draft is created and when a save compacts the log.
+ */
+@Entity
+@Table(name = "draft_snapshots")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class DraftSnapshot {
+
+    @Id
+    @Column(name = "draft_id")
+    private Long draftId;
+
+    @Column(nullable = false)
+    private long revision;
+
+    @Column(nullable = false, columnDefinition = "MEDIUMTEXT")
+    private String body;
+}
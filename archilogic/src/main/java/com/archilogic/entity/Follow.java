@@ -0,0 +1,62 @@
+/***********************************************************
+ * Copyright (c) 2025. All rights reserved to ArchiLogic.
+ * Developer: Nikhil Gadhavajula
+ **********************************************************/
+
+package com.archilogic.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+import java.time.Instant;
+
+/**
+ * One edge of the follow graph: {@code followerId} follows {@code authorId}.
+ * <p>
+ * The primary key {@code (follower_id, author_id)} answers "whom does this user follow"; the secondary index
+ * {@code (author_id, follower_id)} answers "who follows this author" as a range that fan-out walks in keyset
+ * batches. Plain id columns instead of associations keep both lookups free of joins.
+ */
+@Entity
+@Table(name = "follows", indexes = {
+        @Index(name = "idx_follows_author", columnList = "author_id, follower_id")
+})
+@IdClass(Follow.Key.class)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class Follow {
+
+    @Id
+    @Column(name = "follower_id")
+    private Long followerId;
+
+    @Id
+    @Column(name = "author_id")
+    private Long authorId;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private Instant createdAt;
+
+    @PrePersist
+    protected void onCreate() {
+        if (createdAt == null) {
+            createdAt = Instant.now();
+        }
+    }
+
+    /**
+     * The composite primary key.
+     */
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        private Long followerId;
+        private Long authorId;
+    }
+}
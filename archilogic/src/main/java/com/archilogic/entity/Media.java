@@ -0,0 +1,74 @@
+/***********************************************************
+ * Copyright (c) 2025. All rights reserved to ArchiLogic.
+ * Developer: Nikhil Gadhavajula
+ **********************************************************/
+
+package com.archilogic.entity;
+
+import com.archilogic.media.ImageFormat;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+/**
+ * A media file uploaded by a {@link User}.
+ * <p>
+ * The bytes themselves live in the content-addressed {@code MediaStore} under {@code sha256}; this row records
+ * that the owner holds a reference to them and is charged {@code sizeBytes} against their quota. Uploading the
+ * same content twice reuses the existing row, and different users uploading the same file share one copy on disk.
+ */
+@Entity
+@Table(name = "media", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_media_owner_sha256", columnNames = {"owner_id", "sha256"})
+}, indexes = {
+        @Index(name = "idx_media_sha256", columnList = "sha256")
+})
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class Media {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "owner_id", nullable = false)
+    private User owner;
+
+    /**
+     * Lower-case hex SHA-256 of the content.
+     */
+    @Column(nullable = false, length = 64, columnDefinition = "CHAR(64)")
+    private String sha256;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private ImageFormat format;
+
+    @Column(name = "size_bytes", nullable = false)
+    private long sizeBytes;
+
+    @Column(name = "original_filename", length = 255)
+    private String originalFilename;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private Instant createdAt;
+
+    @PrePersist
+    void onCreate() {
+        createdAt = Instant.now();
+    }
+
+    @Override
+    public String toString() {
+        return "Media{" +
+                "id=" + id +
+                ", sha256='" + sha256 + '\'' +
+                ", sizeBytes=" + sizeBytes +
+                '}';
+    }
+}
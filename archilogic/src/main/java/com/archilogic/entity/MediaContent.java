@@ -0,0 +1,28 @@
+/***********************************************************
+ * Copyright (c) 2025. All rights reserved to ArchiLogic.
+ * Developer: Nikhil Gadhavajula
+ **********************************************************/
+
+package com.archilogic.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * One row per stored content hash, used only as a lock: uploads and deletes of the same content lock this row
+ * first, so a delete that finds no remaining {@link Media} row can't race an upload that is about to add one.
+ */
+@Entity
+@Table(name = "media_content")
+@Getter
+@NoArgsConstructor
+public class MediaContent {
+
+    @Id
+    @Column(length = 64, columnDefinition = "CHAR(64)")
+    private String sha256;
+}
@@ -0,0 +1,82 @@
+/***********************************************************
+ * Copyright (c) 2025. All rights reserved to ArchiLogic.
+ * Developer: Nikhil Gadhavajula
+ **********************************************************/
+
+package com.archilogic.entity;
+
+import com.archilogic.mail.EmailKind;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * One email waiting in (or already sent from) the transactional outbox.
+ * <p>
+ * Rows are inserted by {@code EmailOutbox} in the same transaction as the change that causes the email, and
+ * claimed, leased and updated by {@code EmailOutboxDispatcher} with plain SQL; JPA uses this mapping for schema
+ * generation only. {@code next_attempt_at} doubles as the lease: a claimed row is pushed into the future for the
+ * duration of the send, so it becomes due again if the node dies halfway.
+ */
+@Entity
+@Table(name = "email_outbox", indexes = {
+        @Index(name = "idx_email_outbox_due", columnList = "status, next_attempt_at"),
+        @Index(name = "idx_email_outbox_user", columnList = "user_id")
+})
+@Getter
+@NoArgsConstructor
+public class OutboxEmail {
+
+    /**
+     * Delivery state of an outbox row.
+     */
+    public enum Status {
+        PENDING,
+        SENT,
+        /**
+         * Gave up after the last attempt, or the message can never be delivered (e.g. an invalid address).
+         */
+        FAILED
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 32)
+    private EmailKind kind;
+
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(nullable = false, length = 100)
+    private String recipient;
+
+    @Column(nullable = false, length = 200)
+    private String subject;
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String body;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private Status status;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(name = "created_at", nullable = false, columnDefinition = "DATETIME(3)")
+    private Instant createdAt;
+
+    @Column(name = "next_attempt_at", nullable = false, columnDefinition = "DATETIME(3)")
+    private Instant nextAttemptAt;
+
+    @Column(name = "sent_at", columnDefinition = "DATETIME(3)")
+    private Instant sentAt;
+
+    @Column(name = "last_error", length = 255)
+    private String lastError;
+}
@@ -15,6 +15,7 @@ import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
+import java.time.Instant;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.Objects;
@@ -31,6 +32,8 @@ import java.util.stream.Collectors;
 @Table(name = "users", uniqueConstraints = {
         @UniqueConstraint(columnNames = "username"),
         @UniqueConstraint(columnNames = "email")
+}, indexes = {
+        @Index(name = "idx_users_created_at", columnList = "created_at")
 })
 @Getter
 @Setter
@@ -82,6 +85,42 @@ public class User implements UserDetails {
     @Schema(description = "The user's hashed password.", requiredMode = Schema.RequiredMode.REQUIRED)
     private String password;
 
+    /**
+     * When the account was created. Set automatically on first persist.
+     * Nullable at the column level because accounts created before this column existed have no value.
+     */
+    @Column(name = "created_at", updatable = false)
+    @Schema(description = "When the account was created.", example = "2025-01-31T12:00:00Z")
+    private Instant createdAt;
+
+    /**
+     * Bytes of media this user has uploaded, checked against their quota. Only ever changed by the atomic
+     * conditional updates in {@code UserRepository}, never through the entity, so that a stale copy of the user
+     * (e.g. from the principal cache) can never overwrite it.
+     */
+    @Column(name = "media_bytes_used", insertable = false, updatable = false,
+            columnDefinition = "BIGINT NOT NULL DEFAULT 0")
+    @Schema(description = "Bytes of uploaded media counted against the user's quota.", example = "1048576")
+    private long mediaBytesUsed;
+
+    /**
+     * Number of users following this user. Maintained by atomic updates in {@code UserRepository} alongside
+     * inserts and deletes of {@link Follow} rows, and read to decide between push and pull delivery of the
+     * user's articles to home feeds.
+     */
+    @Column(name = "follower_count", insertable = false, updatable = false,
+            columnDefinition = "BIGINT NOT NULL DEFAULT 0")
+    @Schema(description = "Number of followers.", example = "42")
+    private long followerCount;
+
+    /**
+     * When the user confirmed their email address through the link in the verification email; null until then.
+     * Only set by {@code UserRepository#markEmailVerified}.
+     */
+    @Column(name = "email_verified_at", insertable = false, updatable = false)
+    @Schema(description = "When the email address was verified, if it has been.", example = "2025-01-31T12:05:00Z")
+    private Instant emailVerifiedAt;
+
     /**
      * The roles assigned to the user.
      * Fetched lazily to avoid the N+1 select problem and improve performance.
@@ -95,6 +134,13 @@ public class User implements UserDetails {
     @Schema(description = "Set of roles assigned to the user.")
     private Set<Role> roles = new HashSet<>();
 
+    @PrePersist
+    void onCreate() {
+        if (createdAt == null) {
+            createdAt = Instant.now();
+        }
+    }
+
     // --- UserDetails Implementation ---
 
     /**
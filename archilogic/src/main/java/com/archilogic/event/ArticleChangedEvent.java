@@ -0,0 +1,42 @@
+/***********************************************************
+ * Copyright (c) 2025. All rights reserved to ArchiLogic.
+ * Developer: Nikhil Gadhavajula
+ **********************************************************/
+
+package com.archilogic.event;
+
+import lombok.Value;
+
+import java.time.Instant;
+
+/**
+ * Published by {@code ArticleService} whenever an article is created or edited.
+ * <p>
+ * It carries a snapshot of the article as of the change, so listeners that run after commit
+ * (search indexing, caches, feeds) don't need to read it back from the database.
+ */
+@Value
+public class ArticleChangedEvent {
+
+    Long articleId;
+    Long revision;
+    Long authorId;
+    String title;
+    String summary;
+    String body;
+    String tags;
+
+    /**
+     * Null while the article is a draft.
+     */
+    Instant publishedAt;
+
+    /**
+     * True if this change published the article (a draft became public, or it was created published).
+     */
+    boolean newlyPublished;
+
+    public boolean isPublished() {
+        return publishedAt != null;
+    }
+}
@@ -0,0 +1,20 @@
+/***********************************************************
+ * Copyright (c) 2025. All rights reserved to ArchiLogic.
+ * Developer: Nikhil Gadhavajula
+ **********************************************************/
+
+package com.archilogic.event;
+
+import com.archilogic.media.ImageFormat;
+import lombok.Value;
+
+/**
+ * Published by {@code MediaService} when an upload wrote new content to the media store.
+ * Not published when the content was already stored.
+ */
+@Value
+public class MediaStoredEvent {
+
+    String sha256;
+    ImageFormat format;
+}
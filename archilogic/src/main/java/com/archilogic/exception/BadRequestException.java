@@ -0,0 +1,22 @@
+/***********************************************************
+ * Copyright (c) 2025. All rights reserved to ArchiLogic.
+ * Developer: Nikhil Gadhavajula
+ **********************************************************/
+
+package com.archilogic.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Exception thrown when client input is invalid in a way bean validation cannot express, e.g. a malformed cursor
+ * or an edit that does not fit the text it patches. Results in a 400 Bad Request.
+ * <p>
+ * Other {@link IllegalArgumentException}s are programming errors and surface as 500s.
+ */
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class BadRequestException extends IllegalArgumentException {
+    public BadRequestException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,20 @@
+/***********************************************************
+ * Copyright (c) 2025. All rights reserved to ArchiLogic.
+ * Developer: Nikhil Gadhavajula
+ **********************************************************/
+
+package com.archilogic.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Exception thrown when an upload is larger than the maximum file size.
+ * Results in a 413 Payload Too Large.
+ */
+@ResponseStatus(HttpStatus.PAYLOAD_TOO_LARGE)
+public class FileTooLargeException extends RuntimeException {
+    public FileTooLargeException(String message) {
+        super(message);
+    }
+}
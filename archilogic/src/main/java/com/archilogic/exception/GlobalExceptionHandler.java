@@ -6,13 +6,19 @@
 package com.archilogic.exception;
 
 import com.archilogic.dto.MessageResponse;
+import jakarta.validation.ConstraintViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ProblemDetail;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.AccessDeniedException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
+import org.springframework.web.multipart.MaxUploadSizeExceededException;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -49,6 +55,118 @@ public class GlobalExceptionHandler {
         return ProblemDetail.forStatusAndDetail(HttpStatus.INTERNAL_SERVER_ERROR, ex.getMessage());
     }
 
+    /**
+     * Handles concurrent modifications of the same entity detected by optimistic locking.
+     *
+     * @param ex The caught OptimisticLockingFailureException.
+     * @return A ResponseEntity with a 409 Conflict status.
+     */
+    @ResponseStatus(HttpStatus.CONFLICT)
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ProblemDetail handleOptimisticLockingFailureException(OptimisticLockingFailureException ex) {
+        return ProblemDetail.forStatusAndDetail(HttpStatus.CONFLICT, "The resource was modified concurrently. Reload it and try again.");
+    }
+
+    /**
+     * Handles changes made against an outdated revision. The current revision is returned so the client can
+     * reload and reapply its change.
+     *
+     * @param ex The caught RevisionConflictException.
+     * @return A ResponseEntity with a 409 Conflict status.
+     */
+    @ResponseStatus(HttpStatus.CONFLICT)
+    @ExceptionHandler(RevisionConflictException.class)
+    public ProblemDetail handleRevisionConflictException(RevisionConflictException ex) {
+        ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(HttpStatus.CONFLICT, ex.getMessage());
+        problemDetail.setProperty("currentRevision", ex.getCurrentRevision());
+        return problemDetail;
+    }
+
+    /**
+     * Handles requests turned away under overload before they changed anything.
+     *
+     * @param ex The caught ServiceBusyException.
+     * @return A ResponseEntity with a 503 Service Unavailable status and a Retry-After header.
+     */
+    @ExceptionHandler(ServiceBusyException.class)
+    public ResponseEntity<ProblemDetail> handleServiceBusyException(ServiceBusyException ex) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, Long.toString(ex.getRetryAfterSeconds()))
+                .body(ProblemDetail.forStatusAndDetail(HttpStatus.SERVICE_UNAVAILABLE, ex.getMessage()));
+    }
+
+    /**
+     * Handles exceptions for when a client requests an entity that does not exist.
+     *
+     * @param ex The caught NotFoundException.
+     * @return A ResponseEntity with a 404 Not Found status.
+     */
+    @ResponseStatus(HttpStatus.NOT_FOUND)
+    @ExceptionHandler(NotFoundException.class)
+    public ProblemDetail handleNotFoundException(NotFoundException ex) {
+        return ProblemDetail.forStatusAndDetail(HttpStatus.NOT_FOUND, ex.getMessage());
+    }
+
+    /**
+     * Handles uploads that would exceed the user's storage quota.
+     *
+     * @param ex The caught QuotaExceededException.
+     * @return A ResponseEntity with a 413 Payload Too Large status.
+     */
+    @ResponseStatus(HttpStatus.PAYLOAD_TOO_LARGE)
+    @ExceptionHandler(QuotaExceededException.class)
+    public ProblemDetail handleQuotaExceededException(QuotaExceededException ex) {
+        return ProblemDetail.forStatusAndDetail(HttpStatus.PAYLOAD_TOO_LARGE, ex.getMessage());
+    }
+
+    /**
+     * Handles uploads larger than the maximum file size, detected while streaming them in.
+     *
+     * @param ex The caught FileTooLargeException.
+     * @return A ResponseEntity with a 413 Payload Too Large status.
+     */
+    @ResponseStatus(HttpStatus.PAYLOAD_TOO_LARGE)
+    @ExceptionHandler(FileTooLargeException.class)
+    public ProblemDetail handleFileTooLargeException(FileTooLargeException ex) {
+        return ProblemDetail.forStatusAndDetail(HttpStatus.PAYLOAD_TOO_LARGE, ex.getMessage());
+    }
+
+    /**
+     * Handles uploads rejected by the multipart resolver for exceeding the configured maximum size.
+     *
+     * @param ex The caught MaxUploadSizeExceededException.
+     * @return A ResponseEntity with a 413 Payload Too Large status.
+     */
+    @ResponseStatus(HttpStatus.PAYLOAD_TOO_LARGE)
+    @ExceptionHandler(MaxUploadSizeExceededException.class)
+    public ProblemDetail handleMaxUploadSizeExceededException(MaxUploadSizeExceededException ex) {
+        return ProblemDetail.forStatusAndDetail(HttpStatus.PAYLOAD_TOO_LARGE, "Error: The upload exceeds the maximum allowed size.");
+    }
+
+    /**
+     * Handles uploads in a format that is not accepted.
+     *
+     * @param ex The caught UnsupportedMediaException.
+     * @return A ResponseEntity with a 415 Unsupported Media Type status.
+     */
+    @ResponseStatus(HttpStatus.UNSUPPORTED_MEDIA_TYPE)
+    @ExceptionHandler(UnsupportedMediaException.class)
+    public ProblemDetail handleUnsupportedMediaException(UnsupportedMediaException ex) {
+        return ProblemDetail.forStatusAndDetail(HttpStatus.UNSUPPORTED_MEDIA_TYPE, ex.getMessage());
+    }
+
+    /**
+     * Handles invalid client input rejected by service methods, such as malformed cursors or query parameters.
+     *
+     * @param ex The caught BadRequestException.
+     * @return A ResponseEntity with a 400 Bad Request status.
+     */
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    @ExceptionHandler(BadRequestException.class)
+    public ProblemDetail handleBadRequestException(BadRequestException ex) {
+        return ProblemDetail.forStatusAndDetail(HttpStatus.BAD_REQUEST, ex.getMessage());
+    }
+
     /**
      * Handles validation exceptions thrown by @Valid on DTOs.
      *
@@ -66,6 +184,46 @@ public class GlobalExceptionHandler {
         return problemDetail;
     }
 
+    /**
+     * Handles constraint violations on request parameters of @Validated controllers.
+     *
+     * @param ex The caught ConstraintViolationException.
+     * @return A ResponseEntity with a 400 Bad Request status and a map of parameter errors.
+     */
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    @ExceptionHandler(ConstraintViolationException.class)
+    public ProblemDetail handleConstraintViolationException(ConstraintViolationException ex) {
+        ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(HttpStatus.BAD_REQUEST, "One or more validation errors occurred.");
+        Map<String, String> errors = new HashMap<>();
+        ex.getConstraintViolations().forEach(violation ->
+                errors.put(violation.getPropertyPath().toString(), violation.getMessage()));
+        problemDetail.setProperty("errors", errors);
+        return problemDetail;
+    }
+
+    /**
+     * Handles request parameters that cannot be converted to the expected type (e.g. an unknown role name).
+     *
+     * @param ex The caught MethodArgumentTypeMismatchException.
+     * @return A ResponseEntity with a 400 Bad Request status.
+     */
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    @ExceptionHandler(MethodArgumentTypeMismatchException.class)
+    public ProblemDetail handleTypeMismatchException(MethodArgumentTypeMismatchException ex) {
+        return ProblemDetail.forStatusAndDetail(HttpStatus.BAD_REQUEST, "Invalid value for parameter '" + ex.getName() + "'.");
+    }
+
+    /**
+     * Re-throws authorization failures from method security (e.g. @PreAuthorize) so that Spring Security's
+     * ExceptionTranslationFilter answers them with 401 or 403 instead of the generic 500 fallback below.
+     *
+     * @param ex The caught AccessDeniedException.
+     */
+    @ExceptionHandler(AccessDeniedException.class)
+    public void handleAccessDeniedException(AccessDeniedException ex) {
+        throw ex;
+    }
+
     /**
      * A fallback handler for any other unhandled exceptions.
      * This prevents leaking stack traces to the client.
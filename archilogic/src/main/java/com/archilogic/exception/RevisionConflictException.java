@@ -0,0 +1,26 @@
+/***********************************************************
+ * Copyright (c) 2025. All rights reserved to ArchiLogic.
+ * Developer: Nikhil Gadhavajula
+ **********************************************************/
+
+package com.archilogic.exception;
+
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Exception thrown when a change was made against a revision that is no longer current, e.g. a draft autosave
+ * from an editor that missed another editor's save. Results in a 409 Conflict carrying the current revision.
+ */
+@Getter
+@ResponseStatus(HttpStatus.CONFLICT)
+public class RevisionConflictException extends RuntimeException {
+
+    private final long currentRevision;
+
+    public RevisionConflictException(String message, long currentRevision) {
+        super(message);
+        this.currentRevision = currentRevision;
+    }
+}
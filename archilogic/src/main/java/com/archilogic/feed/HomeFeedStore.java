@@ -0,0 +1,205 @@
+/***********************************************************
+ * Copyright (c) 2025. All rights reserved to ArchiLogic.
+ * Developer: Nikhil Gadhavajula
+ **********************************************************/
+
+package com.archilogic.feed;
+
+import com.archilogic.cache.InvalidationBus;
+import com.archilogic.cache.InvalidationHandler;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Node-local store of materialized home feeds.
+ * <p>
+ * Each resident feed holds the positions of the newest articles pushed to one user as two parallel primitive
+ * arrays (publication time in epoch microseconds and article id: 16 bytes per entry, no per-entry objects), plus
+ * the ids of the followed authors whose articles are pulled at read time instead. The store is a bounded cache, not the source of truth: a feed that is not
+ * resident is rebuilt from the follow graph on its next read, and every feed is rebuilt after
+ * {@code rebuildAfterMinutes} at the latest. That bound also covers fan-out that happened on another node,
+ * since pushes only reach the feeds resident on the node that published the article. Follow changes evict
+ * the follower's feed on every node through the {@link InvalidationBus}.
+ */
+@Component
+@RequiredArgsConstructor
+public class HomeFeedStore {
+
+    public static final String CACHE_NAME = "home-feeds";
+
+    private final InvalidationBus invalidationBus;
+
+    /**
+     * Maximum number of pushed entries kept per user; older entries fall off the end.
+     */
+    @Value("${archilogic.app.feed.capacity:500}")
+    private int capacity;
+
+    @Value("${archilogic.app.feed.maxBytes:67108864}")
+    private long maxBytes;
+
+    @Value("${archilogic.app.feed.rebuildAfterMinutes:15}")
+    private long rebuildAfterMinutes;
+
+    private Cache<Long, UserFeed> feeds;
+
+    @PostConstruct
+    public void init() {
+        feeds = Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher((Long userId, UserFeed feed) -> feed.weight())
+                .expireAfterWrite(Duration.ofMinutes(rebuildAfterMinutes))
+                .build();
+        invalidationBus.register(CACHE_NAME, new InvalidationHandler() {
+            @Override
+            public void evict(Collection<String> keys) {
+                feeds.invalidateAll(keys.stream().map(Long::valueOf).toList());
+            }
+
+            @Override
+            public void evictAll() {
+                feeds.invalidateAll();
+            }
+        });
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Returns the resident feed of a user, building it first if necessary. Concurrent readers of the same
+     * missing feed wait for a single build.
+     */
+    public UserFeed get(long userId, Function<Long, UserFeed> builder) {
+        return feeds.get(userId, builder);
+    }
+
+    /**
+     * @return The resident feeds among the given users; absent users need no push, their feeds are built on read.
+     */
+    public Map<Long, UserFeed> getAllPresent(Collection<Long> userIds) {
+        return feeds.getAllPresent(userIds);
+    }
+
+    /**
+     * Drops a user's feed on every node so it is rebuilt from the follow graph on the next read.
+     */
+    public void invalidate(long userId) {
+        invalidationBus.publish(CACHE_NAME, String.valueOf(userId));
+    }
+
+    /**
+     * The materialized feed of one user. Entries are kept in ascending {@code (publishedAt, id)} order so that
+     * the common push (a brand-new article) is an append.
+     */
+    public static final class UserFeed {
+
+        private final int capacity;
+        private final long[] pullAuthorIds;
+        private long[] publishedAtMicros;
+        private long[] articleIds;
+        private int size;
+
+        /**
+         * @param capacity      The maximum number of entries.
+         * @param pullAuthorIds The followed authors whose articles are read on demand rather than pushed.
+         */
+        public UserFeed(int capacity, long[] pullAuthorIds) {
+            this.capacity = capacity;
+            this.pullAuthorIds = pullAuthorIds;
+            this.publishedAtMicros = new long[Math.min(capacity, 16)];
+            this.articleIds = new long[publishedAtMicros.length];
+        }
+
+        public long[] getPullAuthorIds() {
+            return pullAuthorIds;
+        }
+
+        /**
+         * Adds an entry. Duplicates are ignored; when the feed is full the oldest entry is dropped, or the new
+         * one if it is older than everything held.
+         */
+        public synchronized void push(long articleId, long publishedAt) {
+            int index = search(publishedAt, articleId);
+            if (index >= 0) {
+                return;
+            }
+            int insertAt = -index - 1;
+            if (size == capacity) {
+                if (insertAt == 0) {
+                    return;
+                }
+                System.arraycopy(publishedAtMicros, 1, publishedAtMicros, 0, insertAt - 1);
+                System.arraycopy(articleIds, 1, articleIds, 0, insertAt - 1);
+                insertAt--;
+            } else {
+                if (size == publishedAtMicros.length) {
+                    int grown = Math.min(capacity, size * 2);
+                    publishedAtMicros = Arrays.copyOf(publishedAtMicros, grown);
+                    articleIds = Arrays.copyOf(articleIds, grown);
+                }
+                System.arraycopy(publishedAtMicros, insertAt, publishedAtMicros, insertAt + 1, size - insertAt);
+                System.arraycopy(articleIds, insertAt, articleIds, insertAt + 1, size - insertAt);
+                size++;
+            }
+            publishedAtMicros[insertAt] = publishedAt;
+            articleIds[insertAt] = articleId;
+        }
+
+        /**
+         * Reads entries strictly older than a position, newest first.
+         *
+         * @param beforePublishedAt The publication time of the last entry already seen, or {@code Long.MAX_VALUE}.
+         * @param beforeId          The id of the last entry already seen, or {@code Long.MAX_VALUE}.
+         * @param limit             The maximum number of entries.
+         * @return {@code [articleId, publishedAtMicros]} pairs.
+         */
+        public synchronized long[][] before(long beforePublishedAt, long beforeId, int limit) {
+            int index = search(beforePublishedAt, beforeId);
+            int end = index >= 0 ? index : -index - 1;
+            int count = Math.min(limit, end);
+            long[][] entries = new long[count][];
+            for (int i = 0; i < count; i++) {
+                entries[i] = new long[]{articleIds[end - 1 - i], publishedAtMicros[end - 1 - i]};
+            }
+            return entries;
+        }
+
+        /**
+         * Weighed at full capacity: Caffeine weighs an entry once, when it is stored, and the arrays grow later.
+         */
+        private int weight() {
+            return 64 + capacity * 16 + pullAuthorIds.length * 8;
+        }
+
+        private int search(long publishedAt, long articleId) {
+            int low = 0;
+            int high = size - 1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                int cmp = publishedAtMicros[mid] != publishedAt
+                        ? Long.compare(publishedAtMicros[mid], publishedAt)
+                        : Long.compare(articleIds[mid], articleId);
+                if (cmp < 0) {
+                    low = mid + 1;
+                } else if (cmp > 0) {
+                    high = mid - 1;
+                } else {
+                    return mid;
+                }
+            }
+            return -(low + 1);
+        }
+    }
+}
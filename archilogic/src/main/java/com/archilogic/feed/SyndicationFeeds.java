@@ -0,0 +1,397 @@
+/***********************************************************
+ * Copyright (c) 2025. All rights reserved to ArchiLogic.
+ * Developer: Nikhil Gadhavajula
+ **********************************************************/
+
+package com.archilogic.feed;
+
+import com.archilogic.cache.InvalidationBus;
+import com.archilogic.cache.InvalidationHandler;
+import com.archilogic.event.ArticleChangedEvent;
+import jakarta.annotation.PostConstruct;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Pre-generated RSS, Atom and sitemap documents, held in memory as ready-to-send byte arrays.
+ * <p>
+ * Every document is rendered once and stored both as-is and gzip-compressed at the highest level, with a strong
+ * ETag derived from its content and a Last-Modified time taken from its newest article, so a poll costs a map
+ * lookup and a conditional check. Sitemaps are sharded by article id range ({@code shardSize} ids per shard, at
+ * most the 50,000 URLs a sitemap may hold) under a sitemap index.
+ * <p>
+ * Committed article changes only mark what they affect: the RSS and Atom feeds when the article is among the
+ * newest {@code feedSize} (or was just published), and the sitemap shard of its id. The marks are broadcast
+ * through the {@link InvalidationBus} so every node re-renders the same documents, and a scheduled pass then
+ * re-renders just the marked documents, so a burst of edits costs one regeneration per document. Since the bus
+ * is best effort, every document is also re-rendered each {@code fullRegenerateIntervalMs}, which bounds how
+ * long a node that missed a mark can serve a stale document.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SyndicationFeeds {
+
+    public static final String RSS = "rss";
+    public static final String ATOM = "atom";
+    public static final String SITEMAP_INDEX = "sitemap";
+
+    private static final String CACHE_NAME = "syndication";
+    private static final String NEWLY_PUBLISHED = ":new";
+
+    private static final String LATEST_SQL = "SELECT a.id, a.title, a.slug, a.summary, a.published_at, a.updated_at, "
+            + "u.username, u.first_name, u.last_name "
+            + "FROM articles a JOIN users u ON u.id = a.author_id "
+            + "WHERE a.published_at IS NOT NULL "
+            + "ORDER BY a.published_at DESC, a.id DESC LIMIT ?";
+
+    private static final String SHARD_SQL = "SELECT id, slug, updated_at FROM articles "
+            + "WHERE id >= ? AND id < ? AND published_at IS NOT NULL ORDER BY id";
+
+    private static final DateTimeFormatter RFC_822 = DateTimeFormatter.RFC_1123_DATE_TIME.withZone(ZoneOffset.UTC);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final InvalidationBus invalidationBus;
+
+    @Value("${archilogic.app.syndication.siteUrl:http://localhost:8080}")
+    private String siteUrl;
+
+    @Value("${archilogic.app.syndication.title:ArchiLogic}")
+    private String title;
+
+    @Value("${archilogic.app.syndication.feedSize:50}")
+    private int feedSize;
+
+    @Value("${archilogic.app.syndication.shardSize:50000}")
+    private long shardSize;
+
+    private final Map<String, Document> documents = new ConcurrentHashMap<>();
+
+    /**
+     * Last-modified time of every non-empty sitemap shard, by shard number; the sitemap index is rendered from it.
+     */
+    private final Map<Long, Instant> shards = new ConcurrentSkipListMap<>();
+
+    private final AtomicBoolean latestDirty = new AtomicBoolean();
+    private final Set<Long> dirtyShards = ConcurrentHashMap.newKeySet();
+    private volatile Set<Long> latestIds = Set.of();
+
+    @PostConstruct
+    public void init() {
+        invalidationBus.register(CACHE_NAME, new InvalidationHandler() {
+            @Override
+            public void evict(Collection<String> keys) {
+                for (String key : keys) {
+                    boolean newlyPublished = key.endsWith(NEWLY_PUBLISHED);
+                    mark(Long.parseLong(newlyPublished ? key.substring(0, key.length() - NEWLY_PUBLISHED.length()) : key),
+                            newlyPublished);
+                }
+            }
+
+            @Override
+            public void evictAll() {
+                markAll();
+            }
+        });
+    }
+
+    /**
+     * Renders every document from the database.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void generateAll() {
+        long started = System.nanoTime();
+        markAll();
+        regenerate();
+        log.info("Syndication feeds generated: {} sitemap shard(s) in {} ms", shards.size(),
+                (System.nanoTime() - started) / 1_000_000);
+    }
+
+    /**
+     * Marks every document, so the next pass re-renders them all; catches up with marks this node missed.
+     */
+    @Scheduled(fixedDelayString = "${archilogic.app.syndication.fullRegenerateIntervalMs:900000}",
+            initialDelayString = "${archilogic.app.syndication.fullRegenerateIntervalMs:900000}")
+    public void markAll() {
+        Long maxId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM articles", Long.class);
+        latestDirty.set(true);
+        if (maxId != null) {
+            for (long shard = 0; shard <= maxId / shardSize; shard++) {
+                dirtyShards.add(shard);
+            }
+        }
+        // Shards emptied since they were rendered are re-rendered too, which drops them.
+        dirtyShards.addAll(shards.keySet());
+    }
+
+    /**
+     * Marks the documents an article change affects on every node, once the editing transaction commits.
+     * Called inside that transaction.
+     */
+    @EventListener
+    public void onArticleChanged(ArticleChangedEvent event) {
+        if (!event.isPublished()) {
+            return;
+        }
+        String key = String.valueOf(event.getArticleId());
+        invalidationBus.publish(CACHE_NAME, event.isNewlyPublished() ? key + NEWLY_PUBLISHED : key);
+    }
+
+    private void mark(long articleId, boolean newlyPublished) {
+        if (newlyPublished || latestIds.contains(articleId)) {
+            latestDirty.set(true);
+        }
+        dirtyShards.add(articleId / shardSize);
+    }
+
+    /**
+     * Re-renders the documents marked since the last pass.
+     */
+    @Scheduled(fixedDelayString = "${archilogic.app.syndication.regenerateIntervalMs:5000}")
+    public synchronized void regenerate() {
+        try {
+            if (latestDirty.getAndSet(false)) {
+                renderLatest();
+            }
+            if (!dirtyShards.isEmpty()) {
+                List<Long> marked = new ArrayList<>(dirtyShards);
+                dirtyShards.removeAll(marked);
+                for (Long shard : marked) {
+                    renderShard(shard);
+                }
+                renderSitemapIndex();
+            }
+        } catch (RuntimeException e) {
+            log.error("Failed to regenerate syndication feeds: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * @param name {@link #RSS}, {@link #ATOM}, {@link #SITEMAP_INDEX}, or the name returned by {@link #shardName}.
+     * @return The document, or null if there is no such document.
+     */
+    public Document get(String name) {
+        return documents.get(name);
+    }
+
+    public static String shardName(long shard) {
+        return "sitemap-" + shard;
+    }
+
+    private void renderLatest() {
+        List<Entry> entries = jdbcTemplate.query(LATEST_SQL, (rs, rowNum) -> new Entry(rs.getLong(1), rs.getString(2),
+                rs.getString(3), rs.getString(4), rs.getTimestamp(5).toInstant(), rs.getTimestamp(6).toInstant(),
+                displayName(rs.getString(7), rs.getString(8), rs.getString(9))), feedSize);
+        Instant updated = entries.stream().map(Entry::getUpdatedAt).max(Instant::compareTo).orElse(Instant.EPOCH);
+        latestIds = Set.copyOf(entries.stream().map(Entry::getId).toList());
+
+        StringBuilder rss = new StringBuilder(4096 + entries.size() * 512);
+        rss.append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n")
+                .append("<rss version=\"2.0\" xmlns:atom=\"http://www.w3.org/2005/Atom\"><channel>")
+                .append("<title>").append(escape(title)).append("</title>")
+                .append("<link>").append(escape(siteUrl)).append("</link>")
+                .append("<description>").append(escape("Latest articles on " + title)).append("</description>")
+                .append("<atom:link href=\"").append(escape(siteUrl)).append("/feeds/rss.xml\" rel=\"self\" type=\"application/rss+xml\"/>")
+                .append("<lastBuildDate>").append(RFC_822.format(updated)).append("</lastBuildDate>");
+        for (Entry entry : entries) {
+            String link = escape(articleUrl(entry.getSlug()));
+            rss.append("<item><title>").append(escape(entry.getTitle())).append("</title>")
+                    .append("<link>").append(link).append("</link>")
+                    .append("<guid isPermaLink=\"true\">").append(link).append("</guid>")
+                    .append("<pubDate>").append(RFC_822.format(entry.getPublishedAt())).append("</pubDate>");
+            if (entry.getSummary() != null) {
+                rss.append("<description>").append(escape(entry.getSummary())).append("</description>");
+            }
+            rss.append("</item>");
+        }
+        rss.append("</channel></rss>\n");
+        documents.put(RSS, Document.of(rss.toString(), "application/rss+xml;charset=UTF-8", updated));
+
+        StringBuilder atom = new StringBuilder(4096 + entries.size() * 640);
+        atom.append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n")
+                .append("<feed xmlns=\"http://www.w3.org/2005/Atom\">")
+                .append("<id>").append(escape(siteUrl)).append("/</id>")
+                .append("<title>").append(escape(title)).append("</title>")
+                .append("<updated>").append(updated).append("</updated>")
+                .append("<link href=\"").append(escape(siteUrl)).append("/\"/>")
+                .append("<link href=\"").append(escape(siteUrl)).append("/feeds/atom.xml\" rel=\"self\"/>");
+        for (Entry entry : entries) {
+            String link = escape(articleUrl(entry.getSlug()));
+            atom.append("<entry><id>").append(link).append("</id>")
+                    .append("<title>").append(escape(entry.getTitle())).append("</title>")
+                    .append("<link href=\"").append(link).append("\"/>")
+                    .append("<published>").append(entry.getPublishedAt()).append("</published>")
+                    .append("<updated>").append(entry.getUpdatedAt()).append("</updated>")
+                    .append("<author><name>").append(escape(entry.getAuthor())).append("</name></author>");
+            if (entry.getSummary() != null) {
+                atom.append("<summary>").append(escape(entry.getSummary())).append("</summary>");
+            }
+            atom.append("</entry>");
+        }
+        atom.append("</feed>\n");
+        documents.put(ATOM, Document.of(atom.toString(), "application/atom+xml;charset=UTF-8", updated));
+    }
+
+    private void renderShard(long shard) {
+        StringBuilder xml = new StringBuilder(64 * 1024);
+        xml.append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n")
+                .append("<urlset xmlns=\"http://www.sitemaps.org/schemas/sitemap/0.9\">");
+        Instant[] lastModified = {Instant.EPOCH};
+        int[] count = {0};
+        jdbcTemplate.query(SHARD_SQL, rs -> {
+            Timestamp updatedAt = rs.getTimestamp(3);
+            Instant modified = updatedAt.toInstant();
+            if (modified.isAfter(lastModified[0])) {
+                lastModified[0] = modified;
+            }
+            xml.append("<url><loc>").append(escape(articleUrl(rs.getString(2)))).append("</loc>")
+                    .append("<lastmod>").append(modified).append("</lastmod></url>");
+            count[0]++;
+        }, shard * shardSize, (shard + 1) * shardSize);
+        xml.append("</urlset>\n");
+
+        if (count[0] == 0) {
+            documents.remove(shardName(shard));
+            shards.remove(shard);
+            return;
+        }
+        documents.put(shardName(shard), Document.of(xml.toString(), "application/xml;charset=UTF-8", lastModified[0]));
+        shards.put(shard, lastModified[0]);
+    }
+
+    private void renderSitemapIndex() {
+        Map<Long, Instant> snapshot = new TreeMap<>(shards);
+        Instant updated = snapshot.values().stream().max(Instant::compareTo).orElse(Instant.EPOCH);
+        StringBuilder xml = new StringBuilder(256 + snapshot.size() * 128);
+        xml.append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n")
+                .append("<sitemapindex xmlns=\"http://www.sitemaps.org/schemas/sitemap/0.9\">");
+        snapshot.forEach((shard, modified) -> xml.append("<sitemap><loc>").append(escape(siteUrl))
+                .append("/sitemaps/").append(shardName(shard)).append(".xml</loc>")
+                .append("<lastmod>").append(modified).append("</lastmod></sitemap>"));
+        xml.append("</sitemapindex>\n");
+        documents.put(SITEMAP_INDEX, Document.of(xml.toString(), "application/xml;charset=UTF-8", updated));
+    }
+
+    private String articleUrl(String slug) {
+        return siteUrl + "/articles/" + slug;
+    }
+
+    private static String displayName(String username, String firstName, String lastName) {
+        String name = ((firstName == null ? "" : firstName) + " " + (lastName == null ? "" : lastName)).trim();
+        return name.isEmpty() ? username : name;
+    }
+
+    private static String escape(String text) {
+        StringBuilder escaped = null;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            String replacement = switch (c) {
+                case '&' -> "&amp;";
+                case '<' -> "&lt;";
+                case '>' -> "&gt;";
+                case '"' -> "&quot;";
+                case '\'' -> "&apos;";
+                default -> c < 0x20 && c != '\t' && c != '\n' && c != '\r' ? "" : null; // Not allowed in XML 1.0.
+            };
+            if (replacement != null && escaped == null) {
+                escaped = new StringBuilder(text.length() + 16).append(text, 0, i);
+            }
+            if (escaped != null) {
+                if (replacement != null) {
+                    escaped.append(replacement);
+                } else {
+                    escaped.append(c);
+                }
+            }
+        }
+        return escaped == null ? text : escaped.toString();
+    }
+
+    /**
+     * A rendered document in its identity and gzip encodings.
+     */
+    @Getter
+    public static final class Document {
+        private final byte[] identity;
+        private final byte[] gzip;
+        private final String eTag;
+        private final String gzipETag;
+        private final String contentType;
+        private final Instant lastModified;
+
+        private Document(byte[] identity, byte[] gzip, String hash, String contentType, Instant lastModified) {
+            this.identity = identity;
+            this.gzip = gzip;
+            this.eTag = "\"" + hash + "\"";
+            this.gzipETag = "\"" + hash + "-gz\"";
+            this.contentType = contentType;
+            this.lastModified = lastModified;
+        }
+
+        static Document of(String content, String contentType, Instant lastModified) {
+            byte[] identity = content.getBytes(StandardCharsets.UTF_8);
+            ByteArrayOutputStream compressed = new ByteArrayOutputStream(identity.length / 4 + 64);
+            try (GZIPOutputStream out = new GZIPOutputStream(compressed) {
+                {
+                    def.setLevel(Deflater.BEST_COMPRESSION);
+                }
+            }) {
+                out.write(identity);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return new Document(identity, compressed.toByteArray(), hash(identity), contentType, lastModified);
+        }
+
+        private static String hash(byte[] content) {
+            try {
+                byte[] digest = MessageDigest.getInstance("SHA-256").digest(content);
+                return HexFormat.of().formatHex(digest, 0, 12);
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException("SHA-256 is not available", e);
+            }
+        }
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    private static final class Entry {
+        private final long id;
+        private final String title;
+        private final String slug;
+        private final String summary;
+        private final Instant publishedAt;
+        private final Instant updatedAt;
+        private final String author;
+    }
+}
@@ -0,0 +1,14 @@
+/***********************************************************
+ * Copyright (c) 2025. All rights reserved to ArchiLogic.
+ * Developer: Nikhil Gadhavajula
+ **********************************************************/
+
+package com.archilogic.mail;
+
+/**
+ * The kinds of emails sent through the outbox.
+ */
+public enum EmailKind {
+    EMAIL_VERIFICATION,
+    PASSWORD_RESET
+}
@@ -0,0 +1,120 @@
+/***********************************************************
+ * Copyright (c) 2025. All rights reserved to ArchiLogic.
+ * Developer: Nikhil Gadhavajula
+ **********************************************************/
+
+package com.archilogic.mail;
+
+import com.archilogic.entity.User;
+import com.archilogic.security.jwt.EmailLinkTokens;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Writes emails into the {@code email_outbox} table as part of the caller's transaction.
+ * <p>
+ * Nothing is sent here: the row commits or rolls back together with the change that caused it (a new user, a
+ * reset request), so there is never a mail for a signup that failed, nor a signup whose mail was lost because SMTP
+ * was down. {@link EmailOutboxDispatcher} delivers the rows in the background; after commit it is woken up so that
+ * a fresh email normally leaves within milliseconds instead of waiting for the next poll.
+ */
+@Component
+@RequiredArgsConstructor
+public class EmailOutbox {
+
+    private static final String INSERT_SQL = "INSERT INTO email_outbox "
+            + "(kind, user_id, recipient, subject, body, status, attempts, created_at, next_attempt_at) "
+            + "VALUES (?, ?, ?, ?, ?, 'PENDING', 0, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EmailLinkTokens emailLinkTokens;
+    private final EmailOutboxDispatcher dispatcher;
+
+    @Value("${archilogic.app.mail.linkBaseUrl:http://localhost:3000}")
+    private String linkBaseUrl;
+
+    @Value("${archilogic.app.mail.verificationValidityHours:48}")
+    private long verificationValidityHours;
+
+    @Value("${archilogic.app.mail.resetValidityMinutes:30}")
+    private long resetValidityMinutes;
+
+    /**
+     * Queues a verification email for each of the given, just inserted users.
+     *
+     * @param users Users with their ids assigned.
+     * @throws IllegalStateException if called outside a transaction.
+     */
+    public void enqueueVerifications(Collection<User> users) {
+        List<Object[]> rows = new ArrayList<>(users.size());
+        for (User user : users) {
+            String token = emailLinkTokens.issue(EmailKind.EMAIL_VERIFICATION, user.getId(), user.getEmail(),
+                    TimeUnit.HOURS.toMillis(verificationValidityHours));
+            String body = "Hi " + user.getFirst_name() + ",\n\n"
+                    + "Welcome to ArchiLogic! Please confirm your email address by opening this link:\n\n"
+                    + linkBaseUrl + "/verify-email?token=" + token + "\n\n"
+                    + "The link is valid for " + verificationValidityHours + " hours. "
+                    + "If you didn't sign up, you can ignore this email.\n";
+            rows.add(row(EmailKind.EMAIL_VERIFICATION, user, "Confirm your ArchiLogic email address", body));
+        }
+        insert(rows);
+    }
+
+    /**
+     * Queues a password-reset email bound to the user's current password hash.
+     *
+     * @param user The user who asked for the reset.
+     * @throws IllegalStateException if called outside a transaction.
+     */
+    public void enqueuePasswordReset(User user) {
+        String token = emailLinkTokens.issue(EmailKind.PASSWORD_RESET, user.getId(), user.getPassword(),
+                TimeUnit.MINUTES.toMillis(resetValidityMinutes));
+        String body = "Hi " + user.getFirst_name() + ",\n\n"
+                + "Someone asked to reset the password of your ArchiLogic account " + user.getUsername() + ". "
+                + "To choose a new password, open this link:\n\n"
+                + linkBaseUrl + "/reset-password?token=" + token + "\n\n"
+                + "The link is valid for " + resetValidityMinutes + " minutes and works once. "
+                + "If it wasn't you, ignore this email; your password stays unchanged.\n";
+        insert(List.<Object[]>of(row(EmailKind.PASSWORD_RESET, user, "Reset your ArchiLogic password", body)));
+    }
+
+    private static Object[] row(EmailKind kind, User user, String subject, String body) {
+        return new Object[]{kind.name(), user.getId(), user.getEmail(), subject, body};
+    }
+
+    private void insert(List<Object[]> rows) {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalStateException("Outbox emails must be written in the transaction of the change that causes them.");
+        }
+        if (rows.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.from(Instant.now());
+        jdbcTemplate.batchUpdate(INSERT_SQL, rows, rows.size(), (ps, row) -> {
+            ps.setString(1, (String) row[0]);
+            ps.setLong(2, (Long) row[1]);
+            ps.setString(3, (String) row[2]);
+            ps.setString(4, (String) row[3]);
+            ps.setString(5, (String) row[4]);
+            ps.setTimestamp(6, now);
+            ps.setTimestamp(7, now);
+        });
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                dispatcher.wakeUp();
+            }
+        });
+    }
+}
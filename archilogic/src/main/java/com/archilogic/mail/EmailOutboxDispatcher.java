@@ -0,0 +1,315 @@
+/***********************************************************
+ * Copyright (c) 2025. All rights reserved to ArchiLogic.
+ * Developer: Nikhil Gadhavajula
+ **********************************************************/
+
+package com.archilogic.mail;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Background delivery of the email outbox.
+ * <p>
+ * A dedicated thread repeatedly claims a batch of due rows and sends it:
+ * <ol>
+ *     <li>In a short transaction, {@code SELECT ... FOR UPDATE SKIP LOCKED} picks up to {@code batchSize} pending
+ *     rows whose {@code next_attempt_at} has passed, and their {@code next_attempt_at} is pushed {@code leaseMs}
+ *     into the future. Other dispatchers (on this or other nodes) skip the locked rows instead of waiting, and
+ *     after commit the lease keeps them away until the send is over. If this node dies mid-send, the rows simply
+ *     become due again when the lease runs out.</li>
+ *     <li>Outside any transaction, {@link OutboxMailer} sends the batch over one SMTP connection.</li>
+ *     <li>Sent rows are marked {@code SENT} and their body, which may carry a live link token, is cleared.
+ *     Failed ones are rescheduled with exponential backoff and jitter, or marked {@code FAILED} after
+ *     {@code maxAttempts} or on a permanent error.</li>
+ * </ol>
+ * Delivery is at-least-once: a crash between sending and marking sends that batch again after the lease.
+ * The thread drains until no full batch is left, then parks for {@code pollIntervalMs} or until
+ * {@link #wakeUp()} is called after a commit. Queue depth and lag are reported by {@link #getStats()}.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class EmailOutboxDispatcher {
+
+    private static final String CLAIM_SQL = "SELECT id, recipient, subject, body, attempts, created_at FROM email_outbox "
+            + "WHERE status = 'PENDING' AND next_attempt_at <= ? ORDER BY next_attempt_at, id LIMIT ? "
+            + "FOR UPDATE SKIP LOCKED";
+    private static final String LEASE_SQL = "UPDATE email_outbox SET attempts = attempts + 1, next_attempt_at = ? WHERE id = ?";
+    // The body of a sent email is dropped: it may hold a live link token, e.g. a password reset.
+    private static final String SENT_SQL = "UPDATE email_outbox SET status = 'SENT', sent_at = ?, body = '', last_error = NULL "
+            + "WHERE id = ?";
+    private static final String RETRY_SQL = "UPDATE email_outbox SET next_attempt_at = ?, last_error = ? WHERE id = ?";
+    private static final String FAILED_SQL = "UPDATE email_outbox SET status = 'FAILED', last_error = ? WHERE id = ?";
+    private static final String PURGE_SQL = "DELETE FROM email_outbox WHERE status = 'SENT' AND sent_at < ? LIMIT 1000";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final OutboxMailer outboxMailer;
+
+    @Value("${archilogic.app.mail.outbox.enabled:true}")
+    private boolean enabled;
+
+    @Value("${archilogic.app.mail.outbox.batchSize:50}")
+    private int batchSize;
+
+    @Value("${archilogic.app.mail.outbox.pollIntervalMs:2000}")
+    private long pollIntervalMs;
+
+    /**
+     * How long a claimed batch is hidden from other dispatchers; must comfortably exceed the time to send it.
+     */
+    @Value("${archilogic.app.mail.outbox.leaseMs:120000}")
+    private long leaseMs;
+
+    @Value("${archilogic.app.mail.outbox.maxAttempts:8}")
+    private int maxAttempts;
+
+    @Value("${archilogic.app.mail.outbox.initialBackoffMs:5000}")
+    private long initialBackoffMs;
+
+    @Value("${archilogic.app.mail.outbox.maxBackoffMs:3600000}")
+    private long maxBackoffMs;
+
+    @Value("${archilogic.app.mail.outbox.retentionHours:168}")
+    private long retentionHours;
+
+    private final LongAdder sent = new LongAdder();
+    private final LongAdder retried = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder batches = new LongAdder();
+    private final AtomicLong lastDeliveryLagMs = new AtomicLong();
+
+    private Thread worker;
+    private volatile boolean running;
+    private long nextPurgeAt;
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        running = true;
+        worker = new Thread(this::run, "email-outbox");
+        worker.setDaemon(true);
+        worker.start();
+        log.info("Email outbox dispatcher started: batches of {}, poll every {} ms, up to {} attempts",
+                batchSize, pollIntervalMs, maxAttempts);
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        if (worker == null) {
+            return;
+        }
+        running = false;
+        LockSupport.unpark(worker);
+        worker.join(TimeUnit.SECONDS.toMillis(30));
+    }
+
+    /**
+     * Ends the current idle wait early, e.g. because new rows were just committed.
+     */
+    public void wakeUp() {
+        Thread thread = worker;
+        if (thread != null) {
+            LockSupport.unpark(thread);
+        }
+    }
+
+    /**
+     * @return Queue depth and lag, read from the table, plus delivery counters of this node since startup.
+     */
+    public Stats getStats() {
+        Timestamp now = Timestamp.from(Instant.now());
+        return jdbcTemplate.queryForObject("SELECT "
+                        + "COUNT(*), "
+                        + "COALESCE(SUM(next_attempt_at <= ?), 0), "
+                        + "COALESCE(SUM(attempts > 0), 0), "
+                        + "MIN(created_at) "
+                        + "FROM email_outbox WHERE status = 'PENDING'",
+                (rs, rowNum) -> {
+                    Timestamp oldest = rs.getTimestamp(4);
+                    long oldestAgeMs = oldest == null ? 0 : Math.max(0, now.getTime() - oldest.getTime());
+                    return new Stats(rs.getLong(1), rs.getLong(2), rs.getLong(3), oldestAgeMs,
+                            sent.sum(), retried.sum(), failed.sum(), batches.sum(), lastDeliveryLagMs.get());
+                }, now);
+    }
+
+    private void run() {
+        while (running) {
+            try {
+                int claimed;
+                do {
+                    claimed = dispatchBatch();
+                } while (running && claimed == batchSize);
+                purgeIfDue();
+            } catch (RuntimeException e) {
+                log.warn("Email outbox pass failed, retrying after the poll interval: {}", e.getMessage());
+            }
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(pollIntervalMs));
+        }
+    }
+
+    /**
+     * Claims, sends and settles one batch.
+     *
+     * @return The number of rows claimed.
+     */
+    int dispatchBatch() {
+        List<PendingEmail> claimed = claim();
+        if (claimed.isEmpty()) {
+            return 0;
+        }
+        OutboxMailer.Delivery delivery = outboxMailer.send(claimed);
+        settle(claimed, delivery);
+        batches.increment();
+        return claimed.size();
+    }
+
+    List<PendingEmail> claim() {
+        return transactionTemplate.execute(status -> {
+            long now = System.currentTimeMillis();
+            List<PendingEmail> rows = jdbcTemplate.query(CLAIM_SQL, (rs, rowNum) -> new PendingEmail(
+                    rs.getLong(1), rs.getString(2), rs.getString(3), rs.getString(4), rs.getInt(5) + 1,
+                    rs.getTimestamp(6).getTime()),
+                    new Timestamp(now), batchSize);
+            if (!rows.isEmpty()) {
+                Timestamp leaseUntil = new Timestamp(now + leaseMs);
+                jdbcTemplate.batchUpdate(LEASE_SQL, rows, rows.size(), (ps, row) -> {
+                    ps.setTimestamp(1, leaseUntil);
+                    ps.setLong(2, row.getId());
+                });
+            }
+            return rows;
+        });
+    }
+
+    private void settle(List<PendingEmail> claimed, OutboxMailer.Delivery delivery) {
+        long now = System.currentTimeMillis();
+        Timestamp sentAt = new Timestamp(now);
+        List<Object[]> retries = new ArrayList<>();
+        List<Object[]> failures = new ArrayList<>();
+        long oldestSent = Long.MAX_VALUE;
+        for (PendingEmail email : claimed) {
+            OutboxMailer.Failure failure = delivery.getFailures().get(email.getId());
+            if (failure == null) {
+                oldestSent = Math.min(oldestSent, email.getCreatedAtMillis());
+                continue;
+            }
+            String error = truncate(failure.getError());
+            if (failure.isPermanent() || email.getAttempt() >= maxAttempts) {
+                failures.add(new Object[]{error, email.getId()});
+                log.warn("Giving up on outbox email {} to {} after {} attempt(s): {}",
+                        email.getId(), email.getRecipient(), email.getAttempt(), error);
+            } else {
+                long delay = backoffMillis(email.getAttempt(), initialBackoffMs, maxBackoffMs);
+                retries.add(new Object[]{new Timestamp(now + delay), error, email.getId()});
+            }
+        }
+        List<Object[]> sentRows = new ArrayList<>(delivery.getSent().size());
+        for (Long id : delivery.getSent()) {
+            sentRows.add(new Object[]{sentAt, id});
+        }
+        if (!sentRows.isEmpty()) {
+            jdbcTemplate.batchUpdate(SENT_SQL, sentRows);
+        }
+        if (!retries.isEmpty()) {
+            jdbcTemplate.batchUpdate(RETRY_SQL, retries);
+        }
+        if (!failures.isEmpty()) {
+            jdbcTemplate.batchUpdate(FAILED_SQL, failures);
+        }
+        sent.add(sentRows.size());
+        retried.add(retries.size());
+        failed.add(failures.size());
+        if (!retries.isEmpty()) {
+            log.info("{} outbox email(s) rescheduled after a failed attempt, e.g.: {}", retries.size(), retries.get(0)[1]);
+        }
+        if (!sentRows.isEmpty()) {
+            lastDeliveryLagMs.set(Math.max(0, now - oldestSent));
+        }
+    }
+
+    private void purgeIfDue() {
+        long now = System.currentTimeMillis();
+        if (now < nextPurgeAt) {
+            return;
+        }
+        nextPurgeAt = now + TimeUnit.HOURS.toMillis(1);
+        int purged;
+        do {
+            purged = jdbcTemplate.update(PURGE_SQL, new Timestamp(now - TimeUnit.HOURS.toMillis(retentionHours)));
+        } while (running && purged == 1000);
+    }
+
+    /**
+     * Exponential backoff with "equal jitter": half of the delay is fixed, the other half random, so retries of
+     * emails that failed together (an SMTP outage) spread out instead of hitting the server at the same instant.
+     *
+     * @param attempt   The attempt that just failed, starting at 1.
+     * @param initialMs The delay after the first failure, before jitter.
+     * @param maxMs     The cap on the delay.
+     * @return The delay before the next attempt.
+     */
+    static long backoffMillis(int attempt, long initialMs, long maxMs) {
+        long exponential = initialMs << Math.min(attempt - 1, 30);
+        long capped = exponential <= 0 || exponential > maxMs ? maxMs : exponential;
+        long half = capped / 2;
+        return half + ThreadLocalRandom.current().nextLong(half + 1);
+    }
+
+    private static String truncate(String value) {
+        return value.length() <= 255 ? value : value.substring(0, 255);
+    }
+
+    /**
+     * Outbox depth and delivery counters.
+     */
+    @Getter
+    @AllArgsConstructor
+    public static final class Stats {
+        /**
+         * Rows still to be delivered, including those waiting for a retry.
+         */
+        private final long pending;
+        /**
+         * Pending rows whose next attempt is already due; persistently high means the dispatchers can't keep up.
+         */
+        private final long due;
+        /**
+         * Pending rows that have failed at least once.
+         */
+        private final long retrying;
+        /**
+         * Age of the oldest pending row: the queue lag.
+         */
+        private final long oldestPendingAgeMs;
+        private final long sent;
+        private final long retried;
+        private final long failed;
+        private final long batches;
+        /**
+         * Time from enqueue to delivery of the oldest email in the last batch sent by this node.
+         */
+        private final long lastDeliveryLagMs;
+    }
+}
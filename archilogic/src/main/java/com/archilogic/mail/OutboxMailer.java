@@ -0,0 +1,127 @@
+/***********************************************************
+ * Copyright (c) 2025. All rights reserved to ArchiLogic.
+ * Developer: Nikhil Gadhavajula
+ **********************************************************/
+
+package com.archilogic.mail;
+
+import jakarta.mail.MessagingException;
+import jakarta.mail.SendFailedException;
+import jakarta.mail.internet.MimeMessage;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Turns claimed outbox rows into MIME messages and sends them as one batch.
+ * <p>
+ * {@link JavaMailSender#send(MimeMessage...)} opens a single SMTP connection for the whole array and sends every
+ * message over it, so a batch costs one TCP/TLS handshake and one authentication instead of one per email. The
+ * outcome is reported per row: a message the server rejected for good (an address it will never accept) or one
+ * that can't even be built is a permanent failure, anything else (connection refused, timeouts, 4xx replies) is
+ * retried by the dispatcher.
+ */
+@Component
+public class OutboxMailer {
+
+    private final JavaMailSender mailSender;
+    private final String from;
+
+    public OutboxMailer(JavaMailSender mailSender, @Value("${archilogic.app.mail.from}") String from) {
+        this.mailSender = mailSender;
+        this.from = from;
+    }
+
+    /**
+     * Sends a batch of emails over one connection.
+     *
+     * @param emails The claimed rows.
+     * @return Which rows were sent and which failed.
+     */
+    public Delivery send(List<PendingEmail> emails) {
+        Delivery delivery = new Delivery();
+        Map<MimeMessage, PendingEmail> byMessage = new IdentityHashMap<>();
+        List<MimeMessage> messages = new ArrayList<>(emails.size());
+        for (PendingEmail email : emails) {
+            try {
+                MimeMessage message = mailSender.createMimeMessage();
+                MimeMessageHelper helper = new MimeMessageHelper(message, false, StandardCharsets.UTF_8.name());
+                helper.setFrom(from);
+                helper.setTo(email.getRecipient());
+                helper.setSubject(email.getSubject());
+                helper.setText(email.getBody());
+                byMessage.put(message, email);
+                messages.add(message);
+            } catch (MessagingException | RuntimeException e) {
+                delivery.fail(email.getId(), e, true);
+            }
+        }
+        if (messages.isEmpty()) {
+            return delivery;
+        }
+
+        try {
+            mailSender.send(messages.toArray(MimeMessage[]::new));
+            byMessage.values().forEach(email -> delivery.sent.add(email.getId()));
+        } catch (MailSendException e) {
+            Map<Object, Exception> failed = e.getFailedMessages();
+            for (Map.Entry<MimeMessage, PendingEmail> entry : byMessage.entrySet()) {
+                Exception cause = failed.isEmpty() ? e : failed.get(entry.getKey());
+                if (cause == null) {
+                    delivery.sent.add(entry.getValue().getId());
+                } else {
+                    delivery.fail(entry.getValue().getId(), cause, isRejectedRecipient(cause));
+                }
+            }
+        } catch (MailException e) {
+            // Authentication or preparation problems affect the whole batch and may be fixed by configuration.
+            byMessage.values().forEach(email -> delivery.fail(email.getId(), e, false));
+        }
+        return delivery;
+    }
+
+    private static boolean isRejectedRecipient(Exception cause) {
+        return cause instanceof SendFailedException sendFailed
+                && sendFailed.getInvalidAddresses() != null
+                && sendFailed.getInvalidAddresses().length > 0;
+    }
+
+    /**
+     * The outcome of one batch.
+     */
+    @Getter
+    public static final class Delivery {
+        private final List<Long> sent = new ArrayList<>();
+        private final Map<Long, Failure> failures = new HashMap<>();
+
+        private void fail(long id, Exception cause, boolean permanent) {
+            String message = cause.getMessage() == null ? cause.getClass().getSimpleName() : cause.getMessage();
+            failures.put(id, new Failure(message, permanent));
+        }
+    }
+
+    /**
+     * Why one email could not be sent.
+     */
+    @Getter
+    @AllArgsConstructor
+    public static final class Failure {
+        private final String error;
+        /**
+         * True if retrying can't help.
+         */
+        private final boolean permanent;
+    }
+}
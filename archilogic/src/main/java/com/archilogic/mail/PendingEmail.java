@@ -0,0 +1,26 @@
+/***********************************************************
+ * Copyright (c) 2025. All rights reserved to ArchiLogic.
+ * Developer: Nikhil Gadhavajula
+ **********************************************************/
+
+package com.archilogic.mail;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * An outbox row claimed for delivery.
+ */
+@Getter
+@AllArgsConstructor
+public final class PendingEmail {
+    private final long id;
+    private final String recipient;
+    private final String subject;
+    private final String body;
+    /**
+     * The number of delivery attempts including the current one.
+     */
+    private final int attempt;
+    private final long createdAtMillis;
+}
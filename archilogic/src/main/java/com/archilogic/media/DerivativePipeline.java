@@ -0,0 +1,422 @@
+/***********************************************************
+ * Copyright (c) 2025. All rights reserved to ArchiLogic.
+ * Developer: Nikhil Gadhavajula
+ **********************************************************/
+
+package com.archilogic.media;
+
+import com.archilogic.event.MediaStoredEvent;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Generates resized derivatives of uploaded images in the background.
+ * <p>
+ * Every stored image gets one derivative per configured width and output format, written next to the original
+ * as {@code <sha256>-w<width>.<ext>}. Because the source is content-addressed, a derivative's name fully
+ * determines its bytes: work is idempotent, files that already exist are skipped, and an upload and concurrent
+ * requests for any derivative of the same image share one in-flight job.
+ * <p>
+ * Work runs on a dedicated {@link ForkJoinPool} sized below the core count, so request threads never resize
+ * images. An image is decoded once and its derivatives are then produced as parallel subtasks. The number of
+ * queued images is bounded by a semaphore, for uploads and lazy requests alike: when the pipeline is saturated,
+ * new uploads are not queued and their derivatives are produced when first requested, and requests for a missing
+ * derivative are redirected to the original until a slot frees up.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class DerivativePipeline {
+
+    private static final float JPEG_QUALITY = 0.82f;
+
+    private final MediaStore mediaStore;
+
+    @Value("${archilogic.app.media.derivatives.widths:320,640,1280}")
+    private int[] widths;
+
+    @Value("${archilogic.app.media.derivatives.formats:jpg,png}")
+    private String[] formatExtensions;
+
+    @Value("${archilogic.app.media.derivatives.parallelism:0}")
+    private int parallelism;
+
+    @Value("${archilogic.app.media.derivatives.maxQueuedImages:64}")
+    private int maxQueuedImages;
+
+    @Value("${archilogic.app.media.derivatives.maxSourcePixels:50000000}")
+    private long maxSourcePixels;
+
+    @Value("${archilogic.app.media.derivatives.lazyTimeoutMs:10000}")
+    private long lazyTimeoutMs;
+
+    private final Map<String, ImageJob> inFlight = new ConcurrentHashMap<>();
+
+    private ForkJoinPool pool;
+    private Semaphore queueSlots;
+    private List<ImageFormat> outputFormats;
+
+    @PostConstruct
+    public void start() {
+        int threads = parallelism > 0 ? parallelism : Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+        pool = new ForkJoinPool(threads, forkJoinPool -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(forkJoinPool);
+            thread.setName("media-derivatives-" + thread.getPoolIndex());
+            thread.setDaemon(true);
+            return thread;
+        }, null, false);
+        queueSlots = new Semaphore(maxQueuedImages);
+        outputFormats = new ArrayList<>();
+        for (String extension : formatExtensions) {
+            ImageFormat format = ImageFormat.fromExtension(extension.trim());
+            if (format != ImageFormat.JPEG && format != ImageFormat.PNG) {
+                throw new IllegalStateException("Unsupported derivative format: " + extension);
+            }
+            outputFormats.add(format);
+        }
+        Arrays.sort(widths);
+    }
+
+    @PreDestroy
+    public void stop() {
+        pool.shutdownNow();
+    }
+
+    /**
+     * Queues all derivatives of newly stored content once the upload has committed.
+     */
+    @TransactionalEventListener
+    public void onMediaStored(MediaStoredEvent event) {
+        if (!submit(event.getSha256(), event.getFormat())) {
+            log.info("Derivative pipeline saturated; derivatives of {} will be generated on first request", event.getSha256());
+        }
+    }
+
+    /**
+     * Queues all derivatives of an image unless the pipeline is saturated.
+     *
+     * @param sha256 The content hash of the source image.
+     * @param source The format of the source image.
+     * @return false if the image was not queued because {@code maxQueuedImages} are already pending.
+     */
+    public boolean submit(String sha256, ImageFormat source) {
+        return attach(sha256, source, true) != null;
+    }
+
+    /**
+     * @return true if the width and format are ones the pipeline produces.
+     */
+    public boolean isSupported(int width, ImageFormat format) {
+        return Arrays.binarySearch(widths, width) >= 0 && outputFormats.contains(format);
+    }
+
+    /**
+     * @return The configured derivative widths, ascending.
+     */
+    public int[] getWidths() {
+        return widths.clone();
+    }
+
+    /**
+     * @return The configured derivative output formats.
+     */
+    public List<ImageFormat> getOutputFormats() {
+        return List.copyOf(outputFormats);
+    }
+
+    /**
+     * @return Where a derivative is (or will be) stored.
+     */
+    public Path pathOf(String sha256, int width, ImageFormat format) {
+        return mediaStore.directoryOf(sha256).resolve(sha256 + "-w" + width + "." + format.getExtension());
+    }
+
+    /**
+     * Returns a derivative, generating it now if it does not exist yet.
+     * <p>
+     * A miss joins the job of the whole image (one decode for all derivatives) if one is in flight, or queues one
+     * under the same {@code maxQueuedImages} bound as uploads. When the pipeline is saturated nothing is queued and
+     * null is returned at once. A caller waits at most {@code lazyTimeoutMs}; a job queued only for callers that all
+     * gave up is dropped before it decodes or writes anything more.
+     *
+     * @param sha256 The content hash of the source image.
+     * @param source The format of the source image.
+     * @param width  The derivative width.
+     * @param format The derivative format.
+     * @return The derivative file, or null if it is not available now (serve the original instead).
+     */
+    public Path getOrGenerate(String sha256, ImageFormat source, int width, ImageFormat format)
+            throws InterruptedException {
+        Path target = pathOf(sha256, width, format);
+        if (Files.exists(target)) {
+            return target;
+        }
+        ImageJob job = attach(sha256, source, false);
+        if (job == null) {
+            return null;
+        }
+        try {
+            job.done.get(lazyTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            job.detach();
+            return null;
+        } catch (ExecutionException e) {
+            return null;
+        }
+        return Files.exists(target) ? target : null;
+    }
+
+    /**
+     * Joins the in-flight job for an image, or queues a new one if a slot is free.
+     *
+     * @param background true for the job queued after an upload, which runs whether or not anyone waits for it.
+     * @return The job, or null if none is in flight and the pipeline is saturated.
+     */
+    private ImageJob attach(String sha256, ImageFormat source, boolean background) {
+        ImageJob[] attached = new ImageJob[1];
+        boolean[] created = new boolean[1];
+        ImageJob job = inFlight.compute(sha256, (key, existing) -> {
+            if (existing != null && existing.attach(background)) {
+                attached[0] = existing;
+                return existing;
+            }
+            if (!queueSlots.tryAcquire()) {
+                // A dropped job still in the map removes itself when its task runs.
+                return existing;
+            }
+            ImageJob fresh = new ImageJob();
+            fresh.attach(background);
+            attached[0] = fresh;
+            created[0] = true;
+            return fresh;
+        });
+        if (created[0]) {
+            try {
+                pool.execute(() -> {
+                    try {
+                        if (!job.isDropped()) {
+                            generateAll(sha256, source, job);
+                        }
+                    } finally {
+                        finish(sha256, job);
+                    }
+                });
+            } catch (RuntimeException e) {
+                finish(sha256, job);
+                throw e;
+            }
+        }
+        return attached[0];
+    }
+
+    private void finish(String sha256, ImageJob job) {
+        inFlight.remove(sha256, job);
+        queueSlots.release();
+        job.done.complete(null);
+    }
+
+    private void generateAll(String sha256, ImageFormat source, ImageJob job) {
+        List<int[]> missing = new ArrayList<>();
+        for (int width : widths) {
+            for (int i = 0; i < outputFormats.size(); i++) {
+                if (!Files.exists(pathOf(sha256, width, outputFormats.get(i)))) {
+                    missing.add(new int[]{width, i});
+                }
+            }
+        }
+        if (missing.isEmpty()) {
+            return;
+        }
+        long started = System.nanoTime();
+        try {
+            BufferedImage image = decode(sha256, source);
+            if (job.isDropped()) {
+                return;
+            }
+            List<ForkJoinTask<?>> tasks = new ArrayList<>(missing.size());
+            for (int[] spec : missing) {
+                ImageFormat format = outputFormats.get(spec[1]);
+                tasks.add(ForkJoinTask.adapt(() -> {
+                    if (job.isDropped()) {
+                        return;
+                    }
+                    try {
+                        write(image, sha256, spec[0], format);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }));
+            }
+            ForkJoinTask.invokeAll(tasks);
+            log.debug("Generated {} derivative(s) of {} in {} ms", missing.size(), sha256,
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+        } catch (IOException | RuntimeException e) {
+            log.warn("Could not generate derivatives of {}: {}", sha256, e.getMessage());
+        }
+    }
+
+    private BufferedImage decode(String sha256, ImageFormat source) throws IOException {
+        Path file = mediaStore.resolve(sha256, source);
+        try (ImageInputStream in = ImageIO.createImageInputStream(file.toFile())) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(in);
+            if (!readers.hasNext()) {
+                throw new IOException("No decoder for " + source);
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(in, true, true);
+                // Check the header before allocating the raster, so a tiny file can't claim gigapixels.
+                long pixels = (long) reader.getWidth(0) * reader.getHeight(0);
+                if (pixels > maxSourcePixels) {
+                    throw new IOException("Image too large to resize: " + pixels + " pixels");
+                }
+                return reader.read(0);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    private Path write(BufferedImage source, String sha256, int width, ImageFormat format) throws IOException {
+        Path target = pathOf(sha256, width, format);
+        if (Files.exists(target)) {
+            return target;
+        }
+        BufferedImage resized = resize(source, Math.min(width, source.getWidth()), format == ImageFormat.PNG);
+        Path tmp = Files.createTempFile(target.getParent(), "derivative-", ".part");
+        try {
+            try (ImageOutputStream out = ImageIO.createImageOutputStream(tmp.toFile())) {
+                encode(resized, format, out);
+            }
+            Files.move(tmp, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (FileAlreadyExistsException e) {
+            // Produced concurrently by another node sharing the store; the content is identical.
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+        return target;
+    }
+
+    /**
+     * Downscales in halving steps before the final bilinear pass, which is much sharper than a single
+     * bilinear pass for large reductions and much cheaper than bicubic.
+     */
+    private static BufferedImage resize(BufferedImage source, int width, boolean keepAlpha) {
+        int type = keepAlpha ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB;
+        BufferedImage current = source;
+        int currentWidth = source.getWidth();
+        int currentHeight = source.getHeight();
+        do {
+            int nextWidth = Math.max(width, currentWidth / 2);
+            int nextHeight = Math.max(1, (int) Math.round((double) source.getHeight() * nextWidth / source.getWidth()));
+            BufferedImage next = new BufferedImage(nextWidth, nextHeight, type);
+            Graphics2D g = next.createGraphics();
+            try {
+                if (!keepAlpha) {
+                    g.setColor(Color.WHITE); // JPEG has no alpha channel: flatten onto white.
+                    g.fillRect(0, 0, nextWidth, nextHeight);
+                }
+                g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+                g.drawImage(current, 0, 0, nextWidth, nextHeight, 0, 0, currentWidth, currentHeight, null);
+            } finally {
+                g.dispose();
+            }
+            current = next;
+            currentWidth = nextWidth;
+            currentHeight = nextHeight;
+        } while (currentWidth > width);
+        return current;
+    }
+
+    private static void encode(BufferedImage image, ImageFormat format, ImageOutputStream out) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName(format == ImageFormat.JPEG ? "jpeg" : "png").next();
+        try {
+            writer.setOutput(out);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            if (format == ImageFormat.JPEG) {
+                param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+                param.setCompressionQuality(JPEG_QUALITY);
+            }
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+    }
+
+    /**
+     * The generation of all derivatives of one image, shared by the upload that queued it and by any requests
+     * waiting for one of its derivatives.
+     */
+    private static final class ImageJob {
+        private final CompletableFuture<Void> done = new CompletableFuture<>();
+        private boolean background;
+        private int waiters;
+        private boolean dropped;
+
+        /**
+         * @return false if the job has already been dropped and must not be joined.
+         */
+        private synchronized boolean attach(boolean background) {
+            if (dropped) {
+                return false;
+            }
+            if (background) {
+                this.background = true;
+            } else {
+                waiters++;
+            }
+            return true;
+        }
+
+        /**
+         * A waiter gave up; once nobody needs the result, the remaining work is dropped.
+         */
+        private synchronized void detach() {
+            if (--waiters == 0 && !background) {
+                dropped = true;
+            }
+        }
+
+        private synchronized boolean isDropped() {
+            return dropped;
+        }
+    }
+}
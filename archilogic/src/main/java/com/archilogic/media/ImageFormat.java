@@ -0,0 +1,87 @@
+/***********************************************************
+ * Copyright (c) 2025. All rights reserved to ArchiLogic.
+ * Developer: Nikhil Gadhavajula
+ **********************************************************/
+
+package com.archilogic.media;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * The image formats accepted for upload, recognised by their magic bytes rather than the client-supplied
+ * content type or file name. SVG is deliberately not accepted: it can carry scripts.
+ */
+public enum ImageFormat {
+
+    PNG("png", "image/png"),
+    JPEG("jpg", "image/jpeg"),
+    GIF("gif", "image/gif"),
+    WEBP("webp", "image/webp");
+
+    /**
+     * The number of leading bytes {@link #sniff} needs to see.
+     */
+    public static final int HEADER_LENGTH = 12;
+
+    private static final byte[] PNG_MAGIC = {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'};
+    private static final byte[] JPEG_MAGIC = {(byte) 0xFF, (byte) 0xD8, (byte) 0xFF};
+
+    private final String extension;
+    private final String contentType;
+
+    ImageFormat(String extension, String contentType) {
+        this.extension = extension;
+        this.contentType = contentType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    /**
+     * Detects the format from the first bytes of a file.
+     *
+     * @param header The leading bytes of the file.
+     * @param length How many bytes of {@code header} are valid.
+     * @return The format, or null if it is not an accepted image.
+     */
+    public static ImageFormat sniff(byte[] header, int length) {
+        if (startsWith(header, length, PNG_MAGIC)) {
+            return PNG;
+        }
+        if (startsWith(header, length, JPEG_MAGIC)) {
+            return JPEG;
+        }
+        if (startsWith(header, length, "GIF87a".getBytes(StandardCharsets.US_ASCII))
+                || startsWith(header, length, "GIF89a".getBytes(StandardCharsets.US_ASCII))) {
+            return GIF;
+        }
+        if (length >= 12 && startsWith(header, length, "RIFF".getBytes(StandardCharsets.US_ASCII))
+                && Arrays.equals(header, 8, 12, "WEBP".getBytes(StandardCharsets.US_ASCII), 0, 4)) {
+            return WEBP;
+        }
+        return null;
+    }
+
+    /**
+     * @param extension A file extension without the dot.
+     * @return The matching format, or null if unknown.
+     */
+    public static ImageFormat fromExtension(String extension) {
+        for (ImageFormat format : values()) {
+            if (format.extension.equals(extension)) {
+                return format;
+            }
+        }
+        return null;
+    }
+
+    private static boolean startsWith(byte[] header, int length, byte[] magic) {
+        return length >= magic.length && Arrays.equals(header, 0, magic.length, magic, 0, magic.length);
+    }
+}
@@ -0,0 +1,255 @@
+/***********************************************************
+ * Copyright (c) 2025. All rights reserved to ArchiLogic.
+ * Developer: Nikhil Gadhavajula
+ **********************************************************/
+
+package com.archilogic.media;
+
+import com.archilogic.exception.BadRequestException;
+import com.archilogic.exception.FileTooLargeException;
+import com.archilogic.exception.UnsupportedMediaException;
+import jakarta.annotation.PostConstruct;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.regex.Pattern;
+
+/**
+ * Content-addressed file store for uploaded media on the local disk.
+ * <p>
+ * A file is stored once under the hex SHA-256 of its bytes, fanned out over two directory levels
+ * ({@code ab/cd/abcd...ef.png}). Uploads are streamed through a fixed 64 KiB buffer into a temporary file while
+ * being hashed, then atomically renamed into place; if the same content is already stored, the copy is dropped.
+ * Stored files are never modified, which is what makes them safe to serve with immutable cache headers.
+ */
+@Component
+@Slf4j
+public class MediaStore {
+
+    private static final Pattern SHA256_HEX = Pattern.compile("[0-9a-f]{64}");
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    @Value("${archilogic.app.media.storageDir:./data/media}")
+    private String storageDir;
+
+    private Path root;
+    private Path tmp;
+
+    @PostConstruct
+    public void init() throws IOException {
+        root = Path.of(storageDir).toAbsolutePath().normalize();
+        tmp = root.resolve("tmp");
+        Files.createDirectories(tmp);
+        log.info("Media store at {}", root);
+    }
+
+    /**
+     * Copies an upload into a temporary file, hashing and sniffing it on the way.
+     *
+     * @param in       The upload stream; not closed.
+     * @param maxBytes The size limit; longer streams are rejected.
+     * @return The staged file; pass it to {@link #commit} and then {@link #discard}.
+     * @throws UnsupportedMediaException if the content is not an accepted image format.
+     * @throws FileTooLargeException     if the upload is larger than {@code maxBytes}.
+     * @throws BadRequestException       if the upload is empty.
+     */
+    public StagedFile stage(InputStream in, long maxBytes) throws IOException {
+        MessageDigest digest = sha256();
+        Path file = Files.createTempFile(tmp, "upload-", ".part");
+        try (OutputStream out = Files.newOutputStream(file)) {
+            byte[] buffer = new byte[BUFFER_SIZE];
+            ImageFormat format = null;
+            long size = 0;
+            int read;
+            while ((read = in.readNBytes(buffer, 0, buffer.length)) > 0) {
+                if (size == 0) {
+                    format = ImageFormat.sniff(buffer, read);
+                    if (format == null) {
+                        throw new UnsupportedMediaException("Error: Only PNG, JPEG, GIF and WebP images are accepted.");
+                    }
+                }
+                size += read;
+                if (size > maxBytes) {
+                    throw new FileTooLargeException("Error: The file exceeds the maximum size of " + maxBytes + " bytes.");
+                }
+                digest.update(buffer, 0, read);
+                out.write(buffer, 0, read);
+            }
+            if (size == 0) {
+                throw new BadRequestException("Error: The file is empty.");
+            }
+            return new StagedFile(file, HexFormat.of().formatHex(digest.digest()), format, size);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(file);
+            throw e;
+        }
+    }
+
+    /**
+     * Moves a staged file to its content address.
+     *
+     * @param staged The staged file.
+     * @return true if the content was already stored (the staged copy is then simply discarded).
+     */
+    public boolean commit(StagedFile staged) throws IOException {
+        Path target = resolve(staged.getSha256(), staged.getFormat());
+        if (Files.exists(target)) {
+            return true;
+        }
+        Files.createDirectories(target.getParent());
+        try {
+            Files.move(staged.getPath(), target, StandardCopyOption.ATOMIC_MOVE);
+            return false;
+        } catch (FileAlreadyExistsException e) {
+            return true; // A concurrent upload of the same content won the race.
+        }
+    }
+
+    /**
+     * Removes the temporary file of a staged upload, if it is still there.
+     */
+    public void discard(StagedFile staged) {
+        try {
+            Files.deleteIfExists(staged.getPath());
+        } catch (IOException e) {
+            log.warn("Could not delete staged upload {}: {}", staged.getPath(), e.getMessage());
+        }
+    }
+
+    /**
+     * Moves stored content and any files derived from it out of the store, into a holding directory from which
+     * it can still be {@linkplain #restore restored} or {@linkplain #purge purged}. Callers must hold the content
+     * lock and make sure nothing references the content any more.
+     *
+     * @param sha256 The content hash.
+     * @return The holding directory, or null if nothing was stored.
+     * @throws IOException if the files could not be moved; those already moved are put back.
+     */
+    public Path retire(String sha256) throws IOException {
+        Path directory = directoryOf(sha256);
+        if (!Files.isDirectory(directory)) {
+            return null;
+        }
+        Path retired = null;
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, sha256 + "*")) {
+            for (Path file : files) {
+                if (retired == null) {
+                    retired = Files.createTempDirectory(tmp, "retired-");
+                }
+                Files.move(file, retired.resolve(file.getFileName()), StandardCopyOption.ATOMIC_MOVE);
+            }
+        } catch (IOException e) {
+            if (retired != null) {
+                restore(retired, sha256);
+            }
+            throw e;
+        }
+        return retired;
+    }
+
+    /**
+     * Moves retired files back into the store, e.g. because the deleting transaction rolled back. Files that
+     * were stored again meanwhile are kept; their content is the same.
+     */
+    public void restore(Path retired, String sha256) throws IOException {
+        Path directory = directoryOf(sha256);
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(retired)) {
+            for (Path file : files) {
+                try {
+                    Files.move(file, directory.resolve(file.getFileName()), StandardCopyOption.ATOMIC_MOVE);
+                } catch (FileAlreadyExistsException e) {
+                    Files.deleteIfExists(file);
+                }
+            }
+        }
+        Files.deleteIfExists(retired);
+    }
+
+    /**
+     * Deletes retired files for good.
+     */
+    public void purge(Path retired) throws IOException {
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(retired)) {
+            for (Path file : files) {
+                Files.deleteIfExists(file);
+            }
+        }
+        Files.deleteIfExists(retired);
+    }
+
+    /**
+     * Finds the format under which content is stored.
+     *
+     * @param sha256 The content hash.
+     * @return The format, or null if no such content is stored.
+     */
+    public ImageFormat findFormat(String sha256) {
+        for (ImageFormat format : ImageFormat.values()) {
+            if (Files.isRegularFile(resolve(sha256, format))) {
+                return format;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Resolves the location of stored content.
+     *
+     * @param sha256 The lower-case hex SHA-256 of the content.
+     * @param format The image format.
+     * @return The path, which may not exist.
+     * @throws BadRequestException if the hash is malformed.
+     */
+    public Path resolve(String sha256, ImageFormat format) {
+        return directoryOf(sha256).resolve(sha256 + "." + format.getExtension());
+    }
+
+    /**
+     * The fan-out directory that holds the content with the given hash.
+     */
+    public Path directoryOf(String sha256) {
+        if (!SHA256_HEX.matcher(sha256).matches()) {
+            throw new BadRequestException("Error: Invalid content hash.");
+        }
+        return root.resolve(sha256.substring(0, 2)).resolve(sha256.substring(2, 4));
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    /**
+     * An upload that has been copied to a temporary file but not yet moved to its content address.
+     */
+    @Getter
+    public static final class StagedFile {
+        private final Path path;
+        private final String sha256;
+        private final ImageFormat format;
+        private final long size;
+
+        private StagedFile(Path path, String sha256, ImageFormat format, long size) {
+            this.path = path;
+            this.sha256 = sha256;
+            this.format = format;
+            this.size = size;
+        }
+    }
+}
@@ -0,0 +1,138 @@
+/***********************************************************
+ * Copyright (c) 2025. All rights reserved to ArchiLogic.
+ * Developer: Nikhil Gadhavajula
+ **********************************************************/
+
+package com.archilogic.repository;
+
+import com.archilogic.dto.ArticleFeedItem;
+import com.archilogic.entity.Article;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Spring Data JPA repository for the {@link Article} entity.
+ */
+@Repository
+public interface ArticleRepository extends JpaRepository<Article, Long> {
+
+    /**
+     * Fetches the positions of the first page of the public feed, newest first. Selects only indexed columns, so
+     * this is an index-only walk backwards on {@code idx_articles_feed} that stops after {@code limit} entries; the
+     * page is then hydrated by primary key with {@link #findFeedItemsByIds}.
+     *
+     * @param limit The page size.
+     * @return Up to {@code limit} positions.
+     */
+    @Query("SELECT a.id AS id, a.publishedAt AS publishedAt FROM Article a "
+            + "WHERE a.publishedAt IS NOT NULL "
+            + "ORDER BY a.publishedAt DESC, a.id DESC")
+    List<FeedPosition> findFeedPositions(Limit limit);
+
+    /**
+     * Fetches the positions of the page of the public feed that follows the given (publishedAt, id) position.
+     * The seek predicate is a single index-only range on {@code idx_articles_feed}, so the cost is the same on
+     * page 1 and page 10,000.
+     *
+     * @param publishedAt The publication time of the last article on the previous page.
+     * @param id          The id of the last article on the previous page.
+     * @param limit       The page size.
+     * @return Up to {@code limit} positions.
+     */
+    @Query("SELECT a.id AS id, a.publishedAt AS publishedAt FROM Article a "
+            + "WHERE a.publishedAt IS NOT NULL "
+            + "AND (a.publishedAt < :publishedAt OR (a.publishedAt = :publishedAt AND a.id < :id)) "
+            + "ORDER BY a.publishedAt DESC, a.id DESC")
+    List<FeedPosition> findFeedPositionsAfter(@Param("publishedAt") Instant publishedAt, @Param("id") Long id, Limit limit);
+
+    /**
+     * Fetches feed items for a known set of article ids, e.g. search hits or related articles.
+     * The caller is responsible for ordering.
+     *
+     * @param ids The article ids.
+     * @return The published articles among the given ids.
+     */
+    @Query("SELECT new com.archilogic.dto.ArticleFeedItem(a.id, a.title, a.slug, a.summary, a.tags, a.publishedAt, "
+            + "u.id, u.username, u.first_name, u.last_name) "
+            + "FROM Article a JOIN a.author u "
+            + "WHERE a.id IN :ids AND a.publishedAt IS NOT NULL")
+    List<ArticleFeedItem> findFeedItemsByIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Fetches the feed positions of the recent articles of a set of authors, newest first. Selects only indexed
+     * columns, so each author is a range on {@code idx_articles_author_feed} without touching the rows.
+     *
+     * @param authorIds The authors.
+     * @param since     Only articles published after this are returned.
+     * @param limit     The maximum number of articles.
+     * @return Up to {@code limit} positions.
+     */
+    @Query("SELECT a.id AS id, a.publishedAt AS publishedAt FROM Article a "
+            + "WHERE a.author.id IN :authorIds AND a.publishedAt > :since "
+            + "ORDER BY a.publishedAt DESC, a.id DESC")
+    List<FeedPosition> findFeedPositionsByAuthors(@Param("authorIds") Collection<Long> authorIds,
+                                                  @Param("since") Instant since, Limit limit);
+
+    /**
+     * Fetches the feed positions of a set of authors' published articles that follow the given (publishedAt, id)
+     * position, newest first. Selects only indexed columns, so each author is a range on
+     * {@code idx_articles_author_feed} without touching the rows.
+     *
+     * @param authorIds   The authors.
+     * @param publishedAt The publication time of the last article already seen.
+     * @param id          The id of the last article already seen.
+     * @param limit       The maximum number of positions.
+     * @return Up to {@code limit} positions.
+     */
+    @Query("SELECT a.id AS id, a.publishedAt AS publishedAt FROM Article a "
+            + "WHERE a.author.id IN :authorIds AND a.publishedAt IS NOT NULL "
+            + "AND (a.publishedAt < :publishedAt OR (a.publishedAt = :publishedAt AND a.id < :id)) "
+            + "ORDER BY a.publishedAt DESC, a.id DESC")
+    List<FeedPosition> findFeedPositionsByAuthorsBefore(@Param("authorIds") Collection<Long> authorIds,
+                                                        @Param("publishedAt") Instant publishedAt,
+                                                        @Param("id") Long id, Limit limit);
+
+    /**
+     * Fetches the next chunk of published articles in id order, for batch jobs such as index rebuilds.
+     *
+     * @param afterId Only articles with an id greater than this are returned.
+     * @param limit   The chunk size.
+     * @return Up to {@code limit} published articles.
+     */
+    @Query("SELECT a FROM Article a WHERE a.id > :afterId AND a.publishedAt IS NOT NULL ORDER BY a.id")
+    List<Article> findPublishedAfter(@Param("afterId") Long afterId, Limit limit);
+
+    /**
+     * Counts the published articles; an index-only scan of {@code idx_articles_feed}.
+     *
+     * @return The number of published articles.
+     */
+    @Query("SELECT COUNT(a) FROM Article a WHERE a.publishedAt IS NOT NULL")
+    long countPublished();
+
+    /**
+     * Loads an article together with its author.
+     *
+     * @param id The article id.
+     * @return The article, if found.
+     */
+    @Query("SELECT a FROM Article a JOIN FETCH a.author WHERE a.id = :id")
+    Optional<Article> findWithAuthorById(@Param("id") Long id);
+
+    /**
+     * The position of an article in a feed ordered by {@code (published_at, id)}.
+     */
+    interface FeedPosition {
+        Long getId();
+
+        Instant getPublishedAt();
+    }
+}
@@ -0,0 +1,35 @@
+/***********************************************************
+ * Copyright (c) 2025. All rights reserved to ArchiLogic.
+ * Developer: Nikhil Gadhavajula
+ **********************************************************/
+
+package com.archilogic.repository;
+
+import com.archilogic.dto.ArticleFeedItem;
+import com.archilogic.entity.ArticleStats;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Spring Data JPA repository for the {@link ArticleStats} entity.
+ */
+@Repository
+public interface ArticleStatsRepository extends JpaRepository<ArticleStats, Long> {
+
+    /**
+     * Fetches the currently trending published articles, walking {@code idx_article_stats_trending} backwards.
+     *
+     * @param limit The number of articles.
+     * @return Up to {@code limit} articles, most trending first.
+     */
+    @Query("SELECT new com.archilogic.dto.ArticleFeedItem(a.id, a.title, a.slug, a.summary, a.tags, a.publishedAt, "
+            + "u.id, u.username, u.first_name, u.last_name) "
+            + "FROM ArticleStats s JOIN Article a ON a.id = s.articleId JOIN a.author u "
+            + "WHERE a.publishedAt IS NOT NULL "
+            + "ORDER BY s.trendingScore DESC")
+    List<ArticleFeedItem> findTrending(Limit limit);
+}
@@ -0,0 +1,37 @@
+/***********************************************************
+ * Copyright (c) 2025. All rights reserved to ArchiLogic.
+ * Developer: Nikhil Gadhavajula
+ **********************************************************/
+
+package com.archilogic.repository;
+
+import com.archilogic.entity.Comment;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+
+/**
+ * Spring Data JPA repository for the {@link Comment} entity.
+ * Thread reads go through {@code CommentService}, which loads whole trees with a single SQL query.
+ */
+@Repository
+public interface CommentRepository extends JpaRepository<Comment, Long> {
+
+    /**
+     * Accounts for a new reply on all its ancestors in one statement: every ancestor gains a descendant,
+     * and the direct parent also gains a reply.
+     *
+     * @param parentId    The id of the direct parent.
+     * @param ancestorIds The ids of all ancestors, including the parent.
+     * @return The number of updated rows.
+     */
+    @Modifying
+    @Query("UPDATE Comment c SET c.descendantCount = c.descendantCount + 1, "
+            + "c.replyCount = c.replyCount + CASE WHEN c.id = :parentId THEN 1 ELSE 0 END "
+            + "WHERE c.id IN :ancestorIds")
+    int incrementReplyCounts(@Param("parentId") Long parentId, @Param("ancestorIds") Collection<Long> ancestorIds);
+}
@@ -0,0 +1,65 @@
+/***********************************************************
+ * Copyright (c) 2025. All rights reserved to ArchiLogic.
+ * Developer: Nikhil Gadhavajula
+ **********************************************************/
+
+package com.archilogic.repository;
+
+import com.archilogic.entity.DraftDelta;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Spring Data JPA repository for the append-only {@link DraftDelta} log.
+ */
+@Repository
+public interface DraftDeltaRepository extends JpaRepository<DraftDelta, DraftDelta.Key> {
+
+    /**
+     * Appends one delta.
+     *
+     * @return The number of inserted rows.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO draft_deltas (draft_id, revision, patch, created_at) VALUES (:draftId, :revision, :patch, :now)",
+            nativeQuery = true)
+    int append(@Param("draftId") Long draftId, @Param("revision") long revision, @Param("patch") byte[] patch,
+               @Param("now") Instant now);
+
+    /**
+     * Fetches the deltas after a snapshot, in the order they must be applied; a range on the primary key.
+     *
+     * @param draftId       The draft.
+     * @param afterRevision The snapshot revision.
+     * @param upToRevision  The revision to rebuild.
+     * @return The deltas.
+     */
+    @Query("SELECT d.revision AS revision, d.patch AS patch FROM DraftDelta d "
+            + "WHERE d.draftId = :draftId AND d.revision > :afterRevision AND d.revision <= :upToRevision ORDER BY d.revision")
+    List<DeltaView> findRange(@Param("draftId") Long draftId, @Param("afterRevision") long afterRevision,
+                              @Param("upToRevision") long upToRevision);
+
+    /**
+     * Removes the deltas a snapshot has absorbed.
+     *
+     * @return The number of removed rows.
+     */
+    @Modifying
+    @Query(value = "DELETE FROM draft_deltas WHERE draft_id = :draftId AND revision <= :revision", nativeQuery = true)
+    int deleteUpTo(@Param("draftId") Long draftId, @Param("revision") long revision);
+
+    /**
+     * One stored delta.
+     */
+    interface DeltaView {
+        long getRevision();
+
+        byte[] getPatch();
+    }
+}
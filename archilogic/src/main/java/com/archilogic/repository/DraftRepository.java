@@ -0,0 +1,73 @@
+/***********************************************************
+ * Copyright (c) 2025. All rights reserved to ArchiLogic.
+ * Developer: Nikhil Gadhavajula
+ **********************************************************/
+
+package com.archilogic.repository;
+
+import com.archilogic.entity.Draft;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Spring Data JPA repository for the {@link Draft} entity. Saves go through the conditional update below rather
+ * than through the entity, so each one writes only the revision, the timestamp and the metadata.
+ */
+@Repository
+public interface DraftRepository extends JpaRepository<Draft, Long> {
+
+    /**
+     * Lists a user's drafts, most recently saved first, without their bodies.
+     *
+     * @param ownerId The owner.
+     * @param limit   The maximum number of drafts.
+     * @return The drafts.
+     */
+    @Query("SELECT d.id AS id, d.articleId AS articleId, d.title AS title, d.revision AS revision, "
+            + "d.updatedAt AS updatedAt FROM Draft d WHERE d.ownerId = :ownerId ORDER BY d.updatedAt DESC")
+    List<DraftSummaryView> findSummariesByOwnerId(@Param("ownerId") Long ownerId, Limit limit);
+
+    /**
+     * Advances a draft by one revision, but only if it still is at the revision the editor started from.
+     * Null metadata values keep the stored ones.
+     *
+     * @return 1 on success, 0 if the draft moved on, does not exist or belongs to someone else.
+     */
+    @Modifying
+    @Query(value = "UPDATE drafts SET revision = revision + 1, updated_at = :now, "
+            + "title = COALESCE(:title, title), summary = COALESCE(:summary, summary), tags = COALESCE(:tags, tags) "
+            + "WHERE id = :id AND owner_id = :ownerId AND revision = :baseRevision", nativeQuery = true)
+    int advanceRevision(@Param("id") Long id, @Param("ownerId") Long ownerId, @Param("baseRevision") long baseRevision,
+                        @Param("title") String title, @Param("summary") String summary, @Param("tags") String tags,
+                        @Param("now") Instant now);
+
+    /**
+     * Reads the current revision of a draft straight from the database.
+     *
+     * @return The revision, or null if the draft does not exist.
+     */
+    @Query(value = "SELECT revision FROM drafts WHERE id = :id", nativeQuery = true)
+    Long findRevision(@Param("id") Long id);
+
+    /**
+     * Lightweight projection of a draft for listings.
+     */
+    interface DraftSummaryView {
+        Long getId();
+
+        Long getArticleId();
+
+        String getTitle();
+
+        long getRevision();
+
+        Instant getUpdatedAt();
+    }
+}
@@ -0,0 +1,50 @@
+/***********************************************************
+ * Copyright (c) 2025. All rights reserved to ArchiLogic.
+ * Developer: Nikhil Gadhavajula
+ **********************************************************/
+
+package com.archilogic.repository;
+
+import com.archilogic.entity.DraftSnapshot;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Spring Data JPA repository for {@link DraftSnapshot}. Writes are native statements, so creating a snapshot
+ * doesn't read the row first.
+ */
+@Repository
+public interface DraftSnapshotRepository extends JpaRepository<DraftSnapshot, Long> {
+
+    /**
+     * Stores the first snapshot of a new draft.
+     *
+     * @return The number of inserted rows.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO draft_snapshots (draft_id, revision, body) VALUES (:draftId, :revision, :body)",
+            nativeQuery = true)
+    int insert(@Param("draftId") Long draftId, @Param("revision") long revision, @Param("body") String body);
+
+    /**
+     * Replaces the snapshot with the full body at a newer revision.
+     *
+     * @return The number of updated rows.
+     */
+    @Modifying
+    @Query(value = "UPDATE draft_snapshots SET body = :body, revision = :revision "
+            + "WHERE draft_id = :draftId AND revision < :revision", nativeQuery = true)
+    int replace(@Param("draftId") Long draftId, @Param("revision") long revision, @Param("body") String body);
+
+    /**
+     * Removes the snapshot of a deleted draft.
+     *
+     * @return The number of removed rows.
+     */
+    @Modifying
+    @Query(value = "DELETE FROM draft_snapshots WHERE draft_id = :draftId", nativeQuery = true)
+    int deleteByDraft(@Param("draftId") Long draftId);
+}
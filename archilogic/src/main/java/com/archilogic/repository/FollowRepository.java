@@ -0,0 +1,82 @@
+/***********************************************************
+ * Copyright (c) 2025. All rights reserved to ArchiLogic.
+ * Developer: Nikhil Gadhavajula
+ **********************************************************/
+
+package com.archilogic.repository;
+
+import com.archilogic.entity.Follow;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Spring Data JPA repository for the {@link Follow} entity.
+ */
+@Repository
+public interface FollowRepository extends JpaRepository<Follow, Follow.Key> {
+
+    /**
+     * Inserts a follow edge unless it already exists.
+     *
+     * @param followerId The following user.
+     * @param authorId   The followed user.
+     * @return 1 if the edge was created, 0 if it already existed.
+     */
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO follows (follower_id, author_id, created_at) VALUES (:followerId, :authorId, NOW(6))",
+            nativeQuery = true)
+    int insertIfAbsent(@Param("followerId") Long followerId, @Param("authorId") Long authorId);
+
+    /**
+     * Removes a follow edge.
+     *
+     * @param followerId The following user.
+     * @param authorId   The followed user.
+     * @return 1 if the edge was removed, 0 if it did not exist.
+     */
+    @Modifying
+    @Query(value = "DELETE FROM follows WHERE follower_id = :followerId AND author_id = :authorId", nativeQuery = true)
+    int deleteEdge(@Param("followerId") Long followerId, @Param("authorId") Long authorId);
+
+    /**
+     * Fetches the next batch of an author's followers in id order; a range on {@code idx_follows_author}.
+     *
+     * @param authorId The followed user.
+     * @param afterId  Only followers with an id greater than this are returned.
+     * @param limit    The batch size.
+     * @return Up to {@code limit} follower ids.
+     */
+    @Query(value = "SELECT follower_id FROM follows WHERE author_id = :authorId AND follower_id > :afterId "
+            + "ORDER BY follower_id LIMIT :limit", nativeQuery = true)
+    List<Long> findFollowerIdsAfter(@Param("authorId") Long authorId, @Param("afterId") long afterId, @Param("limit") int limit);
+
+    /**
+     * Lists the users followed by a user, each with their current follower count, the most recently published
+     * first so that the limit keeps the active authors. The latest publication of each author is one lookup on
+     * {@code idx_articles_author_feed}.
+     *
+     * @param followerId The following user.
+     * @param limit      The maximum number of rows.
+     * @return The followed users.
+     */
+    @Query(value = "SELECT f.author_id AS authorId, u.follower_count AS followerCount "
+            + "FROM follows f JOIN users u ON u.id = f.author_id "
+            + "WHERE f.follower_id = :followerId "
+            + "ORDER BY (SELECT MAX(a.published_at) FROM articles a WHERE a.author_id = f.author_id) DESC, "
+            + "f.author_id LIMIT :limit", nativeQuery = true)
+    List<FollowedAuthor> findFollowedAuthors(@Param("followerId") Long followerId, @Param("limit") int limit);
+
+    /**
+     * A followed user and their follower count.
+     */
+    interface FollowedAuthor {
+        Long getAuthorId();
+
+        long getFollowerCount();
+    }
+}
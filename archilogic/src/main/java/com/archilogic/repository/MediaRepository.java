@@ -0,0 +1,62 @@
+/***********************************************************
+ * Copyright (c) 2025. All rights reserved to ArchiLogic.
+ * Developer: Nikhil Gadhavajula
+ **********************************************************/
+
+package com.archilogic.repository;
+
+import com.archilogic.entity.Media;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+/**
+ * Spring Data JPA repository for the {@link Media} entity.
+ */
+@Repository
+public interface MediaRepository extends JpaRepository<Media, Long> {
+
+    /**
+     * Finds the media row of a user for a given content hash, i.e. whether they already uploaded this file.
+     *
+     * @param ownerId The owner's id.
+     * @param sha256  The content hash.
+     * @return The media row, if any.
+     */
+    @Query("SELECT m FROM Media m WHERE m.owner.id = :ownerId AND m.sha256 = :sha256")
+    Optional<Media> findByOwnerAndSha256(@Param("ownerId") Long ownerId, @Param("sha256") String sha256);
+
+    /**
+     * Takes the exclusive content lock of a hash until the end of the transaction, creating its row if needed.
+     * An upsert rather than {@code SELECT ... FOR UPDATE}, which would lock nothing for a missing row.
+     *
+     * @param sha256 The content hash.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO media_content (sha256) VALUES (:sha256) ON DUPLICATE KEY UPDATE sha256 = sha256",
+            nativeQuery = true)
+    void lockContent(@Param("sha256") String sha256);
+
+    /**
+     * Removes the content lock row of content that is gone; called under that lock.
+     *
+     * @param sha256 The content hash.
+     */
+    @Modifying
+    @Query(value = "DELETE FROM media_content WHERE sha256 = :sha256", nativeQuery = true)
+    void deleteContent(@Param("sha256") String sha256);
+
+    /**
+     * Checks whether any user still references the given content. A locking read, so it sees rows committed
+     * after this transaction's snapshot was taken, such as an upload that held the content lock just before.
+     *
+     * @param sha256 The content hash.
+     * @return The id of one media row pointing to it, or null.
+     */
+    @Query(value = "SELECT id FROM media WHERE sha256 = :sha256 LIMIT 1 FOR SHARE", nativeQuery = true)
+    Long findAnyIdBySha256ForShare(@Param("sha256") String sha256);
+}
@@ -5,13 +5,23 @@
 
 package com.archilogic.repository;
 
+import com.archilogic.entity.ERole;
 import com.archilogic.entity.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Spring Data JPA repository for the {@link User} entity.
@@ -47,4 +57,176 @@ public interface UserRepository extends JpaRepository<User, Long> {
      * @return true if a user with the email exists, false otherwise.
      */
     Boolean existsByEmail(String email);
+
+    /**
+     * Streams the username and email of every user without loading full entities.
+     * Used to (re)build the in-memory availability filters. Must be consumed inside a
+     * read-only transaction and closed after use. Connector/J streams the rows one by one, so the
+     * transaction must not run other statements until the stream is closed.
+     *
+     * @return A forward-only stream of username/email pairs.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE))
+    @Query("SELECT u.username AS username, u.email AS email FROM User u")
+    Stream<UserIdentity> streamAllIdentities();
+
+    /**
+     * Fetches one page of users using keyset (seek) pagination on the primary key.
+     * Unlike OFFSET paging, the cost of a page does not grow with its depth: MySQL seeks
+     * directly to {@code afterId} in the clustered index.
+     *
+     * @param afterId     Only users with an id greater than this are returned (use 0 for the first page).
+     * @param role        Optional role filter, or null for all users.
+     * @param createdFrom Optional inclusive lower bound on the creation time, or null.
+     * @param createdTo   Optional exclusive upper bound on the creation time, or null.
+     * @param limit       The maximum number of users to return.
+     * @return Up to {@code limit} users ordered by id.
+     */
+    @Query("SELECT u.id AS id, u.username AS username, u.email AS email, u.first_name AS firstName, "
+            + "u.last_name AS lastName, u.createdAt AS createdAt FROM User u "
+            + "WHERE u.id > :afterId "
+            + "AND (:role IS NULL OR EXISTS (SELECT r.id FROM u.roles r WHERE r.name = :role)) "
+            + "AND (:createdFrom IS NULL OR u.createdAt >= :createdFrom) "
+            + "AND (:createdTo IS NULL OR u.createdAt < :createdTo) "
+            + "ORDER BY u.id")
+    List<UserSummary> findPageAfter(@Param("afterId") long afterId,
+                                    @Param("role") ERole role,
+                                    @Param("createdFrom") Instant createdFrom,
+                                    @Param("createdTo") Instant createdTo,
+                                    Limit limit);
+
+    /**
+     * Loads the role names of several users in a single query, to decorate a page of {@link UserSummary}.
+     *
+     * @param userIds The ids of the users.
+     * @return One row per (user, role) pair.
+     */
+    @Query("SELECT u.id AS userId, r.name AS role FROM User u JOIN u.roles r WHERE u.id IN :userIds")
+    List<UserRoleView> findRolesByUserIds(@Param("userIds") Collection<Long> userIds);
+
+    /**
+     * Atomically reserves media storage for a user if it fits their quota. The check and the increment are a
+     * single statement, so concurrent uploads cannot both squeeze under the limit.
+     *
+     * @param userId The user.
+     * @param bytes  The number of bytes to reserve.
+     * @param quota  The user's quota in bytes.
+     * @return 1 if reserved, 0 if the quota would be exceeded.
+     */
+    @Modifying
+    @Query(value = "UPDATE users SET media_bytes_used = media_bytes_used + :bytes "
+            + "WHERE id = :userId AND media_bytes_used + :bytes <= :quota", nativeQuery = true)
+    int reserveMediaBytes(@Param("userId") Long userId, @Param("bytes") long bytes, @Param("quota") long quota);
+
+    /**
+     * Returns media storage to a user's quota.
+     *
+     * @param userId The user.
+     * @param bytes  The number of bytes to release.
+     * @return The number of updated rows.
+     */
+    @Modifying
+    @Query(value = "UPDATE users SET media_bytes_used = GREATEST(media_bytes_used - :bytes, 0) WHERE id = :userId",
+            nativeQuery = true)
+    int releaseMediaBytes(@Param("userId") Long userId, @Param("bytes") long bytes);
+
+    /**
+     * Reads the current media usage of a user straight from the database.
+     *
+     * @param userId The user.
+     * @return The bytes used.
+     */
+    @Query(value = "SELECT media_bytes_used FROM users WHERE id = :userId", nativeQuery = true)
+    long findMediaBytesUsed(@Param("userId") Long userId);
+
+    /**
+     * Adjusts the follower count of a user.
+     *
+     * @param userId The followed user.
+     * @param delta  +1 for a new follower, -1 for a lost one.
+     * @return The number of updated rows.
+     */
+    @Modifying
+    @Query(value = "UPDATE users SET follower_count = GREATEST(follower_count + :delta, 0) WHERE id = :userId",
+            nativeQuery = true)
+    int adjustFollowerCount(@Param("userId") Long userId, @Param("delta") long delta);
+
+    /**
+     * Reads the current follower count of a user straight from the database.
+     *
+     * @param userId The user.
+     * @return The number of followers.
+     */
+    @Query(value = "SELECT follower_count FROM users WHERE id = :userId", nativeQuery = true)
+    long findFollowerCount(@Param("userId") Long userId);
+
+    /**
+     * Finds a user by email address.
+     *
+     * @param email The email address.
+     * @return The user, if one is registered with that address.
+     */
+    Optional<User> findByEmail(String email);
+
+    /**
+     * Records that a user confirmed their email address, unless it was already confirmed.
+     *
+     * @param userId     The user.
+     * @param verifiedAt The time of confirmation.
+     * @return The number of updated rows.
+     */
+    @Modifying
+    @Query(value = "UPDATE users SET email_verified_at = :verifiedAt WHERE id = :userId AND email_verified_at IS NULL",
+            nativeQuery = true)
+    int markEmailVerified(@Param("userId") Long userId, @Param("verifiedAt") Instant verifiedAt);
+
+    /**
+     * Replaces a user's password hash, but only if it still is the one the caller read. This makes a password-reset
+     * link single-use and lets only one of two concurrent resets win.
+     *
+     * @param userId          The user.
+     * @param expectedHash    The hash the reset was issued against.
+     * @param newPasswordHash The new hash.
+     * @return 1 if the password was changed, 0 if it had changed in the meantime.
+     */
+    @Modifying
+    @Query(value = "UPDATE users SET password = :newPasswordHash WHERE id = :userId AND password = :expectedHash",
+            nativeQuery = true)
+    int replacePassword(@Param("userId") Long userId, @Param("expectedHash") String expectedHash,
+                        @Param("newPasswordHash") String newPasswordHash);
+
+    /**
+     * Lightweight projection of the unique identifiers of a user.
+     */
+    interface UserIdentity {
+        String getUsername();
+
+        String getEmail();
+    }
+
+    /**
+     * Projection of the non-sensitive columns of a user, used for admin listings.
+     */
+    interface UserSummary {
+        Long getId();
+
+        String getUsername();
+
+        String getEmail();
+
+        String getFirstName();
+
+        String getLastName();
+
+        Instant getCreatedAt();
+    }
+
+    /**
+     * A single (user, role) assignment.
+     */
+    interface UserRoleView {
+        Long getUserId();
+
+        ERole getRole();
+    }
 }
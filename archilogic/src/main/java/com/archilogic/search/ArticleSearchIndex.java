@@ -0,0 +1,427 @@
+/***********************************************************
+ * Copyright (c) 2025. All rights reserved to ArchiLogic.
+ * Developer: Nikhil Gadhavajula
+ **********************************************************/
+
+package com.archilogic.search;
+
+import com.archilogic.entity.Article;
+import com.archilogic.event.ArticleChangedEvent;
+import com.archilogic.exception.BadRequestException;
+import com.archilogic.repository.ArticleRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.en.EnglishAnalyzer;
+import org.apache.lucene.analysis.miscellaneous.PerFieldAnalyzerWrapper;
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.FieldType;
+import org.apache.lucene.document.LongPoint;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexOptions;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.queryparser.classic.MultiFieldQueryParser;
+import org.apache.lucene.queryparser.classic.ParseException;
+import org.apache.lucene.queryparser.classic.QueryParser;
+import org.apache.lucene.queryparser.classic.QueryParserBase;
+import org.apache.lucene.search.ControlledRealTimeReopenThread;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.uhighlight.DefaultPassageFormatter;
+import org.apache.lucene.search.uhighlight.UnifiedHighlighter;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Embedded Lucene index over published articles.
+ * <p>
+ * The index lives on local disk and is kept up to date incrementally: every committed {@link ArticleChangedEvent}
+ * upserts (or, for drafts, removes) one document on a dedicated writer thread, and a near-real-time reopen thread
+ * makes the change searchable within {@code maxStaleMs} without an fsync. Segments are committed to disk
+ * periodically, and every commit records whether it is the final one of a clean shutdown. On startup the index is
+ * rebuilt if that marker is missing (a crash lost whatever was newer than the last commit) or if its document
+ * count differs from the number of published articles in the database.
+ * <p>
+ * A rebuild re-indexes every published article from the database in id order while queries keep being served
+ * from the existing documents. Each document carries the generation that wrote it, so once the scan is done
+ * everything older (articles deleted or unpublished meanwhile) is dropped in one delete-by-range.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ArticleSearchIndex {
+
+    private static final String FIELD_ID = "id";
+    private static final String FIELD_GENERATION = "gen";
+    private static final String FIELD_TITLE = "title";
+    private static final String FIELD_SUMMARY = "summary";
+    private static final String FIELD_BODY = "body";
+    private static final String FIELD_TAGS = "tags";
+
+    /**
+     * Commit user data key: "true" only on the commit made by {@link #close()}.
+     */
+    private static final String CLEAN_SHUTDOWN = "cleanShutdown";
+
+    private static final Map<String, Float> BOOSTS = Map.of(
+            FIELD_TITLE, 3.0f,
+            FIELD_TAGS, 2.0f,
+            FIELD_SUMMARY, 1.5f,
+            FIELD_BODY, 1.0f);
+
+    /**
+     * Body text indexed with offsets in the postings, so the highlighter doesn't have to re-analyze the article.
+     */
+    private static final FieldType BODY_TYPE = new FieldType(TextField.TYPE_STORED);
+
+    static {
+        BODY_TYPE.setIndexOptions(IndexOptions.DOCS_AND_FREQS_AND_POSITIONS_AND_OFFSETS);
+        BODY_TYPE.freeze();
+    }
+
+    private final ArticleRepository articleRepository;
+
+    @Value("${archilogic.app.search.indexDir:./data/search-index}")
+    private String indexDir;
+
+    @Value("${archilogic.app.search.maxStaleMs:1000}")
+    private long maxStaleMs;
+
+    @Value("${archilogic.app.search.maxResultWindow:1000}")
+    private int maxResultWindow;
+
+    @Value("${archilogic.app.search.rebuildBatchSize:500}")
+    private int rebuildBatchSize;
+
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+    private final Set<Long> touchedDuringRebuild = ConcurrentHashMap.newKeySet();
+
+    private Analyzer analyzer;
+    private Directory directory;
+    private IndexWriter writer;
+    private SearcherManager searcherManager;
+    private ControlledRealTimeReopenThread<IndexSearcher> reopenThread;
+    private ExecutorService indexExecutor;
+
+    /**
+     * The generation stamped on documents written now; bumped at the start of every rebuild.
+     */
+    private volatile long generation;
+
+    /**
+     * Whether the index was last committed by a clean shutdown, as found on startup.
+     */
+    private boolean openedClean;
+
+    @PostConstruct
+    public void open() throws IOException {
+        analyzer = new PerFieldAnalyzerWrapper(new EnglishAnalyzer(), Map.of(FIELD_TAGS, new StandardAnalyzer()));
+        directory = FSDirectory.open(Path.of(indexDir));
+        IndexWriterConfig config = new IndexWriterConfig(analyzer)
+                .setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND);
+        writer = new IndexWriter(directory, config);
+        openedClean = false;
+        Iterable<Map.Entry<String, String>> commitData = writer.getLiveCommitData();
+        if (commitData != null) {
+            for (Map.Entry<String, String> entry : commitData) {
+                openedClean |= CLEAN_SHUTDOWN.equals(entry.getKey()) && "true".equals(entry.getValue());
+            }
+        }
+        // Every commit until the next clean shutdown is marked unclean.
+        writer.setLiveCommitData(Map.of(CLEAN_SHUTDOWN, "false").entrySet());
+        searcherManager = new SearcherManager(writer, null);
+
+        double maxStaleSec = maxStaleMs / 1000.0;
+        reopenThread = new ControlledRealTimeReopenThread<>(writer, searcherManager, maxStaleSec, Math.min(0.025, maxStaleSec));
+        reopenThread.setName("search-nrt-reopen");
+        reopenThread.setDaemon(true);
+        reopenThread.start();
+
+        indexExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "search-indexer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        generation = System.currentTimeMillis();
+        log.info("Search index opened at {} with {} document(s)", Path.of(indexDir).toAbsolutePath(), writer.getDocStats().numDocs);
+    }
+
+    @PreDestroy
+    public void close() throws IOException, InterruptedException {
+        indexExecutor.shutdown();
+        indexExecutor.awaitTermination(10, TimeUnit.SECONDS);
+        reopenThread.close();
+        searcherManager.close();
+        writer.setLiveCommitData(Map.of(CLEAN_SHUTDOWN, "true").entrySet());
+        writer.commit();
+        writer.close();
+        directory.close();
+    }
+
+    /**
+     * Rebuilds the index on startup unless it was closed cleanly and holds one document per published article:
+     * on first start, after the index directory was removed, after a crash, or when the count no longer matches
+     * the database (e.g. articles were published while this node was down).
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildIfStale() {
+        long documents = writer.getDocStats().numDocs;
+        long published = articleRepository.countPublished();
+        if (!openedClean || documents != published) {
+            log.info("Rebuilding search index: {} shutdown, {} document(s) for {} published article(s)",
+                    openedClean ? "clean" : "unclean", documents, published);
+            rebuildAsync();
+        }
+    }
+
+    /**
+     * Applies a committed article change to the index.
+     */
+    @TransactionalEventListener
+    public void onArticleChanged(ArticleChangedEvent event) {
+        indexExecutor.execute(() -> {
+            if (rebuilding.get()) {
+                touchedDuringRebuild.add(event.getArticleId());
+            }
+            try {
+                if (event.isPublished()) {
+                    writer.updateDocument(idTerm(event.getArticleId()), toDocument(event.getArticleId(), event.getTitle(),
+                            event.getSummary(), event.getBody(), event.getTags(), generation));
+                } else {
+                    writer.deleteDocuments(idTerm(event.getArticleId()));
+                }
+            } catch (IOException | RuntimeException e) {
+                log.error("Failed to index article {}: {}", event.getArticleId(), e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * Starts a background rebuild from the database. Queries are served from the current index meanwhile.
+     *
+     * @return false if a rebuild is already running.
+     */
+    public boolean rebuildAsync() {
+        if (!rebuilding.compareAndSet(false, true)) {
+            return false;
+        }
+        Thread thread = new Thread(this::rebuild, "search-rebuild");
+        thread.setDaemon(true);
+        thread.start();
+        return true;
+    }
+
+    /**
+     * @return true while a rebuild is running.
+     */
+    public boolean isRebuilding() {
+        return rebuilding.get();
+    }
+
+    private void rebuild() {
+        long started = System.nanoTime();
+        long rebuildGeneration = System.currentTimeMillis();
+        generation = rebuildGeneration;
+        touchedDuringRebuild.clear();
+        try {
+            long indexed = 0;
+            long afterId = 0;
+            List<Article> chunk;
+            do {
+                chunk = articleRepository.findPublishedAfter(afterId, Limit.of(rebuildBatchSize));
+                for (Article article : chunk) {
+                    writer.updateDocument(idTerm(article.getId()), toDocument(article.getId(), article.getTitle(),
+                            article.getSummary(), article.getBody(), article.getTags(), rebuildGeneration));
+                    afterId = article.getId();
+                }
+                indexed += chunk.size();
+            } while (chunk.size() == rebuildBatchSize);
+
+            // Anything not rewritten by this scan no longer exists as a published article.
+            writer.deleteDocuments(LongPoint.newRangeQuery(FIELD_GENERATION, Long.MIN_VALUE, rebuildGeneration - 1));
+            rebuilding.set(false);
+            reconcileTouched();
+            writer.commit();
+            searcherManager.maybeRefresh();
+            log.info("Search index rebuilt: {} article(s) in {} ms", indexed,
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+        } catch (IOException | RuntimeException e) {
+            log.error("Search index rebuild failed: {}", e.getMessage(), e);
+        } finally {
+            rebuilding.set(false);
+        }
+    }
+
+    /**
+     * The scan may have overwritten a live update with an older copy of the same article; re-read those from
+     * the database now that no stale writes can follow.
+     */
+    private void reconcileTouched() {
+        List<Long> ids = new ArrayList<>(touchedDuringRebuild);
+        touchedDuringRebuild.clear();
+        if (ids.isEmpty()) {
+            return;
+        }
+        indexExecutor.execute(() -> {
+            try {
+                for (Long id : ids) {
+                    Article article = articleRepository.findById(id).filter(Article::isPublished).orElse(null);
+                    if (article == null) {
+                        writer.deleteDocuments(idTerm(id));
+                    } else {
+                        writer.updateDocument(idTerm(id), toDocument(id, article.getTitle(), article.getSummary(),
+                                article.getBody(), article.getTags(), generation));
+                    }
+                }
+            } catch (IOException | RuntimeException e) {
+                log.error("Failed to reconcile {} article(s) after rebuild: {}", ids.size(), e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * Persists pending changes. NRT readers don't need this; it only bounds what is lost on a crash.
+     */
+    @Scheduled(fixedDelayString = "${archilogic.app.search.commitIntervalMs:30000}")
+    public void commit() {
+        if (!writer.hasUncommittedChanges()) {
+            return;
+        }
+        try {
+            writer.commit();
+        } catch (IOException e) {
+            log.error("Failed to commit search index: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Runs a query against the latest near-real-time snapshot of the index.
+     *
+     * @param queryText User input. Lucene syntax is accepted; anything that fails to parse is searched literally.
+     * @param offset    The number of leading hits to skip.
+     * @param size      The maximum number of hits to return.
+     * @return The hits in the requested window, best first, with body highlights.
+     * @throws BadRequestException if the window goes past {@code maxResultWindow}.
+     */
+    public Result search(String queryText, int offset, int size) {
+        if (offset + size > maxResultWindow) {
+            throw new BadRequestException("Error: Search results are limited to the first " + maxResultWindow + " hits.");
+        }
+        Query query = parse(queryText);
+        try {
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                TopDocs top = searcher.search(query, offset + size);
+                if (top.scoreDocs.length <= offset) {
+                    return new Result(List.of(), top.totalHits.value);
+                }
+                ScoreDoc[] window = Arrays.copyOfRange(top.scoreDocs, offset, top.scoreDocs.length);
+                String[] highlights = highlighter(searcher).highlight(FIELD_BODY, query, new TopDocs(top.totalHits, window), 2);
+
+                List<Hit> hits = new ArrayList<>(window.length);
+                for (int i = 0; i < window.length; i++) {
+                    String id = searcher.storedFields().document(window[i].doc, Set.of(FIELD_ID)).get(FIELD_ID);
+                    hits.add(new Hit(Long.parseLong(id), window[i].score, highlights[i]));
+                }
+                return new Result(hits, top.totalHits.value);
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Query parse(String queryText) {
+        MultiFieldQueryParser parser = new MultiFieldQueryParser(BOOSTS.keySet().toArray(String[]::new), analyzer, BOOSTS);
+        parser.setDefaultOperator(QueryParser.Operator.AND);
+        try {
+            return parser.parse(queryText);
+        } catch (ParseException e) {
+            try {
+                return parser.parse(QueryParserBase.escape(queryText));
+            } catch (ParseException unreachable) {
+                throw new BadRequestException("Error: Invalid search query.");
+            }
+        }
+    }
+
+    private UnifiedHighlighter highlighter(IndexSearcher searcher) {
+        return UnifiedHighlighter.builder(searcher, analyzer)
+                .withFormatter(new DefaultPassageFormatter("<mark>", "</mark>", "... ", true))
+                .build();
+    }
+
+    private static Term idTerm(Long id) {
+        return new Term(FIELD_ID, String.valueOf(id));
+    }
+
+    private static Document toDocument(Long id, String title, String summary, String body, String tags, long generation) {
+        Document document = new Document();
+        document.add(new StringField(FIELD_ID, String.valueOf(id), Field.Store.YES));
+        document.add(new LongPoint(FIELD_GENERATION, generation));
+        document.add(new TextField(FIELD_TITLE, title, Field.Store.NO));
+        if (summary != null) {
+            document.add(new TextField(FIELD_SUMMARY, summary, Field.Store.NO));
+        }
+        document.add(new Field(FIELD_BODY, body, BODY_TYPE));
+        if (tags != null) {
+            document.add(new TextField(FIELD_TAGS, tags, Field.Store.NO));
+        }
+        return document;
+    }
+
+    /**
+     * A matching article id with its score and body excerpt (the opening of the body if the match was elsewhere).
+     */
+    @Getter
+    @AllArgsConstructor
+    public static final class Hit {
+        private final long articleId;
+        private final float score;
+        private final String highlight;
+    }
+
+    /**
+     * A window of hits plus the total match count.
+     */
+    @Getter
+    @AllArgsConstructor
+    public static final class Result {
+        private final List<Hit> hits;
+        private final long totalHits;
+    }
+}
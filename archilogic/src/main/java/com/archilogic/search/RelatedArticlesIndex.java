@@ -0,0 +1,439 @@
+/***********************************************************
+ * Copyright (c) 2025. All rights reserved to ArchiLogic.
+ * Developer: Nikhil Gadhavajula
+ **********************************************************/
+
+package com.archilogic.search;
+
+import com.archilogic.entity.Article;
+import com.archilogic.event.ArticleChangedEvent;
+import com.archilogic.repository.ArticleRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * In-memory related-articles index using MinHash signatures and locality-sensitive hashing.
+ * <p>
+ * Every published article is reduced to a set of features (word 3-shingles of its title, summary and body, plus
+ * its tags) and summarized by a 128-slot MinHash signature computed with one-permutation hashing: each feature is
+ * hashed once and lands in one slot, and empty slots borrow from their neighbour (rotation densification), so the
+ * cost is linear in the article length. Two signatures agree in a slot with probability equal to the Jaccard
+ * similarity of the feature sets.
+ * <p>
+ * The signature is split into 32 bands of 4 slots; articles sharing any band land in the same bucket and become
+ * candidates, which makes pairs above a similarity of about {@code (1/32)^(1/4) = 0.42} very likely to meet while
+ * dissimilar pairs rarely do. A query reads the article's 32 buckets and ranks the candidates by estimated
+ * similarity, touching only in-memory arrays.
+ * <p>
+ * The index follows {@link ArticleChangedEvent}s on a single thread. On startup, and on demand, it is rebuilt
+ * from the database with the signatures computed on all cores; queries are served from the previous index until
+ * the new one is swapped in.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RelatedArticlesIndex {
+
+    private static final int SIGNATURE_SIZE = 128;
+    private static final int BANDS = 32;
+    private static final int ROWS = SIGNATURE_SIZE / BANDS;
+    private static final int SLOT_SHIFT = 64 - Integer.numberOfTrailingZeros(SIGNATURE_SIZE);
+    private static final int SHINGLE_SIZE = 3;
+    private static final int EMPTY = Integer.MAX_VALUE;
+
+    private final ArticleRepository articleRepository;
+
+    /**
+     * Buckets stop accepting articles at this size: a band shared by that many articles says nothing about any
+     * particular pair (boilerplate text), and skipping it keeps queries and updates cheap.
+     */
+    @Value("${archilogic.app.related.maxBucketSize:200}")
+    private int maxBucketSize;
+
+    @Value("${archilogic.app.related.minSimilarity:0.05}")
+    private double minSimilarity;
+
+    /**
+     * How many features each tag contributes, i.e. its weight relative to a single shingle.
+     */
+    @Value("${archilogic.app.related.tagWeight:8}")
+    private int tagWeight;
+
+    /**
+     * Body words beyond this are ignored when computing a signature.
+     */
+    @Value("${archilogic.app.related.maxTokens:20000}")
+    private int maxTokens;
+
+    @Value("${archilogic.app.related.rebuildBatchSize:500}")
+    private int rebuildBatchSize;
+
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+
+    /**
+     * Changes applied while a rebuild is running, replayed onto the new index before it is swapped in.
+     * A null signature records a removal. Only touched on the update thread.
+     */
+    private final Map<Long, int[]> changedDuringRebuild = new HashMap<>();
+
+    private volatile Index index = new Index();
+    private ExecutorService updateExecutor;
+
+    @PostConstruct
+    public void init() {
+        updateExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "related-indexer");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void close() throws InterruptedException {
+        updateExecutor.shutdown();
+        updateExecutor.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        rebuildAsync();
+    }
+
+    /**
+     * Applies a committed article change to the index.
+     */
+    @TransactionalEventListener
+    public void onArticleChanged(ArticleChangedEvent event) {
+        updateExecutor.execute(() -> {
+            int[] signature = event.isPublished()
+                    ? signature(event.getTitle(), event.getSummary(), event.getBody(), event.getTags())
+                    : null;
+            if (rebuilding.get()) {
+                changedDuringRebuild.put(event.getArticleId(), signature);
+            }
+            index.put(event.getArticleId(), signature);
+        });
+    }
+
+    /**
+     * Finds the articles most similar to a given one.
+     *
+     * @param articleId The article.
+     * @param limit     The maximum number of results.
+     * @return The related articles, most similar first; empty if the article is not indexed.
+     */
+    public List<Match> related(long articleId, int limit) {
+        Index current = index;
+        int[] signature = current.signatures.get(articleId);
+        if (signature == null) {
+            return List.of();
+        }
+        Set<Long> candidates = new HashSet<>();
+        for (int band = 0; band < BANDS; band++) {
+            long[] bucket = current.buckets.get(bandKey(signature, band));
+            if (bucket != null && bucket.length < maxBucketSize) {
+                for (long candidate : bucket) {
+                    candidates.add(candidate);
+                }
+            }
+        }
+        candidates.remove(articleId);
+
+        List<Match> matches = new ArrayList<>(candidates.size());
+        for (Long candidate : candidates) {
+            int[] other = current.signatures.get(candidate);
+            if (other == null) {
+                continue;
+            }
+            double similarity = similarity(signature, other);
+            if (similarity >= minSimilarity) {
+                matches.add(new Match(candidate, similarity));
+            }
+        }
+        matches.sort(Comparator.comparingDouble(Match::getSimilarity).reversed().thenComparingLong(Match::getArticleId));
+        return matches.size() <= limit ? matches : matches.subList(0, limit);
+    }
+
+    /**
+     * Starts a background rebuild from the database. Queries are served from the current index meanwhile.
+     *
+     * @return false if a rebuild is already running.
+     */
+    public boolean rebuildAsync() {
+        if (!rebuilding.compareAndSet(false, true)) {
+            return false;
+        }
+        Thread thread = new Thread(this::rebuild, "related-rebuild");
+        thread.setDaemon(true);
+        thread.start();
+        return true;
+    }
+
+    private void rebuild() {
+        long started = System.nanoTime();
+        Index rebuilt = new Index();
+        ForkJoinPool pool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+        try {
+            long indexed = 0;
+            long afterId = 0;
+            Future<?> previous = null;
+            List<Article> chunk;
+            do {
+                // Read the next chunk while the previous one is still being hashed.
+                chunk = articleRepository.findPublishedAfter(afterId, Limit.of(rebuildBatchSize));
+                if (previous != null) {
+                    previous.get();
+                }
+                List<Article> batch = chunk;
+                previous = pool.submit(() -> batch.parallelStream().forEach(article -> rebuilt.put(article.getId(),
+                        signature(article.getTitle(), article.getSummary(), article.getBody(), article.getTags()))));
+                if (!chunk.isEmpty()) {
+                    afterId = chunk.get(chunk.size() - 1).getId();
+                }
+                indexed += chunk.size();
+            } while (chunk.size() == rebuildBatchSize);
+            previous.get();
+
+            long count = indexed;
+            // Swap on the update thread, after replaying what changed during the scan.
+            updateExecutor.submit(() -> {
+                changedDuringRebuild.forEach(rebuilt::put);
+                changedDuringRebuild.clear();
+                index = rebuilt;
+                rebuilding.set(false);
+            }).get();
+            log.info("Related articles index rebuilt: {} article(s) in {} ms", count,
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | RuntimeException e) {
+            log.error("Related articles index rebuild failed: {}", e.getMessage(), e);
+        } finally {
+            pool.shutdown();
+            if (rebuilding.get()) {
+                updateExecutor.execute(() -> {
+                    changedDuringRebuild.clear();
+                    rebuilding.set(false);
+                });
+            }
+        }
+    }
+
+    /**
+     * Computes the MinHash signature of an article.
+     *
+     * @return The signature, or null if the article has no features at all.
+     */
+    int[] signature(String title, String summary, String body, String tags) {
+        int[] slots = new int[SIGNATURE_SIZE];
+        Arrays.fill(slots, EMPTY);
+        boolean any = false;
+
+        long[] window = new long[SHINGLE_SIZE];
+        int tokens = 0;
+        for (String text : new String[]{title, summary, body}) {
+            if (text == null) {
+                continue;
+            }
+            int i = 0;
+            int length = text.length();
+            while (i < length && tokens < maxTokens) {
+                while (i < length && !Character.isLetterOrDigit(text.charAt(i))) {
+                    i++;
+                }
+                if (i == length) {
+                    break;
+                }
+                long hash = 0xcbf29ce484222325L; // 64-bit FNV-1a over the lower-cased word.
+                while (i < length && Character.isLetterOrDigit(text.charAt(i))) {
+                    hash = (hash ^ Character.toLowerCase(text.charAt(i))) * 0x100000001b3L;
+                    i++;
+                }
+                window[tokens % SHINGLE_SIZE] = hash;
+                tokens++;
+                if (tokens >= SHINGLE_SIZE) {
+                    long shingle = 0;
+                    for (int k = SHINGLE_SIZE; k >= 1; k--) {
+                        shingle = mix(shingle + window[(tokens - k) % SHINGLE_SIZE]);
+                    }
+                    add(slots, shingle);
+                    any = true;
+                }
+            }
+        }
+        if (tokens > 0 && tokens < SHINGLE_SIZE) {
+            add(slots, mix(window[0] ^ tokens)); // Too short for a shingle; use the text itself.
+            any = true;
+        }
+        if (tags != null) {
+            for (String tag : tags.split(",")) {
+                String trimmed = tag.trim();
+                if (trimmed.isEmpty()) {
+                    continue;
+                }
+                long hash = mix(trimmed.hashCode() ^ 0x7a67L);
+                for (int copy = 0; copy < tagWeight; copy++) {
+                    add(slots, mix(hash + copy));
+                }
+                any = true;
+            }
+        }
+        if (!any) {
+            return null;
+        }
+        densify(slots);
+        return slots;
+    }
+
+    private static void add(int[] slots, long featureHash) {
+        long hash = mix(featureHash);
+        int slot = (int) (hash >>> SLOT_SHIFT);
+        int value = (int) hash & EMPTY;
+        if (value < slots[slot]) {
+            slots[slot] = value;
+        }
+    }
+
+    /**
+     * Fills every empty slot from the next non-empty one to its right (wrapping around), offset by the distance so
+     * that borrowed values differ from the originals.
+     */
+    private static void densify(int[] slots) {
+        int[] original = slots.clone();
+        for (int slot = 0; slot < SIGNATURE_SIZE; slot++) {
+            if (original[slot] != EMPTY) {
+                continue;
+            }
+            for (int distance = 1; distance < SIGNATURE_SIZE; distance++) {
+                int donor = original[(slot + distance) % SIGNATURE_SIZE];
+                if (donor != EMPTY) {
+                    slots[slot] = (donor + distance * 0x9e3779b9) & EMPTY;
+                    break;
+                }
+            }
+        }
+    }
+
+    private static double similarity(int[] a, int[] b) {
+        int equal = 0;
+        for (int i = 0; i < SIGNATURE_SIZE; i++) {
+            if (a[i] == b[i]) {
+                equal++;
+            }
+        }
+        return (double) equal / SIGNATURE_SIZE;
+    }
+
+    private static long bandKey(int[] signature, int band) {
+        long key = band;
+        for (int row = band * ROWS; row < (band + 1) * ROWS; row++) {
+            key = mix(key * 31 + signature[row]);
+        }
+        return key;
+    }
+
+    /**
+     * The SplitMix64 finalizer: a fast, well-distributed 64-bit mixing function.
+     */
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * Signatures and LSH buckets. Buckets are small copy-on-write id arrays updated with atomic {@code compute}
+     * calls, so readers never lock and the rebuild can fill an index from several threads.
+     */
+    private final class Index {
+
+        private final Map<Long, int[]> signatures = new ConcurrentHashMap<>();
+        private final Map<Long, long[]> buckets = new ConcurrentHashMap<>();
+
+        /**
+         * Adds, replaces or (with a null signature) removes an article.
+         */
+        void put(long articleId, int[] signature) {
+            int[] old = signature == null ? signatures.remove(articleId) : signatures.put(articleId, signature);
+            if (old != null) {
+                for (int band = 0; band < BANDS; band++) {
+                    buckets.computeIfPresent(bandKey(old, band), (key, ids) -> without(ids, articleId));
+                }
+            }
+            if (signature != null) {
+                for (int band = 0; band < BANDS; band++) {
+                    buckets.compute(bandKey(signature, band), (key, ids) -> with(ids, articleId));
+                }
+            }
+        }
+
+        private long[] with(long[] ids, long articleId) {
+            if (ids == null) {
+                return new long[]{articleId};
+            }
+            if (ids.length >= maxBucketSize) {
+                return ids;
+            }
+            for (long id : ids) {
+                if (id == articleId) {
+                    return ids;
+                }
+            }
+            long[] grown = Arrays.copyOf(ids, ids.length + 1);
+            grown[ids.length] = articleId;
+            return grown;
+        }
+
+        private static long[] without(long[] ids, long articleId) {
+            for (int i = 0; i < ids.length; i++) {
+                if (ids[i] == articleId) {
+                    if (ids.length == 1) {
+                        return null;
+                    }
+                    long[] shrunk = new long[ids.length - 1];
+                    System.arraycopy(ids, 0, shrunk, 0, i);
+                    System.arraycopy(ids, i + 1, shrunk, i, ids.length - i - 1);
+                    return shrunk;
+                }
+            }
+            return ids;
+        }
+    }
+
+    /**
+     * A related article and its estimated Jaccard similarity to the queried one.
+     */
+    @Getter
+    @AllArgsConstructor
+    public static final class Match {
+        private final long articleId;
+        private final double similarity;
+    }
+}
@@ -8,6 +8,7 @@ package com.archilogic.security.config;
 import com.archilogic.entity.ERole;
 import com.archilogic.entity.Role;
 import com.archilogic.repository.RoleRepository;
+import com.archilogic.security.service.RoleCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.CommandLineRunner;
@@ -25,6 +26,7 @@ import java.util.Arrays;
 public class DataInitializer implements CommandLineRunner {
 
     private final RoleRepository roleRepository;
+    private final RoleCache roleCache;
 
     /**
      * This method will be executed on application startup.
@@ -41,6 +43,7 @@ public class DataInitializer implements CommandLineRunner {
             log.info("No roles found in the database. Seeding initial roles...");
             Arrays.stream(ERole.values()).forEach(eRole -> {
                 roleRepository.save(new Role(eRole));
+                roleCache.invalidate(eRole);
                 log.info("Saved role to database: {}", eRole.name());
             });
             log.info("Role seeding complete.");
@@ -0,0 +1,138 @@
+/***********************************************************
+ * Copyright (c) 2025. All rights reserved to ArchiLogic.
+ * Developer: Nikhil Gadhavajula
+ **********************************************************/
+
+package com.archilogic.security.config;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+
+/**
+ * Decides, per request, whether a route is anonymous, so the JWT filter can skip all authentication work for it.
+ * <p>
+ * The route lists of {@link WebSecurityConfig} are compiled once into two character tries: one for routes that
+ * are anonymous for every method, one for routes that are anonymous for reads ({@code GET}/{@code HEAD}) only.
+ * Classifying a request is then a single walk over its path, with no allocation, regex or Ant matching.
+ * <p>
+ * Only two pattern shapes occur in the configuration and are supported: an exact path ({@code /sitemap.xml}) and
+ * a subtree ({@code /feeds/**}, which like in Spring Security also matches {@code /feeds} itself). Classification
+ * never grants access: if a route is wrongly classified as anonymous, the request simply stays unauthenticated and
+ * a protected endpoint answers 401.
+ */
+@Component
+public class RouteClassifier {
+
+    private final Node anyMethod;
+    private final Node readOnly;
+
+    public RouteClassifier() {
+        this(WebSecurityConfig.ANONYMOUS_URLS, WebSecurityConfig.ANONYMOUS_READ_URLS);
+    }
+
+    /**
+     * @param anonymousUrls     Routes anonymous for every method.
+     * @param anonymousReadUrls Routes anonymous for {@code GET} and {@code HEAD} only.
+     */
+    RouteClassifier(String[] anonymousUrls, String[] anonymousReadUrls) {
+        this.anyMethod = compile(anonymousUrls);
+        this.readOnly = compile(anonymousReadUrls);
+    }
+
+    /**
+     * @param method The HTTP method.
+     * @param path   The request path within the application, starting with '/'.
+     * @return true if no handler on this route looks at the caller's identity.
+     */
+    public boolean isAnonymous(String method, String path) {
+        if (matches(anyMethod, path)) {
+            return true;
+        }
+        return ("GET".equals(method) || "HEAD".equals(method)) && matches(readOnly, path);
+    }
+
+    private static Node compile(String[] patterns) {
+        Node root = new Node();
+        for (String pattern : patterns) {
+            boolean subtree = pattern.endsWith("/**");
+            String literal = subtree ? pattern.substring(0, pattern.length() - 3) : pattern;
+            if (literal.indexOf('*') >= 0 || literal.indexOf('{') >= 0) {
+                throw new IllegalArgumentException("Unsupported route pattern: " + pattern);
+            }
+            Node node = root;
+            for (int i = 0; i < literal.length(); i++) {
+                node = node.childOrCreate(literal.charAt(i));
+            }
+            if (subtree) {
+                node.subtree = true;
+            } else {
+                node.exact = true;
+            }
+        }
+        return root;
+    }
+
+    private static boolean matches(Node root, String path) {
+        Node node = root;
+        for (int i = 0; i < path.length(); i++) {
+            char c = path.charAt(i);
+            if (node.subtree && c == '/') {
+                return true;
+            }
+            node = node.child(c);
+            if (node == null) {
+                return false;
+            }
+        }
+        return node.exact || node.subtree;
+    }
+
+    /**
+     * A trie node. Children are kept in two parallel arrays sorted by character; route lists are tiny, so nodes
+     * have very few children and lookups are a short scan.
+     */
+    private static final class Node {
+        private char[] keys = new char[0];
+        private Node[] children = new Node[0];
+        /**
+         * A route ends exactly here.
+         */
+        private boolean exact;
+        /**
+         * A {@code /**} route ends here: this path and everything below it match.
+         */
+        private boolean subtree;
+
+        private Node child(char c) {
+            char[] k = keys;
+            for (int i = 0; i < k.length; i++) {
+                if (k[i] == c) {
+                    return children[i];
+                }
+            }
+            return null;
+        }
+
+        private Node childOrCreate(char c) {
+            Node existing = child(c);
+            if (existing != null) {
+                return existing;
+            }
+            int index = 0;
+            while (index < keys.length && keys[index] < c) {
+                index++;
+            }
+            char[] newKeys = Arrays.copyOf(keys, keys.length + 1);
+            Node[] newChildren = Arrays.copyOf(children, children.length + 1);
+            System.arraycopy(keys, index, newKeys, index + 1, keys.length - index);
+            System.arraycopy(children, index, newChildren, index + 1, children.length - index);
+            Node created = new Node();
+            newKeys[index] = c;
+            newChildren[index] = created;
+            keys = newKeys;
+            children = newChildren;
+            return created;
+        }
+    }
+}
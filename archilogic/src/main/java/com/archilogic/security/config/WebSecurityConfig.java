@@ -8,9 +8,11 @@ package com.archilogic.security.config;
 import com.archilogic.security.jwt.AuthEntryPointJwt;
 import com.archilogic.security.jwt.AuthTokenFilter;
 import com.archilogic.security.service.UserDetailsServiceImpl;
+import com.archilogic.timing.TimedPasswordEncoder;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
@@ -31,16 +33,36 @@ public class WebSecurityConfig {
     private final AuthEntryPointJwt unauthorizedHandler;
     private final AuthTokenFilter authTokenFilter;
 
-    // Define a constant array for all public-facing URLs
-    private static final String[] PUBLIC_URLS = {
+    /**
+     * Public routes whose handlers never look at the caller, for any method. The JWT filter skips them entirely
+     * (see {@link RouteClassifier}), so they cost no token parsing or user lookup.
+     */
+    static final String[] ANONYMOUS_URLS = {
             "/api/v1/auth/**",
             "/api/v1/test/**",
+            // Pre-generated syndication documents
+            "/feeds/**",
+            "/sitemap.xml",
+            "/sitemaps/**",
+            // Liveness and readiness probes
+            "/actuator/health/**",
             // -- Swagger UI v3
             "/v3/api-docs/**",
             "/swagger-ui.html", // Explicitly permit the HTML page
             "/swagger-ui/**"
     };
 
+    /**
+     * Public content. Reads ({@code GET}/{@code HEAD}) below these paths are permitted to anyone and skip the JWT
+     * filter; every other method below them requires authentication. A read endpoint added here that needs the
+     * caller must not live below these paths.
+     */
+    static final String[] ANONYMOUS_READ_URLS = {
+            "/api/v1/articles/**",
+            "/api/v1/media/**",
+            "/api/v1/comments/**"
+    };
+
     @Bean
     public DaoAuthenticationProvider authenticationProvider() {
         DaoAuthenticationProvider authProvider = new DaoAuthenticationProvider();
@@ -56,7 +78,8 @@ public class WebSecurityConfig {
 
     @Bean
     public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+        // The decorator reports hashing time to Server-Timing; it is a no-op when that feature is off.
+        return new TimedPasswordEncoder(new BCryptPasswordEncoder());
     }
 
     @Bean
@@ -65,7 +88,9 @@ public class WebSecurityConfig {
                 .exceptionHandling(exception -> exception.authenticationEntryPoint(unauthorizedHandler))
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(auth -> auth
-                        .requestMatchers(PUBLIC_URLS).permitAll()
+                        .requestMatchers(ANONYMOUS_URLS).permitAll()
+                        .requestMatchers(HttpMethod.GET, ANONYMOUS_READ_URLS).permitAll()
+                        .requestMatchers(HttpMethod.HEAD, ANONYMOUS_READ_URLS).permitAll()
                         .anyRequest().authenticated());
 
         http.authenticationProvider(authenticationProvider());
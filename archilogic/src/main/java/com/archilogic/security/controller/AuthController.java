@@ -5,11 +5,16 @@
 
 package com.archilogic.security.controller;
 
+import com.archilogic.dto.AvailabilityResponse;
+import com.archilogic.dto.EmailVerificationRequest;
 import com.archilogic.dto.JwtResponse;
 import com.archilogic.dto.LoginRequest;
 import com.archilogic.dto.MessageResponse;
+import com.archilogic.dto.PasswordResetConfirmRequest;
+import com.archilogic.dto.PasswordResetRequest;
 import com.archilogic.dto.SignUpRequest;
 import com.archilogic.security.service.AuthService;
+import com.archilogic.security.service.UserAvailabilityService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -26,6 +31,7 @@ import org.springframework.web.bind.annotation.*;
 public class AuthController {
 
     private final AuthService authService; // Make dependency final
+    private final UserAvailabilityService userAvailabilityService;
 
     // ... (rest of the methods are unchanged)
     @Operation(summary = "Authenticate user and get token",
@@ -51,9 +57,49 @@ public class AuthController {
             description = "Creates a new user account. Username and email must be unique.")
     @ApiResponse(responseCode = "200", description = "User registered successfully.")
     @ApiResponse(responseCode = "400", description = "Invalid user data provided or username/email already exists.")
+    @ApiResponse(responseCode = "503", description = "Too many signups at once; nothing was saved. Retry after 'Retry-After' seconds.")
     @PostMapping("/signup")
     public ResponseEntity<MessageResponse> registerUser(@Valid @RequestBody SignUpRequest signUpRequest) {
         authService.registerUser(signUpRequest);
         return ResponseEntity.ok(new MessageResponse("User registered successfully!"));
     }
+
+    @Operation(summary = "Confirm an email address",
+            description = "Marks the email address as verified using the token from the link in the verification email.")
+    @ApiResponse(responseCode = "200", description = "Email address verified.")
+    @ApiResponse(responseCode = "400", description = "The link is invalid or has expired.")
+    @PostMapping("/verify-email")
+    public ResponseEntity<MessageResponse> verifyEmail(@Valid @RequestBody EmailVerificationRequest request) {
+        authService.verifyEmail(request.getToken());
+        return ResponseEntity.ok(new MessageResponse("Email address verified."));
+    }
+
+    @Operation(summary = "Request a password-reset email",
+            description = "Sends a single-use password-reset link if an account uses the address. The answer is the same either way.")
+    @ApiResponse(responseCode = "200", description = "Request accepted.")
+    @PostMapping("/password-reset")
+    public ResponseEntity<MessageResponse> requestPasswordReset(@Valid @RequestBody PasswordResetRequest request) {
+        authService.requestPasswordReset(request.getEmail());
+        return ResponseEntity.ok(new MessageResponse("If an account uses this address, a reset link is on its way."));
+    }
+
+    @Operation(summary = "Set a new password",
+            description = "Sets a new password using the token from a password-reset email. Each link works once.")
+    @ApiResponse(responseCode = "200", description = "Password changed.")
+    @ApiResponse(responseCode = "400", description = "The link is invalid, expired or already used, or the password is invalid.")
+    @PostMapping("/password-reset/confirm")
+    public ResponseEntity<MessageResponse> resetPassword(@Valid @RequestBody PasswordResetConfirmRequest request) {
+        authService.resetPassword(request.getToken(), request.getPassword());
+        return ResponseEntity.ok(new MessageResponse("Password changed. You can now sign in with the new password."));
+    }
+
+    @Operation(summary = "Check username/email availability",
+            description = "Checks whether a username and/or email can still be registered. Intended for as-you-type validation on the signup form.")
+    @ApiResponse(responseCode = "200", description = "Availability of the requested values.")
+    @ApiResponse(responseCode = "400", description = "Neither username nor email was provided.")
+    @GetMapping("/availability")
+    public ResponseEntity<AvailabilityResponse> checkAvailability(@RequestParam(required = false) String username,
+                                                                  @RequestParam(required = false) String email) {
+        return ResponseEntity.ok(userAvailabilityService.checkAvailability(username, email));
+    }
 }
@@ -0,0 +1,49 @@
+/***********************************************************
+ * Copyright (c) 2025. All rights reserved to ArchiLogic.
+ * Developer: Nikhil Gadhavajula
+ **********************************************************/
+
+package com.archilogic.security.controller;
+
+import com.archilogic.dto.BulkRoleUpdateRequest;
+import com.archilogic.dto.MessageResponse;
+import com.archilogic.dto.RoleUpdateRequest;
+import com.archilogic.security.service.RoleAdminService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/v1/admin/users")
+@Tag(name = "User Administration", description = "Admin-only APIs for managing user role assignments")
+@PreAuthorize("hasRole('ADMIN')")
+@RequiredArgsConstructor
+public class RoleAdminController {
+
+    private final RoleAdminService roleAdminService;
+
+    @Operation(summary = "Replace a user's roles",
+            description = "Replaces all roles of the given user. Cached principals are evicted on every node.")
+    @ApiResponse(responseCode = "200", description = "Roles updated.")
+    @ApiResponse(responseCode = "404", description = "User not found.")
+    @PutMapping("/{id}/roles")
+    public ResponseEntity<MessageResponse> updateUserRoles(@PathVariable Long id,
+                                                           @Valid @RequestBody RoleUpdateRequest request) {
+        roleAdminService.updateUserRoles(id, request.getRoles());
+        return ResponseEntity.ok(new MessageResponse("Roles updated successfully!"));
+    }
+
+    @Operation(summary = "Replace the roles of many users",
+            description = "Replaces all roles of each listed user in one transaction. Unknown ids are ignored.")
+    @ApiResponse(responseCode = "200", description = "Roles updated.")
+    @PutMapping("/roles")
+    public ResponseEntity<MessageResponse> bulkUpdateRoles(@Valid @RequestBody BulkRoleUpdateRequest request) {
+        int updated = roleAdminService.bulkUpdateRoles(request.getUserIds(), request.getRoles());
+        return ResponseEntity.ok(new MessageResponse("Roles updated for " + updated + " user(s)."));
+    }
+}
@@ -5,9 +5,12 @@
 
 package com.archilogic.security.jwt;
 
+import com.archilogic.audit.AuditEventType;
+import com.archilogic.audit.AuditLog;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.MediaType;
@@ -20,6 +23,7 @@ import java.util.HashMap;
 import java.util.Map;
 
 @Component
+@RequiredArgsConstructor
 public class AuthEntryPointJwt implements AuthenticationEntryPoint {
 
     private static final Logger logger = LoggerFactory.getLogger(AuthEntryPointJwt.class);
@@ -27,10 +31,13 @@ public class AuthEntryPointJwt implements AuthenticationEntryPoint {
     // OPTIMIZATION: Create the ObjectMapper once and reuse it. It's thread-safe.
     private static final ObjectMapper MAPPER = new ObjectMapper();
 
+    private final AuditLog auditLog;
+
     @Override
     public void commence(HttpServletRequest request, HttpServletResponse response, AuthenticationException authException)
             throws IOException {
         logger.error("Unauthorized error: {}", authException.getMessage());
+        auditLog.record(AuditEventType.UNAUTHORIZED, null, null, request.getServletPath());
 
         response.setContentType(MediaType.APPLICATION_JSON_VALUE);
         response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
@@ -5,7 +5,12 @@
 
 package com.archilogic.security.jwt;
 
+import com.archilogic.audit.AuditEventType;
+import com.archilogic.audit.AuditLog;
+import com.archilogic.security.config.RouteClassifier;
 import com.archilogic.security.service.UserDetailsServiceImpl;
+import com.archilogic.timing.ServerTiming;
+import io.jsonwebtoken.JwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -29,6 +34,9 @@ import java.io.IOException;
  * This filter intercepts incoming requests, extracts the JWT from the
  * Authorization header, validates it, and sets the user's authentication
  * in the Spring Security context.
+ * Anonymous routes, as classified by {@link RouteClassifier}, are not filtered at all. As a consequence an
+ * invalid or expired token sent to an anonymous route is not audited as {@code TOKEN_REJECTED}; only requests to
+ * routes that need the caller are.
  */
 @Component
 @RequiredArgsConstructor
@@ -37,6 +45,18 @@ public class AuthTokenFilter extends OncePerRequestFilter {
 
     private final JwtUtils jwtUtils;
     private final UserDetailsServiceImpl userDetailsService;
+    private final AuditLog auditLog;
+    private final RouteClassifier routeClassifier;
+
+    /**
+     * Skips requests for anonymous routes: their handlers never use the authentication, so parsing and
+     * verifying a token and loading the user would be wasted work.
+     */
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return routeClassifier.isAnonymous(request.getMethod(), path);
+    }
 
     /**
      * The core logic of the filter. It processes the request to find and
@@ -53,13 +73,15 @@ public class AuthTokenFilter extends OncePerRequestFilter {
                                     @NonNull HttpServletResponse response,
                                     @NonNull FilterChain filterChain)
             throws ServletException, IOException {
+        long start = ServerTiming.start();
         try {
             String jwt = parseJwt(request);
-            // Check if the token is valid and there is no existing authentication in the context
-            if (jwt != null && jwtUtils.validateJwtToken(jwt) && SecurityContextHolder.getContext().getAuthentication() == null) {
-                String username = jwtUtils.getUserNameFromJwtToken(jwt);
-
-                UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+            // The token is verified once; invalid ones are audited, valid ones authenticate the request
+            // unless the context already holds an authentication
+            JwtUtils.TokenClaims claims = jwt == null ? null : verify(jwt);
+            if (claims != null && SecurityContextHolder.getContext().getAuthentication() == null) {
+                // The token only identifies the user; the (cached) principal carries the current roles.
+                UserDetails userDetails = userDetailsService.loadPrincipal(claims.getUsername());
 
                 // If the token is valid, create an authentication token
                 UsernamePasswordAuthenticationToken authentication =
@@ -72,11 +94,27 @@ public class AuthTokenFilter extends OncePerRequestFilter {
             }
         } catch (Exception e) {
             logger.error("Cannot set user authentication: {}", e.getMessage());
+            auditLog.record(AuditEventType.TOKEN_REJECTED, null, null, e.getClass().getSimpleName());
+        } finally {
+            ServerTiming.stop(ServerTiming.AUTH_FILTER, start);
         }
 
         filterChain.doFilter(request, response);
     }
 
+    /**
+     * @return The verified claims, or null (after auditing it) if the token is invalid or expired.
+     */
+    private JwtUtils.TokenClaims verify(String jwt) {
+        try {
+            return jwtUtils.parseToken(jwt);
+        } catch (JwtException | IllegalArgumentException e) {
+            logger.error("Invalid JWT token: {}", e.getMessage());
+            auditLog.record(AuditEventType.TOKEN_REJECTED, null, null, "Invalid or expired token");
+            return null;
+        }
+    }
+
     /**
      * Parses the JWT from the 'Authorization' header of the request.
      *
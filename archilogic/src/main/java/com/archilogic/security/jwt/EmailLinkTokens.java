@@ -0,0 +1,123 @@
+/***********************************************************
+ * Copyright (c) 2025. All rights reserved to ArchiLogic.
+ * Developer: Nikhil Gadhavajula
+ **********************************************************/
+
+package com.archilogic.security.jwt;
+
+import com.archilogic.exception.BadRequestException;
+import com.archilogic.mail.EmailKind;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Date;
+
+/**
+ * Issues and checks the signed tokens embedded in email links (address verification, password reset).
+ * <p>
+ * The tokens are stateless JWTs carrying the user id, the {@link EmailKind} they were issued for and a fingerprint
+ * of the value the link acts on: the email address for a verification link, the current password hash for a reset
+ * link. Once that value changes (the password was reset) the fingerprint no longer matches and the link is dead,
+ * which makes reset links single-use without storing them. They are signed with a key derived from, but distinct
+ * from, the session key, so a link token can never be presented as a bearer token.
+ */
+@Component
+public class EmailLinkTokens {
+
+    private static final String KIND_CLAIM = "kind";
+    private static final String FINGERPRINT_CLAIM = "fp";
+
+    @Value("${archilogic.app.jwtSecret}")
+    private String jwtSecret;
+
+    private SecretKey key;
+
+    @PostConstruct
+    public void init() throws GeneralSecurityException {
+        Mac mac = Mac.getInstance("HmacSHA256");
+        mac.init(new SecretKeySpec(Decoders.BASE64.decode(jwtSecret), "HmacSHA256"));
+        this.key = Keys.hmacShaKeyFor(mac.doFinal("archilogic-email-links".getBytes(StandardCharsets.UTF_8)));
+    }
+
+    /**
+     * @param kind          What the link does.
+     * @param userId        The user the link is for.
+     * @param boundValue    The value the link is bound to (email address or password hash).
+     * @param validityMs    How long the link stays valid.
+     * @return The signed token.
+     */
+    public String issue(EmailKind kind, long userId, String boundValue, long validityMs) {
+        long now = System.currentTimeMillis();
+        return Jwts.builder()
+                .subject(Long.toString(userId))
+                .claim(KIND_CLAIM, kind.name())
+                .claim(FINGERPRINT_CLAIM, fingerprint(boundValue))
+                .issuedAt(new Date(now))
+                .expiration(new Date(now + validityMs))
+                .signWith(key)
+                .compact();
+    }
+
+    /**
+     * Checks the signature, expiry and kind of a token.
+     *
+     * @return The user id the token was issued for.
+     * @throws BadRequestException if the token is invalid, expired or of another kind.
+     */
+    public long userId(EmailKind kind, String token) {
+        return Long.parseLong(parse(kind, token).getSubject());
+    }
+
+    /**
+     * Checks a token and that it is still bound to the given value.
+     *
+     * @throws BadRequestException if the token is invalid, expired, of another kind or no longer bound.
+     */
+    public void verifyBinding(EmailKind kind, String token, String boundValue) {
+        String expected = fingerprint(boundValue);
+        String actual = parse(kind, token).get(FINGERPRINT_CLAIM, String.class);
+        if (actual == null || !MessageDigest.isEqual(expected.getBytes(StandardCharsets.US_ASCII),
+                actual.getBytes(StandardCharsets.US_ASCII))) {
+            throw invalid();
+        }
+    }
+
+    private Claims parse(EmailKind kind, String token) {
+        try {
+            Claims claims = Jwts.parser().verifyWith(key).build().parseSignedClaims(token).getPayload();
+            if (!kind.name().equals(claims.get(KIND_CLAIM, String.class)) || claims.getSubject() == null) {
+                throw invalid();
+            }
+            return claims;
+        } catch (JwtException | IllegalArgumentException e) {
+            throw invalid();
+        }
+    }
+
+    private static String fingerprint(String value) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(Arrays.copyOf(digest, 12));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static BadRequestException invalid() {
+        return new BadRequestException("Error: The link is invalid or has expired.");
+    }
+}
@@ -6,11 +6,14 @@
 package com.archilogic.security.jwt;
 
 import com.archilogic.entity.User;
+import com.archilogic.timing.ServerTiming;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
 import io.jsonwebtoken.security.SecurityException;
 import jakarta.annotation.PostConstruct;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
@@ -18,7 +21,7 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.stereotype.Component;
 
-import java.security.Key;
+import javax.crypto.SecretKey;
 import java.util.Date;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -26,52 +29,111 @@ import java.util.stream.Collectors;
 /**
  * Utility class for handling JSON Web Tokens (JWT).
  * Provides methods for generating, parsing, and validating JWTs.
+ * <p>
+ * Two claim formats verify side by side, told apart by the {@code v} claim:
+ * <ul>
+ *     <li>Version 1 (no {@code v} claim): {@code sub} is the username and {@code roles} an array of role names.</li>
+ *     <li>Version 2: {@code v=2}, {@code sub} the username and {@code exp}, nothing else. There is no {@code iat}
+ *     (nothing reads it, and it is always {@code exp} minus the configured lifetime) and no roles: the request path
+ *     loads the principal, whose current roles are authoritative, so role changes apply before the token expires.
+ *     The payload may also be DEFLATE-compressed ({@code zip} header).</li>
+ * </ul>
+ * {@code archilogic.app.jwtTokenVersion} selects the format of new tokens. It defaults to 1, which every node
+ * parses; switch it to 2 once every node in the cluster runs a version that parses version 2.
  */
 @Component
 public class JwtUtils {
     private static final Logger logger = LoggerFactory.getLogger(JwtUtils.class);
 
+    private static final String VERSION_CLAIM = "v";
+    private static final String LEGACY_ROLES_CLAIM = "roles";
+
     @Value("${archilogic.app.jwtSecret}")
     private String jwtSecret;
 
     @Value("${archilogic.app.jwtExpirationMs}")
     private int jwtExpirationMs;
 
-    private Key key;
+    @Value("${archilogic.app.jwtTokenVersion:1}")
+    private int tokenVersion;
+
+    /**
+     * DEFLATE the payload of version 2 tokens. Small payloads rarely shrink enough to pay for the header entry.
+     */
+    @Value("${archilogic.app.jwtCompress:false}")
+    private boolean compress;
+
+    private SecretKey key;
+
+    private JwtParser parser;
 
     /**
-     * Initializes the signing key after the component is constructed.
-     * This is more efficient than creating the key on every JWT operation.
+     * Initializes the signing key and the parser after the component is constructed.
+     * This is more efficient than creating them on every JWT operation.
      */
     @PostConstruct
     public void init() {
         byte[] keyBytes = Decoders.BASE64.decode(jwtSecret);
         this.key = Keys.hmacShaKeyFor(keyBytes);
+        this.parser = Jwts.parser().verifyWith(key).build();
+        if (tokenVersion != 1 && tokenVersion != 2) {
+            throw new IllegalStateException("Unsupported archilogic.app.jwtTokenVersion " + tokenVersion + "; expected 1 or 2.");
+        }
     }
 
     /**
-     * Generates a JWT for a given authenticated user.
-     * The user's roles are embedded as a custom claim within the token.
+     * Generates a JWT for a given authenticated user, in the configured claim format.
      *
      * @param authentication The Spring Security Authentication object.
      * @return A signed JWT string.
      */
     public String generateJwtToken(Authentication authentication) {
+        long start = ServerTiming.start();
         // We use our custom User entity to get more details if needed
         User userPrincipal = (User) authentication.getPrincipal();
+        long now = System.currentTimeMillis();
+
+        JwtBuilder builder = Jwts.builder()
+                .subject(userPrincipal.getUsername())
+                .expiration(new Date(now + jwtExpirationMs));
+        if (tokenVersion == 1) {
+            builder.issuedAt(new Date(now));
+            // Extract roles from authorities
+            List<String> roles = userPrincipal.getAuthorities().stream()
+                    .map(GrantedAuthority::getAuthority)
+                    .collect(Collectors.toList());
+            builder.claim(LEGACY_ROLES_CLAIM, roles);
+        } else {
+            builder.claim(VERSION_CLAIM, 2);
+            if (compress) {
+                builder.compressWith(Jwts.ZIP.DEF);
+            }
+        }
+        String token = builder.signWith(key).compact();
+        ServerTiming.stop(ServerTiming.JWT, start);
+        return token;
+    }
 
-        // Extract roles from authorities
-        List<String> roles = userPrincipal.getAuthorities().stream()
-                .map(GrantedAuthority::getAuthority)
-                .collect(Collectors.toList());
-
-        return Jwts.builder()
-                .setSubject(userPrincipal.getUsername())
-                .claim("roles", roles) // Add roles as a custom claim
-                .setIssuedAt(new Date())
-                .setExpiration(new Date((new Date()).getTime() + jwtExpirationMs))
-                .signWith(key) // Use the modern, non-deprecated signWith method
-                .compact();
+    /**
+     * Verifies a token once and returns everything the request path needs from it.
+     *
+     * @param token The JWT string.
+     * @return The verified claims.
+     * @throws JwtException             if the signature, format or expiry is invalid.
+     * @throws IllegalArgumentException if the token is empty.
+     */
+    public TokenClaims parseToken(String token) {
+        long start = ServerTiming.start();
+        try {
+            Claims claims = parser.parseSignedClaims(token).getPayload();
+            Integer version = claims.get(VERSION_CLAIM, Integer.class);
+            if (version != null && version != 2) {
+                throw new UnsupportedJwtException("Unsupported token version " + version);
+            }
+            return new TokenClaims(version == null ? 1 : 2, claims.getSubject(), claims.getExpiration());
+        } finally {
+            ServerTiming.stop(ServerTiming.JWT, start);
+        }
     }
 
     /**
@@ -81,12 +143,7 @@ public class JwtUtils {
      * @return The username contained in the token.
      */
     public String getUserNameFromJwtToken(String token) {
-        return Jwts.parser()
-                .verifyWith((javax.crypto.SecretKey) key)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload()
-                .getSubject();
+        return parseToken(token).getUsername();
     }
 
     /**
@@ -97,10 +154,7 @@ public class JwtUtils {
      */
     public boolean validateJwtToken(String authToken) {
         try {
-            Jwts.parser()
-                    .verifyWith((javax.crypto.SecretKey) key)
-                    .build()
-                    .parse(authToken);
+            parseToken(authToken);
             return true;
         } catch (SecurityException | MalformedJwtException e) {
             logger.error("Invalid JWT token: {}", e.getMessage());
@@ -113,4 +167,18 @@ public class JwtUtils {
         }
         return false;
     }
+
+    /**
+     * The verified content of an access token, independent of its claim format.
+     */
+    @Getter
+    @AllArgsConstructor
+    public static final class TokenClaims {
+        /**
+         * The claim format version, 1 or 2.
+         */
+        private final int version;
+        private final String username;
+        private final Date expiration;
+    }
 }
@@ -5,26 +5,35 @@
 
 package com.archilogic.security.service;
 
+import com.archilogic.audit.AuditEventType;
+import com.archilogic.audit.AuditLog;
 import com.archilogic.dto.JwtResponse;
 import com.archilogic.dto.LoginRequest;
 import com.archilogic.dto.SignUpRequest;
 import com.archilogic.entity.ERole;
 import com.archilogic.entity.Role;
 import com.archilogic.entity.User;
+import com.archilogic.exception.BadRequestException;
 import com.archilogic.exception.ResourceNotFoundException;
 import com.archilogic.exception.UserAlreadyExistsException;
-import com.archilogic.repository.RoleRepository;
+import com.archilogic.mail.EmailKind;
+import com.archilogic.mail.EmailOutbox;
 import com.archilogic.repository.UserRepository;
+import com.archilogic.security.jwt.EmailLinkTokens;
 import com.archilogic.security.jwt.JwtUtils;
+import com.archilogic.timing.ServerTiming;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.Instant;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -36,9 +45,16 @@ public class AuthService {
 
     private final AuthenticationManager authenticationManager;
     private final UserRepository userRepository;
-    private final RoleRepository roleRepository;
     private final PasswordEncoder encoder;
     private final JwtUtils jwtUtils;
+    private final UserAvailabilityService userAvailabilityService;
+    private final RoleCache roleCache;
+    private final UserPrincipalCache userPrincipalCache;
+    private final SignupBatchWriter signupBatchWriter;
+    private final AuditLog auditLog;
+    private final EmailOutbox emailOutbox;
+    private final EmailLinkTokens emailLinkTokens;
+    private final TransactionTemplate transactionTemplate;
 
     /**
      * Authenticates a user and returns a JWT.
@@ -46,8 +62,17 @@ public class AuthService {
      * @return A JwtResponse containing the token and user details.
      */
     public JwtResponse authenticateUser(LoginRequest loginRequest) {
-        Authentication authentication = authenticationManager.authenticate(
-                new UsernamePasswordAuthenticationToken(loginRequest.getUsername(), loginRequest.getPassword()));
+        long start = ServerTiming.start();
+        Authentication authentication;
+        try {
+            authentication = authenticationManager.authenticate(
+                    new UsernamePasswordAuthenticationToken(loginRequest.getUsername(), loginRequest.getPassword()));
+        } catch (AuthenticationException e) {
+            auditLog.record(AuditEventType.SIGNIN_FAILED, null, loginRequest.getUsername(), e.getClass().getSimpleName());
+            throw e;
+        } finally {
+            ServerTiming.stop(ServerTiming.AUTHENTICATE, start);
+        }
 
         SecurityContextHolder.getContext().setAuthentication(authentication);
         String jwt = jwtUtils.generateJwtToken(authentication);
@@ -58,6 +83,7 @@ public class AuthService {
                 .collect(Collectors.toList());
 
         User user = (User) userDetails;
+        auditLog.record(AuditEventType.SIGNIN_SUCCEEDED, user.getId(), user.getUsername(), null);
 
         // REFACTORED: Use the builder for clear and robust object creation.
         return JwtResponse.builder()
@@ -70,12 +96,14 @@ public class AuthService {
     }
 
     /**
-     * Registers a new user in the system.
+     * Registers a new user in the system. The verification email is queued in the outbox in the same
+     * transaction as the user row and sent in the background.
      * @param signUpRequest The user's registration details.
      * @throws UserAlreadyExistsException if username or email is already taken.
      * @throws ResourceNotFoundException if a default role is not found in the database.
      */
     public void registerUser(SignUpRequest signUpRequest) {
+        long dbStart = ServerTiming.start();
         if (userRepository.existsByUsername(signUpRequest.getUsername())) {
             throw new UserAlreadyExistsException("Error: Username is already taken!");
         }
@@ -83,6 +111,7 @@ public class AuthService {
         if (userRepository.existsByEmail(signUpRequest.getEmail())) {
             throw new UserAlreadyExistsException("Error: Email is already in use!");
         }
+        ServerTiming.stop(ServerTiming.DB, dbStart);
 
         User user = User.builder()
                 .username(signUpRequest.getUsername())
@@ -96,28 +125,88 @@ public class AuthService {
         Set<String> strRoles = signUpRequest.getRole();
         Set<Role> roles = new HashSet<>();
 
-        final String roleNotFoundMsg = "Error: Role not found. Initial data may not be seeded.";
-
+        // Role rows are served from the RoleCache instead of one query per assignment.
         if (strRoles == null || strRoles.isEmpty()) {
-            Role userRole = roleRepository.findByName(ERole.ROLE_USER)
-                    .orElseThrow(() -> new ResourceNotFoundException(roleNotFoundMsg));
-            roles.add(userRole);
+            roles.add(roleCache.get(ERole.ROLE_USER));
         } else {
             strRoles.forEach(role -> {
                 switch (role) {
                     case "admin":
-                        Role adminRole = roleRepository.findByName(ERole.ROLE_ADMIN)
-                                .orElseThrow(() -> new ResourceNotFoundException(roleNotFoundMsg));
-                        roles.add(adminRole);
+                        roles.add(roleCache.get(ERole.ROLE_ADMIN));
                         break;
                     default:
-                        Role userRole = roleRepository.findByName(ERole.ROLE_USER)
-                                .orElseThrow(() -> new ResourceNotFoundException(roleNotFoundMsg));
-                        roles.add(userRole);
+                        roles.add(roleCache.get(ERole.ROLE_USER));
                 }
             });
         }
         user.setRoles(roles);
-        userRepository.save(user);
+        long saveStart = ServerTiming.start();
+        save(user);
+        ServerTiming.stop(ServerTiming.DB, saveStart);
+        userAvailabilityService.recordRegistration(user.getUsername(), user.getEmail());
+        auditLog.record(AuditEventType.SIGNUP, user.getId(), user.getUsername(), null);
+        // Drop any principal other nodes may have cached under this username.
+        userPrincipalCache.invalidate(user.getUsername());
+    }
+
+    /**
+     * Confirms the email address of the user a verification link was issued for. Repeating it is harmless.
+     * @param token The token from the link.
+     * @throws BadRequestException if the token is invalid, expired or the address has changed since.
+     */
+    public void verifyEmail(String token) {
+        User user = userRepository.findById(emailLinkTokens.userId(EmailKind.EMAIL_VERIFICATION, token))
+                .orElseThrow(() -> new BadRequestException("Error: The link is invalid or has expired."));
+        emailLinkTokens.verifyBinding(EmailKind.EMAIL_VERIFICATION, token, user.getEmail());
+        Integer updated = transactionTemplate.execute(status -> userRepository.markEmailVerified(user.getId(), Instant.now()));
+        if (updated != null && updated > 0) {
+            auditLog.record(AuditEventType.EMAIL_VERIFIED, user.getId(), user.getUsername(), null);
+        }
+    }
+
+    /**
+     * Queues a password-reset email if an account uses the address. Callers answer the same either way, so the
+     * endpoint can't be used to find out which addresses are registered.
+     * @param email The address the reset was requested for.
+     */
+    public void requestPasswordReset(String email) {
+        userRepository.findByEmail(email).ifPresent(user ->
+                transactionTemplate.executeWithoutResult(status -> emailOutbox.enqueuePasswordReset(user)));
+    }
+
+    /**
+     * Sets a new password with a reset link. The link dies with the password it was issued against, so it works once.
+     * @param token The token from the link.
+     * @param newPassword The new plain-text password.
+     * @throws BadRequestException if the token is invalid, expired or was already used.
+     */
+    public void resetPassword(String token, String newPassword) {
+        User user = userRepository.findById(emailLinkTokens.userId(EmailKind.PASSWORD_RESET, token))
+                .orElseThrow(() -> new BadRequestException("Error: The link is invalid or has expired."));
+        String currentHash = user.getPassword();
+        emailLinkTokens.verifyBinding(EmailKind.PASSWORD_RESET, token, currentHash);
+        String newHash = encoder.encode(newPassword);
+        Integer updated = transactionTemplate.execute(status ->
+                userRepository.replacePassword(user.getId(), currentHash, newHash));
+        if (updated == null || updated == 0) {
+            throw new BadRequestException("Error: The link is invalid or has expired.");
+        }
+        auditLog.record(AuditEventType.PASSWORD_RESET, user.getId(), user.getUsername(), null);
+        // Evict cached principals, so requests pick up the account as changed.
+        userPrincipalCache.invalidate(user.getUsername());
+    }
+
+    /**
+     * Persists a new user together with its verification email, through the group-commit writer when it is
+     * enabled and has room, otherwise with a direct save in its own transaction.
+     */
+    private void save(User user) {
+        if (signupBatchWriter.isEnabled() && signupBatchWriter.write(user)) {
+            return;
+        }
+        transactionTemplate.executeWithoutResult(status -> {
+            userRepository.save(user);
+            emailOutbox.enqueueVerifications(List.of(user));
+        });
     }
 }
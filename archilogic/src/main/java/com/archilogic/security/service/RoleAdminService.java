@@ -0,0 +1,70 @@
+/***********************************************************
+ * Copyright (c) 2025. All rights reserved to ArchiLogic.
+ * Developer: Nikhil Gadhavajula
+ **********************************************************/
+
+package com.archilogic.security.service;
+
+import com.archilogic.entity.ERole;
+import com.archilogic.entity.Role;
+import com.archilogic.entity.User;
+import com.archilogic.exception.NotFoundException;
+import com.archilogic.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Administrative operations on user role assignments.
+ * Every change evicts the affected principals from the user cache on all nodes.
+ */
+@Service
+@RequiredArgsConstructor
+public class RoleAdminService {
+
+    private final UserRepository userRepository;
+    private final RoleCache roleCache;
+    private final UserPrincipalCache userPrincipalCache;
+
+    /**
+     * Replaces the roles of a single user.
+     *
+     * @param userId The id of the user.
+     * @param roles  The new set of roles.
+     * @throws NotFoundException if the user does not exist.
+     */
+    @Transactional
+    public void updateUserRoles(Long userId, Set<ERole> roles) {
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new NotFoundException("Error: User not found with id: " + userId));
+        user.setRoles(resolve(roles));
+        userPrincipalCache.invalidate(user.getUsername());
+    }
+
+    /**
+     * Replaces the roles of many users at once. The resulting invalidations are coalesced by the bus,
+     * so a bulk change costs at most one message per flush regardless of the number of users.
+     *
+     * @param userIds The ids of the users to update. Unknown ids are ignored.
+     * @param roles   The new set of roles.
+     * @return The number of users updated.
+     */
+    @Transactional
+    public int bulkUpdateRoles(Collection<Long> userIds, Set<ERole> roles) {
+        Set<Role> resolved = resolve(roles);
+        List<User> users = userRepository.findAllById(userIds);
+        users.forEach(user -> user.setRoles(new HashSet<>(resolved)));
+        userPrincipalCache.invalidateAll(users.stream().map(User::getUsername).toList());
+        return users.size();
+    }
+
+    private Set<Role> resolve(Set<ERole> roles) {
+        return roles.stream().map(roleCache::get).collect(Collectors.toCollection(HashSet::new));
+    }
+}
@@ -0,0 +1,77 @@
+/***********************************************************
+ * Copyright (c) 2025. All rights reserved to ArchiLogic.
+ * Developer: Nikhil Gadhavajula
+ **********************************************************/
+
+package com.archilogic.security.service;
+
+import com.archilogic.cache.InvalidationBus;
+import com.archilogic.cache.InvalidationHandler;
+import com.archilogic.entity.ERole;
+import com.archilogic.entity.Role;
+import com.archilogic.exception.ResourceNotFoundException;
+import com.archilogic.repository.RoleRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Caches the handful of {@link Role} rows so signups and role changes don't query the roles table
+ * for every assignment. Entries are evicted cluster-wide through the {@link InvalidationBus}.
+ */
+@Component
+@RequiredArgsConstructor
+public class RoleCache {
+
+    public static final String CACHE_NAME = "roles";
+
+    private final RoleRepository roleRepository;
+    private final InvalidationBus invalidationBus;
+
+    private final Map<ERole, Role> roles = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    public void init() {
+        invalidationBus.register(CACHE_NAME, new InvalidationHandler() {
+            @Override
+            public void evict(Collection<String> keys) {
+                keys.forEach(key -> roles.remove(ERole.valueOf(key)));
+            }
+
+            @Override
+            public void evictAll() {
+                roles.clear();
+            }
+        });
+    }
+
+    /**
+     * Returns the role entity for the given name.
+     *
+     * @param name The role name.
+     * @return The (detached) role entity.
+     * @throws ResourceNotFoundException if the role has not been seeded.
+     */
+    public Role get(ERole name) {
+        Role role = roles.get(name);
+        if (role == null) {
+            role = roleRepository.findByName(name)
+                    .orElseThrow(() -> new ResourceNotFoundException("Error: Role not found. Initial data may not be seeded."));
+            roles.put(name, role);
+        }
+        return role;
+    }
+
+    /**
+     * Evicts a role on every node after it has been changed.
+     *
+     * @param name The changed role.
+     */
+    public void invalidate(ERole name) {
+        invalidationBus.publish(CACHE_NAME, name.name());
+    }
+}
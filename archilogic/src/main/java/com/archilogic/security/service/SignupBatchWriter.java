@@ -0,0 +1,336 @@
+/***********************************************************
+ * Copyright (c) 2025. All rights reserved to ArchiLogic.
+ * Developer: Nikhil Gadhavajula
+ **********************************************************/
+
+package com.archilogic.security.service;
+
+import com.archilogic.entity.Role;
+import com.archilogic.entity.User;
+import com.archilogic.exception.ServiceBusyException;
+import com.archilogic.exception.UserAlreadyExistsException;
+import com.archilogic.mail.EmailOutbox;
+import com.archilogic.repository.UserRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Optional group-commit writer for signups (enabled with {@code archilogic.app.signup.groupCommit.enabled}).
+ * <p>
+ * Request threads hand over already validated, pre-hashed users through a bounded queue. A single writer
+ * thread drains up to {@code maxBatchSize} of them, or whatever arrived within {@code maxDelayMs} of the
+ * first one, and inserts the whole batch in one transaction using multi-row inserts. Each caller's future
+ * is completed with its own outcome, so {@link AuthService#registerUser} keeps its per-request semantics:
+ * <ul>
+ *     <li>Duplicates inside a batch are rejected up front with the usual {@link UserAlreadyExistsException}.</li>
+ *     <li>If the batch violates a unique constraint (a race with another node or another batch), it is rolled
+ *     back and retried one row per transaction, so only the offending requests fail.</li>
+ * </ul>
+ * When the queue is full, {@link #write(User)} returns false and the caller falls back to a direct save.
+ * <p>
+ * The outcome a caller sees is always the real one. A caller waits at most {@code submitTimeoutMs} for the writer
+ * to pick its signup up; if it is still queued by then, it is withdrawn and the caller gets a
+ * {@link ServiceBusyException} (503), so a retry can't find the user already created. Once picked up, the caller
+ * waits for the batch transaction to finish, however long that takes.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SignupBatchWriter {
+
+    private static final String INSERT_USER_SQL = "INSERT INTO users "
+            + "(username, first_name, last_name, email, phone_number, password, created_at) VALUES (?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_USER_ROLE_SQL = "INSERT INTO user_roles (user_id, role_id) VALUES (?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final UserRepository userRepository;
+    private final EmailOutbox emailOutbox;
+
+    @Value("${archilogic.app.signup.groupCommit.enabled:false}")
+    private boolean enabled;
+
+    @Value("${archilogic.app.signup.groupCommit.queueCapacity:8192}")
+    private int queueCapacity;
+
+    @Value("${archilogic.app.signup.groupCommit.maxBatchSize:256}")
+    private int maxBatchSize;
+
+    @Value("${archilogic.app.signup.groupCommit.maxDelayMs:5}")
+    private long maxDelayMs;
+
+    @Value("${archilogic.app.signup.groupCommit.submitTimeoutMs:10000}")
+    private long submitTimeoutMs;
+
+    private BlockingQueue<PendingSignup> queue;
+    private Thread writerThread;
+    private volatile boolean running;
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        queue = new ArrayBlockingQueue<>(queueCapacity);
+        running = true;
+        writerThread = new Thread(this::runWriter, "signup-group-commit");
+        writerThread.setDaemon(true);
+        writerThread.start();
+        log.info("Signup group commit enabled: batch size {}, max delay {} ms, queue capacity {}",
+                maxBatchSize, maxDelayMs, queueCapacity);
+    }
+
+    /**
+     * Stops accepting work, then writes everything still queued before the application shuts down.
+     */
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        if (writerThread == null) {
+            return;
+        }
+        running = false;
+        writerThread.join(TimeUnit.SECONDS.toMillis(30));
+    }
+
+    /**
+     * @return true if signups should be routed through this writer.
+     */
+    public boolean isEnabled() {
+        return enabled && running;
+    }
+
+    /**
+     * Writes a validated user with the next batch and waits for the outcome.
+     *
+     * @param user A fully built user with a hashed password and resolved roles.
+     * @return true once the user is committed (with its id set); false if the queue is full and nothing was done.
+     * @throws UserAlreadyExistsException on a duplicate username or email.
+     * @throws ServiceBusyException       if the writer did not pick the user up in time; nothing was written.
+     */
+    public boolean write(User user) {
+        PendingSignup pending = new PendingSignup(user);
+        if (!queue.offer(pending)) {
+            return false;
+        }
+        if (!running && pending.withdraw()) {
+            // Lost a race with shutdown: the writer may already have exited.
+            queue.remove(pending);
+            return false;
+        }
+        try {
+            pending.future.get(submitTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            if (pending.withdraw()) {
+                queue.remove(pending);
+                throw new ServiceBusyException("Error: Too many signups right now; nothing was saved. Please try again.",
+                        Math.max(1, TimeUnit.MILLISECONDS.toSeconds(submitTimeoutMs)));
+            }
+            // Already part of a batch: its outcome is about to be known and must not be hidden.
+            awaitUninterruptibly(pending.future);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            if (pending.withdraw()) {
+                queue.remove(pending);
+                throw new ServiceBusyException("Error: The signup was interrupted; nothing was saved.", 1);
+            }
+            awaitUninterruptibly(pending.future);
+        } catch (ExecutionException e) {
+            throw unwrap(e);
+        }
+        return true;
+    }
+
+    private static void awaitUninterruptibly(CompletableFuture<Void> future) {
+        try {
+            future.join();
+        } catch (CompletionException e) {
+            throw unwrap(e);
+        }
+    }
+
+    private static RuntimeException unwrap(Exception e) {
+        return e.getCause() instanceof RuntimeException cause ? cause : new IllegalStateException(e.getCause());
+    }
+
+    private void runWriter() {
+        List<PendingSignup> batch = new ArrayList<>(maxBatchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingSignup first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null || !first.claim()) {
+                    continue;
+                }
+                batch.add(first);
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(maxDelayMs);
+                while (batch.size() < maxBatchSize) {
+                    long remaining = deadline - System.nanoTime();
+                    PendingSignup next = remaining > 0 ? queue.poll(remaining, TimeUnit.NANOSECONDS) : queue.poll();
+                    if (next == null) {
+                        break;
+                    }
+                    if (next.claim()) {
+                        batch.add(next);
+                    }
+                }
+                writeBatch(batch);
+            } catch (InterruptedException e) {
+                // Treat an interrupt as a shutdown request; the loop keeps draining what is already queued.
+                running = false;
+            } catch (RuntimeException e) {
+                log.error("Signup batch failed: {}", e.getMessage());
+                batch.forEach(pending -> pending.future.completeExceptionally(e));
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void writeBatch(List<PendingSignup> batch) {
+        List<PendingSignup> unique = rejectDuplicatesWithinBatch(batch);
+        if (unique.isEmpty()) {
+            return;
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> insert(unique));
+            unique.forEach(pending -> pending.future.complete(null));
+        } catch (DataIntegrityViolationException e) {
+            // Some row clashed with an existing user: retry individually so only that caller fails.
+            unique.forEach(this::writeSingle);
+        }
+    }
+
+    private void writeSingle(PendingSignup pending) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> insert(List.of(pending)));
+            pending.future.complete(null);
+        } catch (DataIntegrityViolationException e) {
+            pending.future.completeExceptionally(duplicateError(pending.user));
+        } catch (RuntimeException e) {
+            pending.future.completeExceptionally(e);
+        }
+    }
+
+    private List<PendingSignup> rejectDuplicatesWithinBatch(List<PendingSignup> batch) {
+        Set<String> usernames = new HashSet<>();
+        Set<String> emails = new HashSet<>();
+        List<PendingSignup> unique = new ArrayList<>(batch.size());
+        for (PendingSignup pending : batch) {
+            if (!usernames.add(pending.user.getUsername().toLowerCase(Locale.ROOT))) {
+                pending.future.completeExceptionally(new UserAlreadyExistsException("Error: Username is already taken!"));
+            } else if (!emails.add(pending.user.getEmail().toLowerCase(Locale.ROOT))) {
+                pending.future.completeExceptionally(new UserAlreadyExistsException("Error: Email is already in use!"));
+            } else {
+                unique.add(pending);
+            }
+        }
+        return unique;
+    }
+
+    /**
+     * Inserts the users, their role assignments and their verification emails with one batched statement each.
+     * With {@code rewriteBatchedStatements=true} the MySQL driver sends each as a single multi-row INSERT.
+     */
+    private void insert(List<PendingSignup> batch) {
+        Timestamp now = Timestamp.from(Instant.now());
+        KeyHolder keys = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(con -> con.prepareStatement(INSERT_USER_SQL, Statement.RETURN_GENERATED_KEYS),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        User user = batch.get(i).user;
+                        ps.setString(1, user.getUsername());
+                        ps.setString(2, user.getFirst_name());
+                        ps.setString(3, user.getLast_name());
+                        ps.setString(4, user.getEmail());
+                        ps.setString(5, user.getPhone_number());
+                        ps.setString(6, user.getPassword());
+                        ps.setTimestamp(7, user.getCreatedAt() == null ? now : Timestamp.from(user.getCreatedAt()));
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return batch.size();
+                    }
+                }, keys);
+
+        List<Map<String, Object>> generated = keys.getKeyList();
+        List<long[]> assignments = new ArrayList<>();
+        for (int i = 0; i < batch.size(); i++) {
+            User user = batch.get(i).user;
+            user.setId(((Number) generated.get(i).values().iterator().next()).longValue());
+            if (user.getCreatedAt() == null) {
+                user.setCreatedAt(now.toInstant());
+            }
+            for (Role role : user.getRoles()) {
+                assignments.add(new long[]{user.getId(), role.getId()});
+            }
+        }
+        jdbcTemplate.batchUpdate(INSERT_USER_ROLE_SQL, assignments, assignments.size(), (ps, assignment) -> {
+            ps.setLong(1, assignment[0]);
+            ps.setLong(2, assignment[1]);
+        });
+        emailOutbox.enqueueVerifications(batch.stream().map(pending -> pending.user).toList());
+    }
+
+    private UserAlreadyExistsException duplicateError(User user) {
+        if (userRepository.existsByUsername(user.getUsername())) {
+            return new UserAlreadyExistsException("Error: Username is already taken!");
+        }
+        return new UserAlreadyExistsException("Error: Email is already in use!");
+    }
+
+    private static final class PendingSignup {
+        private static final int QUEUED = 0;
+        private static final int CLAIMED = 1;
+        private static final int WITHDRAWN = 2;
+
+        private final User user;
+        private final CompletableFuture<Void> future = new CompletableFuture<>();
+        /**
+         * Decides exactly once whether the writer takes the signup or the caller withdraws it.
+         */
+        private final AtomicInteger state = new AtomicInteger(QUEUED);
+
+        private PendingSignup(User user) {
+            this.user = user;
+        }
+
+        private boolean claim() {
+            return state.compareAndSet(QUEUED, CLAIMED);
+        }
+
+        private boolean withdraw() {
+            return state.compareAndSet(QUEUED, WITHDRAWN);
+        }
+    }
+}
@@ -0,0 +1,222 @@
+/***********************************************************
+ * Copyright (c) 2025. All rights reserved to ArchiLogic.
+ * Developer: Nikhil Gadhavajula
+ **********************************************************/
+
+package com.archilogic.security.service;
+
+import com.archilogic.dto.AvailabilityResponse;
+import com.archilogic.exception.BadRequestException;
+import com.archilogic.repository.UserRepository;
+import com.archilogic.util.BloomFilter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Locale;
+import java.util.stream.Stream;
+
+/**
+ * Answers username/email availability checks from in-memory Bloom filters.
+ * <p>
+ * The filters hold every taken username and email (lower-cased, matching MySQL's case-insensitive
+ * collation). A negative filter answer means "definitely available" and never touches the database;
+ * only a possible hit falls through to {@code existsByUsername}/{@code existsByEmail}.
+ * <p>
+ * The filters are loaded once the application is ready, updated on every successful registration on
+ * this node, and rebuilt periodically off to the side before being swapped in atomically, so readers
+ * never block. Registrations made on other nodes are picked up by the next rebuild; until then this
+ * endpoint may report such a name as available, which is acceptable because signup itself still
+ * relies on the database checks and unique constraints.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class UserAvailabilityService {
+
+    private final UserRepository userRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${archilogic.app.availability.expectedInsertions:100000}")
+    private long minExpectedInsertions;
+
+    @Value("${archilogic.app.availability.falsePositiveRate:0.01}")
+    private double falsePositiveRate;
+
+    /**
+     * The filters currently used to answer queries. Null until the first build completes,
+     * in which case every check goes straight to the database.
+     */
+    private volatile Filters filters;
+
+    /**
+     * The filters being populated by an in-progress rebuild, if any. Registrations are written
+     * to both so nothing committed during a rebuild is missing from the swapped-in filters.
+     */
+    private volatile Filters building;
+
+    /**
+     * Builds the filters once the application has started.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    /**
+     * Periodically rebuilds the filters from the database to pick up registrations from other
+     * nodes and to keep the false-positive rate close to its target as the user base grows.
+     */
+    @Scheduled(fixedDelayString = "${archilogic.app.availability.rebuildIntervalMs:3600000}",
+            initialDelayString = "${archilogic.app.availability.rebuildIntervalMs:3600000}")
+    public void scheduledRebuild() {
+        rebuild();
+    }
+
+    /**
+     * Rebuilds both filters from the database and swaps them in atomically.
+     */
+    public synchronized void rebuild() {
+        long start = System.nanoTime();
+        try {
+            long userCount = userRepository.count();
+            // Size for twice the current population so the filters stay accurate until the next rebuild.
+            long capacity = Math.max(minExpectedInsertions, userCount * 2);
+            Filters next = new Filters(
+                    BloomFilter.create(capacity, falsePositiveRate),
+                    BloomFilter.create(capacity, falsePositiveRate));
+            // Publish the target before the snapshot is taken, see recordRegistration().
+            building = next;
+
+            transactionTemplate.execute(status -> {
+                try (Stream<UserRepository.UserIdentity> identities = userRepository.streamAllIdentities()) {
+                    identities.forEach(identity -> {
+                        next.usernames.put(normalize(identity.getUsername()));
+                        next.emails.put(normalize(identity.getEmail()));
+                    });
+                }
+                return null;
+            });
+
+            filters = next;
+            log.info("Availability filters rebuilt in {} ms: {} users, {} bits x{} hashes per filter, "
+                            + "~{} KiB total, expected false-positive rate {}",
+                    (System.nanoTime() - start) / 1_000_000, userCount, next.usernames.bitCount(),
+                    next.usernames.hashFunctions(), (next.usernames.sizeInBytes() + next.emails.sizeInBytes()) / 1024,
+                    String.format(Locale.ROOT, "%.5f", Math.max(next.usernames.expectedFpp(), next.emails.expectedFpp())));
+        } catch (Exception e) {
+            log.error("Failed to rebuild availability filters, keeping the previous ones: {}", e.getMessage());
+        } finally {
+            building = null;
+        }
+    }
+
+    /**
+     * Checks whether a username and/or an email are still available.
+     *
+     * @param username The username to check, or null to skip it.
+     * @param email    The email to check, or null to skip it.
+     * @return The availability of each requested value.
+     */
+    public AvailabilityResponse checkAvailability(String username, String email) {
+        if (username == null && email == null) {
+            throw new BadRequestException("At least one of 'username' or 'email' must be provided.");
+        }
+        AvailabilityResponse response = new AvailabilityResponse();
+        if (username != null) {
+            response.setUsername(username);
+            response.setUsernameAvailable(isUsernameAvailable(username));
+        }
+        if (email != null) {
+            response.setEmail(email);
+            response.setEmailAvailable(isEmailAvailable(email));
+        }
+        return response;
+    }
+
+    /**
+     * @param username The username to check.
+     * @return true if no user has taken the username.
+     */
+    public boolean isUsernameAvailable(String username) {
+        Filters current = filters;
+        if (current != null && !current.usernames.mightContain(normalize(username))) {
+            return true;
+        }
+        return !userRepository.existsByUsername(username);
+    }
+
+    /**
+     * @param email The email to check.
+     * @return true if no user has registered the email.
+     */
+    public boolean isEmailAvailable(String email) {
+        Filters current = filters;
+        if (current != null && !current.emails.mightContain(normalize(email))) {
+            return true;
+        }
+        return !userRepository.existsByEmail(email);
+    }
+
+    /**
+     * Records a successful registration. If called inside a transaction, the filters are
+     * only updated after it commits.
+     *
+     * @param username The registered username.
+     * @param email    The registered email.
+     */
+    public void recordRegistration(String username, String email) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    addToFilters(username, email);
+                }
+            });
+        } else {
+            addToFilters(username, email);
+        }
+    }
+
+    private void addToFilters(String username, String email) {
+        // The row is already committed here. If a rebuild publishes 'building' after this read,
+        // its snapshot starts later and will contain the row anyway.
+        Filters current = filters;
+        Filters next = building;
+        if (current != null) {
+            current.add(username, email);
+        }
+        if (next != null && next != current) {
+            next.add(username, email);
+        }
+    }
+
+    private static String normalize(String value) {
+        return value.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * A matched pair of username and email filters, swapped as a unit.
+     */
+    private static final class Filters {
+        private final BloomFilter usernames;
+        private final BloomFilter emails;
+
+        private Filters(BloomFilter usernames, BloomFilter emails) {
+            this.usernames = usernames;
+            this.emails = emails;
+        }
+
+        private void add(String username, String email) {
+            usernames.put(normalize(username));
+            emails.put(normalize(email));
+        }
+    }
+}
@@ -7,21 +7,36 @@ package com.archilogic.security.service;
 
 import com.archilogic.entity.User;
 import com.archilogic.repository.UserRepository;
+import com.archilogic.timing.ServerTiming;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Service
 @RequiredArgsConstructor
 public class UserDetailsServiceImpl implements UserDetailsService {
 
     private final UserRepository userRepository;
+    private final UserPrincipalCache userPrincipalCache;
+    private final PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate readTransaction;
+
+    @PostConstruct
+    public void init() {
+        readTransaction = new TransactionTemplate(transactionManager);
+        readTransaction.setReadOnly(true);
+    }
 
     /**
-     * Loads a user by their username for Spring Security.
+     * Loads a user by their username for Spring Security's password check. Always reads the database, so the
+     * password hash never has to be cached.
      *
      * @param username The username of the user to load.
      * @return The UserDetails object for the found user.
@@ -30,8 +45,41 @@ public class UserDetailsServiceImpl implements UserDetailsService {
     @Override
     @Transactional(readOnly = true)
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-        // We use the custom findByUsername with JOIN FETCH to get roles eagerly.
-        return userRepository.findByUsername(username)
-                .orElseThrow(() -> new UsernameNotFoundException("User Not Found with username: " + username));
+        long start = ServerTiming.start();
+        try {
+            return loadFromDatabase(username);
+        } finally {
+            ServerTiming.stop(ServerTiming.USER_LOAD, start);
+        }
+    }
+
+    /**
+     * Loads the principal of an already authenticated request, e.g. from a verified token. Served from the
+     * {@link UserPrincipalCache}; the returned user carries no password hash. Only a cache miss opens a
+     * transaction, so a hit borrows no pooled connection.
+     *
+     * @param username The username of the user to load.
+     * @return The user, with roles.
+     * @throws UsernameNotFoundException if the user is not found.
+     */
+    public User loadPrincipal(String username) throws UsernameNotFoundException {
+        // We use the custom findByUsername with JOIN FETCH to get roles eagerly, so the cached
+        // principal is fully initialized and safe to share across requests.
+        long start = ServerTiming.start();
+        try {
+            return userPrincipalCache.get(username, key -> readTransaction.execute(status -> loadFromDatabase(key)));
+        } finally {
+            ServerTiming.stop(ServerTiming.USER_LOAD, start);
+        }
+    }
+
+    private User loadFromDatabase(String username) {
+        long start = ServerTiming.start();
+        try {
+            return userRepository.findByUsername(username)
+                    .orElseThrow(() -> new UsernameNotFoundException("User Not Found with username: " + username));
+        } finally {
+            ServerTiming.stop(ServerTiming.DB, start);
+        }
     }
 }
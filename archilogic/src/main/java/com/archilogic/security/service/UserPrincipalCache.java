@@ -0,0 +1,118 @@
+/***********************************************************
+ * Copyright (c) 2025. All rights reserved to ArchiLogic.
+ * Developer: Nikhil Gadhavajula
+ **********************************************************/
+
+package com.archilogic.security.service;
+
+import com.archilogic.cache.InvalidationBus;
+import com.archilogic.cache.InvalidationHandler;
+import com.archilogic.entity.User;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.function.Function;
+
+/**
+ * A bounded, node-local cache of fully loaded {@link User} principals (with roles), keyed by username.
+ * <p>
+ * It saves the user lookup that {@code AuthTokenFilter} would otherwise do on every authenticated request.
+ * Entries are detached copies without the password hash, so a heap dump or a leaked principal exposes no
+ * credentials; password checks always read the database.
+ * Entries are evicted cluster-wide through the {@link InvalidationBus} whenever a user or their roles change,
+ * and expire after a TTL as a safety net for lost invalidations.
+ */
+@Component
+@RequiredArgsConstructor
+public class UserPrincipalCache {
+
+    public static final String CACHE_NAME = "users";
+
+    private final InvalidationBus invalidationBus;
+
+    @Value("${archilogic.app.cache.users.maxSize:10000}")
+    private long maxSize;
+
+    @Value("${archilogic.app.cache.users.ttlSeconds:300}")
+    private long ttlSeconds;
+
+    private Cache<String, User> cache;
+
+    @PostConstruct
+    public void init() {
+        cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+        invalidationBus.register(CACHE_NAME, new InvalidationHandler() {
+            @Override
+            public void evict(Collection<String> keys) {
+                cache.invalidateAll(keys);
+            }
+
+            @Override
+            public void evictAll() {
+                cache.invalidateAll();
+            }
+        });
+    }
+
+    /**
+     * Returns the cached principal, loading it on a miss. Concurrent misses for the same
+     * username are coalesced into a single load.
+     *
+     * @param username The username to look up.
+     * @param loader   Loads the user from the database; exceptions propagate and nothing is cached.
+     * @return The user principal, without its password hash.
+     */
+    public User get(String username, Function<String, User> loader) {
+        return cache.get(normalize(username), key -> withoutPassword(loader.apply(username)));
+    }
+
+    /**
+     * Evicts a user from this cache on every node.
+     *
+     * @param username The username whose entry is stale.
+     */
+    public void invalidate(String username) {
+        invalidationBus.publish(CACHE_NAME, normalize(username));
+    }
+
+    /**
+     * Evicts several users from this cache on every node.
+     *
+     * @param usernames The usernames whose entries are stale.
+     */
+    public void invalidateAll(Collection<String> usernames) {
+        invalidationBus.publish(CACHE_NAME, usernames.stream().map(UserPrincipalCache::normalize).toList());
+    }
+
+    private static User withoutPassword(User user) {
+        return User.builder()
+                .id(user.getId())
+                .username(user.getUsername())
+                .first_name(user.getFirst_name())
+                .last_name(user.getLast_name())
+                .email(user.getEmail())
+                .phone_number(user.getPhone_number())
+                .createdAt(user.getCreatedAt())
+                .mediaBytesUsed(user.getMediaBytesUsed())
+                .followerCount(user.getFollowerCount())
+                .emailVerifiedAt(user.getEmailVerifiedAt())
+                .roles(new HashSet<>(user.getRoles()))
+                .build();
+    }
+
+    private static String normalize(String username) {
+        // Usernames are unique case-insensitively under MySQL's default collation.
+        return username.toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,47 @@
+/***********************************************************
+ * Copyright (c) 2025. All rights reserved to ArchiLogic.
+ * Developer: Nikhil Gadhavajula
+ **********************************************************/
+
+package com.archilogic.service;
+
+import org.commonmark.Extension;
+import org.commonmark.ext.gfm.tables.TablesExtension;
+import org.commonmark.parser.Parser;
+import org.commonmark.renderer.html.HtmlRenderer;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Renders article Markdown to HTML.
+ * <p>
+ * Fenced code blocks become {@code <pre><code class="language-xyz">} so the client can highlight them.
+ * Raw HTML in the source is escaped and unsafe link targets are dropped, so the output can be embedded as is.
+ * The parser and renderer are immutable and shared by all threads.
+ */
+@Component
+public class ArticleRenderer {
+
+    /**
+     * Bump whenever the output for the same input changes, so clients drop ETags from the previous renderer.
+     */
+    public static final int VERSION = 1;
+
+    private static final List<Extension> EXTENSIONS = List.of(TablesExtension.create());
+
+    private final Parser parser = Parser.builder().extensions(EXTENSIONS).build();
+    private final HtmlRenderer renderer = HtmlRenderer.builder()
+            .extensions(EXTENSIONS)
+            .escapeHtml(true)
+            .sanitizeUrls(true)
+            .build();
+
+    /**
+     * @param markdown The article body.
+     * @return The rendered HTML fragment.
+     */
+    public String render(String markdown) {
+        return renderer.render(parser.parse(markdown));
+    }
+}
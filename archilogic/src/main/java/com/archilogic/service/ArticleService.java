@@ -0,0 +1,270 @@
+/***********************************************************
+ * Copyright (c) 2025. All rights reserved to ArchiLogic.
+ * Developer: Nikhil Gadhavajula
+ **********************************************************/
+
+package com.archilogic.service;
+
+import com.archilogic.dto.ArticleFeedItem;
+import com.archilogic.dto.ArticleRequest;
+import com.archilogic.dto.ArticleResponse;
+import com.archilogic.dto.ArticleSearchHit;
+import com.archilogic.dto.AuthorSummary;
+import com.archilogic.dto.CursorPage;
+import com.archilogic.dto.SearchResultPage;
+import com.archilogic.entity.Article;
+import com.archilogic.entity.User;
+import com.archilogic.event.ArticleChangedEvent;
+import com.archilogic.exception.NotFoundException;
+import com.archilogic.repository.ArticleRepository;
+import com.archilogic.repository.ArticleStatsRepository;
+import com.archilogic.repository.UserRepository;
+import com.archilogic.search.ArticleSearchIndex;
+import com.archilogic.search.RelatedArticlesIndex;
+import com.archilogic.util.FeedCursor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.security.SecureRandom;
+import java.text.Normalizer;
+import java.time.Instant;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Creates, edits and lists articles.
+ */
+@Service
+@RequiredArgsConstructor
+public class ArticleService {
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+    private static final String SLUG_ALPHABET = "abcdefghijklmnopqrstuvwxyz0123456789";
+
+    private final ArticleRepository articleRepository;
+    private final UserRepository userRepository;
+    private final ArticleStatsRepository articleStatsRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ArticleSearchIndex searchIndex;
+    private final RelatedArticlesIndex relatedArticlesIndex;
+
+    /**
+     * Returns one page of the public feed, newest first.
+     *
+     * @param cursor The cursor returned with the previous page, or null for the first page.
+     * @param size   The maximum number of articles to return.
+     * @return The page, with a cursor for the next one if more articles may follow.
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<ArticleFeedItem> getFeed(String cursor, int size) {
+        // The page is picked from the index alone, then only its rows are read and joined with their authors.
+        List<ArticleRepository.FeedPosition> positions;
+        if (cursor == null || cursor.isBlank()) {
+            positions = articleRepository.findFeedPositions(Limit.of(size));
+        } else {
+            FeedCursor position = FeedCursor.decode(cursor);
+            positions = articleRepository.findFeedPositionsAfter(position.getPublishedAt(), position.getId(), Limit.of(size));
+        }
+        if (positions.isEmpty()) {
+            return new CursorPage<>(List.of(), null);
+        }
+        List<Long> ids = positions.stream().map(ArticleRepository.FeedPosition::getId).toList();
+        Map<Long, ArticleFeedItem> items = articleRepository.findFeedItemsByIds(ids).stream()
+                .collect(Collectors.toMap(ArticleFeedItem::getId, Function.identity()));
+        String nextCursor = null;
+        if (positions.size() == size) {
+            ArticleRepository.FeedPosition last = positions.get(positions.size() - 1);
+            nextCursor = new FeedCursor(last.getPublishedAt(), last.getId()).encode();
+        }
+        // An article unpublished between the two reads is skipped.
+        return new CursorPage<>(ids.stream().filter(items::containsKey).map(items::get).toList(), nextCursor);
+    }
+
+    /**
+     * Returns the published articles with the highest trending score, i.e. the most engagement recently.
+     *
+     * @param size The number of articles.
+     * @return The articles, most trending first.
+     */
+    @Transactional(readOnly = true)
+    public List<ArticleFeedItem> getTrending(int size) {
+        return articleStatsRepository.findTrending(Limit.of(size));
+    }
+
+    /**
+     * Full-text search over published articles, ranked by relevance.
+     *
+     * @param query The search query.
+     * @param page  The zero-based page number.
+     * @param size  The page size.
+     * @return The page of hits, each decorated with the article's feed data and a highlighted excerpt.
+     */
+    @Transactional(readOnly = true)
+    public SearchResultPage search(String query, int page, int size) {
+        ArticleSearchIndex.Result result = searchIndex.search(query, page * size, size);
+        if (result.getHits().isEmpty()) {
+            return new SearchResultPage(List.of(), result.getTotalHits(), page, size);
+        }
+        List<Long> ids = result.getHits().stream().map(ArticleSearchIndex.Hit::getArticleId).toList();
+        Map<Long, ArticleFeedItem> items = articleRepository.findFeedItemsByIds(ids).stream()
+                .collect(Collectors.toMap(ArticleFeedItem::getId, Function.identity()));
+        // Keep the index order; skip hits whose article was unpublished after the last index refresh.
+        List<ArticleSearchHit> hits = result.getHits().stream()
+                .filter(hit -> items.containsKey(hit.getArticleId()))
+                .map(hit -> new ArticleSearchHit(items.get(hit.getArticleId()), hit.getScore(), hit.getHighlight()))
+                .toList();
+        return new SearchResultPage(hits, result.getTotalHits(), page, size);
+    }
+
+    /**
+     * Returns the published articles most similar to a given one, from the in-memory related-articles index.
+     *
+     * @param id   The article id.
+     * @param size The maximum number of articles.
+     * @return The related articles, most similar first; empty if the article is unknown or has no close match.
+     */
+    @Transactional(readOnly = true)
+    public List<ArticleFeedItem> getRelated(Long id, int size) {
+        List<Long> ids = relatedArticlesIndex.related(id, size).stream().map(RelatedArticlesIndex.Match::getArticleId).toList();
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, ArticleFeedItem> items = articleRepository.findFeedItemsByIds(ids).stream()
+                .collect(Collectors.toMap(ArticleFeedItem::getId, Function.identity()));
+        return ids.stream().filter(items::containsKey).map(items::get).toList();
+    }
+
+    /**
+     * Returns a published article.
+     *
+     * @param id The article id.
+     * @return The article.
+     * @throws NotFoundException if the article does not exist or is not published.
+     */
+    @Transactional(readOnly = true)
+    public ArticleResponse getPublishedArticle(Long id) {
+        Article article = articleRepository.findWithAuthorById(id)
+                .filter(Article::isPublished)
+                .orElseThrow(() -> new NotFoundException("Error: Article not found with id: " + id));
+        return toResponse(article);
+    }
+
+    /**
+     * Creates an article owned by the given user.
+     *
+     * @param request The article content.
+     * @param author  The authenticated author.
+     * @return The created article.
+     */
+    @Transactional
+    public ArticleResponse createArticle(ArticleRequest request, User author) {
+        Article article = Article.builder()
+                .author(userRepository.getReferenceById(author.getId()))
+                .title(request.getTitle())
+                .slug(slugify(request.getTitle()))
+                .summary(request.getSummary())
+                .body(request.getBody())
+                .tags(joinTags(request.getTags()))
+                .publishedAt(request.isPublish() ? Instant.now() : null)
+                .build();
+        article = articleRepository.save(article);
+        publishChange(article, article.isPublished());
+        return toResponse(article, author);
+    }
+
+    /**
+     * Edits an article. Only its author may do so.
+     *
+     * @param id      The article id.
+     * @param request The new article content.
+     * @param editor  The authenticated user.
+     * @return The updated article.
+     * @throws NotFoundException     if the article does not exist.
+     * @throws AccessDeniedException if the user is not the author.
+     */
+    @Transactional
+    public ArticleResponse updateArticle(Long id, ArticleRequest request, User editor) {
+        Article article = articleRepository.findWithAuthorById(id)
+                .orElseThrow(() -> new NotFoundException("Error: Article not found with id: " + id));
+        if (!article.getAuthor().getId().equals(editor.getId())) {
+            throw new AccessDeniedException("Only the author can edit this article.");
+        }
+        article.setTitle(request.getTitle());
+        article.setSummary(request.getSummary());
+        article.setBody(request.getBody());
+        article.setTags(joinTags(request.getTags()));
+        boolean newlyPublished = request.isPublish() && !article.isPublished();
+        if (newlyPublished) {
+            article.setPublishedAt(Instant.now());
+        }
+        // Flush so the returned revision reflects this edit.
+        articleRepository.saveAndFlush(article);
+        publishChange(article, newlyPublished);
+        return toResponse(article);
+    }
+
+    /**
+     * Announces the change; listeners react after the transaction commits.
+     */
+    private void publishChange(Article article, boolean newlyPublished) {
+        eventPublisher.publishEvent(new ArticleChangedEvent(article.getId(), article.getRevision(),
+                article.getAuthor().getId(), article.getTitle(), article.getSummary(), article.getBody(),
+                article.getTags(), article.getPublishedAt(), newlyPublished));
+    }
+
+    private static ArticleResponse toResponse(Article article) {
+        return toResponse(article, article.getAuthor());
+    }
+
+    private static ArticleResponse toResponse(Article article, User author) {
+        return ArticleResponse.builder()
+                .id(article.getId())
+                .title(article.getTitle())
+                .slug(article.getSlug())
+                .summary(article.getSummary())
+                .body(article.getBody())
+                .tags(article.getTags())
+                .publishedAt(article.getPublishedAt())
+                .updatedAt(article.getUpdatedAt())
+                .revision(article.getRevision())
+                .author(new AuthorSummary(author.getId(), author.getUsername(), author.getFirst_name(), author.getLast_name()))
+                .build();
+    }
+
+    private static String joinTags(List<String> tags) {
+        if (tags == null || tags.isEmpty()) {
+            return null;
+        }
+        return tags.stream()
+                .map(tag -> tag.trim().toLowerCase(Locale.ROOT).replace(",", ""))
+                .filter(tag -> !tag.isEmpty())
+                .distinct()
+                .collect(Collectors.joining(","));
+    }
+
+    /**
+     * Builds a URL-friendly slug from the title with a random suffix, so equal titles never collide.
+     */
+    private static String slugify(String title) {
+        String base = Normalizer.normalize(title, Normalizer.Form.NFD)
+                .replaceAll("\\p{M}", "")
+                .toLowerCase(Locale.ROOT)
+                .replaceAll("[^a-z0-9]+", "-")
+                .replaceAll("(^-+|-+$)", "");
+        if (base.length() > 200) {
+            base = base.substring(0, 200);
+        }
+        StringBuilder slug = new StringBuilder(base.length() + 7).append(base).append(base.isEmpty() ? "" : "-");
+        for (int i = 0; i < 6; i++) {
+            slug.append(SLUG_ALPHABET.charAt(RANDOM.nextInt(SLUG_ALPHABET.length())));
+        }
+        return slug.toString();
+    }
+}
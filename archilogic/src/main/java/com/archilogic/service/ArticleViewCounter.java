@@ -0,0 +1,247 @@
+/***********************************************************
+ * Copyright (c) 2025. All rights reserved to ArchiLogic.
+ * Developer: Nikhil Gadhavajula
+ **********************************************************/
+
+package com.archilogic.service;
+
+import com.archilogic.dto.ArticleStatsResponse;
+import com.archilogic.entity.ArticleStats;
+import com.archilogic.repository.ArticleStatsRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts article views and read completions in memory and flushes them to {@code article_stats} in batches.
+ * <p>
+ * Each article gets a pair of {@link LongAdder}s, so concurrent increments from many request threads hit
+ * different cells instead of one contended counter, and no request ever waits on a row lock. Every
+ * {@code flushIntervalMs} the accumulated deltas are drained and written with one batched, additive upsert
+ * ({@code view_count = view_count + ?}), which several nodes can run concurrently without coordination.
+ * <p>
+ * Loss window: counts live only in memory until the next flush, so a crash loses at most the last
+ * {@code flushIntervalMs} of counts on that node. A clean shutdown flushes first. A failed flush puts its
+ * deltas back and retries them with the next one.
+ * <p>
+ * Each client counts once per article and window: a view once per client address, a read once per user, within
+ * {@code dedupWindowMinutes}. Reloads and conditional revalidations therefore don't inflate the counters. The
+ * window is tracked per node, so a client whose requests are spread over several nodes may count once per node.
+ * <p>
+ * The trending score uses forward decay: a delta of weight {@code w} flushed at time {@code t} contributes
+ * {@code w * exp(lambda * t)}, with {@code lambda = ln 2 / halfLife}. Older contributions are thus worth half as
+ * much per half-life relative to new ones, and since the decay factor is common to all articles, ranking needs no
+ * periodic rescoring. The sum is stored as its natural log and accumulated with log-sum-exp to stay in range.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ArticleViewCounter {
+
+    /**
+     * Origin of the forward-decay clock. Only differences matter; a recent origin keeps the exponents small.
+     */
+    private static final Instant DECAY_EPOCH = Instant.parse("2025-01-01T00:00:00Z");
+
+    private static final String UPSERT_SQL = "INSERT INTO article_stats "
+            + "(article_id, view_count, read_count, trending_score, updated_at) VALUES (?, ?, ?, ?, ?) "
+            + "ON DUPLICATE KEY UPDATE "
+            + "view_count = view_count + VALUES(view_count), "
+            + "read_count = read_count + VALUES(read_count), "
+            + "trending_score = GREATEST(trending_score, VALUES(trending_score)) "
+            + "+ LN(1 + EXP(-ABS(trending_score - VALUES(trending_score)))), "
+            + "updated_at = VALUES(updated_at)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ArticleStatsRepository articleStatsRepository;
+
+    @Value("${archilogic.app.counters.readWeight:3}")
+    private double readWeight;
+
+    @Value("${archilogic.app.counters.trendingHalfLifeHours:24}")
+    private double trendingHalfLifeHours;
+
+    @Value("${archilogic.app.counters.dedupWindowMinutes:30}")
+    private long dedupWindowMinutes;
+
+    @Value("${archilogic.app.counters.dedupMaxEntries:500000}")
+    private long dedupMaxEntries;
+
+    private final Map<Long, Counters> counters = new ConcurrentHashMap<>();
+
+    /**
+     * The (kind, article, client) keys counted within the dedup window.
+     */
+    private Cache<String, Boolean> recentlyCounted;
+
+    /**
+     * Counters removed from the map on the previous flush. A request thread may still have been holding one
+     * and incremented it after it was drained, so each is drained once more before it is dropped.
+     */
+    private List<Map.Entry<Long, Counters>> retired = new ArrayList<>();
+
+    @PostConstruct
+    public void init() {
+        recentlyCounted = Caffeine.newBuilder()
+                .maximumSize(dedupMaxEntries)
+                .expireAfterWrite(Duration.ofMinutes(dedupWindowMinutes))
+                .build();
+    }
+
+    /**
+     * Counts a view of the article, unless the client was already counted within the dedup window.
+     *
+     * @param articleId     The article id.
+     * @param clientAddress The address of the viewing client.
+     */
+    public void recordView(Long articleId, String clientAddress) {
+        if (firstWithinWindow("v:" + articleId + ':' + clientAddress)) {
+            counters.computeIfAbsent(articleId, id -> new Counters()).views.increment();
+        }
+    }
+
+    /**
+     * Counts a completed read of the article, unless the user was already counted within the dedup window.
+     *
+     * @param articleId The article id.
+     * @param userId    The reading user.
+     */
+    public void recordRead(Long articleId, Long userId) {
+        if (firstWithinWindow("r:" + articleId + ':' + userId)) {
+            counters.computeIfAbsent(articleId, id -> new Counters()).reads.increment();
+        }
+    }
+
+    /**
+     * Returns the counters of an article: the flushed totals plus whatever this node has not flushed yet.
+     *
+     * @param articleId The article id.
+     * @return The counters.
+     */
+    public ArticleStatsResponse getStats(Long articleId) {
+        ArticleStats stats = articleStatsRepository.findById(articleId).orElse(null);
+        Counters pending = counters.get(articleId);
+        long views = (stats == null ? 0 : stats.getViewCount()) + (pending == null ? 0 : pending.views.sum());
+        long reads = (stats == null ? 0 : stats.getReadCount()) + (pending == null ? 0 : pending.reads.sum());
+        return new ArticleStatsResponse(articleId, views, reads);
+    }
+
+    /**
+     * Writes all accumulated deltas to the database in one batch.
+     */
+    @Scheduled(fixedDelayString = "${archilogic.app.counters.flushIntervalMs:5000}")
+    public synchronized void flush() {
+        List<Delta> deltas = new ArrayList<>();
+        for (Map.Entry<Long, Counters> entry : retired) {
+            drain(entry.getKey(), entry.getValue(), deltas);
+        }
+        List<Map.Entry<Long, Counters>> idle = new ArrayList<>();
+        for (Map.Entry<Long, Counters> entry : counters.entrySet()) {
+            if (!drain(entry.getKey(), entry.getValue(), deltas)) {
+                idle.add(entry);
+            }
+        }
+        // Drop counters of articles nobody viewed since the last flush, so the map only holds active articles.
+        idle.forEach(entry -> counters.remove(entry.getKey(), entry.getValue()));
+        retired = idle;
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        // Lock rows in a consistent order so concurrent flushes from several nodes cannot deadlock.
+        deltas.sort(Comparator.comparing(Delta::articleId));
+        Instant now = Instant.now();
+        try {
+            write(deltas, now);
+        } catch (RuntimeException e) {
+            log.error("Failed to flush counters for {} article(s), will retry: {}", deltas.size(), e.getMessage());
+            for (Delta delta : deltas) {
+                Counters target = counters.computeIfAbsent(delta.articleId, id -> new Counters());
+                target.views.add(delta.views);
+                target.reads.add(delta.reads);
+            }
+        }
+    }
+
+    /**
+     * Flushes the last deltas before the node shuts down.
+     */
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    private boolean firstWithinWindow(String key) {
+        return recentlyCounted.asMap().putIfAbsent(key, Boolean.TRUE) == null;
+    }
+
+    /**
+     * Moves the current values out of the adders. {@code sum()} followed by {@code add(-sum)} never loses an
+     * increment that races with it, unlike {@code sumThenReset()}.
+     *
+     * @return false if there was nothing to drain.
+     */
+    private static boolean drain(Long articleId, Counters source, List<Delta> deltas) {
+        long views = source.views.sum();
+        long reads = source.reads.sum();
+        if (views == 0 && reads == 0) {
+            return false;
+        }
+        source.views.add(-views);
+        source.reads.add(-reads);
+        deltas.add(new Delta(articleId, views, reads));
+        return true;
+    }
+
+    private void write(List<Delta> deltas, Instant now) {
+        double lambda = Math.log(2) / trendingHalfLifeHours;
+        double decayClock = lambda * Duration.between(DECAY_EPOCH, now).toMillis() / 3_600_000.0;
+        Timestamp updatedAt = Timestamp.from(now);
+        jdbcTemplate.batchUpdate(UPSERT_SQL, deltas, deltas.size(), (ps, delta) -> {
+            double weight = delta.views + readWeight * delta.reads;
+            ps.setLong(1, delta.articleId);
+            ps.setLong(2, delta.views);
+            ps.setLong(3, delta.reads);
+            ps.setDouble(4, Math.log(weight) + decayClock);
+            ps.setTimestamp(5, updatedAt);
+        });
+    }
+
+    private static final class Counters {
+        private final LongAdder views = new LongAdder();
+        private final LongAdder reads = new LongAdder();
+    }
+
+    private static final class Delta {
+        private final Long articleId;
+        private final long views;
+        private final long reads;
+
+        private Delta(Long articleId, long views, long reads) {
+            this.articleId = articleId;
+            this.views = views;
+            this.reads = reads;
+        }
+
+        private Long articleId() {
+            return articleId;
+        }
+    }
+}
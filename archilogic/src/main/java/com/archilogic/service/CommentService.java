@@ -0,0 +1,230 @@
+/***********************************************************
+ * Copyright (c) 2025. All rights reserved to ArchiLogic.
+ * Developer: Nikhil Gadhavajula
+ **********************************************************/
+
+package com.archilogic.service;
+
+import com.archilogic.dto.AuthorSummary;
+import com.archilogic.dto.CommentRequest;
+import com.archilogic.dto.CommentResponse;
+import com.archilogic.dto.CursorPage;
+import com.archilogic.entity.Article;
+import com.archilogic.entity.Comment;
+import com.archilogic.entity.User;
+import com.archilogic.exception.BadRequestException;
+import com.archilogic.exception.NotFoundException;
+import com.archilogic.repository.ArticleRepository;
+import com.archilogic.repository.CommentRepository;
+import com.archilogic.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Posts comments and loads comment threads.
+ * <p>
+ * Every read is a single SQL statement that returns the comments in depth-first order (sorted by materialized
+ * path) with their authors joined in; the tree is then assembled in one pass. See {@link Comment} for the layout.
+ */
+@Service
+@RequiredArgsConstructor
+public class CommentService {
+
+    private static final String COLUMNS = "c.id, c.parent_id, c.depth, c.body, c.created_at, c.reply_count, "
+            + "c.descendant_count, u.id, u.username, u.first_name, u.last_name ";
+
+    /**
+     * A page of top-level threads of an article, each with its replies down to a maximum depth. The derived table
+     * picks the page of roots from {@code idx_comments_roots}; each thread is then a range on {@code idx_comments_thread}.
+     */
+    private static final String THREADS_SQL = "SELECT " + COLUMNS
+            + "FROM (SELECT id FROM comments WHERE article_id = ? AND depth = 0 AND id > ? ORDER BY id LIMIT ?) r "
+            + "JOIN comments c ON c.root_id = r.id "
+            + "JOIN users u ON u.id = c.author_id "
+            + "WHERE c.depth <= ? "
+            + "ORDER BY c.path LIMIT ?";
+
+    /**
+     * A comment and its replies down to a relative depth: a prefix range on the path within the thread.
+     */
+    private static final String SUBTREE_SQL = "SELECT " + COLUMNS
+            + "FROM comments s "
+            + "JOIN comments c ON c.root_id = s.root_id AND c.path LIKE CONCAT(s.path, '%') "
+            + "JOIN users u ON u.id = c.author_id "
+            + "WHERE s.id = ? AND c.depth <= s.depth + ? "
+            + "ORDER BY c.path LIMIT ?";
+
+    private static final RowMapper<CommentResponse> ROW_MAPPER = (rs, rowNum) -> {
+        Timestamp createdAt = rs.getTimestamp(5);
+        long parentId = rs.getLong(2);
+        return CommentResponse.builder()
+                .id(rs.getLong(1))
+                .parentId(rs.wasNull() ? null : parentId)
+                .depth(rs.getInt(3))
+                .body(rs.getString(4))
+                .createdAt(createdAt == null ? null : createdAt.toInstant())
+                .replyCount(rs.getInt(6))
+                .descendantCount(rs.getInt(7))
+                .author(new AuthorSummary(rs.getLong(8), rs.getString(9), rs.getString(10), rs.getString(11)))
+                .build();
+    };
+
+    private final CommentRepository commentRepository;
+    private final ArticleRepository articleRepository;
+    private final UserRepository userRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * The deepest nesting level accepted. Limited by the path column: 25 segments of 10 characters fit in 255.
+     */
+    @Value("${archilogic.app.comments.maxDepth:24}")
+    private int maxDepth;
+
+    /**
+     * Upper bound on the comments returned by one request, whatever the page size and depth.
+     */
+    @Value("${archilogic.app.comments.maxRowsPerRequest:1000}")
+    private int maxRowsPerRequest;
+
+    /**
+     * Returns a page of top-level threads, oldest first, each with replies down to {@code depth} levels.
+     *
+     * @param articleId The article id.
+     * @param cursor    The cursor returned with the previous page, or null for the first page.
+     * @param size      The number of top-level comments per page.
+     * @param depth     How many levels of replies to include (0 for top-level comments only).
+     * @return The threads, with a cursor for the next page if more may follow.
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<CommentResponse> getThreads(Long articleId, String cursor, int size, int depth) {
+        long afterId = parseCursor(cursor);
+        List<CommentResponse> rows = jdbcTemplate.query(THREADS_SQL, ROW_MAPPER,
+                articleId, afterId, size, depth, maxRowsPerRequest);
+        List<CommentResponse> threads = assemble(rows);
+        if (threads.isEmpty()) {
+            return new CursorPage<>(threads, null);
+        }
+        // A truncated result may have cut off whole threads; continue after the last one that was returned.
+        boolean truncated = rows.size() == maxRowsPerRequest;
+        String nextCursor = threads.size() == size || truncated ? String.valueOf(threads.get(threads.size() - 1).getId()) : null;
+        return new CursorPage<>(threads, nextCursor);
+    }
+
+    /**
+     * Returns a comment with its replies down to {@code depth} levels below it.
+     *
+     * @param commentId The comment id.
+     * @param depth     How many levels of replies to include.
+     * @return The comment and its replies.
+     * @throws NotFoundException if the comment does not exist.
+     */
+    @Transactional(readOnly = true)
+    public CommentResponse getThread(Long commentId, int depth) {
+        List<CommentResponse> rows = jdbcTemplate.query(SUBTREE_SQL, ROW_MAPPER, commentId, depth, maxRowsPerRequest);
+        if (rows.isEmpty()) {
+            throw new NotFoundException("Error: Comment not found with id: " + commentId);
+        }
+        return assemble(rows).get(0);
+    }
+
+    /**
+     * Posts a comment on a published article, optionally as a reply.
+     *
+     * @param articleId The article id.
+     * @param request   The comment.
+     * @param author    The authenticated author.
+     * @return The new comment.
+     * @throws NotFoundException        if the article or the parent comment does not exist.
+     * @throws BadRequestException if the reply would be nested too deeply.
+     */
+    @Transactional
+    public CommentResponse addComment(Long articleId, CommentRequest request, User author) {
+        Article article = articleRepository.findById(articleId)
+                .filter(Article::isPublished)
+                .orElseThrow(() -> new NotFoundException("Error: Article not found with id: " + articleId));
+        Comment parent = null;
+        if (request.getParentId() != null) {
+            parent = commentRepository.findById(request.getParentId())
+                    .filter(candidate -> candidate.getArticle().getId().equals(articleId))
+                    .orElseThrow(() -> new NotFoundException("Error: Comment not found with id: " + request.getParentId()));
+            if (parent.getDepth() + 1 > maxDepth) {
+                throw new BadRequestException("Error: Replies cannot be nested more than " + maxDepth + " levels deep.");
+            }
+        }
+
+        Comment comment = commentRepository.save(Comment.builder()
+                .article(article)
+                .author(userRepository.getReferenceById(author.getId()))
+                .parentId(parent == null ? null : parent.getId())
+                .depth(parent == null ? 0 : parent.getDepth() + 1)
+                .path("")
+                .body(request.getBody())
+                .build());
+        // The id is only known after the insert; the path and root are written with the same flush.
+        comment.setRootId(parent == null ? comment.getId() : parent.getRootId());
+        comment.setPath((parent == null ? "" : parent.getPath()) + Comment.segment(comment.getId()));
+        if (parent != null) {
+            commentRepository.incrementReplyCounts(parent.getId(), ancestorIds(parent.getPath()));
+        }
+
+        return CommentResponse.builder()
+                .id(comment.getId())
+                .parentId(comment.getParentId())
+                .depth(comment.getDepth())
+                .body(comment.getBody())
+                .createdAt(comment.getCreatedAt())
+                .author(new AuthorSummary(author.getId(), author.getUsername(), author.getFirst_name(), author.getLast_name()))
+                .build();
+    }
+
+    /**
+     * Builds the forest from rows in path order: every parent precedes its replies, so one pass suffices.
+     * Rows whose parent is not part of the result become roots.
+     */
+    private static List<CommentResponse> assemble(List<CommentResponse> rows) {
+        Map<Long, CommentResponse> byId = new HashMap<>(rows.size() * 2);
+        List<CommentResponse> roots = new ArrayList<>();
+        for (CommentResponse row : rows) {
+            CommentResponse parent = row.getParentId() == null ? null : byId.get(row.getParentId());
+            if (parent == null) {
+                roots.add(row);
+            } else {
+                parent.getReplies().add(row);
+            }
+            byId.put(row.getId(), row);
+        }
+        for (CommentResponse row : rows) {
+            row.setMoreReplies(row.getReplies().size() < row.getReplyCount());
+        }
+        return roots;
+    }
+
+    private static List<Long> ancestorIds(String path) {
+        List<Long> ids = new ArrayList<>(path.length() / Comment.SEGMENT_LENGTH);
+        for (int i = 0; i < path.length(); i += Comment.SEGMENT_LENGTH) {
+            ids.add(Long.parseLong(path.substring(i, i + Comment.SEGMENT_LENGTH), 36));
+        }
+        return ids;
+    }
+
+    private static long parseCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return 0L;
+        }
+        try {
+            return Long.parseLong(cursor);
+        } catch (NumberFormatException e) {
+            throw new BadRequestException("Invalid cursor: " + cursor);
+        }
+    }
+}
@@ -0,0 +1,363 @@
+/***********************************************************
+ * Copyright (c) 2025. All rights reserved to ArchiLogic.
+ * Developer: Nikhil Gadhavajula
+ **********************************************************/
+
+package com.archilogic.service;
+
+import com.archilogic.dto.DraftEdit;
+import com.archilogic.dto.DraftPatchRequest;
+import com.archilogic.dto.DraftRequest;
+import com.archilogic.dto.DraftResponse;
+import com.archilogic.dto.DraftSaveResponse;
+import com.archilogic.entity.Article;
+import com.archilogic.entity.Draft;
+import com.archilogic.entity.DraftSnapshot;
+import com.archilogic.entity.User;
+import com.archilogic.exception.BadRequestException;
+import com.archilogic.exception.NotFoundException;
+import com.archilogic.exception.RevisionConflictException;
+import com.archilogic.repository.ArticleRepository;
+import com.archilogic.repository.DraftDeltaRepository;
+import com.archilogic.repository.DraftRepository;
+import com.archilogic.repository.DraftSnapshotRepository;
+import com.archilogic.util.TextPatch;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import lombok.AllArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Autosaves editor drafts as text deltas.
+ * <p>
+ * An autosave sends only the edits made since the revision the editor last saw. The save is accepted only if the
+ * draft is still at that revision (a conditional update), so two editors on the same draft can't silently undo
+ * each other: the slower one gets a 409 with the current revision and reloads. The encoded edits are appended to
+ * the {@code draft_deltas} log, usually a few dozen bytes instead of the whole body. The {@code drafts} row itself
+ * only carries the revision and the metadata; the body lives in {@code draft_snapshots}, so the per-save update
+ * doesn't rewrite it (nor log it to a row-based binlog).
+ * <p>
+ * To keep rebuilding a draft cheap, the log is compacted: once {@code compactEvery} deltas or
+ * {@code compactMaxDeltaBytes} of them have piled up since the last snapshot, the save writes the full body as the
+ * new snapshot and drops the absorbed deltas instead of appending. Reading a draft thus applies at most that many
+ * deltas. The current body of recently saved drafts is also kept in a node-local cache, so a save normally applies
+ * the edits in memory without reading anything; the cache is only trusted when it is at the base revision, which
+ * the conditional update then confirms.
+ */
+@Service
+@RequiredArgsConstructor
+public class DraftService {
+
+    private static final int MAX_LOAD_ATTEMPTS = 3;
+
+    private final DraftRepository draftRepository;
+    private final DraftDeltaRepository draftDeltaRepository;
+    private final DraftSnapshotRepository draftSnapshotRepository;
+    private final ArticleRepository articleRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${archilogic.app.drafts.compactEvery:50}")
+    private int compactEvery;
+
+    @Value("${archilogic.app.drafts.compactMaxDeltaBytes:65536}")
+    private long compactMaxDeltaBytes;
+
+    @Value("${archilogic.app.drafts.maxBodyChars:1000000}")
+    private int maxBodyChars;
+
+    @Value("${archilogic.app.drafts.listLimit:100}")
+    private int listLimit;
+
+    @Value("${archilogic.app.drafts.cache.maxBytes:67108864}")
+    private long cacheMaxBytes;
+
+    @Value("${archilogic.app.drafts.cache.idleMinutes:30}")
+    private long cacheIdleMinutes;
+
+    private TransactionTemplate writeTransaction;
+    private TransactionTemplate readTransaction;
+    private Cache<Long, CurrentBody> bodies;
+
+    @PostConstruct
+    public void init() {
+        writeTransaction = new TransactionTemplate(transactionManager);
+        readTransaction = new TransactionTemplate(transactionManager);
+        readTransaction.setReadOnly(true);
+        bodies = Caffeine.newBuilder()
+                .maximumWeight(cacheMaxBytes)
+                .weigher((Long id, CurrentBody body) -> body.weight())
+                .expireAfterAccess(Duration.ofMinutes(cacheIdleMinutes))
+                .build();
+    }
+
+    /**
+     * Starts a draft, either of a new article or of one of the user's articles.
+     *
+     * @param request The initial content; missing fields are taken from the article, if any.
+     * @param owner   The authenticated user.
+     * @return The draft at revision 0.
+     * @throws NotFoundException     if the article does not exist.
+     * @throws AccessDeniedException if the user is not the article's author.
+     */
+    public DraftResponse createDraft(DraftRequest request, User owner) {
+        Loaded created = writeTransaction.execute(status -> {
+            Draft.DraftBuilder builder = Draft.builder()
+                    .ownerId(owner.getId())
+                    .articleId(request.getArticleId())
+                    .title(request.getTitle())
+                    .summary(request.getSummary())
+                    .tags(request.getTags());
+            String body = request.getBody() == null ? "" : request.getBody();
+            if (request.getArticleId() != null) {
+                Article article = articleRepository.findWithAuthorById(request.getArticleId())
+                        .orElseThrow(() -> new NotFoundException("Error: Article not found with id: " + request.getArticleId()));
+                if (!article.getAuthor().getId().equals(owner.getId())) {
+                    throw new AccessDeniedException("Only the author can draft changes to this article.");
+                }
+                builder.title(request.getTitle() == null ? article.getTitle() : request.getTitle())
+                        .summary(request.getSummary() == null ? article.getSummary() : request.getSummary())
+                        .tags(request.getTags() == null ? article.getTags() : request.getTags());
+                body = request.getBody() == null ? article.getBody() : request.getBody();
+            }
+            Draft draft = draftRepository.save(builder.build());
+            draftSnapshotRepository.insert(draft.getId(), 0, body);
+            return new Loaded(draft, new CurrentBody(owner.getId(), 0, body, 0, 0));
+        });
+        bodies.put(created.draft.getId(), created.body);
+        return toResponse(created.draft, created.body.text);
+    }
+
+    /**
+     * Lists the user's drafts, most recently saved first, without their bodies.
+     *
+     * @param owner The authenticated user.
+     * @return The drafts.
+     */
+    public List<DraftResponse> listDrafts(User owner) {
+        return readTransaction.execute(status -> draftRepository.findSummariesByOwnerId(owner.getId(), Limit.of(listLimit))
+                .stream()
+                .map(view -> DraftResponse.builder()
+                        .id(view.getId())
+                        .articleId(view.getArticleId())
+                        .title(view.getTitle())
+                        .revision(view.getRevision())
+                        .updatedAt(view.getUpdatedAt())
+                        .build())
+                .toList());
+    }
+
+    /**
+     * Returns a draft with its current body.
+     *
+     * @param id    The draft id.
+     * @param owner The authenticated user.
+     * @return The draft.
+     * @throws NotFoundException if the draft does not exist or belongs to someone else.
+     */
+    public DraftResponse getDraft(Long id, User owner) {
+        Loaded loaded = load(id, owner);
+        return toResponse(loaded.draft, loaded.body.text);
+    }
+
+    /**
+     * Applies an autosave.
+     *
+     * @param id      The draft id.
+     * @param request The base revision, the body edits against it and optionally new metadata.
+     * @param owner   The authenticated user.
+     * @return The new revision.
+     * @throws NotFoundException         if the draft does not exist or belongs to someone else.
+     * @throws RevisionConflictException if the draft is no longer at the base revision.
+     * @throws BadRequestException       if the edits don't fit the base body or the body gets too long.
+     */
+    public DraftSaveResponse saveDraft(Long id, DraftPatchRequest request, User owner) {
+        long baseRevision = request.getBaseRevision();
+        List<TextPatch.Edit> edits = new ArrayList<>(request.getEdits().size());
+        for (DraftEdit edit : request.getEdits()) {
+            edits.add(new TextPatch.Edit(edit.getOffset(), edit.getDeleteCount(), edit.getInsert()));
+        }
+        TextPatch patch = TextPatch.of(edits);
+
+        CurrentBody base = bodyAt(id, baseRevision, owner);
+        String text = patch.applyTo(base.text);
+        if (text.length() > maxBodyChars) {
+            throw new BadRequestException("Drafts are limited to " + maxBodyChars + " characters.");
+        }
+        // Logged even when empty (a metadata-only save), so every revision after the snapshot has its delta.
+        byte[] encoded = patch.encode();
+        long revision = baseRevision + 1;
+        long deltaBytes = base.deltaBytes + encoded.length;
+        boolean compact = revision - base.snapshotRevision >= compactEvery || deltaBytes > compactMaxDeltaBytes;
+
+        writeTransaction.executeWithoutResult(status -> {
+            Instant now = Instant.now();
+            if (draftRepository.advanceRevision(id, owner.getId(), baseRevision,
+                    request.getTitle(), request.getSummary(), request.getTags(), now) == 0) {
+                Long current = draftRepository.findRevision(id);
+                if (current == null) {
+                    throw new NotFoundException("Error: Draft not found with id: " + id);
+                }
+                throw conflict(id, current);
+            }
+            // The update holds the row lock until commit, so the snapshot and the log change with the revision.
+            if (compact) {
+                draftSnapshotRepository.replace(id, revision, text);
+                draftDeltaRepository.deleteUpTo(id, revision);
+            } else {
+                draftDeltaRepository.append(id, revision, encoded, now);
+            }
+        });
+        bodies.put(id, compact
+                ? new CurrentBody(owner.getId(), revision, text, revision, 0)
+                : new CurrentBody(owner.getId(), revision, text, base.snapshotRevision, deltaBytes));
+        return new DraftSaveResponse(revision, text.length());
+    }
+
+    /**
+     * Deletes a draft, its snapshot and its delta log.
+     *
+     * @param id    The draft id.
+     * @param owner The authenticated user.
+     * @throws NotFoundException if the draft does not exist or belongs to someone else.
+     */
+    public void deleteDraft(Long id, User owner) {
+        writeTransaction.executeWithoutResult(status -> {
+            Draft draft = findOwned(id, owner);
+            draftDeltaRepository.deleteUpTo(id, Long.MAX_VALUE);
+            draftSnapshotRepository.deleteByDraft(id);
+            draftRepository.delete(draft);
+        });
+        bodies.invalidate(id);
+    }
+
+    /**
+     * @return The body at the base revision, from the cache if it is there, else rebuilt from the database.
+     * @throws RevisionConflictException if the draft is at another revision.
+     */
+    private CurrentBody bodyAt(Long id, long baseRevision, User owner) {
+        CurrentBody cached = bodies.getIfPresent(id);
+        if (cached != null && cached.revision == baseRevision && cached.ownerId.equals(owner.getId())) {
+            return cached;
+        }
+        CurrentBody loaded = load(id, owner).body;
+        if (loaded.revision != baseRevision) {
+            throw conflict(id, loaded.revision);
+        }
+        return loaded;
+    }
+
+    private Draft findOwned(Long id, User owner) {
+        Draft draft = draftRepository.findById(id)
+                .orElseThrow(() -> new NotFoundException("Error: Draft not found with id: " + id));
+        if (!draft.getOwnerId().equals(owner.getId())) {
+            // Don't reveal that someone else's draft exists.
+            throw new NotFoundException("Error: Draft not found with id: " + id);
+        }
+        return draft;
+    }
+
+    /**
+     * Reads a draft and its current body, from the cache if it is at the draft's revision, else rebuilt from the
+     * snapshot and the deltas after it.
+     * <p>
+     * The row, the snapshot and the log are read in one transaction, so under REPEATABLE READ both come from the same consistent
+     * snapshot even if a save compacts the log meanwhile. The delta count is still checked against the revisions
+     * it must cover, and the read retried if they disagree, rather than ever returning an older body under a newer
+     * revision.
+     *
+     * @throws NotFoundException if the draft does not exist or belongs to someone else.
+     */
+    private Loaded load(Long id, User owner) {
+        for (int attempt = 1; ; attempt++) {
+            Loaded loaded = readTransaction.execute(status -> {
+                Draft draft = findOwned(id, owner);
+                CurrentBody cached = bodies.getIfPresent(id);
+                if (cached != null && cached.revision == draft.getRevision()) {
+                    return new Loaded(draft, cached);
+                }
+                DraftSnapshot snapshot = draftSnapshotRepository.findById(id).orElse(null);
+                if (snapshot == null) {
+                    return null;
+                }
+                List<DraftDeltaRepository.DeltaView> deltas =
+                        draftDeltaRepository.findRange(id, snapshot.getRevision(), draft.getRevision());
+                if (deltas.size() != draft.getRevision() - snapshot.getRevision()) {
+                    return null;
+                }
+                String text = snapshot.getBody();
+                long deltaBytes = 0;
+                for (DraftDeltaRepository.DeltaView delta : deltas) {
+                    text = TextPatch.decode(delta.getPatch()).applyTo(text);
+                    deltaBytes += delta.getPatch().length;
+                }
+                return new Loaded(draft, new CurrentBody(draft.getOwnerId(), draft.getRevision(), text,
+                        snapshot.getRevision(), deltaBytes));
+            });
+            if (loaded != null) {
+                bodies.put(id, loaded.body);
+                return loaded;
+            }
+            if (attempt == MAX_LOAD_ATTEMPTS) {
+                throw new IllegalStateException("The delta log of draft " + id + " does not match its revision.");
+            }
+        }
+    }
+
+    private static RevisionConflictException conflict(Long id, long currentRevision) {
+        return new RevisionConflictException("Draft " + id + " has been saved elsewhere and is now at revision "
+                + currentRevision + ". Reload it and reapply your changes.", currentRevision);
+    }
+
+    private static DraftResponse toResponse(Draft draft, String body) {
+        return DraftResponse.builder()
+                .id(draft.getId())
+                .articleId(draft.getArticleId())
+                .title(draft.getTitle())
+                .summary(draft.getSummary())
+                .tags(draft.getTags())
+                .body(body)
+                .revision(draft.getRevision())
+                .updatedAt(draft.getUpdatedAt())
+                .build();
+    }
+
+    /**
+     * A draft row with its body at the row's revision.
+     */
+    @AllArgsConstructor
+    private static final class Loaded {
+        private final Draft draft;
+        private final CurrentBody body;
+    }
+
+    /**
+     * The body of a draft at one revision, with what is needed to decide on the next compaction.
+     */
+    @AllArgsConstructor
+    private static final class CurrentBody {
+        private final Long ownerId;
+        private final long revision;
+        private final String text;
+        private final long snapshotRevision;
+        /**
+         * Encoded size of the deltas logged since the snapshot.
+         */
+        private final long deltaBytes;
+
+        private int weight() {
+            return 64 + 2 * text.length();
+        }
+    }
+}
@@ -0,0 +1,308 @@
+/***********************************************************
+ * Copyright (c) 2025. All rights reserved to ArchiLogic.
+ * Developer: Nikhil Gadhavajula
+ **********************************************************/
+
+package com.archilogic.service;
+
+import com.archilogic.dto.ArticleFeedItem;
+import com.archilogic.dto.CursorPage;
+import com.archilogic.entity.User;
+import com.archilogic.event.ArticleChangedEvent;
+import com.archilogic.exception.BadRequestException;
+import com.archilogic.exception.NotFoundException;
+import com.archilogic.feed.HomeFeedStore;
+import com.archilogic.repository.ArticleRepository;
+import com.archilogic.repository.FollowRepository;
+import com.archilogic.repository.UserRepository;
+import com.archilogic.util.FeedCursor;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Maintains the follow graph and serves each user's home feed: the articles of the authors they follow.
+ * <p>
+ * Delivery is hybrid. When an author with fewer than {@code pushMaxFollowers} followers publishes, the article
+ * is pushed asynchronously into the materialized feeds of their followers ({@link HomeFeedStore}), walking the
+ * followers in keyset batches. Articles of authors above the threshold are not fanned out; each reader pulls
+ * them at read time from {@code idx_articles_author_feed}, {@code pullAuthorsPerQuery} authors per query, and
+ * the sorted runs of both sources are k-way merged by {@code (publishedAt, id)}. Every run is bounded by the
+ * page size, so a read costs one hydration query plus one index-only query per {@code pullAuthorsPerQuery}
+ * followed high-fanout authors, independent of how many articles there are.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class HomeFeedService {
+
+    private final HomeFeedStore feedStore;
+    private final FollowRepository followRepository;
+    private final ArticleRepository articleRepository;
+    private final UserRepository userRepository;
+
+    /**
+     * Authors with at least this many followers are pulled at read time instead of being fanned out.
+     */
+    @Value("${archilogic.app.feed.pushMaxFollowers:10000}")
+    private long pushMaxFollowers;
+
+    @Value("${archilogic.app.feed.pullAuthorsPerQuery:50}")
+    private int pullAuthorsPerQuery;
+
+    @Value("${archilogic.app.feed.maxFollowing:5000}")
+    private int maxFollowing;
+
+    /**
+     * How far back a feed is filled when it is built from the follow graph.
+     */
+    @Value("${archilogic.app.feed.windowDays:30}")
+    private int windowDays;
+
+    @Value("${archilogic.app.feed.fanOutBatchSize:1000}")
+    private int fanOutBatchSize;
+
+    @Value("${archilogic.app.feed.maxQueuedFanOuts:10000}")
+    private int maxQueuedFanOuts;
+
+    private ThreadPoolExecutor fanOutExecutor;
+
+    @PostConstruct
+    public void init() {
+        fanOutExecutor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(maxQueuedFanOuts), runnable -> {
+            Thread thread = new Thread(runnable, "feed-fan-out");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void close() throws InterruptedException {
+        fanOutExecutor.shutdown();
+        fanOutExecutor.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Makes a user follow an author. Following twice is a no-op.
+     *
+     * @param follower The authenticated user.
+     * @param authorId The user to follow.
+     * @throws NotFoundException        if the author does not exist.
+     * @throws BadRequestException if users try to follow themselves.
+     */
+    @Transactional
+    public void follow(User follower, Long authorId) {
+        if (follower.getId().equals(authorId)) {
+            throw new BadRequestException("Error: You cannot follow yourself.");
+        }
+        if (!userRepository.existsById(authorId)) {
+            throw new NotFoundException("Error: User not found with id: " + authorId);
+        }
+        if (followRepository.insertIfAbsent(follower.getId(), authorId) == 1) {
+            userRepository.adjustFollowerCount(authorId, 1);
+            feedStore.invalidate(follower.getId());
+        }
+    }
+
+    /**
+     * Makes a user stop following an author. Unfollowing someone not followed is a no-op.
+     *
+     * @param follower The authenticated user.
+     * @param authorId The user to unfollow.
+     */
+    @Transactional
+    public void unfollow(User follower, Long authorId) {
+        if (followRepository.deleteEdge(follower.getId(), authorId) == 1) {
+            userRepository.adjustFollowerCount(authorId, -1);
+            feedStore.invalidate(follower.getId());
+        }
+    }
+
+    /**
+     * Returns one page of a user's home feed, newest first.
+     *
+     * @param user   The authenticated user.
+     * @param cursor The cursor returned with the previous page, or null for the first page.
+     * @param size   The maximum number of articles to return.
+     * @return The page, with a cursor for the next one if more articles may follow.
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<ArticleFeedItem> getHomeFeed(User user, String cursor, int size) {
+        HomeFeedStore.UserFeed feed = feedStore.get(user.getId(), this::build);
+        FeedCursor position = cursor == null || cursor.isBlank() ? null : FeedCursor.decode(cursor);
+        Instant beforePublishedAt = position == null ? Instant.now().plus(Duration.ofDays(1)) : position.getPublishedAt();
+        Long beforeId = position == null ? Long.MAX_VALUE : position.getId();
+
+        List<long[][]> runs = new ArrayList<>();
+        runs.add(feed.before(toMicros(beforePublishedAt), beforeId, size));
+        long[] pullAuthorIds = feed.getPullAuthorIds();
+        for (int from = 0; from < pullAuthorIds.length; from += pullAuthorsPerQuery) {
+            List<Long> authorIds = Arrays.stream(pullAuthorIds, from, Math.min(from + pullAuthorsPerQuery, pullAuthorIds.length))
+                    .boxed()
+                    .toList();
+            List<ArticleRepository.FeedPosition> positions = articleRepository.findFeedPositionsByAuthorsBefore(authorIds,
+                    beforePublishedAt, beforeId, Limit.of(size));
+            long[][] run = new long[positions.size()][];
+            for (int i = 0; i < run.length; i++) {
+                run[i] = new long[]{positions.get(i).getId(), toMicros(positions.get(i).getPublishedAt())};
+            }
+            runs.add(run);
+        }
+        List<long[]> scanned = mergeNewestFirst(runs, size);
+
+        List<ArticleFeedItem> items = new ArrayList<>(scanned.size());
+        if (!scanned.isEmpty()) {
+            Map<Long, ArticleFeedItem> byId = new HashMap<>();
+            for (ArticleFeedItem item : articleRepository.findFeedItemsByIds(scanned.stream().map(entry -> entry[0]).toList())) {
+                byId.put(item.getId(), item);
+            }
+            for (long[] entry : scanned) {
+                ArticleFeedItem item = byId.get(entry[0]);
+                if (item != null) {
+                    items.add(item);
+                }
+            }
+        }
+        return new CursorPage<>(items, nextCursor(scanned, size));
+    }
+
+    /**
+     * The cursor follows the last position scanned, not the last item hydrated, so articles unpublished since
+     * they were pushed shorten the page without ending the feed.
+     *
+     * @return The cursor of the next page, or null if the scan came up short of a full page.
+     */
+    static String nextCursor(List<long[]> scanned, int size) {
+        if (scanned.size() < size) {
+            return null;
+        }
+        long[] last = scanned.get(scanned.size() - 1);
+        return new FeedCursor(Instant.EPOCH.plus(last[1], ChronoUnit.MICROS), last[0]).encode();
+    }
+
+    /**
+     * Merges runs of {@code [articleId, publishedAtMicros]} entries, each sorted newest first, into the newest
+     * {@code limit} distinct entries.
+     */
+    static List<long[]> mergeNewestFirst(List<long[][]> runs, int limit) {
+        // Each head is {run, offset}; the newest is polled first.
+        PriorityQueue<int[]> heads = new PriorityQueue<>((a, b) -> {
+            long[] left = runs.get(a[0])[a[1]];
+            long[] right = runs.get(b[0])[b[1]];
+            return left[1] != right[1] ? Long.compare(right[1], left[1]) : Long.compare(right[0], left[0]);
+        });
+        for (int run = 0; run < runs.size(); run++) {
+            if (runs.get(run).length > 0) {
+                heads.add(new int[]{run, 0});
+            }
+        }
+        List<long[]> merged = new ArrayList<>(limit);
+        Set<Long> seen = new HashSet<>();
+        while (merged.size() < limit && !heads.isEmpty()) {
+            int[] head = heads.poll();
+            long[] entry = runs.get(head[0])[head[1]];
+            // An author who crossed the push threshold since the feed was built may appear in both sources.
+            if (seen.add(entry[0])) {
+                merged.add(entry);
+            }
+            if (++head[1] < runs.get(head[0]).length) {
+                heads.add(head);
+            }
+        }
+        return merged;
+    }
+
+    /**
+     * Fans a newly published article out to the followers of its author, after the publishing transaction has
+     * committed. The walk runs on a single background thread; if its queue is full the push is dropped and the
+     * affected feeds catch up when they are next rebuilt.
+     */
+    @TransactionalEventListener
+    public void onArticleChanged(ArticleChangedEvent event) {
+        if (!event.isNewlyPublished()) {
+            return;
+        }
+        try {
+            fanOutExecutor.execute(() -> fanOut(event.getAuthorId(), event.getArticleId(), toMicros(event.getPublishedAt())));
+        } catch (RejectedExecutionException e) {
+            log.warn("Feed fan-out queue is full; article {} reaches followers on their next feed rebuild", event.getArticleId());
+        }
+    }
+
+    private void fanOut(Long authorId, long articleId, long publishedAtMicros) {
+        try {
+            if (userRepository.findFollowerCount(authorId) >= pushMaxFollowers) {
+                return; // Pulled by readers instead.
+            }
+            long afterId = 0;
+            List<Long> batch;
+            do {
+                batch = followRepository.findFollowerIdsAfter(authorId, afterId, fanOutBatchSize);
+                // Only resident feeds need the push; the others include the article when they are built.
+                feedStore.getAllPresent(batch).values().forEach(feed -> feed.push(articleId, publishedAtMicros));
+                if (!batch.isEmpty()) {
+                    afterId = batch.get(batch.size() - 1);
+                }
+            } while (batch.size() == fanOutBatchSize);
+        } catch (RuntimeException e) {
+            log.error("Feed fan-out of article {} failed: {}", articleId, e.getMessage());
+        }
+    }
+
+    /**
+     * Builds a user's feed from the follow graph: authors below the push threshold are materialized from their
+     * recent articles, the others are recorded for pulling at read time.
+     */
+    private HomeFeedStore.UserFeed build(Long userId) {
+        List<Long> pushAuthorIds = new ArrayList<>();
+        List<FollowRepository.FollowedAuthor> pullAuthors = new ArrayList<>();
+        for (FollowRepository.FollowedAuthor author : followRepository.findFollowedAuthors(userId, maxFollowing)) {
+            if (author.getFollowerCount() >= pushMaxFollowers) {
+                pullAuthors.add(author);
+            } else {
+                pushAuthorIds.add(author.getAuthorId());
+            }
+        }
+        long[] pullAuthorIds = pullAuthors.stream()
+                .mapToLong(FollowRepository.FollowedAuthor::getAuthorId)
+                .toArray();
+
+        HomeFeedStore.UserFeed feed = new HomeFeedStore.UserFeed(feedStore.getCapacity(), pullAuthorIds);
+        if (!pushAuthorIds.isEmpty()) {
+            List<ArticleRepository.FeedPosition> positions = articleRepository.findFeedPositionsByAuthors(pushAuthorIds,
+                    Instant.now().minus(Duration.ofDays(windowDays)), Limit.of(feedStore.getCapacity()));
+            // Oldest first, so every push is an append.
+            for (int i = positions.size() - 1; i >= 0; i--) {
+                feed.push(positions.get(i).getId(), toMicros(positions.get(i).getPublishedAt()));
+            }
+        }
+        return feed;
+    }
+
+    private static long toMicros(Instant instant) {
+        return ChronoUnit.MICROS.between(Instant.EPOCH, instant);
+    }
+}
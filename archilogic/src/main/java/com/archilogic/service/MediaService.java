@@ -0,0 +1,249 @@
+/***********************************************************
+ * Copyright (c) 2025. All rights reserved to ArchiLogic.
+ * Developer: Nikhil Gadhavajula
+ **********************************************************/
+
+package com.archilogic.service;
+
+import com.archilogic.dto.MediaResponse;
+import com.archilogic.entity.Media;
+import com.archilogic.entity.User;
+import com.archilogic.exception.FileTooLargeException;
+import com.archilogic.exception.NotFoundException;
+import com.archilogic.exception.QuotaExceededException;
+import com.archilogic.event.MediaStoredEvent;
+import com.archilogic.media.DerivativePipeline;
+import com.archilogic.media.ImageFormat;
+import com.archilogic.media.MediaStore;
+import com.archilogic.repository.MediaRepository;
+import com.archilogic.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Uploads and deletes media files, enforcing per-user storage quotas.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class MediaService {
+
+    private final MediaStore mediaStore;
+    private final MediaRepository mediaRepository;
+    private final UserRepository userRepository;
+    private final DerivativePipeline derivativePipeline;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${archilogic.app.media.maxFileBytes:26214400}")
+    private long maxFileBytes;
+
+    @Value("${archilogic.app.media.quotaBytes:524288000}")
+    private long quotaBytes;
+
+    /**
+     * Stores an uploaded image for the given user.
+     * <p>
+     * The servlet container spools the multipart body to disk; from there it is streamed through the store with a
+     * fixed-size buffer, so memory use does not depend on the file size. The user is only charged if they have not
+     * uploaded the same content before.
+     *
+     * @param file  The uploaded file.
+     * @param owner The authenticated user.
+     * @return The stored media.
+     * @throws QuotaExceededException if the file does not fit the user's remaining quota.
+     * @throws FileTooLargeException   if the file is larger than the maximum file size.
+     */
+    @Transactional
+    public MediaResponse upload(MultipartFile file, User owner) throws IOException {
+        if (file.getSize() > maxFileBytes) {
+            throw new FileTooLargeException("Error: The file exceeds the maximum size of " + maxFileBytes + " bytes.");
+        }
+        MediaStore.StagedFile staged;
+        try (InputStream in = file.getInputStream()) {
+            staged = mediaStore.stage(in, maxFileBytes);
+        }
+        try {
+            // Held until commit, so a concurrent delete of the last reference can't remove the file under us.
+            mediaRepository.lockContent(staged.getSha256());
+            Media existing = mediaRepository.findByOwnerAndSha256(owner.getId(), staged.getSha256()).orElse(null);
+            if (existing != null) {
+                return toResponse(existing, true, userRepository.findMediaBytesUsed(owner.getId()));
+            }
+            if (userRepository.reserveMediaBytes(owner.getId(), staged.getSize(), quotaBytes) == 0) {
+                throw new QuotaExceededException("Error: Uploading this file would exceed your media quota of "
+                        + quotaBytes + " bytes.");
+            }
+            Media media = mediaRepository.save(Media.builder()
+                    .owner(userRepository.getReferenceById(owner.getId()))
+                    .sha256(staged.getSha256())
+                    .format(staged.getFormat())
+                    .sizeBytes(staged.getSize())
+                    .originalFilename(truncate(file.getOriginalFilename()))
+                    .build());
+            // Written before commit: if the transaction rolls back, an unreferenced file is harmless.
+            boolean deduplicated = mediaStore.commit(staged);
+            if (!deduplicated) {
+                eventPublisher.publishEvent(new MediaStoredEvent(staged.getSha256(), staged.getFormat()));
+            }
+            return toResponse(media, deduplicated, userRepository.findMediaBytesUsed(owner.getId()));
+        } finally {
+            mediaStore.discard(staged);
+        }
+    }
+
+    /**
+     * Deletes an upload and returns its size to the owner's quota. The file itself is removed too once no other
+     * user references the same content.
+     * <p>
+     * Uploads and deletes of the same content are serialized by its content lock. The last reference's file is
+     * moved out of the store while the lock is held, so an upload waiting for the lock never finds it and takes it
+     * for a duplicate; it is purged after commit, or moved back if the transaction rolls back.
+     *
+     * @param id   The media id.
+     * @param user The authenticated user.
+     * @throws NotFoundException     if the media does not exist.
+     * @throws AccessDeniedException if the user does not own it.
+     * @throws IOException           if the file could not be moved out of the store; nothing is deleted then.
+     */
+    @Transactional(rollbackFor = IOException.class)
+    public void delete(Long id, User user) throws IOException {
+        Media media = mediaRepository.findById(id)
+                .orElseThrow(() -> new NotFoundException("Error: Media not found with id: " + id));
+        if (!media.getOwner().getId().equals(user.getId())) {
+            throw new AccessDeniedException("Only the owner can delete this media.");
+        }
+        String sha256 = media.getSha256();
+        mediaRepository.lockContent(sha256);
+        mediaRepository.delete(media);
+        mediaRepository.flush();
+        userRepository.releaseMediaBytes(user.getId(), media.getSizeBytes());
+        if (mediaRepository.findAnyIdBySha256ForShare(sha256) != null) {
+            return;
+        }
+        mediaRepository.deleteContent(sha256);
+        Path retired = mediaStore.retire(sha256);
+        if (retired == null) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                try {
+                    if (status == STATUS_COMMITTED) {
+                        mediaStore.purge(retired);
+                    } else {
+                        mediaStore.restore(retired, sha256);
+                    }
+                } catch (IOException e) {
+                    log.warn("Could not clean up retired media file {} in {}: {}", sha256, retired, e.getMessage());
+                }
+            }
+        });
+    }
+
+    /**
+     * Locates stored content for serving. Needs no database access: the URL carries the hash and format.
+     *
+     * @param sha256    The content hash.
+     * @param extension The file extension from the URL.
+     * @return The file.
+     * @throws NotFoundException if no such content is stored.
+     */
+    public Path locate(String sha256, String extension) {
+        ImageFormat format = ImageFormat.fromExtension(extension);
+        if (format == null) {
+            throw new NotFoundException("Error: Media not found.");
+        }
+        Path file = mediaStore.resolve(sha256, format);
+        if (!Files.isRegularFile(file)) {
+            throw new NotFoundException("Error: Media not found.");
+        }
+        return file;
+    }
+
+    /**
+     * Locates a resized derivative for serving, generating it first if the background pipeline has not
+     * produced it yet.
+     *
+     * @param sha256    The content hash of the source image.
+     * @param width     The requested width.
+     * @param extension The requested output format.
+     * @return The derivative file, or null if it is not available now (serve the original instead).
+     * @throws NotFoundException if the source does not exist or the width/format is not offered.
+     */
+    public Path locateDerivative(String sha256, int width, String extension) throws InterruptedException {
+        ImageFormat format = ImageFormat.fromExtension(extension);
+        if (format == null || !derivativePipeline.isSupported(width, format)) {
+            throw new NotFoundException("Error: Media not found.");
+        }
+        ImageFormat source = findFormat(sha256);
+        return derivativePipeline.getOrGenerate(sha256, source, width, format);
+    }
+
+    /**
+     * @param sha256 The content hash.
+     * @return The format the content is stored in.
+     * @throws NotFoundException if no such content is stored.
+     */
+    public ImageFormat findFormat(String sha256) {
+        ImageFormat format = mediaStore.findFormat(sha256);
+        if (format == null) {
+            throw new NotFoundException("Error: Media not found.");
+        }
+        return format;
+    }
+
+    /**
+     * @return The public URL of the given content.
+     */
+    public static String urlOf(String sha256, ImageFormat format) {
+        return "/api/v1/media/" + sha256 + "." + format.getExtension();
+    }
+
+    private MediaResponse toResponse(Media media, boolean deduplicated, long quotaUsed) {
+        return MediaResponse.builder()
+                .id(media.getId())
+                .sha256(media.getSha256())
+                .url(urlOf(media.getSha256(), media.getFormat()))
+                .contentType(media.getFormat().getContentType())
+                .derivatives(derivativeUrls(media.getSha256()))
+                .size(media.getSizeBytes())
+                .deduplicated(deduplicated)
+                .quotaUsed(quotaUsed)
+                .quotaLimit(quotaBytes)
+                .createdAt(media.getCreatedAt())
+                .build();
+    }
+
+    private List<String> derivativeUrls(String sha256) {
+        List<String> urls = new ArrayList<>();
+        for (ImageFormat format : derivativePipeline.getOutputFormats()) {
+            for (int width : derivativePipeline.getWidths()) {
+                urls.add("/api/v1/media/" + sha256 + "-w" + width + "." + format.getExtension());
+            }
+        }
+        return urls;
+    }
+
+    private static String truncate(String filename) {
+        if (filename == null) {
+            return null;
+        }
+        return filename.length() <= 255 ? filename : filename.substring(filename.length() - 255);
+    }
+}
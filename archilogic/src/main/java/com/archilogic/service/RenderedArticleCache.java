@@ -0,0 +1,175 @@
+/***********************************************************
+ * Copyright (c) 2025. All rights reserved to ArchiLogic.
+ * Developer: Nikhil Gadhavajula
+ **********************************************************/
+
+package com.archilogic.service;
+
+import com.archilogic.cache.InvalidationBus;
+import com.archilogic.cache.InvalidationHandler;
+import com.archilogic.dto.ArticleResponse;
+import com.archilogic.event.ArticleChangedEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Objects;
+
+/**
+ * Node-local cache of published articles with their body already rendered to HTML.
+ * <p>
+ * Two Caffeine caches work together:
+ * <ul>
+ *     <li>{@code revisions} maps an article id to its current revision. It is tiny, and it is all that is
+ *     needed to compute the ETag, so conditional requests are answered without touching the database.</li>
+ *     <li>{@code rendered} maps (id, revision) to the rendered article and is bounded by an estimate of its
+ *     size in bytes. An edit creates a new key; the old revision simply ages out.</li>
+ * </ul>
+ * Caffeine runs at most one loader per key at a time, so a burst of requests for an article that is not
+ * cached yet results in one database read and one render; the other requests wait for that result.
+ * <p>
+ * Edits evict the revision entry on every node through the {@link InvalidationBus}, after the transaction commits.
+ */
+@Component
+@RequiredArgsConstructor
+public class RenderedArticleCache {
+
+    public static final String CACHE_NAME = "article-revisions";
+
+    private final ArticleService articleService;
+    private final ArticleRenderer articleRenderer;
+    private final InvalidationBus invalidationBus;
+
+    @Value("${archilogic.app.cache.articles.maxBytes:67108864}")
+    private long maxBytes;
+
+    @Value("${archilogic.app.cache.articles.maxRevisions:100000}")
+    private long maxRevisions;
+
+    @Value("${archilogic.app.cache.articles.ttlSeconds:600}")
+    private long ttlSeconds;
+
+    private Cache<Long, Long> revisions;
+    private Cache<RenderKey, RenderedArticle> rendered;
+
+    @PostConstruct
+    public void init() {
+        revisions = Caffeine.newBuilder()
+                .maximumSize(maxRevisions)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+        rendered = Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher((RenderKey key, RenderedArticle article) -> article.getWeight())
+                .build();
+        invalidationBus.register(CACHE_NAME, new InvalidationHandler() {
+            @Override
+            public void evict(Collection<String> keys) {
+                keys.forEach(key -> revisions.invalidate(Long.valueOf(key)));
+            }
+
+            @Override
+            public void evictAll() {
+                revisions.invalidateAll();
+            }
+        });
+    }
+
+    /**
+     * Returns the ETag of the current revision if it is known locally, without any database access.
+     *
+     * @param id The article id.
+     * @return The ETag, or null if the article is not cached on this node.
+     */
+    public String currentETag(Long id) {
+        Long revision = revisions.getIfPresent(id);
+        return revision == null ? null : eTag(id, revision);
+    }
+
+    /**
+     * Returns the rendered article, loading and rendering it on a miss.
+     *
+     * @param id The article id.
+     * @return The current revision of the article.
+     * @throws com.archilogic.exception.NotFoundException if the article does not exist or is not published.
+     */
+    public RenderedArticle get(Long id) {
+        Long revision = revisions.get(id, this::loadRevision);
+        RenderedArticle article = rendered.get(new RenderKey(id, revision), key -> load(id));
+        if (!Objects.equals(article.getRevision(), revision)) {
+            // Edited between the two lookups: the loader stored the newer revision under its own key.
+            revisions.invalidate(id);
+        }
+        return article;
+    }
+
+    /**
+     * Evicts the article on every node once the edit commits. Called inside the editing transaction.
+     */
+    @EventListener
+    public void onArticleChanged(ArticleChangedEvent event) {
+        invalidationBus.publish(CACHE_NAME, String.valueOf(event.getArticleId()));
+    }
+
+    /**
+     * Loads and renders the article, caches the result under its actual revision, and returns that revision.
+     * Runs at most once at a time per article id.
+     */
+    private Long loadRevision(Long id) {
+        RenderedArticle article = load(id);
+        rendered.put(new RenderKey(id, article.getRevision()), article);
+        return article.getRevision();
+    }
+
+    private RenderedArticle load(Long id) {
+        ArticleResponse article = articleService.getPublishedArticle(id);
+        article.setHtml(articleRenderer.render(article.getBody()));
+        return new RenderedArticle(article, eTag(id, article.getRevision()));
+    }
+
+    private static String eTag(Long id, Long revision) {
+        return "\"a" + id + "-r" + revision + "-v" + ArticleRenderer.VERSION + "\"";
+    }
+
+    /**
+     * An immutable rendered article and its strong ETag.
+     */
+    @Getter
+    public static final class RenderedArticle {
+        private final ArticleResponse article;
+        private final String eTag;
+        private final int weight;
+
+        private RenderedArticle(ArticleResponse article, String eTag) {
+            this.article = article;
+            this.eTag = eTag;
+            // UTF-16 strings: roughly two bytes per character for the Markdown and the HTML, plus overhead.
+            this.weight = 2 * (length(article.getBody()) + length(article.getHtml()) + length(article.getSummary())
+                    + length(article.getTitle())) + 512;
+        }
+
+        public Long getRevision() {
+            return article.getRevision();
+        }
+
+        private static int length(String value) {
+            return value == null ? 0 : value.length();
+        }
+    }
+
+    @EqualsAndHashCode
+    @AllArgsConstructor
+    private static final class RenderKey {
+        private final Long id;
+        private final Long revision;
+    }
+}
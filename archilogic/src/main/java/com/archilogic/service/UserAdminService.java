@@ -0,0 +1,259 @@
+/***********************************************************
+ * Copyright (c) 2025. All rights reserved to ArchiLogic.
+ * Developer: Nikhil Gadhavajula
+ **********************************************************/
+
+package com.archilogic.service;
+
+import com.archilogic.dto.AdminUserResponse;
+import com.archilogic.dto.CursorPage;
+import com.archilogic.entity.ERole;
+import com.archilogic.exception.BadRequestException;
+import com.archilogic.repository.UserRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Admin-only read access to the user table: keyset-paginated listings and streaming exports.
+ */
+@Service
+@RequiredArgsConstructor
+public class UserAdminService {
+
+    /**
+     * Users joined with their roles, one row per (user, role), ordered by the primary key so that rows
+     * of the same user are adjacent and MySQL can walk the clustered index without sorting or grouping.
+     */
+    private static final String EXPORT_SQL = "SELECT u.id, u.username, u.email, u.first_name, u.last_name, u.created_at, r.name "
+            + "FROM users u "
+            + "LEFT JOIN user_roles ur ON ur.user_id = u.id "
+            + "LEFT JOIN roles r ON r.id = ur.role_id "
+            + "WHERE (? IS NULL OR EXISTS (SELECT 1 FROM user_roles fr JOIN roles frr ON frr.id = fr.role_id "
+            + "WHERE fr.user_id = u.id AND frr.name = ?)) "
+            + "AND (? IS NULL OR u.created_at >= ?) "
+            + "AND (? IS NULL OR u.created_at < ?) "
+            + "ORDER BY u.id";
+
+    private final UserRepository userRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Returns one page of users after the given cursor.
+     *
+     * @param cursor      The cursor returned with the previous page, or null for the first page.
+     * @param size        The maximum number of users to return.
+     * @param role        Optional role filter.
+     * @param createdFrom Optional inclusive lower bound on the creation time.
+     * @param createdTo   Optional exclusive upper bound on the creation time.
+     * @return The page, with a cursor for the next one if more users may follow.
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<AdminUserResponse> listUsers(String cursor, int size, ERole role,
+                                                   Instant createdFrom, Instant createdTo) {
+        long afterId = parseCursor(cursor);
+        List<UserRepository.UserSummary> summaries =
+                userRepository.findPageAfter(afterId, role, createdFrom, createdTo, Limit.of(size));
+        if (summaries.isEmpty()) {
+            return new CursorPage<>(List.of(), null);
+        }
+
+        // Decorate the whole page with roles in one query instead of one per user.
+        List<Long> ids = summaries.stream().map(UserRepository.UserSummary::getId).toList();
+        Map<Long, List<String>> rolesByUser = new HashMap<>();
+        userRepository.findRolesByUserIds(ids).forEach(row ->
+                rolesByUser.computeIfAbsent(row.getUserId(), id -> new ArrayList<>()).add(row.getRole().name()));
+
+        List<AdminUserResponse> users = summaries.stream()
+                .map(summary -> AdminUserResponse.builder()
+                        .id(summary.getId())
+                        .username(summary.getUsername())
+                        .email(summary.getEmail())
+                        .first_name(summary.getFirstName())
+                        .last_name(summary.getLastName())
+                        .createdAt(summary.getCreatedAt())
+                        .roles(rolesByUser.getOrDefault(summary.getId(), List.of()))
+                        .build())
+                .toList();
+        String nextCursor = users.size() < size ? null : String.valueOf(users.get(users.size() - 1).getId());
+        return new CursorPage<>(users, nextCursor);
+    }
+
+    /**
+     * Writes all matching users to the given stream as CSV, reading them through a forward-only
+     * JDBC cursor with a fixed fetch size. Memory use is independent of the number of users.
+     *
+     * @param out         The destination stream.
+     * @param role        Optional role filter.
+     * @param createdFrom Optional inclusive lower bound on the creation time.
+     * @param createdTo   Optional exclusive upper bound on the creation time.
+     */
+    public void exportCsv(OutputStream out, ERole role, Instant createdFrom, Instant createdTo) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 64 * 1024);
+        writer.write("id,username,email,first_name,last_name,created_at,roles\n");
+        streamUsers(role, createdFrom, createdTo, user -> {
+            writer.write(String.valueOf(user.getId()));
+            writer.write(',');
+            writer.write(csv(user.getUsername()));
+            writer.write(',');
+            writer.write(csv(user.getEmail()));
+            writer.write(',');
+            writer.write(csv(user.getFirst_name()));
+            writer.write(',');
+            writer.write(csv(user.getLast_name()));
+            writer.write(',');
+            writer.write(user.getCreatedAt() == null ? "" : user.getCreatedAt().toString());
+            writer.write(',');
+            writer.write(csv(String.join("|", user.getRoles())));
+            writer.write('\n');
+        });
+        writer.flush();
+    }
+
+    /**
+     * Writes all matching users to the given stream as newline-delimited JSON, reading them through a
+     * forward-only JDBC cursor with a fixed fetch size. Memory use is independent of the number of users.
+     *
+     * @param out         The destination stream.
+     * @param role        Optional role filter.
+     * @param createdFrom Optional inclusive lower bound on the creation time.
+     * @param createdTo   Optional exclusive upper bound on the creation time.
+     */
+    public void exportNdjson(OutputStream out, ERole role, Instant createdFrom, Instant createdTo) throws IOException {
+        // Don't flush the socket after every row; the generator has its own buffer.
+        ObjectWriter writer = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            generator.setRootValueSeparator(null);
+            streamUsers(role, createdFrom, createdTo, user -> {
+                writer.writeValue(generator, user);
+                generator.writeRaw('\n');
+            });
+        }
+    }
+
+    private void streamUsers(ERole role, Instant createdFrom, Instant createdTo, UserSink sink) throws IOException {
+        String roleName = role == null ? null : role.name();
+        Timestamp from = createdFrom == null ? null : Timestamp.from(createdFrom);
+        Timestamp to = createdTo == null ? null : Timestamp.from(createdTo);
+        RowMerger merger = new RowMerger(sink);
+        try {
+            jdbcTemplate.query(con -> {
+                PreparedStatement ps = con.prepareStatement(EXPORT_SQL, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                // Connector/J streams the result row by row instead of buffering it; the connection is busy until it is drained.
+                ps.setFetchSize(Integer.MIN_VALUE);
+                ps.setString(1, roleName);
+                ps.setString(2, roleName);
+                ps.setTimestamp(3, from);
+                ps.setTimestamp(4, from);
+                ps.setTimestamp(5, to);
+                ps.setTimestamp(6, to);
+                return ps;
+            }, merger);
+            merger.finish();
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static long parseCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return 0L;
+        }
+        try {
+            return Long.parseLong(cursor);
+        } catch (NumberFormatException e) {
+            throw new BadRequestException("Invalid cursor: " + cursor);
+        }
+    }
+
+    private static String csv(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+    @FunctionalInterface
+    private interface UserSink {
+        void accept(AdminUserResponse user) throws IOException;
+    }
+
+    /**
+     * Folds consecutive (user, role) rows into one user and hands each completed user to the sink.
+     * Only the user currently being assembled is held in memory.
+     */
+    private static final class RowMerger implements RowCallbackHandler {
+        private final UserSink sink;
+        private AdminUserResponse current;
+
+        private RowMerger(UserSink sink) {
+            this.sink = sink;
+        }
+
+        @Override
+        public void processRow(ResultSet rs) throws SQLException {
+            long id = rs.getLong(1);
+            if (current == null || current.getId() != id) {
+                emit();
+                Timestamp createdAt = rs.getTimestamp(6);
+                current = AdminUserResponse.builder()
+                        .id(id)
+                        .username(rs.getString(2))
+                        .email(rs.getString(3))
+                        .first_name(rs.getString(4))
+                        .last_name(rs.getString(5))
+                        .createdAt(createdAt == null ? null : createdAt.toInstant())
+                        .roles(new ArrayList<>(2))
+                        .build();
+            }
+            String role = rs.getString(7);
+            if (role != null) {
+                current.getRoles().add(role);
+            }
+        }
+
+        private void finish() {
+            emit();
+        }
+
+        private void emit() {
+            if (current == null) {
+                return;
+            }
+            try {
+                sink.accept(current);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            current = null;
+        }
+    }
+}
@@ -0,0 +1,91 @@
+/***********************************************************
+ * Copyright (c) 2025. All rights reserved to ArchiLogic.
+ * Developer: Nikhil Gadhavajula
+ **********************************************************/
+
+package com.archilogic.timing;
+
+import java.util.Locale;
+
+/**
+ * The phase timings of a single request. Not thread-safe: it is only ever touched by the request thread.
+ * <p>
+ * Phases are kept in small parallel arrays rather than a map so that recording allocates nothing.
+ * Recording the same phase twice (e.g. two JWT parses) adds up the durations.
+ */
+public final class RequestTimings {
+
+    private static final int MAX_PHASES = 16;
+
+    private final String[] names = new String[MAX_PHASES];
+    private final long[] nanos = new long[MAX_PHASES];
+    private final int[] counts = new int[MAX_PHASES];
+    private final long startNanos = System.nanoTime();
+    private int size;
+
+    void add(String name, long durationNanos) {
+        for (int i = 0; i < size; i++) {
+            // Phase names are string constants, so an identity check is enough.
+            if (names[i] == name) {
+                nanos[i] += durationNanos;
+                counts[i]++;
+                return;
+            }
+        }
+        if (size < MAX_PHASES) {
+            names[size] = name;
+            nanos[size] = durationNanos;
+            counts[size] = 1;
+            size++;
+        }
+    }
+
+    /**
+     * @return The time elapsed since the request started, in nanoseconds.
+     */
+    public long elapsedNanos() {
+        return System.nanoTime() - startNanos;
+    }
+
+    /**
+     * Formats the phases as a {@code Server-Timing} header value, e.g. {@code jwt;dur=0.41, total;dur=12.50}.
+     *
+     * @return The header value.
+     */
+    public String toHeaderValue() {
+        StringBuilder sb = new StringBuilder(32 + size * 24);
+        for (int i = 0; i < size; i++) {
+            appendMetric(sb, names[i], nanos[i]);
+            sb.append(", ");
+        }
+        appendMetric(sb, "total", elapsedNanos());
+        return sb.toString();
+    }
+
+    /**
+     * Formats the phases for the slow-request log, e.g. {@code jwt=0.41ms(x2) user-load=3.10ms}.
+     *
+     * @return A compact, single-line description of the phases.
+     */
+    public String toLogValue() {
+        StringBuilder sb = new StringBuilder(size * 24);
+        for (int i = 0; i < size; i++) {
+            if (i > 0) {
+                sb.append(' ');
+            }
+            sb.append(names[i]).append('=').append(millis(nanos[i])).append("ms");
+            if (counts[i] > 1) {
+                sb.append("(x").append(counts[i]).append(')');
+            }
+        }
+        return sb.toString();
+    }
+
+    private static void appendMetric(StringBuilder sb, String name, long durationNanos) {
+        sb.append(name).append(";dur=").append(millis(durationNanos));
+    }
+
+    private static String millis(long durationNanos) {
+        return String.format(Locale.ROOT, "%.2f", durationNanos / 1_000_000.0);
+    }
+}
@@ -0,0 +1,73 @@
+/***********************************************************
+ * Copyright (c) 2025. All rights reserved to ArchiLogic.
+ * Developer: Nikhil Gadhavajula
+ **********************************************************/
+
+package com.archilogic.timing;
+
+/**
+ * Static entry point for recording request phase timings.
+ * <p>
+ * Usage at an instrumentation point:
+ * <pre>{@code
+ * long start = ServerTiming.start();
+ * ... work ...
+ * ServerTiming.stop(ServerTiming.JWT, start);
+ * }</pre>
+ * When the feature is off (the default), {@link #start()} and {@link #stop(String, long)} reduce to a
+ * single read of a static field, so instrumented code paths pay practically nothing.
+ */
+public final class ServerTiming {
+
+    public static final String AUTH_FILTER = "auth-filter";
+    public static final String JWT = "jwt";
+    public static final String USER_LOAD = "user-load";
+    public static final String DB = "db";
+    public static final String BCRYPT = "bcrypt";
+    public static final String AUTHENTICATE = "authn";
+
+    private static final ThreadLocal<RequestTimings> CURRENT = new ThreadLocal<>();
+
+    /**
+     * Set once by {@link ServerTimingFilter} during startup, before the server accepts requests.
+     */
+    private static boolean enabled;
+
+    private ServerTiming() {
+    }
+
+    static void enable() {
+        enabled = true;
+    }
+
+    static void begin(RequestTimings timings) {
+        CURRENT.set(timings);
+    }
+
+    static void end() {
+        CURRENT.remove();
+    }
+
+    /**
+     * @return The start timestamp to pass to {@link #stop(String, long)}, or 0 if timing is off.
+     */
+    public static long start() {
+        return enabled ? System.nanoTime() : 0L;
+    }
+
+    /**
+     * Records a phase that started at the given timestamp.
+     *
+     * @param phase      The phase name; use one of the constants in this class.
+     * @param startNanos The value returned by {@link #start()}.
+     */
+    public static void stop(String phase, long startNanos) {
+        if (startNanos == 0L) {
+            return;
+        }
+        RequestTimings timings = CURRENT.get();
+        if (timings != null) {
+            timings.add(phase, System.nanoTime() - startNanos);
+        }
+    }
+}
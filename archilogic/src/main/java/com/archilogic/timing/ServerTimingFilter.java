@@ -0,0 +1,130 @@
+/***********************************************************
+ * Copyright (c) 2025. All rights reserved to ArchiLogic.
+ * Developer: Nikhil Gadhavajula
+ **********************************************************/
+
+package com.archilogic.timing;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import lombok.NonNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+
+/**
+ * Opt-in filter ({@code archilogic.app.serverTiming.enabled=true}) that collects phase timings for each
+ * request and returns them in a standard {@code Server-Timing} response header.
+ * <p>
+ * It runs ahead of the Spring Security chain so the JWT filter is covered. The header is added just before
+ * the first byte of the body is written (all auth and service phases have finished by then), or at the end of
+ * the request if there is no body. Requests slower than {@code slowThresholdMs} are also logged as a single
+ * structured line to the {@code archilogic.slow-requests} logger.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+@ConditionalOnProperty(name = "archilogic.app.serverTiming.enabled", havingValue = "true")
+public class ServerTimingFilter extends OncePerRequestFilter {
+
+    private static final Logger slowLog = LoggerFactory.getLogger("archilogic.slow-requests");
+    private static final String HEADER = "Server-Timing";
+
+    @Value("${archilogic.app.serverTiming.slowThresholdMs:500}")
+    private long slowThresholdMs;
+
+    @PostConstruct
+    public void init() {
+        ServerTiming.enable();
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request,
+                                    @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain filterChain)
+            throws ServletException, IOException {
+        RequestTimings timings = new RequestTimings();
+        TimingResponseWrapper wrapped = new TimingResponseWrapper(response, timings);
+        ServerTiming.begin(timings);
+        try {
+            filterChain.doFilter(request, wrapped);
+        } finally {
+            ServerTiming.end();
+            wrapped.writeHeader();
+            long elapsedMs = timings.elapsedNanos() / 1_000_000;
+            if (elapsedMs >= slowThresholdMs) {
+                slowLog.warn("slow-request method={} path={} status={} totalMs={} phases=[{}]",
+                        request.getMethod(), request.getRequestURI(), response.getStatus(), elapsedMs,
+                        timings.toLogValue());
+            }
+        }
+    }
+
+    /**
+     * Adds the Server-Timing header at the last moment it can still be sent.
+     */
+    private static final class TimingResponseWrapper extends HttpServletResponseWrapper {
+        private final RequestTimings timings;
+        private boolean headerWritten;
+
+        private TimingResponseWrapper(HttpServletResponse response, RequestTimings timings) {
+            super(response);
+            this.timings = timings;
+        }
+
+        private void writeHeader() {
+            if (!headerWritten && !isCommitted()) {
+                setHeader(HEADER, timings.toHeaderValue());
+            }
+            headerWritten = true;
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            writeHeader();
+            return super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            writeHeader();
+            return super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            writeHeader();
+            super.flushBuffer();
+        }
+
+        @Override
+        public void sendError(int sc) throws IOException {
+            writeHeader();
+            super.sendError(sc);
+        }
+
+        @Override
+        public void sendError(int sc, String msg) throws IOException {
+            writeHeader();
+            super.sendError(sc, msg);
+        }
+
+        @Override
+        public void sendRedirect(String location) throws IOException {
+            writeHeader();
+            super.sendRedirect(location);
+        }
+    }
+}
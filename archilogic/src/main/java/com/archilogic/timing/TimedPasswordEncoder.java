@@ -0,0 +1,46 @@
+/***********************************************************
+ * Copyright (c) 2025. All rights reserved to ArchiLogic.
+ * Developer: Nikhil Gadhavajula
+ **********************************************************/
+
+package com.archilogic.timing;
+
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * A {@link PasswordEncoder} decorator that reports hashing and matching time as the
+ * {@code bcrypt} phase of the current request.
+ */
+public class TimedPasswordEncoder implements PasswordEncoder {
+
+    private final PasswordEncoder delegate;
+
+    public TimedPasswordEncoder(PasswordEncoder delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        long start = ServerTiming.start();
+        try {
+            return delegate.encode(rawPassword);
+        } finally {
+            ServerTiming.stop(ServerTiming.BCRYPT, start);
+        }
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        long start = ServerTiming.start();
+        try {
+            return delegate.matches(rawPassword, encodedPassword);
+        } finally {
+            ServerTiming.stop(ServerTiming.BCRYPT, start);
+        }
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+}
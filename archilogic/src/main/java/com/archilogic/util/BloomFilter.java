@@ -0,0 +1,168 @@
+/***********************************************************
+ * Copyright (c) 2025. All rights reserved to ArchiLogic.
+ * Developer: Nikhil Gadhavajula
+ **********************************************************/
+
+package com.archilogic.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A thread-safe, lock-free Bloom filter over strings.
+ * <p>
+ * Bits are stored in an {@link AtomicLongArray} so concurrent {@link #put(String)} calls never
+ * lose each other's bits, and {@link #mightContain(String)} is a plain volatile read.
+ * Positions are derived with Kirsch-Mitzenmacher double hashing over a 64-bit hash.
+ */
+public final class BloomFilter {
+
+    private final AtomicLongArray bits;
+    private final long bitCount;
+    private final int hashFunctions;
+    private final AtomicLong insertions = new AtomicLong();
+
+    private BloomFilter(long bitCount, int hashFunctions) {
+        int words = (int) Math.max(1, (bitCount + 63) >>> 6);
+        this.bits = new AtomicLongArray(words);
+        this.bitCount = (long) words << 6;
+        this.hashFunctions = hashFunctions;
+    }
+
+    /**
+     * Creates a filter sized for the given number of insertions and target false-positive rate.
+     *
+     * @param expectedInsertions The number of elements the filter is expected to hold.
+     * @param fpp                The desired false-positive probability (0 &lt; fpp &lt; 1).
+     * @return A new, empty Bloom filter.
+     */
+    public static BloomFilter create(long expectedInsertions, double fpp) {
+        if (expectedInsertions <= 0) {
+            throw new IllegalArgumentException("Expected insertions must be positive.");
+        }
+        if (fpp <= 0 || fpp >= 1) {
+            throw new IllegalArgumentException("False-positive probability must be between 0 and 1.");
+        }
+        long m = (long) Math.ceil(-expectedInsertions * Math.log(fpp) / (Math.log(2) * Math.log(2)));
+        int k = Math.max(1, (int) Math.round((double) m / expectedInsertions * Math.log(2)));
+        if (m > (long) Integer.MAX_VALUE * 64) {
+            throw new IllegalArgumentException("Requested Bloom filter is too large.");
+        }
+        return new BloomFilter(m, k);
+    }
+
+    /**
+     * Adds a value to the filter.
+     *
+     * @param value The value to add.
+     */
+    public void put(String value) {
+        long hash = hash64(value);
+        long h1 = fmix64(hash);
+        long h2 = fmix64(h1 ^ 0x9E3779B97F4A7C15L) | 1L;
+        boolean changed = false;
+        for (int i = 0; i < hashFunctions; i++) {
+            long index = ((h1 + i * h2) & Long.MAX_VALUE) % bitCount;
+            changed |= setBit(index);
+        }
+        if (changed) {
+            insertions.incrementAndGet();
+        }
+    }
+
+    /**
+     * Tests whether a value may have been added to the filter.
+     *
+     * @param value The value to test.
+     * @return false if the value was definitely never added, true if it possibly was.
+     */
+    public boolean mightContain(String value) {
+        long hash = hash64(value);
+        long h1 = fmix64(hash);
+        long h2 = fmix64(h1 ^ 0x9E3779B97F4A7C15L) | 1L;
+        for (int i = 0; i < hashFunctions; i++) {
+            long index = ((h1 + i * h2) & Long.MAX_VALUE) % bitCount;
+            if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Estimates the current false-positive probability from the number of distinct insertions,
+     * using {@code (1 - e^(-kn/m))^k}.
+     *
+     * @return The estimated false-positive probability.
+     */
+    public double expectedFpp() {
+        double n = insertions.get();
+        return Math.pow(1 - Math.exp(-hashFunctions * n / bitCount), hashFunctions);
+    }
+
+    /**
+     * @return The number of bytes used by the bit array.
+     */
+    public long sizeInBytes() {
+        return bitCount / 8;
+    }
+
+    /**
+     * @return The number of bits in the filter.
+     */
+    public long bitCount() {
+        return bitCount;
+    }
+
+    /**
+     * @return The number of hash functions applied per element.
+     */
+    public int hashFunctions() {
+        return hashFunctions;
+    }
+
+    /**
+     * @return The approximate number of distinct elements added so far.
+     */
+    public long approximateElementCount() {
+        return insertions.get();
+    }
+
+    private boolean setBit(long index) {
+        int word = (int) (index >>> 6);
+        long mask = 1L << index;
+        long current;
+        do {
+            current = bits.get(word);
+            if ((current & mask) != 0) {
+                return false;
+            }
+        } while (!bits.compareAndSet(word, current, current | mask));
+        return true;
+    }
+
+    /**
+     * 64-bit FNV-1a over the UTF-8 bytes of the value.
+     */
+    private static long hash64(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= (b & 0xff);
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+
+    /**
+     * MurmurHash3 finalizer, used to spread FNV output across all 64 bits.
+     */
+    private static long fmix64(long k) {
+        k ^= k >>> 33;
+        k *= 0xff51afd7ed558ccdL;
+        k ^= k >>> 33;
+        k *= 0xc4ceb93fe53e1a85L;
+        k ^= k >>> 33;
+        return k;
+    }
+}
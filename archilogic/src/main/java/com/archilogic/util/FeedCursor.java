@@ -0,0 +1,50 @@
+/***********************************************************
+ * Copyright (c) 2025. All rights reserved to ArchiLogic.
+ * Developer: Nikhil Gadhavajula
+ **********************************************************/
+
+package com.archilogic.util;
+
+import com.archilogic.exception.BadRequestException;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * The position of the last article on a feed page, encoded as an opaque URL-safe string.
+ * Shared by every feed that is ordered by {@code (published_at, id)} descending.
+ */
+@Getter
+public final class FeedCursor {
+
+    private final Instant publishedAt;
+    private final Long id;
+
+    public FeedCursor(Instant publishedAt, Long id) {
+        this.publishedAt = publishedAt;
+        this.id = id;
+    }
+
+    public String encode() {
+        String raw = publishedAt + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @param cursor An encoded cursor.
+     * @return The decoded position.
+     * @throws BadRequestException if the cursor is malformed.
+     */
+    public static FeedCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf('|');
+            return new FeedCursor(Instant.parse(raw.substring(0, separator)), Long.parseLong(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new BadRequestException("Invalid cursor: " + cursor);
+        }
+    }
+}
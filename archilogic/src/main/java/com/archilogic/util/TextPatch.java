@@ -0,0 +1,187 @@
+/***********************************************************
+ * Copyright (c) 2025. All rights reserved to ArchiLogic.
+ * Developer: Nikhil Gadhavajula
+ **********************************************************/
+
+package com.archilogic.util;
+
+import com.archilogic.exception.BadRequestException;
+import lombok.Getter;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A set of text edits against one base text, with a compact binary encoding for the draft delta log.
+ * <p>
+ * Edits are given in base-text coordinates (UTF-16 code units, as in JavaScript strings), in ascending order and
+ * without overlap, so a patch means the same thing however it is applied. The encoding is a format byte, the
+ * number of edits, then per edit the distance from the end of the previous edit, the number of deleted characters
+ * (all as unsigned varints) and the inserted text as length-prefixed UTF-8. Typing a sentence into a long article
+ * encodes to a few dozen bytes.
+ */
+public final class TextPatch {
+
+    private static final int FORMAT = 1;
+
+    private final List<Edit> edits;
+
+    private TextPatch(List<Edit> edits) {
+        this.edits = edits;
+    }
+
+    /**
+     * @param edits The edits, ascending and non-overlapping in base-text coordinates.
+     * @return The patch.
+     * @throws BadRequestException if the edits are out of order, overlap or are malformed.
+     */
+    public static TextPatch of(List<Edit> edits) {
+        long end = 0;
+        for (Edit edit : edits) {
+            if (edit.offset < end) {
+                throw new BadRequestException("Edits must be ascending and must not overlap (offset " + edit.offset + ").");
+            }
+            end = edit.end();
+        }
+        return new TextPatch(List.copyOf(edits));
+    }
+
+    /**
+     * @return The edits, in order.
+     */
+    public List<Edit> getEdits() {
+        return Collections.unmodifiableList(edits);
+    }
+
+    /**
+     * @param base The text the patch was made against.
+     * @return The patched text.
+     * @throws BadRequestException if an edit reaches beyond the end of the base text.
+     */
+    public String applyTo(String base) {
+        long length = base.length();
+        for (Edit edit : edits) {
+            if (edit.end() > base.length()) {
+                throw new BadRequestException("Edit at offset " + edit.offset + " reaches beyond the end of the text ("
+                        + base.length() + " characters).");
+            }
+            length += edit.insert.length() - edit.deleteCount;
+        }
+        if (length > Integer.MAX_VALUE - 8) {
+            throw new BadRequestException("The patched text would be too long.");
+        }
+        StringBuilder result = new StringBuilder((int) length);
+        int position = 0;
+        for (Edit edit : edits) {
+            result.append(base, position, edit.offset).append(edit.insert);
+            position = edit.offset + edit.deleteCount;
+        }
+        return result.append(base, position, base.length()).toString();
+    }
+
+    /**
+     * @return The binary form stored in the delta log.
+     */
+    public byte[] encode() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(16 + edits.size() * 8);
+        out.write(FORMAT);
+        writeVarint(out, edits.size());
+        long end = 0;
+        for (Edit edit : edits) {
+            writeVarint(out, (int) (edit.offset - end));
+            writeVarint(out, edit.deleteCount);
+            byte[] insert = edit.insert.getBytes(StandardCharsets.UTF_8);
+            writeVarint(out, insert.length);
+            out.write(insert, 0, insert.length);
+            end = edit.end();
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * @param encoded Bytes produced by {@link #encode()}.
+     * @return The patch.
+     * @throws IllegalArgumentException if the bytes are not a valid patch.
+     */
+    public static TextPatch decode(byte[] encoded) {
+        int[] cursor = {0};
+        if (encoded.length == 0 || encoded[cursor[0]++] != FORMAT) {
+            throw new IllegalArgumentException("Unknown patch format.");
+        }
+        int count = readVarint(encoded, cursor);
+        List<Edit> edits = new ArrayList<>(Math.min(count, 1024));
+        long end = 0;
+        for (int i = 0; i < count; i++) {
+            long offset = end + readVarint(encoded, cursor);
+            int deleteCount = readVarint(encoded, cursor);
+            if (offset + deleteCount > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("Malformed patch.");
+            }
+            int length = readVarint(encoded, cursor);
+            if (length > encoded.length - cursor[0]) {
+                throw new IllegalArgumentException("Truncated patch.");
+            }
+            String insert = new String(encoded, cursor[0], length, StandardCharsets.UTF_8);
+            cursor[0] += length;
+            edits.add(new Edit((int) offset, deleteCount, insert));
+            end = offset + deleteCount;
+        }
+        return new TextPatch(edits);
+    }
+
+    private static void writeVarint(ByteArrayOutputStream out, int value) {
+        while ((value & ~0x7F) != 0) {
+            out.write((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.write(value);
+    }
+
+    private static int readVarint(byte[] bytes, int[] cursor) {
+        int value = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            if (cursor[0] >= bytes.length) {
+                throw new IllegalArgumentException("Truncated patch.");
+            }
+            byte b = bytes[cursor[0]++];
+            value |= (b & 0x7F) << shift;
+            if (b >= 0) {
+                if (value < 0) {
+                    throw new IllegalArgumentException("Malformed patch.");
+                }
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Malformed patch.");
+    }
+
+    /**
+     * Replace {@code deleteCount} characters at {@code offset} of the base text with {@code insert}.
+     */
+    @Getter
+    public static final class Edit {
+        private final int offset;
+        private final int deleteCount;
+        private final String insert;
+
+        public Edit(int offset, int deleteCount, String insert) {
+            if (offset < 0 || deleteCount < 0) {
+                throw new BadRequestException("Edit offsets and lengths must not be negative.");
+            }
+            this.offset = offset;
+            this.deleteCount = deleteCount;
+            this.insert = insert == null ? "" : insert;
+        }
+
+        /**
+         * @return The base-text position just after the deleted range; a long, as offset and count may each be
+         * up to {@code Integer.MAX_VALUE}.
+         */
+        private long end() {
+            return (long) offset + deleteCount;
+        }
+    }
+}
@@ -0,0 +1,184 @@
+/***********************************************************
+ * Copyright (c) 2025. All rights reserved to ArchiLogic.
+ * Developer: Nikhil Gadhavajula
+ **********************************************************/
+
+package com.archilogic.warmup;
+
+import com.archilogic.dto.JwtResponse;
+import com.archilogic.entity.ERole;
+import com.archilogic.entity.Role;
+import com.archilogic.entity.User;
+import com.archilogic.repository.UserRepository;
+import com.archilogic.security.config.RouteClassifier;
+import com.archilogic.security.jwt.JwtUtils;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Exercises the hot sign-in and request-authentication paths before the instance is marked ready.
+ * <p>
+ * Spring Boot only publishes {@code ReadinessState.ACCEPTING_TRAFFIC} once all application runners have
+ * returned, so while this runner works {@code /actuator/health/readiness} reports {@code OUT_OF_SERVICE} and the
+ * load balancer keeps traffic away. Each iteration classifies a route as the JWT filter does, issues and verifies
+ * a JWT, serializes a {@link JwtResponse} with the application's {@link ObjectMapper}, and periodically runs the
+ * {@code findByUsername} query and a BCrypt comparison, so the JIT compiles these paths before real requests
+ * arrive.
+ * <p>
+ * All of it uses a synthetic, never-persisted user. The query looks up a username longer than the column
+ * allows, so it can't match a real account, and nothing touches the caches, the audit log or any table
+ * other than a read of {@code users}. Warm-up runs in rounds of {@code roundSize} iterations. It stops once
+ * the last {@code stableRounds} rounds are within {@code tolerance} of each other, or at {@code maxIterations}
+ * or {@code maxDurationMs}, whichever comes first. Round times only count the CPU-bound JWT, Jackson and filter
+ * work: the query and BCrypt are warmed up too, but their latency says nothing about the JIT and is not timed. A failure is logged and never blocks startup.
+ */
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE)
+@RequiredArgsConstructor
+@Slf4j
+public class JitWarmup implements ApplicationRunner {
+
+    private static final String WARMUP_USERNAME = "warm-up-" + "x".repeat(60);
+    private static final String AUTHENTICATED_ROUTE = "/api/v1/drafts";
+
+    private final JwtUtils jwtUtils;
+    private final PasswordEncoder passwordEncoder;
+    private final ObjectMapper objectMapper;
+    private final UserRepository userRepository;
+    private final RouteClassifier routeClassifier;
+
+    @Value("${archilogic.app.warmup.enabled:true}")
+    private boolean enabled;
+
+    @Value("${archilogic.app.warmup.roundSize:200}")
+    private int roundSize;
+
+    @Value("${archilogic.app.warmup.minIterations:2000}")
+    private int minIterations;
+
+    @Value("${archilogic.app.warmup.maxIterations:20000}")
+    private int maxIterations;
+
+    @Value("${archilogic.app.warmup.stableRounds:3}")
+    private int stableRounds;
+
+    @Value("${archilogic.app.warmup.tolerance:0.10}")
+    private double tolerance;
+
+    @Value("${archilogic.app.warmup.maxDurationMs:60000}")
+    private long maxDurationMs;
+
+    /**
+     * Run the user query every this many iterations, so warm-up doesn't load the database.
+     */
+    @Value("${archilogic.app.warmup.queryEvery:20}")
+    private int queryEvery;
+
+    /**
+     * Run a BCrypt comparison every this many iterations; a single one costs tens of milliseconds by design.
+     */
+    @Value("${archilogic.app.warmup.bcryptEvery:200}")
+    private int bcryptEvery;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!enabled) {
+            return;
+        }
+        try {
+            warmUp();
+        } catch (Exception e) {
+            log.warn("JIT warm-up aborted, continuing startup: {}", e.getMessage(), e);
+        }
+    }
+
+    private void warmUp() throws Exception {
+        User user = User.builder()
+                .id(-1L)
+                .username("warm-up")
+                .email("warm-up@localhost")
+                .password("")
+                .roles(Set.of(new Role(ERole.ROLE_USER)))
+                .build();
+        Authentication authentication = new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities());
+        String password = UUID.randomUUID().toString();
+        String passwordHash = passwordEncoder.encode(password);
+        List<String> roles = Collections.singletonList(ERole.ROLE_USER.name());
+
+        long started = System.nanoTime();
+        long deadline = started + TimeUnit.MILLISECONDS.toNanos(maxDurationMs);
+        Deque<Long> recentRounds = new ArrayDeque<>(stableRounds);
+        int iterations = 0;
+        int rounds = 0;
+        long sink = 0;
+        boolean stable = false;
+        while (iterations < maxIterations && System.nanoTime() < deadline && !stable) {
+            long roundNanos = 0;
+            for (int i = 0; i < roundSize; i++, iterations++) {
+                // Only the CPU-bound work is timed: BCrypt and database latency would drown the JIT's effect.
+                long iterationStart = System.nanoTime();
+                sink += routeClassifier.isAnonymous("GET", AUTHENTICATED_ROUTE) ? 1 : 0;
+                String token = jwtUtils.generateJwtToken(authentication);
+                JwtUtils.TokenClaims claims = jwtUtils.parseToken(token);
+                sink += claims.getUsername().length() + claims.getVersion();
+                JwtResponse response = JwtResponse.builder()
+                        .token(token)
+                        .id(user.getId())
+                        .username(user.getUsername())
+                        .email(user.getEmail())
+                        .roles(roles)
+                        .build();
+                sink += objectMapper.writeValueAsBytes(response).length;
+                roundNanos += System.nanoTime() - iterationStart;
+                if (iterations % queryEvery == 0) {
+                    sink += userRepository.findByUsername(WARMUP_USERNAME).isPresent() ? 1 : 0;
+                }
+                if (iterations % bcryptEvery == 0) {
+                    sink += passwordEncoder.matches(password, passwordHash) ? 1 : 0;
+                }
+            }
+            rounds++;
+            if (recentRounds.size() == stableRounds) {
+                recentRounds.removeFirst();
+            }
+            recentRounds.addLast(roundNanos);
+            stable = iterations >= minIterations && isStable(recentRounds);
+        }
+
+        log.info("JIT warm-up finished in {} ms: {} iterations in {} rounds, last round {} µs per iteration, {} (checksum {})",
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started), iterations, rounds,
+                TimeUnit.NANOSECONDS.toMicros(recentRounds.getLast() / roundSize),
+                stable ? "latency stable" : "stopped at the iteration or time limit", sink);
+    }
+
+    private boolean isStable(Deque<Long> recentRounds) {
+        if (recentRounds.size() < stableRounds) {
+            return false;
+        }
+        long min = Long.MAX_VALUE;
+        long max = 0;
+        for (long nanos : recentRounds) {
+            min = Math.min(min, nanos);
+            max = Math.max(max, nanos);
+        }
+        return max - min <= min * tolerance;
+    }
+}
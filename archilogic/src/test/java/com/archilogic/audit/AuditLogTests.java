@@ -0,0 +1,154 @@
+/***********************************************************
+ * Copyright (c) 2025. All rights reserved to ArchiLogic.
+ * Developer: Nikhil Gadhavajula
+ **********************************************************/
+
+package com.archilogic.audit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Drives the ring buffer of {@link AuditLog} with rings much smaller than the number of events, so every slot is
+ * reused many times, and checks what reaches an in-memory {@code audit_events} table.
+ */
+class AuditLogTests {
+
+    private EmbeddedDatabase database;
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void createTable() {
+        database = new EmbeddedDatabaseBuilder().setType(EmbeddedDatabaseType.H2).generateUniqueName(true).build();
+        jdbcTemplate = new JdbcTemplate(database);
+        jdbcTemplate.execute("CREATE TABLE audit_events (id BIGINT AUTO_INCREMENT PRIMARY KEY, occurred_at TIMESTAMP, "
+                + "type VARCHAR(32), user_id BIGINT, username VARCHAR(50), remote_address VARCHAR(45), detail VARCHAR(255))");
+    }
+
+    @AfterEach
+    void dropDatabase() {
+        database.shutdown();
+    }
+
+    @Test
+    void singleProducerWrapsAroundAndDrainsInOrder() throws Exception {
+        AuditLog auditLog = start(jdbcTemplate, 8, 3, AuditLog.OverflowPolicy.WAIT);
+        for (int i = 0; i < 1000; i++) {
+            auditLog.record(AuditEventType.SIGNIN_SUCCEEDED, (long) i, "user" + i, String.valueOf(i));
+        }
+        auditLog.stop();
+
+        List<String> details = jdbcTemplate.queryForList("SELECT detail FROM audit_events ORDER BY id", String.class);
+        assertEquals(1000, details.size());
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(String.valueOf(i), details.get(i));
+        }
+        AuditLog.Stats stats = auditLog.getStats();
+        assertEquals(1000, stats.getPublished());
+        assertEquals(1000, stats.getWritten());
+        assertEquals(0, stats.getDropped());
+        assertEquals(0, stats.getPending());
+    }
+
+    @Test
+    void concurrentProducersLoseNothingAndKeepTheirOwnOrder() throws Exception {
+        int producers = 8;
+        int eventsPerProducer = 5000;
+        AuditLog auditLog = start(jdbcTemplate, 64, 50, AuditLog.OverflowPolicy.WAIT);
+        CyclicBarrier barrier = new CyclicBarrier(producers);
+        List<Thread> threads = new ArrayList<>();
+        for (int p = 0; p < producers; p++) {
+            long producer = p;
+            Thread thread = new Thread(() -> {
+                try {
+                    barrier.await();
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                }
+                for (int i = 0; i < eventsPerProducer; i++) {
+                    auditLog.record(AuditEventType.SIGNUP, producer, null, String.valueOf(i));
+                }
+            });
+            thread.start();
+            threads.add(thread);
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        auditLog.stop();
+
+        assertEquals(0, auditLog.getStats().getDropped(), "the wait budget should absorb every full ring");
+        Map<Long, Integer> nextExpected = new HashMap<>();
+        List<Map<String, Object>> rows = jdbcTemplate.queryForList("SELECT user_id, detail FROM audit_events ORDER BY id");
+        assertEquals(producers * eventsPerProducer, rows.size());
+        for (Map<String, Object> row : rows) {
+            long producer = ((Number) row.get("USER_ID")).longValue();
+            int expected = nextExpected.getOrDefault(producer, 0);
+            assertEquals(String.valueOf(expected), row.get("DETAIL"), "events of producer " + producer + " out of order");
+            nextExpected.put(producer, expected + 1);
+        }
+        assertEquals(producers * eventsPerProducer, auditLog.getStats().getWritten());
+    }
+
+    @Test
+    void fullRingDropsWithoutBlocking() throws Exception {
+        CountDownLatch writing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        JdbcTemplate stalled = new JdbcTemplate(database) {
+            @Override
+            public int[] batchUpdate(String sql, BatchPreparedStatementSetter pss) {
+                writing.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return super.batchUpdate(sql, pss);
+            }
+        };
+        AuditLog auditLog = start(stalled, 8, 8, AuditLog.OverflowPolicy.DROP);
+
+        auditLog.record(AuditEventType.SIGNUP, 0L, null, "0");
+        assertTrue(writing.await(5, TimeUnit.SECONDS));
+        // The consumer has copied out the first event and is stuck writing it: the whole ring is free, once.
+        for (int i = 1; i <= 13; i++) {
+            auditLog.record(AuditEventType.SIGNUP, 0L, null, String.valueOf(i));
+        }
+        assertEquals(5, auditLog.getStats().getDropped());
+        release.countDown();
+        auditLog.stop();
+
+        assertEquals(List.of("0", "1", "2", "3", "4", "5", "6", "7", "8"),
+                jdbcTemplate.queryForList("SELECT detail FROM audit_events ORDER BY id", String.class));
+    }
+
+    private static AuditLog start(JdbcTemplate jdbcTemplate, int capacity, int maxBatchSize, AuditLog.OverflowPolicy policy) {
+        AuditLog auditLog = new AuditLog(jdbcTemplate);
+        ReflectionTestUtils.setField(auditLog, "enabled", true);
+        ReflectionTestUtils.setField(auditLog, "capacity", capacity);
+        ReflectionTestUtils.setField(auditLog, "maxBatchSize", maxBatchSize);
+        ReflectionTestUtils.setField(auditLog, "overflowPolicy", policy);
+        ReflectionTestUtils.setField(auditLog, "maxWaitMicros", TimeUnit.SECONDS.toMicros(5));
+        ReflectionTestUtils.setField(auditLog, "idleParkMicros", 100L);
+        auditLog.start();
+        return auditLog;
+    }
+}
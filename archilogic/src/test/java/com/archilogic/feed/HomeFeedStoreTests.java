@@ -0,0 +1,102 @@
+/***********************************************************
+ * Copyright (c) 2025. All rights reserved to ArchiLogic.
+ * Developer: Nikhil Gadhavajula
+ **********************************************************/
+
+package com.archilogic.feed;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HomeFeedStoreTests {
+
+    @Test
+    void pushKeepsEntriesOrderedWhateverTheArrivalOrder() {
+        HomeFeedStore.UserFeed feed = new HomeFeedStore.UserFeed(100, new long[0]);
+        // More entries than the initial arrays hold, so they grow while entries are inserted in the middle.
+        for (long id = 1; id <= 40; id++) {
+            long publishedAt = id % 2 == 0 ? id * 10 : 1000 - id * 10;
+            feed.push(id, publishedAt);
+        }
+        long[][] entries = all(feed);
+        assertEquals(40, entries.length);
+        for (int i = 1; i < entries.length; i++) {
+            assertTrue(entries[i - 1][1] > entries[i][1], "entry " + i + " out of order");
+        }
+    }
+
+    @Test
+    void pushIgnoresDuplicatesAndBreaksTiesById() {
+        HomeFeedStore.UserFeed feed = new HomeFeedStore.UserFeed(10, new long[0]);
+        feed.push(7, 100);
+        feed.push(3, 100);
+        feed.push(7, 100);
+        feed.push(5, 100);
+        assertIds(all(feed), 7, 5, 3);
+    }
+
+    @Test
+    void fullFeedEvictsTheOldestEntry() {
+        HomeFeedStore.UserFeed feed = new HomeFeedStore.UserFeed(4, new long[0]);
+        feed.push(1, 10);
+        feed.push(2, 20);
+        feed.push(3, 30);
+        feed.push(4, 40);
+
+        feed.push(5, 50);
+        assertIds(all(feed), 5, 4, 3, 2);
+        // Inserted in the middle: everything older shifts down by one and the oldest falls off.
+        feed.push(6, 25);
+        assertIds(all(feed), 5, 4, 3, 6);
+        // Equal to the oldest position but with a higher id, so it is newer and still displaces it.
+        feed.push(7, 25);
+        assertIds(all(feed), 5, 4, 3, 7);
+        // Older than everything held: dropped.
+        feed.push(8, 5);
+        feed.push(6, 25);
+        assertIds(all(feed), 5, 4, 3, 7);
+        // A duplicate of a held entry neither evicts nor changes anything.
+        feed.push(4, 40);
+        assertIds(all(feed), 5, 4, 3, 7);
+    }
+
+    @Test
+    void beforeExcludesTheCursorPositionAndStopsAtTheEnds() {
+        HomeFeedStore.UserFeed feed = new HomeFeedStore.UserFeed(10, new long[0]);
+        feed.push(1, 10);
+        feed.push(2, 20);
+        feed.push(3, 20);
+        feed.push(4, 30);
+
+        assertIds(feed.before(Long.MAX_VALUE, Long.MAX_VALUE, 2), 4, 3);
+        // Exactly at a held position: that entry was already seen.
+        assertIds(feed.before(20, 3, 10), 2, 1);
+        // Same time, id between two held entries.
+        assertIds(feed.before(20, 2, 10), 1);
+        assertIds(feed.before(20, 5, 10), 3, 2, 1);
+        // Between two times.
+        assertIds(feed.before(25, Long.MAX_VALUE, 10), 3, 2, 1);
+        // At or before the oldest entry.
+        assertIds(feed.before(10, 1, 10));
+        assertIds(feed.before(5, Long.MAX_VALUE, 10));
+        assertIds(new HomeFeedStore.UserFeed(10, new long[0]).before(Long.MAX_VALUE, Long.MAX_VALUE, 10));
+
+        long[][] entries = feed.before(Long.MAX_VALUE, Long.MAX_VALUE, 1);
+        assertArrayEquals(new long[]{4, 30}, entries[0]);
+    }
+
+    private static long[][] all(HomeFeedStore.UserFeed feed) {
+        return feed.before(Long.MAX_VALUE, Long.MAX_VALUE, Integer.MAX_VALUE);
+    }
+
+    private static void assertIds(long[][] entries, long... ids) {
+        long[] actual = new long[entries.length];
+        for (int i = 0; i < entries.length; i++) {
+            actual[i] = entries[i][0];
+        }
+        assertArrayEquals(ids, actual);
+    }
+}
@@ -0,0 +1,153 @@
+/***********************************************************
+ * Copyright (c) 2025. All rights reserved to ArchiLogic.
+ * Developer: Nikhil Gadhavajula
+ **********************************************************/
+
+package com.archilogic.mail;
+
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Runs the claim and settle steps of {@link EmailOutboxDispatcher} against an in-memory database, with several
+ * dispatchers competing for the same rows. Tests don't run in a test-managed transaction, so every claim commits
+ * like in production.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("h2")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class EmailOutboxClaimTests {
+
+    private static final int DISPATCHERS = 4;
+    private static final int BATCH_SIZE = 5;
+
+    @RegisterExtension
+    static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    void clearOutbox() {
+        jdbcTemplate.update("DELETE FROM email_outbox");
+    }
+
+    @Test
+    void competingDispatchersClaimEveryDueRowExactlyOnce() throws Exception {
+        insertDue(60);
+        CyclicBarrier start = new CyclicBarrier(DISPATCHERS);
+        ExecutorService pool = Executors.newFixedThreadPool(DISPATCHERS);
+        try {
+            List<Future<List<Long>>> results = new ArrayList<>();
+            for (int i = 0; i < DISPATCHERS; i++) {
+                EmailOutboxDispatcher dispatcher = dispatcher(120_000);
+                results.add(pool.submit((Callable<List<Long>>) () -> {
+                    start.await();
+                    List<Long> ids = new ArrayList<>();
+                    List<PendingEmail> batch;
+                    do {
+                        batch = dispatcher.claim();
+                        batch.forEach(email -> ids.add(email.getId()));
+                    } while (!batch.isEmpty());
+                    return ids;
+                }));
+            }
+            List<Long> claimed = new ArrayList<>();
+            for (Future<List<Long>> result : results) {
+                claimed.addAll(result.get());
+            }
+            assertEquals(60, claimed.size());
+            assertEquals(60, new HashSet<>(claimed).size(), "a row was claimed twice");
+        } finally {
+            pool.shutdownNow();
+        }
+        assertEquals(60, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM email_outbox WHERE attempts = 1 AND next_attempt_at > CURRENT_TIMESTAMP", Integer.class));
+    }
+
+    @Test
+    void leasedRowsBecomeDueAgainWhenTheLeaseRunsOut() throws Exception {
+        insertDue(3);
+        EmailOutboxDispatcher dispatcher = dispatcher(300);
+
+        List<PendingEmail> first = dispatcher.claim();
+        assertEquals(3, first.size());
+        first.forEach(email -> assertEquals(1, email.getAttempt()));
+        assertTrue(dispatcher.claim().isEmpty(), "leased rows were claimed again");
+
+        Thread.sleep(400);
+        List<PendingEmail> second = dispatcher.claim();
+        assertEquals(Set.copyOf(first.stream().map(PendingEmail::getId).toList()),
+                Set.copyOf(second.stream().map(PendingEmail::getId).toList()));
+        second.forEach(email -> assertEquals(2, email.getAttempt()));
+    }
+
+    @Test
+    void sentRowsLoseTheirBody() {
+        insertDue(2);
+
+        assertEquals(2, dispatcher(120_000).dispatchBatch());
+
+        assertEquals(2, greenMail.getReceivedMessages().length);
+        assertEquals(List.of(""), jdbcTemplate.queryForList(
+                "SELECT DISTINCT body FROM email_outbox WHERE status = 'SENT'", String.class));
+    }
+
+    private EmailOutboxDispatcher dispatcher(long leaseMs) {
+        JavaMailSenderImpl mailSender = new JavaMailSenderImpl();
+        mailSender.setHost("127.0.0.1");
+        mailSender.setPort(greenMail.getSmtp().getPort());
+        EmailOutboxDispatcher dispatcher = new EmailOutboxDispatcher(jdbcTemplate,
+                new TransactionTemplate(transactionManager), new OutboxMailer(mailSender, "no-reply@archilogic.local"));
+        ReflectionTestUtils.setField(dispatcher, "batchSize", BATCH_SIZE);
+        ReflectionTestUtils.setField(dispatcher, "leaseMs", leaseMs);
+        ReflectionTestUtils.setField(dispatcher, "maxAttempts", 8);
+        ReflectionTestUtils.setField(dispatcher, "initialBackoffMs", 5000L);
+        ReflectionTestUtils.setField(dispatcher, "maxBackoffMs", 3_600_000L);
+        return dispatcher;
+    }
+
+    private void insertDue(int count) {
+        Timestamp past = new Timestamp(System.currentTimeMillis() - 60_000);
+        List<Object[]> rows = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            rows.add(new Object[]{"reader" + i + "@example.com", "Reset your password",
+                    "https://archilogic.local/reset?token=secret-" + i, past, past});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO email_outbox "
+                + "(kind, recipient, subject, body, status, attempts, created_at, next_attempt_at) "
+                + "VALUES ('PASSWORD_RESET', ?, ?, ?, 'PENDING', 0, ?, ?)", rows);
+    }
+}
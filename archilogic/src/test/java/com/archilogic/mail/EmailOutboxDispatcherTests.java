@@ -0,0 +1,25 @@
+/***********************************************************
+ * Copyright (c) 2025. All rights reserved to ArchiLogic.
+ * Developer: Nikhil Gadhavajula
+ **********************************************************/
+
+package com.archilogic.mail;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class EmailOutboxDispatcherTests {
+
+    @Test
+    void backoffDoublesWithJitterUpToTheCap() {
+        for (int i = 0; i < 1000; i++) {
+            long first = EmailOutboxDispatcher.backoffMillis(1, 1000, 60_000);
+            assertTrue(first >= 500 && first <= 1000, "first retry: " + first);
+            long third = EmailOutboxDispatcher.backoffMillis(3, 1000, 60_000);
+            assertTrue(third >= 2000 && third <= 4000, "third retry: " + third);
+            long capped = EmailOutboxDispatcher.backoffMillis(40, 1000, 60_000);
+            assertTrue(capped >= 30_000 && capped <= 60_000, "capped retry: " + capped);
+        }
+    }
+}
@@ -0,0 +1,102 @@
+/***********************************************************
+ * Copyright (c) 2025. All rights reserved to ArchiLogic.
+ * Developer: Nikhil Gadhavajula
+ **********************************************************/
+
+package com.archilogic.mail;
+
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.GreenMailUtil;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Properties;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Sends outbox batches to an in-process GreenMail SMTP server.
+ */
+class OutboxMailerTests {
+
+    @RegisterExtension
+    static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP);
+
+    @Test
+    void sendsWholeBatch() throws Exception {
+        OutboxMailer mailer = new OutboxMailer(mailSender(greenMail.getSmtp().getPort()), "no-reply@archilogic.local");
+
+        OutboxMailer.Delivery delivery = mailer.send(List.of(
+                email(1, "ada@example.com", "Confirm your address"),
+                email(2, "alan@example.com", "Reset your password"),
+                email(3, "grace@example.com", "Confirm your address")));
+
+        assertEquals(List.of(1L, 2L, 3L), delivery.getSent().stream().sorted().toList());
+        assertTrue(delivery.getFailures().isEmpty());
+        MimeMessage[] received = greenMail.getReceivedMessages();
+        assertEquals(3, received.length);
+        assertEquals(List.of("ada@example.com", "alan@example.com", "grace@example.com"),
+                Arrays.stream(received).map(message -> recipient(message)).sorted().toList());
+        MimeMessage reset = Arrays.stream(received)
+                .filter(message -> recipient(message).equals("alan@example.com")).findFirst().orElseThrow();
+        assertEquals("Reset your password", reset.getSubject());
+        assertTrue(GreenMailUtil.getBody(reset).contains("body of 2"));
+    }
+
+    @Test
+    void malformedAddressFailsPermanentlyWithoutAffectingTheBatch() {
+        OutboxMailer mailer = new OutboxMailer(mailSender(greenMail.getSmtp().getPort()), "no-reply@archilogic.local");
+
+        OutboxMailer.Delivery delivery = mailer.send(List.of(
+                email(1, "ada@example.com", "Confirm your address"),
+                email(2, "not an address@@", "Confirm your address")));
+
+        assertEquals(List.of(1L), delivery.getSent());
+        assertTrue(delivery.getFailures().get(2L).isPermanent());
+        assertEquals(1, greenMail.getReceivedMessages().length);
+    }
+
+    @Test
+    void unreachableServerFailsEveryEmailForRetry() {
+        OutboxMailer mailer = new OutboxMailer(mailSender(greenMail.getSmtp().getPort() + 1), "no-reply@archilogic.local");
+
+        OutboxMailer.Delivery delivery = mailer.send(List.of(
+                email(1, "ada@example.com", "Confirm your address"),
+                email(2, "alan@example.com", "Confirm your address")));
+
+        assertTrue(delivery.getSent().isEmpty());
+        assertEquals(2, delivery.getFailures().size());
+        delivery.getFailures().values().forEach(failure -> assertFalse(failure.isPermanent()));
+        assertEquals(0, greenMail.getReceivedMessages().length);
+    }
+
+    private static JavaMailSenderImpl mailSender(int port) {
+        JavaMailSenderImpl sender = new JavaMailSenderImpl();
+        sender.setHost("127.0.0.1");
+        sender.setPort(port);
+        Properties properties = new Properties();
+        properties.put("mail.smtp.connectiontimeout", "2000");
+        properties.put("mail.smtp.timeout", "2000");
+        sender.setJavaMailProperties(properties);
+        return sender;
+    }
+
+    private static PendingEmail email(long id, String recipient, String subject) {
+        return new PendingEmail(id, recipient, subject, "body of " + id, 1, System.currentTimeMillis());
+    }
+
+    private static String recipient(MimeMessage message) {
+        try {
+            return message.getAllRecipients()[0].toString();
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,66 @@
+/***********************************************************
+ * Copyright (c) 2025. All rights reserved to ArchiLogic.
+ * Developer: Nikhil Gadhavajula
+ **********************************************************/
+
+package com.archilogic.security.config;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RouteClassifierTests {
+
+    private final RouteClassifier classifier = new RouteClassifier(
+            new String[]{"/api/v1/auth/**", "/sitemap.xml", "/sitemaps/**"},
+            new String[]{"/api/v1/articles/**", "/api/v1/media/**"});
+
+    @Test
+    void exactRoutesMatchOnlyThemselves() {
+        assertTrue(classifier.isAnonymous("GET", "/sitemap.xml"));
+        assertTrue(classifier.isAnonymous("POST", "/sitemap.xml"));
+        assertFalse(classifier.isAnonymous("GET", "/sitemap.xm"));
+        assertFalse(classifier.isAnonymous("GET", "/sitemap.xml.gz"));
+        assertFalse(classifier.isAnonymous("GET", "/sitemap.xml/"));
+        assertFalse(classifier.isAnonymous("GET", "/"));
+        assertFalse(classifier.isAnonymous("GET", ""));
+    }
+
+    @Test
+    void subtreeRoutesMatchTheirRootAndEverythingBelowIt() {
+        assertTrue(classifier.isAnonymous("POST", "/api/v1/auth"));
+        assertTrue(classifier.isAnonymous("POST", "/api/v1/auth/"));
+        assertTrue(classifier.isAnonymous("POST", "/api/v1/auth/signin"));
+        assertTrue(classifier.isAnonymous("GET", "/sitemaps/sitemap-0.xml"));
+        assertFalse(classifier.isAnonymous("POST", "/api/v1/authors"));
+        assertFalse(classifier.isAnonymous("POST", "/api/v1/aut"));
+        assertFalse(classifier.isAnonymous("GET", "/api/v1/users/1"));
+    }
+
+    @Test
+    void readOnlyRoutesAreAnonymousForGetAndHeadOnly() {
+        assertTrue(classifier.isAnonymous("GET", "/api/v1/articles"));
+        assertTrue(classifier.isAnonymous("HEAD", "/api/v1/articles/42"));
+        assertTrue(classifier.isAnonymous("GET", "/api/v1/media/ab/cd"));
+        assertFalse(classifier.isAnonymous("POST", "/api/v1/articles"));
+        assertFalse(classifier.isAnonymous("PUT", "/api/v1/articles/42"));
+        assertFalse(classifier.isAnonymous("DELETE", "/api/v1/media/ab"));
+        assertFalse(classifier.isAnonymous("get", "/api/v1/articles"));
+    }
+
+    @Test
+    void unsupportedPatternsAreRejected() {
+        assertThrows(IllegalArgumentException.class, () -> new RouteClassifier(new String[]{"/api/*/articles"}, new String[0]));
+        assertThrows(IllegalArgumentException.class, () -> new RouteClassifier(new String[0], new String[]{"/api/v1/articles/{id}"}));
+    }
+
+    @Test
+    void configuredRoutesCompile() {
+        RouteClassifier configured = new RouteClassifier();
+        assertTrue(configured.isAnonymous("GET", "/feeds/rss.xml"));
+        assertTrue(configured.isAnonymous("GET", "/api/v1/articles/1"));
+        assertFalse(configured.isAnonymous("GET", "/api/v1/drafts"));
+    }
+}
@@ -0,0 +1,117 @@
+/***********************************************************
+ * Copyright (c) 2025. All rights reserved to ArchiLogic.
+ * Developer: Nikhil Gadhavajula
+ **********************************************************/
+
+package com.archilogic.security.jwt;
+
+import com.archilogic.entity.ERole;
+import com.archilogic.entity.Role;
+import com.archilogic.entity.User;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Compares the version 1 and version 2 access token formats: the size of the Authorization header and the cost
+ * of verifying a token on the request path. The numbers are printed; only sizes and round trips are asserted.
+ */
+@Tag("benchmark")
+class JwtTokenFormatBenchmarkTests {
+
+    private static final String SECRET = "c2VjcmV0LWtleS1mb3ItdGhlLWJlbmNobWFyay1vbmx5LTEyMzQ1Njc4OTAtYWJjZGVm";
+    private static final int WARMUP_ITERATIONS = 20_000;
+    private static final int MEASURED_ITERATIONS = 50_000;
+
+    @Test
+    void compactTokensAreSmallerAndVerifySideBySide() {
+        Authentication authentication = authentication();
+        String v1 = jwtUtils(1, false).generateJwtToken(authentication);
+        String v2 = jwtUtils(2, false).generateJwtToken(authentication);
+        String v2Deflated = jwtUtils(2, true).generateJwtToken(authentication);
+
+        // Any node parses every format, whatever it issues.
+        JwtUtils parser = jwtUtils(2, false);
+        JwtUtils.TokenClaims legacy = parser.parseToken(v1);
+        assertEquals(1, legacy.getVersion());
+        assertEquals("margaret.hamilton", legacy.getUsername());
+        for (String token : new String[]{v2, v2Deflated}) {
+            JwtUtils.TokenClaims compact = parser.parseToken(token);
+            assertEquals(2, compact.getVersion());
+            assertEquals("margaret.hamilton", compact.getUsername());
+        }
+        assertEquals("margaret.hamilton", jwtUtils(1, false).getUserNameFromJwtToken(v2));
+
+        int v1Bytes = headerBytes(v1);
+        int v2Bytes = headerBytes(v2);
+        int v2DeflatedBytes = headerBytes(v2Deflated);
+        assertTrue(v2Bytes < v1Bytes, "version 2 header " + v2Bytes + " B, version 1 header " + v1Bytes + " B");
+
+        // Before: the filter validated and then parsed again, building a parser each time.
+        SecretKey key = Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET));
+        double legacyNanos = nanosPerOp(v1, token -> {
+            Jwts.parser().verifyWith(key).build().parse(token);
+            Jwts.parser().verifyWith(key).build().parseSignedClaims(token).getPayload().getSubject();
+        });
+        double v1Nanos = nanosPerOp(v1, parser::parseToken);
+        double v2Nanos = nanosPerOp(v2, parser::parseToken);
+        double v2DeflatedNanos = nanosPerOp(v2Deflated, parser::parseToken);
+
+        System.out.printf("%-44s %14s %18s%n", "Format", "Header bytes", "Verify ns/op");
+        System.out.printf("%-44s %14d %18.0f%n", "v1, validate + parse (previous filter)", v1Bytes, legacyNanos);
+        System.out.printf("%-44s %14d %18.0f%n", "v1, single parse", v1Bytes, v1Nanos);
+        System.out.printf("%-44s %14d %18.0f%n", "v2 compact, single parse", v2Bytes, v2Nanos);
+        System.out.printf("%-44s %14d %18.0f%n", "v2 compact + DEFLATE, single parse", v2DeflatedBytes, v2DeflatedNanos);
+        System.out.printf("v2 saves %d bytes (%.0f%%) per request header%n",
+                v1Bytes - v2Bytes, 100.0 * (v1Bytes - v2Bytes) / v1Bytes);
+    }
+
+    private static JwtUtils jwtUtils(int version, boolean compress) {
+        JwtUtils jwtUtils = new JwtUtils();
+        ReflectionTestUtils.setField(jwtUtils, "jwtSecret", SECRET);
+        ReflectionTestUtils.setField(jwtUtils, "jwtExpirationMs", 86_400_000);
+        ReflectionTestUtils.setField(jwtUtils, "tokenVersion", version);
+        ReflectionTestUtils.setField(jwtUtils, "compress", compress);
+        jwtUtils.init();
+        return jwtUtils;
+    }
+
+    private static Authentication authentication() {
+        User user = User.builder()
+                .id(1_234_567L)
+                .username("margaret.hamilton")
+                .email("margaret.hamilton@example.com")
+                .password("")
+                .roles(Set.of(new Role(ERole.ROLE_USER), new Role(ERole.ROLE_ADMIN)))
+                .build();
+        return new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities());
+    }
+
+    private static int headerBytes(String token) {
+        return ("Authorization: Bearer " + token).getBytes(StandardCharsets.US_ASCII).length;
+    }
+
+    private static double nanosPerOp(String token, Consumer<String> verify) {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            verify.accept(token);
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            verify.accept(token);
+        }
+        return (System.nanoTime() - start) / (double) MEASURED_ITERATIONS;
+    }
+}
@@ -0,0 +1,247 @@
+/***********************************************************
+ * Copyright (c) 2025. All rights reserved to ArchiLogic.
+ * Developer: Nikhil Gadhavajula
+ **********************************************************/
+
+package com.archilogic.security.service;
+
+import com.archilogic.entity.Role;
+import com.archilogic.entity.User;
+import com.archilogic.exception.ServiceBusyException;
+import com.archilogic.exception.UserAlreadyExistsException;
+import com.archilogic.mail.EmailOutbox;
+import com.archilogic.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Runs {@link SignupBatchWriter} against an in-memory database. Tests don't run in a test-managed transaction, so
+ * every batch commits like in production. The outbox step of a batch can be held open to keep the writer busy
+ * inside a transaction while callers time out or the writer is stopped.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("h2")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class SignupBatchWriterTests {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private final StallingOutbox outbox = new StallingOutbox();
+    private final ExecutorService callers = Executors.newCachedThreadPool();
+    private Role userRole;
+    private SignupBatchWriter writer;
+
+    @BeforeEach
+    void clearUsers() {
+        jdbcTemplate.update("DELETE FROM user_roles");
+        jdbcTemplate.update("DELETE FROM users");
+        jdbcTemplate.update("DELETE FROM roles");
+        jdbcTemplate.update("INSERT INTO roles (name) VALUES ('ROLE_USER')");
+        userRole = new Role();
+        userRole.setId(jdbcTemplate.queryForObject("SELECT id FROM roles", Integer.class));
+    }
+
+    @AfterEach
+    void stopWriter() throws InterruptedException {
+        outbox.release();
+        if (writer != null) {
+            writer.stop();
+        }
+        callers.shutdownNow();
+    }
+
+    @Test
+    void callerPastItsTimeoutStillGetsTheOutcomeOfAClaimedSignup() throws Exception {
+        writer = writer(1, 0, 300);
+        Future<Boolean> claimed = callers.submit(() -> writer.write(user("alice", "alice@example.com")));
+        assertTrue(outbox.awaitStalled(), "the writer never picked alice up");
+        Future<Boolean> queued = callers.submit(() -> writer.write(user("bob", "bob@example.com")));
+
+        // Bob is still queued behind alice's batch when his wait runs out: withdrawn, nothing saved.
+        ExecutionException busy = assertThrows(ExecutionException.class, () -> queued.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(ServiceBusyException.class, busy.getCause());
+        // Alice's wait ran out as well, but her signup is already part of a batch, so she waits for it.
+        assertFalse(claimed.isDone(), "a claimed signup was reported before its batch finished");
+
+        outbox.release();
+        assertTrue(claimed.get(5, TimeUnit.SECONDS));
+        writer.stop();
+        assertEquals(List.of("alice"), usernames());
+    }
+
+    @Test
+    void duplicateUsernameFailsOnlyItsOwnSignup() throws Exception {
+        outbox.release();
+        jdbcTemplate.update("INSERT INTO users (username, first_name, last_name, email, phone_number, password) "
+                + "VALUES ('carol', 'Carol', 'Existing', 'carol@example.com', '5550100', 'hash')");
+        writer = writer(10, 500, 10_000);
+
+        List<User> users = List.of(
+                user("dave", "dave@example.com"),
+                user("erin", "erin@example.com"),
+                // Clashes inside the batch: rejected before the insert.
+                user("dave", "dave.two@example.com"),
+                // Clashes with a committed user: the batch rolls back and is retried one row at a time.
+                user("carol", "carol.two@example.com"),
+                user("frank", "frank@example.com"));
+        CyclicBarrier start = new CyclicBarrier(users.size());
+        List<Future<Boolean>> results = new ArrayList<>();
+        for (User user : users) {
+            results.add(callers.submit(() -> {
+                start.await();
+                return writer.write(user);
+            }));
+        }
+
+        List<String> failed = new ArrayList<>();
+        for (int i = 0; i < users.size(); i++) {
+            try {
+                assertTrue(results.get(i).get(5, TimeUnit.SECONDS));
+                assertNotNull(users.get(i).getId(), users.get(i).getUsername() + " has no id");
+            } catch (ExecutionException e) {
+                assertInstanceOf(UserAlreadyExistsException.class, e.getCause());
+                assertEquals("Error: Username is already taken!", e.getCause().getMessage());
+                failed.add(users.get(i).getUsername());
+            }
+        }
+        assertEquals(2, failed.size());
+        assertEquals(Set.of("carol", "dave"), Set.copyOf(failed));
+        assertEquals(List.of("carol", "dave", "erin", "frank"), usernames());
+        assertEquals(3, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM user_roles", Integer.class));
+    }
+
+    @Test
+    void stopWritesTheSignupsStillQueued() throws Exception {
+        writer = writer(2, 0, 10_000);
+        List<Future<Boolean>> results = new ArrayList<>();
+        results.add(callers.submit(() -> writer.write(user("user0", "user0@example.com"))));
+        assertTrue(outbox.awaitStalled(), "the writer never picked user0 up");
+        for (int i = 1; i <= 4; i++) {
+            String username = "user" + i;
+            results.add(callers.submit(() -> writer.write(user(username, username + "@example.com"))));
+        }
+        Queue<?> queue = (Queue<?>) ReflectionTestUtils.getField(writer, "queue");
+        await(() -> queue.size() == 4);
+
+        Future<?> stopping = callers.submit(() -> {
+            writer.stop();
+            return null;
+        });
+        await(() -> !writer.isEnabled());
+        // Nothing new is taken once stopping; the caller falls back to a direct save.
+        assertFalse(writer.write(user("late", "late@example.com")));
+
+        outbox.release();
+        stopping.get(10, TimeUnit.SECONDS);
+        for (Future<Boolean> result : results) {
+            assertTrue(result.get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(List.of("user0", "user1", "user2", "user3", "user4"), usernames());
+    }
+
+    private SignupBatchWriter writer(int maxBatchSize, long maxDelayMs, long submitTimeoutMs) {
+        SignupBatchWriter writer = new SignupBatchWriter(jdbcTemplate, new TransactionTemplate(transactionManager),
+                userRepository, outbox);
+        ReflectionTestUtils.setField(writer, "enabled", true);
+        ReflectionTestUtils.setField(writer, "queueCapacity", 64);
+        ReflectionTestUtils.setField(writer, "maxBatchSize", maxBatchSize);
+        ReflectionTestUtils.setField(writer, "maxDelayMs", maxDelayMs);
+        ReflectionTestUtils.setField(writer, "submitTimeoutMs", submitTimeoutMs);
+        writer.start();
+        return writer;
+    }
+
+    private User user(String username, String email) {
+        return User.builder()
+                .username(username)
+                .first_name(username)
+                .last_name("Tester")
+                .email(email)
+                .phone_number("5550100")
+                .password("hash")
+                .roles(Set.of(userRole))
+                .build();
+    }
+
+    private List<String> usernames() {
+        return jdbcTemplate.queryForList("SELECT username FROM users ORDER BY username", String.class);
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < deadline, "timed out waiting");
+            Thread.sleep(10);
+        }
+    }
+
+    /**
+     * Skips the verification emails and holds every batch in its transaction until released.
+     */
+    private static final class StallingOutbox extends EmailOutbox {
+        private final CountDownLatch stalled = new CountDownLatch(1);
+        private final CountDownLatch released = new CountDownLatch(1);
+
+        private StallingOutbox() {
+            super(null, null, null);
+        }
+
+        @Override
+        public void enqueueVerifications(Collection<User> users) {
+            stalled.countDown();
+            try {
+                released.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        private boolean awaitStalled() throws InterruptedException {
+            return stalled.await(5, TimeUnit.SECONDS);
+        }
+
+        private void release() {
+            released.countDown();
+        }
+    }
+}
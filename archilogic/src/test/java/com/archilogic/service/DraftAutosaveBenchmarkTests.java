@@ -0,0 +1,245 @@
+/***********************************************************
+ * Copyright (c) 2025. All rights reserved to ArchiLogic.
+ * Developer: Nikhil Gadhavajula
+ **********************************************************/
+
+package com.archilogic.service;
+
+import com.archilogic.dto.DraftEdit;
+import com.archilogic.dto.DraftPatchRequest;
+import com.archilogic.dto.DraftRequest;
+import com.archilogic.dto.DraftResponse;
+import com.archilogic.entity.User;
+import com.archilogic.repository.ArticleRepository;
+import com.archilogic.repository.DraftDeltaRepository;
+import com.archilogic.repository.DraftRepository;
+import com.archilogic.repository.DraftSnapshotRepository;
+import lombok.AllArgsConstructor;
+import org.h2.api.Trigger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Compares what {@link DraftService} writes for delta autosaves, with its configured compaction, against full-body
+ * saves (the same service compacting on every save), for a simulated editing session on a long article. Both run
+ * against the in-memory database. Every row that any statement inserts, updates or deletes in the draft tables is
+ * counted whole, before and after, the way MySQL logs it with {@code binlog_row_image=FULL}. The numbers are
+ * printed; the ratio and the rebuilt text are asserted. Tagged as a benchmark: run it with {@code mvn test -Pbenchmark}.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("h2")
+@Import(DraftService.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Tag("benchmark")
+class DraftAutosaveBenchmarkTests {
+
+    private static final int SAVES = 620;
+    private static final String[] TABLES = {"drafts", "draft_snapshots", "draft_deltas"};
+    private static final String[] WORDS = {"the", "index", "page", "B-tree", "node", "split", "fan-out", "key",
+            "leaf", "range", "scan", "write", "amplification", "naïve", "cache", "line", "latency", "→"};
+
+    @Autowired
+    private DraftService draftService;
+
+    @Autowired
+    private DraftRepository draftRepository;
+
+    @Autowired
+    private DraftDeltaRepository draftDeltaRepository;
+
+    @Autowired
+    private DraftSnapshotRepository draftSnapshotRepository;
+
+    @Autowired
+    private ArticleRepository articleRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final User owner = User.builder().id(1L).username("ada").build();
+
+    @BeforeEach
+    void countRowImages() {
+        for (String table : TABLES) {
+            jdbcTemplate.execute("CREATE TRIGGER IF NOT EXISTS " + table + "_row_images AFTER INSERT, UPDATE, DELETE ON "
+                    + table + " FOR EACH ROW CALL \"" + RowImages.class.getName() + "\"");
+        }
+    }
+
+    @Test
+    void deltaSavesWriteAFractionOfFullBodySaves() {
+        Session delta = edit(draftService);
+        Session fullBody = edit(fullBodyService());
+
+        assertEquals(delta.text, fullBody.text);
+        assertEquals(delta.text, fullBodyService().getDraft(delta.draftId, owner).getBody());
+        int logLength = draftDeltaRepository.findRange(delta.draftId, 0, Long.MAX_VALUE).size();
+        assertTrue(logLength < (int) ReflectionTestUtils.getField(draftService, "compactEvery"));
+
+        System.out.printf("%d autosaves of a ~%d character article, bytes of the row images written%n",
+                SAVES, delta.text.length());
+        System.out.printf("  full-body saves: %,d (%,d per save) %s%n", fullBody.total(), fullBody.total() / SAVES, fullBody.bytes);
+        System.out.printf("  delta saves:     %,d (%,d per save) %s%n", delta.total(), delta.total() / SAVES, delta.bytes);
+        System.out.printf("  ratio:           %.1f%%; %d deltas left to apply on a rebuild%n",
+                100.0 * delta.total() / fullBody.total(), logLength);
+        assertTrue(delta.total() * 10 < fullBody.total(), "Delta saves should write well under a tenth of the bytes.");
+    }
+
+    /**
+     * Runs the same editing session (same seed) through a service and counts the row images of the saves.
+     */
+    private Session edit(DraftService service) {
+        Random random = new Random(42);
+        DraftRequest request = new DraftRequest();
+        request.setTitle("Write amplification in B-trees");
+        request.setBody(paragraphs(random, 40_000));
+        DraftResponse draft = service.createDraft(request, owner);
+        String text = draft.getBody();
+
+        RowImages.BYTES.clear();
+        for (long revision = 0; revision < SAVES; revision++) {
+            List<DraftEdit> edits = editsBetweenSaves(random, text);
+            DraftPatchRequest patch = new DraftPatchRequest();
+            patch.setBaseRevision(revision);
+            patch.setEdits(edits);
+            service.saveDraft(draft.getId(), patch, owner);
+            text = apply(text, edits);
+        }
+        Map<String, Long> bytes = new TreeMap<>();
+        RowImages.BYTES.forEach((table, count) -> bytes.put(table, count.get()));
+        return new Session(draft.getId(), text, bytes);
+    }
+
+    private DraftService fullBodyService() {
+        DraftService service = new DraftService(draftRepository, draftDeltaRepository, draftSnapshotRepository,
+                articleRepository, transactionManager);
+        ReflectionTestUtils.setField(service, "compactEvery", 1);
+        ReflectionTestUtils.setField(service, "compactMaxDeltaBytes", 0L);
+        ReflectionTestUtils.setField(service, "maxBodyChars", 1_000_000);
+        ReflectionTestUtils.setField(service, "listLimit", 100);
+        ReflectionTestUtils.setField(service, "cacheMaxBytes", 1L << 26);
+        ReflectionTestUtils.setField(service, "cacheIdleMinutes", 30L);
+        service.init();
+        return service;
+    }
+
+    /**
+     * What an editor typically sends every few seconds: a few words typed at the cursor, sometimes a fix-up
+     * elsewhere, sometimes a deleted phrase.
+     */
+    private static List<DraftEdit> editsBetweenSaves(Random random, String text) {
+        List<DraftEdit> edits = new ArrayList<>();
+        int position = random.nextInt(text.length() / 2);
+        int count = 1 + random.nextInt(3);
+        for (int i = 0; i < count && position < text.length(); i++) {
+            int delete = random.nextInt(4) == 0 ? Math.min(random.nextInt(30), text.length() - position) : 0;
+            edits.add(new DraftEdit(position, delete, phrase(random, 1 + random.nextInt(12))));
+            position += delete + 1 + random.nextInt(Math.max(1, (text.length() - position - delete) / 4));
+        }
+        return edits;
+    }
+
+    /**
+     * Applies edits given against the same base text, back to front so earlier offsets stay valid.
+     */
+    private static String apply(String text, List<DraftEdit> edits) {
+        StringBuilder result = new StringBuilder(text);
+        for (int i = edits.size() - 1; i >= 0; i--) {
+            DraftEdit edit = edits.get(i);
+            result.replace(edit.getOffset(), edit.getOffset() + edit.getDeleteCount(), edit.getInsert());
+        }
+        return result.toString();
+    }
+
+    private static String paragraphs(Random random, int length) {
+        StringBuilder text = new StringBuilder(length + 100);
+        while (text.length() < length) {
+            text.append(phrase(random, 40 + random.nextInt(60))).append(".\n\n");
+        }
+        return text.toString();
+    }
+
+    private static String phrase(Random random, int words) {
+        StringBuilder phrase = new StringBuilder();
+        for (int i = 0; i < words; i++) {
+            phrase.append(WORDS[random.nextInt(WORDS.length)]).append(' ');
+        }
+        return phrase.toString();
+    }
+
+    @AllArgsConstructor
+    private static final class Session {
+        private final Long draftId;
+        private final String text;
+        private final Map<String, Long> bytes;
+
+        private long total() {
+            return bytes.values().stream().mapToLong(Long::longValue).sum();
+        }
+    }
+
+    /**
+     * Adds up the size of the old and the new image of every changed row, per table. Strings count as UTF-8, other
+     * non-null values as 8 bytes.
+     */
+    public static final class RowImages implements Trigger {
+        private static final Map<String, AtomicLong> BYTES = new ConcurrentHashMap<>();
+
+        private String table;
+
+        @Override
+        public void init(Connection conn, String schemaName, String triggerName, String tableName, boolean before, int type) {
+            table = tableName.toLowerCase(Locale.ROOT);
+        }
+
+        @Override
+        public void fire(Connection conn, Object[] oldRow, Object[] newRow) {
+            BYTES.computeIfAbsent(table, key -> new AtomicLong()).addAndGet(size(oldRow) + size(newRow));
+        }
+
+        private static long size(Object[] row) {
+            long size = 0;
+            if (row != null) {
+                for (Object value : row) {
+                    if (value instanceof String text) {
+                        size += text.getBytes(StandardCharsets.UTF_8).length;
+                    } else if (value instanceof byte[] bytes) {
+                        size += bytes.length;
+                    } else if (value != null) {
+                        size += 8;
+                    }
+                }
+            }
+            return size;
+        }
+    }
+}
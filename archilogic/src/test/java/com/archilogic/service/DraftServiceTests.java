@@ -0,0 +1,144 @@
+/***********************************************************
+ * Copyright (c) 2025. All rights reserved to ArchiLogic.
+ * Developer: Nikhil Gadhavajula
+ **********************************************************/
+
+package com.archilogic.service;
+
+import com.archilogic.dto.DraftEdit;
+import com.archilogic.dto.DraftPatchRequest;
+import com.archilogic.dto.DraftRequest;
+import com.archilogic.dto.DraftResponse;
+import com.archilogic.entity.Draft;
+import com.archilogic.entity.User;
+import com.archilogic.exception.RevisionConflictException;
+import com.archilogic.repository.ArticleRepository;
+import com.archilogic.repository.DraftDeltaRepository;
+import com.archilogic.repository.DraftRepository;
+import com.archilogic.repository.DraftSnapshotRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Runs {@link DraftService} against an in-memory database. A second service instance stands in for another node
+ * with its own body cache. Tests don't run in a test-managed transaction, so every save commits like in production.
+ */
+@DataJpaTest(properties = {
+        "archilogic.app.drafts.compactEvery=5",
+        "archilogic.app.drafts.compactMaxDeltaBytes=65536"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("h2")
+@Import(DraftService.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class DraftServiceTests {
+
+    @Autowired
+    private DraftService draftService;
+
+    @Autowired
+    private DraftRepository draftRepository;
+
+    @Autowired
+    private DraftDeltaRepository draftDeltaRepository;
+
+    @Autowired
+    private DraftSnapshotRepository draftSnapshotRepository;
+
+    @Autowired
+    private ArticleRepository articleRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final User owner = User.builder().id(1L).username("ada").build();
+
+    @Test
+    void saveAgainstAnOldRevisionConflicts() {
+        DraftResponse draft = draftService.createDraft(request("Hello"), owner);
+        assertEquals(1, draftService.saveDraft(draft.getId(), patch(0, new DraftEdit(5, 0, " world")), owner).getRevision());
+
+        RevisionConflictException conflict = assertThrows(RevisionConflictException.class,
+                () -> draftService.saveDraft(draft.getId(), patch(0, new DraftEdit(0, 0, "Oh, ")), owner));
+        assertEquals(1, conflict.getCurrentRevision());
+        assertEquals("Hello world", draftService.getDraft(draft.getId(), owner).getBody());
+    }
+
+    @Test
+    void compactionKeepsTheLogShortAndAColdNodeRebuildsTheSameBody() {
+        DraftResponse draft = draftService.createDraft(request(""), owner);
+        StringBuilder expected = new StringBuilder();
+        for (int revision = 0; revision < 12; revision++) {
+            String word = "w" + revision + " ";
+            draftService.saveDraft(draft.getId(), patch(revision, new DraftEdit(expected.length(), 0, word)), owner);
+            expected.append(word);
+        }
+
+        Draft row = draftRepository.findById(draft.getId()).orElseThrow();
+        assertEquals(12, row.getRevision());
+        assertEquals(10, draftSnapshotRepository.findById(draft.getId()).orElseThrow().getRevision());
+        assertEquals(2, draftDeltaRepository.findRange(draft.getId(), 0, Long.MAX_VALUE).size());
+
+        DraftResponse rebuilt = otherNode().getDraft(draft.getId(), owner);
+        assertEquals(12, rebuilt.getRevision());
+        assertEquals(expected.toString(), rebuilt.getBody());
+    }
+
+    @Test
+    void aStaleCacheNeverOverwritesAnotherNodesSave() {
+        DraftService otherNode = otherNode();
+        DraftResponse draft = draftService.createDraft(request("abc"), owner);
+        draftService.saveDraft(draft.getId(), patch(0, new DraftEdit(3, 0, "d")), owner);
+
+        // The other node advances the draft; this node's cache still holds revision 1.
+        otherNode.saveDraft(draft.getId(), patch(1, new DraftEdit(4, 0, "e")), owner);
+        RevisionConflictException conflict = assertThrows(RevisionConflictException.class,
+                () -> draftService.saveDraft(draft.getId(), patch(1, new DraftEdit(0, 1, "")), owner));
+        assertEquals(2, conflict.getCurrentRevision());
+
+        // Saving against the current revision goes through, on the body the other node wrote.
+        draftService.saveDraft(draft.getId(), patch(2, new DraftEdit(0, 1, "")), owner);
+        assertEquals("bcde", otherNode.getDraft(draft.getId(), owner).getBody());
+        assertEquals("bcde", draftService.getDraft(draft.getId(), owner).getBody());
+    }
+
+    private DraftService otherNode() {
+        DraftService node = new DraftService(draftRepository, draftDeltaRepository, draftSnapshotRepository, articleRepository,
+                transactionManager);
+        ReflectionTestUtils.setField(node, "compactEvery", 5);
+        ReflectionTestUtils.setField(node, "compactMaxDeltaBytes", 65536L);
+        ReflectionTestUtils.setField(node, "maxBodyChars", 1_000_000);
+        ReflectionTestUtils.setField(node, "listLimit", 100);
+        ReflectionTestUtils.setField(node, "cacheMaxBytes", 1L << 20);
+        ReflectionTestUtils.setField(node, "cacheIdleMinutes", 30L);
+        node.init();
+        return node;
+    }
+
+    private static DraftRequest request(String body) {
+        DraftRequest request = new DraftRequest();
+        request.setTitle("Draft");
+        request.setBody(body);
+        return request;
+    }
+
+    private static DraftPatchRequest patch(long baseRevision, DraftEdit... edits) {
+        DraftPatchRequest request = new DraftPatchRequest();
+        request.setBaseRevision(baseRevision);
+        request.setEdits(List.of(edits));
+        return request;
+    }
+}
@@ -0,0 +1,66 @@
+/***********************************************************
+ * Copyright (c) 2025. All rights reserved to ArchiLogic.
+ * Developer: Nikhil Gadhavajula
+ **********************************************************/
+
+package com.archilogic.service;
+
+import com.archilogic.util.FeedCursor;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class HomeFeedServiceTests {
+
+    @Test
+    void mergeInterleavesOverlappingPushAndPullRuns() {
+        long[][] pushed = {{9, 90}, {6, 60}, {4, 40}, {1, 10}};
+        long[][] pulledA = {{8, 80}, {6, 60}, {5, 50}};
+        long[][] pulledB = {{7, 70}, {4, 40}, {3, 30}, {2, 20}};
+
+        List<long[]> merged = HomeFeedService.mergeNewestFirst(List.of(pushed, pulledA, pulledB), 100);
+
+        // An author who crossed the push threshold shows up in both sources, but each article only once.
+        assertIds(merged, 9, 8, 7, 6, 5, 4, 3, 2, 1);
+    }
+
+    @Test
+    void mergeBreaksTiesByIdAndStopsAtTheLimit() {
+        long[][] pushed = {{12, 50}, {10, 50}, {3, 40}};
+        long[][] pulled = {{11, 50}, {10, 50}, {2, 40}};
+
+        assertIds(HomeFeedService.mergeNewestFirst(List.of(pushed, pulled), 3), 12, 11, 10);
+        // Duplicates do not count towards the limit.
+        assertIds(HomeFeedService.mergeNewestFirst(List.of(pushed, pulled), 4), 12, 11, 10, 3);
+    }
+
+    @Test
+    void mergeSkipsEmptyRuns() {
+        long[][] empty = {};
+        long[][] pulled = {{2, 20}, {1, 10}};
+
+        assertIds(HomeFeedService.mergeNewestFirst(List.of(empty, pulled, empty), 10), 2, 1);
+        assertIds(HomeFeedService.mergeNewestFirst(List.of(empty, empty), 10));
+    }
+
+    @Test
+    void nextCursorFollowsTheLastScannedPosition() {
+        long publishedAtMicros = ChronoUnit.MICROS.between(Instant.EPOCH, Instant.parse("2025-03-01T12:00:00.123456Z"));
+        List<long[]> scanned = List.of(new long[]{9, publishedAtMicros + 1}, new long[]{7, publishedAtMicros});
+
+        assertNull(HomeFeedService.nextCursor(scanned, 3));
+        FeedCursor cursor = FeedCursor.decode(HomeFeedService.nextCursor(scanned, 2));
+        assertEquals(Instant.parse("2025-03-01T12:00:00.123456Z"), cursor.getPublishedAt());
+        assertEquals(7L, cursor.getId());
+    }
+
+    private static void assertIds(List<long[]> entries, long... ids) {
+        assertArrayEquals(ids, entries.stream().mapToLong(entry -> entry[0]).toArray());
+    }
+}
@@ -0,0 +1,44 @@
+/***********************************************************
+ * Copyright (c) 2025. All rights reserved to ArchiLogic.
+ * Developer: Nikhil Gadhavajula
+ **********************************************************/
+
+package com.archilogic.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class TextPatchTests {
+
+    @Test
+    void patchesRoundTrip() {
+        TextPatch patch = TextPatch.of(List.of(
+                new TextPatch.Edit(0, 5, "Grüße"),
+                new TextPatch.Edit(6, 0, "🙂 "),
+                new TextPatch.Edit(300, 2, "")));
+        String base = "Hello " + "x".repeat(300);
+        TextPatch decoded = TextPatch.decode(patch.encode());
+        assertEquals("Grüße 🙂 " + "x".repeat(298), patch.applyTo(base));
+        assertEquals(patch.applyTo(base), decoded.applyTo(base));
+        assertArrayEquals(patch.encode(), decoded.encode());
+    }
+
+    @Test
+    void badEditsAreRejected() {
+        assertThrows(IllegalArgumentException.class,
+                () -> TextPatch.of(List.of(new TextPatch.Edit(10, 5, "a"), new TextPatch.Edit(12, 0, "b"))));
+        assertThrows(IllegalArgumentException.class,
+                () -> TextPatch.of(List.of(new TextPatch.Edit(1, 2, "a"))).applyTo("ab"));
+        // offset + deleteCount overflows an int.
+        assertThrows(IllegalArgumentException.class,
+                () -> TextPatch.of(List.of(new TextPatch.Edit(1, Integer.MAX_VALUE, "x"))).applyTo("abc"));
+        assertThrows(IllegalArgumentException.class, () -> TextPatch.of(List.of(
+                new TextPatch.Edit(1, Integer.MAX_VALUE, "x"), new TextPatch.Edit(5, 0, "y"))));
+        assertThrows(IllegalArgumentException.class, () -> TextPatch.decode(new byte[]{1, 1, 0}));
+    }
+}